@@ -0,0 +1,67 @@
+// /api/auto-report/generate 동시 처리 한계 측정용 k6 스크립트
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e TARGET_VUS=1000 generate.js
+//
+// - 동시 사용자(VU)를 TARGET_VUS까지 단계적으로 늘리며, 각 VU는 응답을 받을 때까지 요청 1건을 붙잡고 있음
+// - 요청마다 repository 이름을 달리해 Gemini 결과 캐시/커밋 캐시가 적중하지 않도록 함
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TARGET_VUS = parseInt(__ENV.TARGET_VUS || '1000', 10);
+const RAMP = __ENV.RAMP || '2m';
+const HOLD = __ENV.HOLD || '3m';
+
+const completed = new Counter('reports_completed');
+const failed = new Counter('reports_failed');
+const reportDuration = new Trend('report_duration', true);
+
+export const options = {
+    scenarios: {
+        generate: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: RAMP, target: TARGET_VUS },
+                { duration: HOLD, target: TARGET_VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '60s',
+        },
+    },
+    thresholds: {
+        // 실패율 1% 이하 / p95 응답 시간 - 목 서버 지연(GitHub 0.3s+0.2s, Gemini 3s) 대비 여유
+        http_req_failed: ['rate<0.01'],
+        report_duration: ['p(95)<15000'],
+    },
+};
+
+export default function () {
+    const payload = JSON.stringify({
+        accessToken: 'loadtest-token',
+        repository: `loadtest/repo-${__VU}-${__ITER}`,
+        since: '2024-06-01',
+        until: '2024-06-07',
+        reportStyle: 'summary',
+        userId: `loadtest-user-${__VU}`,
+    });
+
+    const response = http.post(`${BASE_URL}/api/auto-report/generate`, payload, {
+        headers: { 'Content-Type': 'application/json' },
+        timeout: '120s',
+    });
+
+    const ok = check(response, {
+        'status is 200': (r) => r.status === 200,
+        'report saved': (r) => r.status === 200 && r.json('success') === true,
+    });
+
+    reportDuration.add(response.timings.duration);
+    if (ok) {
+        completed.add(1);
+    } else {
+        failed.add(1);
+    }
+}
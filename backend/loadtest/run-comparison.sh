@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# 실행 중인 백엔드 1대에 TARGET_VUS를 단계적으로 올려 가며 generate.js를 실행하고,
+# 4절 기준(generate.js thresholds)을 만족한 최대 TARGET_VUS와 그때의 jvm.threads.live / jvm.memory.used 최댓값을 기록
+#
+# 실행 예 (모드별로 앱을 2절대로 띄운 뒤 각각 실행):
+#   ./run-comparison.sh platform
+#   ./run-comparison.sh virtual
+#
+# - k6 요약: results/<날짜>-<모드>-<VUS>.json
+# - 마지막 줄: README 5절 표에 붙여 넣을 행
+# - 백엔드는 MANAGEMENT_ENDPOINTS_WEB_EXPOSURE_INCLUDE=health,metrics 로 실행해야 함
+set -euo pipefail
+
+MODE="${1:?usage: $0 <platform|virtual>}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+VUS_STEPS="${VUS_STEPS:-100 200 400 800 1600 3200}"
+SAMPLE_INTERVAL="${SAMPLE_INTERVAL:-5}"
+
+cd "$(dirname "$0")"
+mkdir -p results
+DATE="$(date +%Y-%m-%d)"
+
+metric() {
+  curl -sf "$BASE_URL/actuator/metrics/$1" | jq '.measurements[0].value | floor'
+}
+
+# k6 실행 동안 지표 최댓값을 파일에 기록
+sample_peaks() {
+  local out="$1" threads=0 memory=0 value
+  while true; do
+    value="$(metric jvm.threads.live || echo 0)"
+    (( value > threads )) && threads="$value"
+    value="$(metric jvm.memory.used || echo 0)"
+    (( value > memory )) && memory="$value"
+    echo "$threads $memory" > "$out"
+    sleep "$SAMPLE_INTERVAL"
+  done
+}
+
+metric jvm.threads.live > /dev/null || {
+  echo "metrics 엔드포인트에 접근할 수 없습니다: $BASE_URL/actuator/metrics" >&2
+  exit 1
+}
+
+best_vus="-" best_threads="-" best_memory="-"
+for vus in $VUS_STEPS; do
+  peaks="$(mktemp)"
+  sample_peaks "$peaks" &
+  sampler=$!
+
+  status=0
+  k6 run -e BASE_URL="$BASE_URL" -e TARGET_VUS="$vus" \
+    --summary-export "results/$DATE-$MODE-$vus.json" generate.js || status=$?
+
+  kill "$sampler" 2> /dev/null || true
+  wait "$sampler" 2> /dev/null || true
+  threads=0 memory=0
+  read -r threads memory < "$peaks" || true
+  rm -f "$peaks"
+
+  # k6는 thresholds를 만족하지 못하면 99로 종료
+  if (( status == 99 )); then
+    echo "[$MODE] TARGET_VUS=$vus: 기준 미달, 중단"
+    break
+  elif (( status != 0 )); then
+    echo "[$MODE] TARGET_VUS=$vus: k6 실행 실패 (exit $status)" >&2
+    exit "$status"
+  fi
+  echo "[$MODE] TARGET_VUS=$vus: 통과 (threads.live 최대 $threads, memory.used 최대 $memory bytes)"
+  best_vus="$vus" best_threads="$threads" best_memory="$(( memory / 1024 / 1024 )) MiB"
+done
+
+machine="$(nproc) vCPU, $(free -g | awk '/^Mem:/ {print $2}') GiB, $(uname -sr)"
+echo "| $MODE | $best_vus | $best_threads | $best_memory | $machine |"
@@ -0,0 +1,202 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommitTextExporterBenchmark
+ * - 기존 String.format 기반 구현과 CommitTextExporter의 처리 시간/할당량 비교
+ * - 실행: ./gradlew jmh → gc.alloc.rate.norm(B/op) 항목으로 할당량 비교
+ * - streamingToWriter: 결과 문자열 없이 Writer로 흘려보내는 경우 (S3 업로드/프롬프트 빌더 연결 시나리오)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommitTextExporterBenchmark {
+
+    @Param({"10000"})
+    private int commitCount;
+
+    @Param({"20"})
+    private int filesPerCommit;
+
+    private List<GitHubCommit> commits;
+    private final LocalDate since = LocalDate.of(2024, 1, 1);
+    private final LocalDate until = LocalDate.of(2024, 12, 31);
+
+    @Setup
+    public void setUp() {
+        commits = new ArrayList<>(commitCount);
+        for (int i = 0; i < commitCount; i++) {
+            commits.add(commit(i));
+        }
+
+        // 두 구현의 출력이 다르면 비교 의미가 없으므로 바로 실패
+        String expected = legacyFormat(commits, "owner/repo", since, until);
+        String actual = CommitTextExporter.exportToString(commits, "owner/repo", since, until);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("CommitTextExporter 출력이 기존 구현과 다릅니다.");
+        }
+    }
+
+    @Benchmark
+    public String legacyStringFormat() {
+        return legacyFormat(commits, "owner/repo", since, until);
+    }
+
+    @Benchmark
+    public String exporterToString() {
+        return CommitTextExporter.exportToString(commits, "owner/repo", since, until);
+    }
+
+    @Benchmark
+    public void streamingToWriter(Blackhole blackhole) {
+        CommitTextExporter.export(commits, "owner/repo", since, until, new BlackholeWriter(blackhole));
+    }
+
+    private GitHubCommit commit(int i) {
+        GitHubCommit.Author author = new GitHubCommit.Author();
+        author.setName("developer" + (i % 17));
+        author.setEmail("developer" + (i % 17) + "@example.com");
+        author.setDate("2024-06-09T12:34:56Z");
+
+        GitHubCommit.CommitInfo info = new GitHubCommit.CommitInfo();
+        info.setMessage("feat: 기능 개선 #" + i + "\n\n상세 설명");
+        info.setAuthor(author);
+
+        List<GitHubCommit.FileChange> files = new ArrayList<>();
+        for (int f = 0; f < filesPerCommit; f++) {
+            GitHubCommit.FileChange file = new GitHubCommit.FileChange();
+            file.setFilename("src/main/java/com/example/module" + f + "/Service" + i + ".java");
+            file.setStatus(f % 3 == 0 ? "added" : "modified");
+            file.setAdditions(f * 3);
+            file.setDeletions(f % 3 == 0 ? null : f);
+            files.add(file);
+        }
+
+        GitHubCommit.CommitStats stats = new GitHubCommit.CommitStats();
+        stats.setAdditions(120 + i % 50);
+        stats.setDeletions(40);
+        stats.setTotal(160 + i % 50);
+
+        GitHubCommit commit = new GitHubCommit();
+        commit.setSha(String.format("%040x", i));
+        commit.setHtmlUrl("https://github.com/owner/repo/commit/" + commit.getSha());
+        commit.setCommit(info);
+        commit.setFiles(files);
+        commit.setStats(stats);
+        return commit;
+    }
+
+    // 기존 GitHubService.exportCommitsAsText 구현 (비교 기준)
+    private static String legacyFormat(List<GitHubCommit> commits, String repositoryName,
+                                       LocalDate since, LocalDate until) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=".repeat(80)).append("\n")
+            .append(String.format("커밋 리포트: %s\n", repositoryName))
+            .append(String.format("기간: %s ~ %s\n", since, until))
+            .append(String.format("총 커밋 수: %d\n", commits.size()))
+            .append("=".repeat(80)).append("\n\n");
+
+        int i = 1;
+        for (GitHubCommit commit : commits) {
+            sb.append(String.format("[%d] 커밋 #%d\n", i, i))
+              .append("-".repeat(80)).append("\n")
+              .append(String.format("SHA: %s\n", commit.getSha()));
+
+            if (commit.getCommit() != null) {
+                sb.append(String.format("메시지: %s\n", commit.getCommit().getMessage()));
+                if (commit.getCommit().getAuthor() != null) {
+                    sb.append(String.format("작성자: %s <%s>\n",
+                            commit.getCommit().getAuthor().getName(),
+                            commit.getCommit().getAuthor().getEmail()))
+                      .append(String.format("작성일: %s\n", commit.getCommit().getAuthor().getDate()));
+                }
+            }
+
+            sb.append(String.format("URL: %s\n", commit.getHtmlUrl()));
+
+            List<GitHubCommit.FileChange> files = commit.getFiles();
+            if (files != null && !files.isEmpty()) {
+                sb.append(String.format("\n변경된 파일 (%d개):\n", files.size()));
+                files.forEach(file -> sb.append(String.format("  - %s (%s) [+%d/-%d]\n",
+                        file.getFilename(),
+                        file.getStatus(),
+                        Optional.ofNullable(file.getAdditions()).orElse(0),
+                        Optional.ofNullable(file.getDeletions()).orElse(0)
+                )));
+            }
+
+            if (commit.getStats() != null) {
+                sb.append(String.format("\n통계: +%d / -%d (총 %d 변경)\n",
+                        Optional.ofNullable(commit.getStats().getAdditions()).orElse(0),
+                        Optional.ofNullable(commit.getStats().getDeletions()).orElse(0),
+                        Optional.ofNullable(commit.getStats().getTotal()).orElse(0)
+                ));
+            }
+
+            sb.append("\n");
+            i++;
+        }
+        sb.append("=".repeat(80)).append("\n")
+            .append("리포트 종료\n")
+            .append("=".repeat(80)).append("\n");
+
+        return sb.toString();
+    }
+
+    // 출력 내용을 버리는 Writer (스트리밍 경로의 순수 생성 비용 측정용)
+    private static final class BlackholeWriter extends Writer {
+        private final Blackhole blackhole;
+
+        private BlackholeWriter(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            blackhole.consume(length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            blackhole.consume(length);
+        }
+
+        @Override
+        public Writer append(CharSequence text) {
+            blackhole.consume(text);
+            return this;
+        }
+
+        @Override
+        public Writer append(char c) {
+            blackhole.consume(c);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.gitnote.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReportContentCodecBenchmark
+ * - 보고서 본문 저장 형식별 아이템 크기/쓰기 용량(WCU) 비교 + gzip 인코딩/디코딩 시간 측정
+ * - 실행: ./gradlew jmh → 크기/WCU 비교표는 각 @Param 조합의 Setup 시 출력, 처리 시간은 JMH 결과
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportContentCodecBenchmark {
+
+    // 보고서 본문 크기 (KB, UTF-8 기준 근사)
+    @Param({"4", "32", "256"})
+    private int reportKb;
+
+    private String content;
+    private ReportContentCodec inlineCodec;
+    private Map<String, AttributeValue> gzipItem;
+
+    @Setup
+    public void setUp() {
+        content = sampleReport(reportKb * 1024);
+        // S3 이동 없이 항상 인라인 gzip (처리 시간 측정용)
+        inlineCodec = new ReportContentCodec(null, "", "_reports/", 2048, Integer.MAX_VALUE, 500);
+        // 운영 기본값 + S3 업로드는 버리는 클라이언트 (크기 비교용)
+        ReportContentCodec defaultCodec = new ReportContentCodec(new DiscardingS3Client(), "bench-bucket", "_reports/", 2048, 65536, 500);
+
+        String pk = "owner/repo";
+        String sk = "2024-11-27T09:00:12.345678";
+        Map<String, AttributeValue> plainItem = item(pk, sk, Map.of(ReportContentCodec.CONTENT, AttributeValue.builder().s(content).build()));
+        gzipItem = item(pk, sk, inlineCodec.encode(pk, sk, content));
+        Map<String, AttributeValue> defaultItem = item(pk, sk, defaultCodec.encode(pk, sk, content));
+
+        if (!content.equals(inlineCodec.decode(gzipItem))) {
+            throw new IllegalStateException("gzip 디코딩 결과가 원문과 다릅니다.");
+        }
+
+        int plainSize = ReportContentCodec.itemSize(plainItem);
+        int plainWcu = ReportContentCodec.writeCapacityUnits(plainItem);
+        System.out.printf("%n[ReportContentCodecBenchmark] 본문 %dKB%n", reportKb);
+        System.out.printf("  기존(Content)      : %,9d B, %4d WCU%s%n", plainSize, plainWcu,
+                plainSize > 400 * 1024 ? " (400KB 아이템 제한 초과 → 저장 실패)" : "");
+        print("gzip(ContentGz)", gzipItem, plainSize, plainWcu);
+        print("기본 설정(" + attributeName(defaultItem) + ")", defaultItem, plainSize, plainWcu);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> encodeGzip() {
+        return inlineCodec.encode("owner/repo", "2024-11-27T09:00:12.345678", content);
+    }
+
+    @Benchmark
+    public String decodeGzip() {
+        return inlineCodec.decode(gzipItem);
+    }
+
+    private static void print(String label, Map<String, AttributeValue> item, int plainSize, int plainWcu) {
+        int size = ReportContentCodec.itemSize(item);
+        int wcu = ReportContentCodec.writeCapacityUnits(item);
+        System.out.printf("  %-19s: %,9d B, %4d WCU (절감 %,d B / %d WCU, %.1f%%)%n",
+                label, size, wcu, plainSize - size, plainWcu - wcu, 100.0 * (plainSize - size) / plainSize);
+    }
+
+    private static String attributeName(Map<String, AttributeValue> item) {
+        return item.containsKey(ReportContentCodec.CONTENT_REF) ? "S3" : item.containsKey(ReportContentCodec.CONTENT_GZ) ? "ContentGz" : "Content";
+    }
+
+    private static Map<String, AttributeValue> item(String pk, String sk, Map<String, AttributeValue> contentAttributes) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("PK", AttributeValue.builder().s(pk).build());
+        item.put("SK", AttributeValue.builder().s(sk).build());
+        item.put("User", AttributeValue.builder().s("testuser").build());
+        item.putAll(contentAttributes);
+        return item;
+    }
+
+    // Gemini 상세 보고서와 비슷한 구성의 Markdown (섹션/목록/파일 경로 반복, 커밋마다 일부 값이 다름)
+    private static String sampleReport(int targetBytes) {
+        StringBuilder sb = new StringBuilder("# 주간 개발 보고서: owner/repo\n\n## 요약\n\n")
+                .append("이번 기간에는 인증 흐름 개선과 리포트 생성 파이프라인 성능 개선 작업이 진행되었습니다.\n\n");
+        int i = 0;
+        while (sb.toString().getBytes(StandardCharsets.UTF_8).length < targetBytes) {
+            sb.append("### ").append(i + 1).append(". feat: 기능 개선 #").append(1000 + i).append("\n\n")
+              .append("- 작성자: developer").append(i % 7).append('\n')
+              .append("- 변경 파일: `src/main/java/com/example/module").append(i % 13).append("/Service").append(i).append(".java`\n")
+              .append("- 변경량: +").append(37 * i % 400).append(" / -").append(11 * i % 120).append('\n')
+              .append("- 주요 내용: 요청 검증 로직을 정리하고, 실패 시 재시도 정책과 로그 메시지를 개선했습니다.\n\n");
+            i++;
+        }
+        return sb.toString();
+    }
+
+    // S3 업로드 요청을 버리는 클라이언트 (S3 이동 시 아이템 크기만 확인)
+    private static final class DiscardingS3Client implements S3Client {
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.gitnote.backend.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gitnote.backend.dto.GitHubCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * CommitDetailCache
+ * - 커밋 상세(변경파일 patch 포함)를 owner/repo@sha 키로 보관하는 캐시
+ * - 커밋 SHA의 내용은 바뀌지 않으므로 만료 없이 보관하고, 한 번 캐시된 항목은 다시 조회하지 않음
+ * - 메모리 계층: patch 문자열 크기 기준 가중치(weight)로 용량 제한
+ * - 디스크 계층(선택): github.commit-cache.disk-dir 설정 시 파일로도 저장해 재시작 후에도 유지
+ *   (파일 크기 합계가 disk-max-bytes를 넘으면 오래 저장된 파일부터 90%까지 삭제)
+ * - 조회/저장 모두 복사본을 주고받음 (호출자가 통계 등을 채워도 캐시 값은 그대로)
+ */
+@Slf4j
+@Component
+public class CommitDetailCache implements MeterBinder {
+
+    // 40자리 16진수 SHA만 불변 키로 취급 (브랜치명 등 가변 ref는 캐시하지 않음)
+    private static final Pattern FULL_SHA = Pattern.compile("[0-9a-fA-F]{40}");
+
+    // patch 외 메타데이터(메시지, 작성자, 파일명 등)에 대한 대략적인 고정 가중치
+    private static final int BASE_WEIGHT = 1024;
+    private static final int FILE_WEIGHT = 256;
+
+    private final Cache<String, GitHubCommit> memory;
+    private final Path diskDir;
+    private final long diskMaxBytes;
+    private final ExecutorService diskWriter;
+    // 디스크 계층 파일 크기 합계 (기동 시 디렉터리에서 계산, 이후 diskWriter 스레드에서만 갱신)
+    private long diskBytes;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxBytes 메모리 계층 최대 용량 (patch 문자열 크기 합 기준)
+     * @param diskDir 디스크 계층 디렉터리 (비어있으면 디스크 계층 미사용)
+     * @param diskMaxBytes 디스크 계층 파일 크기 합계 상한
+     */
+    public CommitDetailCache(@Value("${github.commit-cache.max-bytes:67108864}") long maxBytes,
+                             @Value("${github.commit-cache.disk-dir:}") String diskDir,
+                             @Value("${github.commit-cache.disk-max-bytes:1073741824}") long diskMaxBytes) {
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, GitHubCommit commit) -> weigh(commit))
+                // 정리는 호출 스레드에서 바로 수행
+                .executor(Runnable::run)
+                .build();
+        this.diskMaxBytes = diskMaxBytes;
+
+        Path dir = null;
+        if (diskDir != null && !diskDir.isBlank()) {
+            try {
+                dir = Files.createDirectories(Path.of(diskDir));
+            } catch (IOException e) {
+                log.warn("[CommitDetailCache] 디스크 캐시 디렉터리 생성 실패 - 메모리 계층만 사용: {}", e.getMessage());
+            }
+        }
+        this.diskDir = dir;
+        this.diskBytes = dir != null ? diskUsage(dir) : 0;
+        this.diskWriter = dir != null ? Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "commit-cache-disk-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+
+        log.info("[CommitDetailCache] 초기화 - 메모리 용량: {} bytes, 디스크 계층: {}", maxBytes, dir != null ? dir : "미사용");
+    }
+
+    /**
+     * 캐시 키 생성
+     * @return owner/repo@sha
+     */
+    public static String key(String owner, String repo, String sha) {
+        return owner + "/" + repo + "@" + sha;
+    }
+
+    /**
+     * 캐시 가능한 ref인지 확인 (전체 SHA만 허용)
+     */
+    public static boolean isCacheable(String sha) {
+        return sha != null && FULL_SHA.matcher(sha).matches();
+    }
+
+    /**
+     * 캐시 조회 (메모리 → 디스크 순)
+     * - 디스크에서 찾은 항목은 메모리 계층으로 올림
+     * - 디스크 I/O가 발생할 수 있으므로 이벤트 루프 스레드에서 직접 호출하지 않음
+     * @param key owner/repo@sha
+     * @return 커밋 상세 복사본, 없으면 null
+     */
+    public GitHubCommit get(String key) {
+        GitHubCommit commit = memory.getIfPresent(key);
+        if (commit != null) {
+            memoryHits.incrementAndGet();
+            return commit.copy();
+        }
+
+        commit = readFromDisk(key);
+        if (commit != null) {
+            diskHits.incrementAndGet();
+            memory.put(key, commit);
+            return commit.copy();
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 캐시 저장 (메모리 + 디스크 비동기 기록)
+     * @param key owner/repo@sha
+     * @param commit 커밋 상세
+     */
+    public void put(String key, GitHubCommit commit) {
+        if (commit == null) return;
+        GitHubCommit stored = commit.copy();
+        memory.put(key, stored);
+        if (diskWriter != null) {
+            diskWriter.execute(() -> writeToDisk(key, stored));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("github.commit.cache.requests", memoryHits, AtomicLong::get)
+                .tag("result", "memory-hit")
+                .description("메모리 계층에서 찾은 커밋 상세 조회 수")
+                .register(registry);
+        FunctionCounter.builder("github.commit.cache.requests", diskHits, AtomicLong::get)
+                .tag("result", "disk-hit")
+                .description("디스크 계층에서 찾은 커밋 상세 조회 수")
+                .register(registry);
+        FunctionCounter.builder("github.commit.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("GitHub에서 새로 받아온 커밋 상세 조회 수")
+                .register(registry);
+        Gauge.builder("github.commit.cache.weight", memory, cache -> cache.policy().eviction()
+                        .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                        .orElse(0L))
+                .description("메모리 계층 사용량 (patch 크기 기준)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (diskWriter != null) {
+            diskWriter.shutdown();
+        }
+    }
+
+    /**
+     * 가중치 = 고정 메타데이터 크기 + 파일별 고정 크기 + patch 문자열 바이트 수
+     */
+    private static int weigh(GitHubCommit commit) {
+        long weight = BASE_WEIGHT;
+        List<GitHubCommit.FileChange> files = commit.getFiles();
+        if (files != null) {
+            for (GitHubCommit.FileChange file : files) {
+                weight += FILE_WEIGHT;
+                if (file.getPatch() != null) {
+                    weight += file.getPatch().length();
+                }
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private GitHubCommit readFromDisk(String key) {
+        if (diskDir == null) return null;
+        Path file = diskFile(key);
+        if (!Files.exists(file)) return null;
+        try {
+            return objectMapper.readValue(file.toFile(), GitHubCommit.class);
+        } catch (IOException e) {
+            log.warn("[CommitDetailCache] 디스크 캐시 읽기 실패 - key: {}, 원인: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, GitHubCommit commit) {
+        Path file = diskFile(key);
+        if (Files.exists(file)) return; // 불변 데이터이므로 덮어쓸 필요 없음
+        try {
+            // 임시 파일에 쓴 뒤 이동 → 읽는 쪽에서 반쯤 쓰인 파일을 보지 않도록
+            Path tmp = Files.createTempFile(diskDir, "commit-", ".tmp");
+            objectMapper.writeValue(tmp.toFile(), commit);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            diskBytes += Files.size(file);
+        } catch (IOException e) {
+            log.warn("[CommitDetailCache] 디스크 캐시 쓰기 실패 - key: {}, 원인: {}", key, e.getMessage());
+        }
+        if (diskBytes > diskMaxBytes) {
+            pruneDisk();
+        }
+    }
+
+    /**
+     * 디스크 계층을 상한의 90%까지 줄임 (오래 저장된 파일부터 삭제, 쓰기마다 목록을 읽지 않도록 여유를 둠)
+     */
+    private void pruneDisk() {
+        long target = diskMaxBytes / 10 * 9;
+        try (Stream<Path> files = Files.list(diskDir)) {
+            List<Path> oldestFirst = files
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(CommitDetailCache::lastModified))
+                    .toList();
+            int deleted = 0;
+            for (Path file : oldestFirst) {
+                if (diskBytes <= target) break;
+                long size = Files.size(file);
+                if (Files.deleteIfExists(file)) {
+                    diskBytes -= size;
+                    deleted++;
+                }
+            }
+            log.info("[CommitDetailCache] 디스크 캐시 정리 - 삭제 {}개, 현재 {} bytes", deleted, diskBytes);
+        } catch (IOException e) {
+            log.warn("[CommitDetailCache] 디스크 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long diskUsage(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .mapToLong(file -> {
+                        try {
+                            return Files.size(file);
+                        } catch (IOException e) {
+                            return 0;
+                        }
+                    })
+                    .sum();
+        } catch (IOException e) {
+            log.warn("[CommitDetailCache] 디스크 캐시 크기 계산 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private Path diskFile(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String name = HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+            return diskDir.resolve(name + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * GeminiResultCache
+ * - (모델, 스타일, 전체 프롬프트) 해시를 키로 Gemini 생성 결과를 보관하는 캐시
+ * - 같은 리포지토리/스타일을 구독한 여러 사용자의 동일한 프롬프트는 한 번만 생성
+ * - 메모리 계층: 결과 문자열 길이 기준 가중치로 용량 제한 + TTL
+ * - S3 계층(선택): gemini.cache.s3-enabled=true 시 버킷의 prefix 아래에 저장해 재시작/다중 인스턴스 간 공유
+ * - 동시에 들어온 동일 요청은 진행 중인 생성 1건에 합류 (upstream 호출 1회)
+ */
+@Slf4j
+@Component
+public class GeminiResultCache implements MeterBinder {
+
+    // S3 객체 메타데이터: 최초 생성에 걸린 시간 (절약 시간 집계용)
+    private static final String GENERATION_MILLIS_METADATA = "generation-millis";
+
+    private final Cache<String, CachedResult> memory;
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final S3Client s3Client;
+    private final boolean s3Enabled;
+    private final String bucketName;
+    private final String s3Prefix;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong s3Hits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong savedMillis = new AtomicLong();
+
+    /**
+     * @param maxChars 메모리 계층 최대 용량 (결과 문자열 길이 합)
+     * @param ttl 메모리 계층 보관 시간
+     * @param s3Enabled S3 계층 사용 여부
+     * @param bucketName S3 버킷
+     * @param s3Prefix S3 계층 키 prefix (사용자 폴더와 겹치지 않도록 '_'로 시작)
+     */
+    public GeminiResultCache(S3Client s3Client,
+                             @Value("${gemini.cache.max-chars:16777216}") long maxChars,
+                             @Value("${gemini.cache.ttl:P7D}") Duration ttl,
+                             @Value("${gemini.cache.s3-enabled:false}") boolean s3Enabled,
+                             @Value("${spring.cloud.aws.s3.bucket:}") String bucketName,
+                             @Value("${gemini.cache.s3-prefix:_cache/gemini/}") String s3Prefix) {
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((String key, CachedResult result) -> result.text().length())
+                .expireAfterWrite(ttl)
+                .build();
+        this.s3Client = s3Client;
+        this.s3Enabled = s3Enabled && bucketName != null && !bucketName.isBlank();
+        this.bucketName = bucketName;
+        this.s3Prefix = s3Prefix;
+
+        log.info("[GeminiResultCache] 초기화 - 메모리 용량: {} chars, TTL: {}, S3 계층: {}",
+                maxChars, ttl, this.s3Enabled ? bucketName + "/" + s3Prefix : "미사용");
+    }
+
+    /**
+     * 캐시 키 생성
+     * @return sha256(model, style, prompt) 16진수 문자열
+     */
+    public static String key(String model, String style, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(style).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(prompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 조회, 없으면 생성 (메모리 → 진행 중 요청 합류 → S3 → 생성 순)
+     * - 빈 결과는 캐시하지 않음 (생성 실패/차단 응답 재시도 가능하도록)
+     * - 생성 실패 시 에러를 그대로 전달하고 캐시하지 않음
+     * - 조회/진행 중 요청 등록은 구독 시점에 수행 (조립만 하고 구독하지 않은 Mono가 진행 중 요청으로 남지 않음)
+     * @param key key()로 만든 캐시 키
+     * @param generator 실제 Gemini 호출
+     * @return 생성 결과
+     */
+    public Mono<String> getOrGenerate(String key, Supplier<Mono<String>> generator) {
+        return Mono.defer(() -> lookup(key, generator));
+    }
+
+    private Mono<String> lookup(String key, Supplier<Mono<String>> generator) {
+        CachedResult cached = memory.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            savedMillis.addAndGet(cached.generationMillis());
+            return Mono.just(cached.text());
+        }
+
+        Mono<String> pending = inFlight.get(key);
+        if (pending != null) {
+            coalesced.incrementAndGet();
+            return pending;
+        }
+
+        AtomicReference<Mono<String>> self = new AtomicReference<>();
+        Mono<String> load = Mono.defer(() -> loadFromS3OrGenerate(key, generator))
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(load);
+
+        Mono<String> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+        return load;
+    }
+
+    private Mono<String> loadFromS3OrGenerate(String key, Supplier<Mono<String>> generator) {
+        Mono<CachedResult> fromS3 = s3Enabled
+                ? Mono.fromCallable(() -> readFromS3(key)).subscribeOn(Schedulers.boundedElastic())
+                : Mono.empty();
+
+        return fromS3
+                .map(result -> {
+                    s3Hits.incrementAndGet();
+                    savedMillis.addAndGet(result.generationMillis());
+                    memory.put(key, result);
+                    return result.text();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    long startTime = System.currentTimeMillis();
+                    return generator.get()
+                            .doOnNext(text -> {
+                                misses.incrementAndGet();
+                                if (text.isEmpty()) return;
+                                CachedResult result = new CachedResult(text, System.currentTimeMillis() - startTime);
+                                memory.put(key, result);
+                                if (s3Enabled) {
+                                    Mono.fromRunnable(() -> writeToS3(key, result))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .subscribe();
+                                }
+                            });
+                }));
+    }
+
+    // S3 계층 조회 (없거나 실패하면 null → 생성으로 진행)
+    private CachedResult readFromS3(String key) {
+        try {
+            ResponseBytes<GetObjectResponse> object = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Prefix + key)
+                    .build());
+            String millis = object.response().metadata().get(GENERATION_MILLIS_METADATA);
+            return new CachedResult(object.asUtf8String(), millis != null ? Long.parseLong(millis) : 0L);
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (Exception e) {
+            log.warn("[GeminiResultCache] S3 캐시 조회 실패 - key: {}, 오류: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToS3(String key, CachedResult result) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Prefix + key)
+                            .contentType("text/markdown; charset=UTF-8")
+                            .metadata(Map.of(GENERATION_MILLIS_METADATA, Long.toString(result.generationMillis())))
+                            .build(),
+                    RequestBody.fromString(result.text(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("[GeminiResultCache] S3 캐시 저장 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gemini.cache.requests", memoryHits, AtomicLong::get)
+                .tag("result", "memory-hit")
+                .description("메모리 계층에서 제공한 Gemini 생성 요청 수")
+                .register(registry);
+        FunctionCounter.builder("gemini.cache.requests", s3Hits, AtomicLong::get)
+                .tag("result", "s3-hit")
+                .description("S3 계층에서 제공한 Gemini 생성 요청 수")
+                .register(registry);
+        FunctionCounter.builder("gemini.cache.requests", coalesced, AtomicLong::get)
+                .tag("result", "coalesced")
+                .description("진행 중인 동일 요청에 합류한 Gemini 생성 요청 수")
+                .register(registry);
+        FunctionCounter.builder("gemini.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Gemini를 실제로 호출한 생성 요청 수")
+                .register(registry);
+        FunctionCounter.builder("gemini.cache.latency.saved", savedMillis, millis -> millis.get() / 1000.0)
+                .description("캐시 적중으로 절약한 생성 시간 (최초 생성 소요시간 합)")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("gemini.cache.size", memory, Cache::estimatedSize)
+                .description("메모리 계층에 보관 중인 생성 결과 수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시된 생성 결과
+     * @param text 생성된 텍스트
+     * @param generationMillis 최초 생성에 걸린 시간(ms)
+     */
+    record CachedResult(String text, long generationMillis) {
+    }
+}
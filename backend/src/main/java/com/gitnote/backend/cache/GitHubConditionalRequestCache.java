@@ -0,0 +1,172 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * GitHubConditionalRequestCache
+ * - GitHub API GET 응답을 (토큰 소유자, URL) 단위로 보관하고 조건부 요청(If-None-Match / If-Modified-Since)을 보냄
+ * - 304 Not Modified 응답은 로컬에 저장된 본문으로 대체 (GitHub는 304를 rate limit에 차감하지 않음)
+ * - 본문 크기(문자 수) 합계가 max-bytes를 넘으면 덜 사용한 항목부터 제거
+ * - 단일 커밋 상세(/commits/{sha})는 CommitDetailCache가 보관하므로 제외 (큰 patch 본문을 두 번 들고 있지 않도록)
+ */
+@Slf4j
+@Component
+public class GitHubConditionalRequestCache implements ExchangeFilterFunction, MeterBinder {
+
+    // 단일 커밋 상세: /repos/{owner}/{repo}/commits/{sha}
+    private static final Pattern COMMIT_DETAIL_PATH = Pattern.compile("/repos/[^/]+/[^/]+/commits/[^/]+$");
+
+    private final Cache<String, CachedResponse> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxBytes 보관할 응답 본문 크기 합계 상한 (문자 수 기준)
+     */
+    public GitHubConditionalRequestCache(@Value("${github.etag-cache.max-bytes:16777216}") long maxBytes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length())
+                // 정리는 호출 스레드에서 바로 수행 (상한을 넘긴 상태가 비동기 정리 전까지 남지 않도록)
+                .executor(Runnable::run)
+                .build();
+        log.info("[GitHubConditionalRequestCache] 초기화 - 최대 크기: {}B", maxBytes);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        // 조회(GET) 요청만 캐시 대상, 커밋 상세는 CommitDetailCache가 담당
+        if (!HttpMethod.GET.equals(request.method()) || COMMIT_DETAIL_PATH.matcher(request.url().getPath()).find()) {
+            return next.exchange(request);
+        }
+
+        String cacheKey = cacheKey(request);
+        CachedResponse cached = entries.getIfPresent(cacheKey);
+        ClientRequest outgoing = cached == null ? request : ClientRequest.from(request)
+                .headers(headers -> {
+                    if (cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    } else {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .build();
+
+        return next.exchange(outgoing).flatMap(response -> {
+            if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                hitCount.incrementAndGet();
+                // 304 응답의 헤더(rate limit 등)는 유지하고 본문만 캐시로 대체
+                return response.releaseBody().then(Mono.fromSupplier(() -> response.mutate()
+                        .statusCode(HttpStatus.OK)
+                        .headers(headers -> headers.setContentType(cached.contentType()))
+                        .body(cached.body())
+                        .build()));
+            }
+
+            missCount.incrementAndGet();
+            HttpHeaders headers = response.headers().asHttpHeaders();
+            String etag = headers.getETag();
+            String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+            if (!response.statusCode().is2xxSuccessful() || (etag == null && lastModified == null)) {
+                return Mono.just(response);
+            }
+
+            MediaType contentType = headers.getContentType() != null ? headers.getContentType() : MediaType.APPLICATION_JSON;
+            return response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(body -> {
+                        entries.put(cacheKey, new CachedResponse(etag, lastModified, contentType, body));
+                        return response.mutate().body(body).build();
+                    });
+        });
+    }
+
+    /**
+     * 캐시 적중 횟수 (304 응답을 로컬 본문으로 대체한 횟수)
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 캐시 미스 횟수 (본문을 새로 내려받은 GET 요청 수)
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 현재 보관 중인 항목 수
+     */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("github.conditional.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit")
+                .description("304 응답을 캐시 본문으로 대체한 GitHub GET 요청 수")
+                .register(registry);
+        FunctionCounter.builder("github.conditional.requests", missCount, AtomicLong::get)
+                .tag("result", "miss")
+                .description("본문을 새로 내려받은 GitHub GET 요청 수")
+                .register(registry);
+        Gauge.builder("github.conditional.cache.size", this, GitHubConditionalRequestCache::size)
+                .description("조건부 요청 캐시 항목 수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 키: Authorization 헤더 해시(토큰 소유자 구분) + 요청 URL
+     * - 토큰 원문은 메모리에 키로 남기지 않음
+     */
+    private static String cacheKey(ClientRequest request) {
+        String authorization = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+        return sha256(authorization != null ? authorization : "") + " " + request.url();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 GET 응답
+     * @param etag ETag 헤더 (없으면 null)
+     * @param lastModified Last-Modified 헤더 (없으면 null)
+     * @param contentType 응답 Content-Type
+     * @param body 응답 본문
+     */
+    private record CachedResponse(String etag, String lastModified, MediaType contentType, String body) {
+    }
+}
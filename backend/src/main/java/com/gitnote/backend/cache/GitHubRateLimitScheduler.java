@@ -0,0 +1,299 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GitHubRateLimitScheduler
+ * - 토큰(+리소스: core/graphql/search)별 남은 요청 한도를 응답 헤더(X-RateLimit-*)로 추적
+ * - 남은 한도가 임계치 이하로 떨어지면 리셋 시각까지 남은 요청을 고르게 나눠 순서대로 지연 실행 (요청 실패 대신 대기열)
+ * - 403/429 응답에 Retry-After가 있거나 한도가 소진된 경우 대기 후 재시도
+ * - Retry-After 없는 2차 한도(secondary rate limit) 응답은 본문 메시지로 판별해 secondary-wait(기본 60초) 대기 후 재시도
+ * - 토큰별 남은 한도 / 대기 중인 요청 수를 지표로 노출
+ */
+@Slf4j
+@Component
+public class GitHubRateLimitScheduler implements ExchangeFilterFunction, MeterBinder {
+
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String HEADER_RESOURCE = "X-RateLimit-Resource";
+
+    // 남은 한도가 이 값 이하가 되면 페이싱 시작
+    private final int lowWatermark;
+    // 요청 1건이 대기할 수 있는 최대 시간 (초과 시 그대로 요청)
+    private final Duration maxWait;
+    // 한도 초과 응답에 대한 최대 재시도 횟수
+    private final int maxRetries;
+    // Retry-After 없는 2차 한도 응답 대기 시간 (GitHub 문서: 최소 1분)
+    private final Duration secondaryWait;
+
+    private final Cache<String, TokenBudget> budgets;
+    private final AtomicInteger waitingRequests = new AtomicInteger();
+    private volatile MeterRegistry meterRegistry;
+
+    public GitHubRateLimitScheduler(@Value("${github.rate-limit.low-watermark:100}") int lowWatermark,
+                                    @Value("${github.rate-limit.max-wait:PT15M}") Duration maxWait,
+                                    @Value("${github.rate-limit.max-retries:3}") int maxRetries,
+                                    @Value("${github.rate-limit.secondary-wait:PT60S}") Duration secondaryWait) {
+        this.lowWatermark = lowWatermark;
+        this.maxWait = maxWait;
+        this.maxRetries = maxRetries;
+        this.secondaryWait = secondaryWait;
+        // 한동안 쓰이지 않은 토큰은 정리 (함께 등록된 지표도 제거)
+        this.budgets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(2))
+                .removalListener((String key, TokenBudget budget, RemovalCause cause) -> {
+                    MeterRegistry registry = meterRegistry;
+                    if (registry != null && budget != null) {
+                        budget.meters.forEach(registry::remove);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String authorization = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+        String path = request.url().getPath();
+        // 인증 없는 요청 및 한도 조회 API(/rate_limit, 한도 차감 없음)는 대상 아님
+        if (authorization == null || path.endsWith("/rate_limit")) {
+            return next.exchange(request);
+        }
+
+        String tokenId = tokenId(authorization);
+        String resource = resourceOf(path);
+        TokenBudget budget = budgets.get(tokenId + ":" + resource, key -> newBudget(tokenId, resource));
+        return exchange(request, next, budget, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, TokenBudget budget, int attempt) {
+        long delayMillis = Math.min(budget.reserveDelayMillis(lowWatermark, System.currentTimeMillis()), maxWait.toMillis());
+
+        Mono<ClientResponse> call = next.exchange(request).flatMap(response -> {
+            HttpHeaders headers = response.headers().asHttpHeaders();
+            budget.update(headers);
+
+            int status = response.statusCode().value();
+            if ((status != 403 && status != 429) || attempt >= maxRetries) {
+                return Mono.just(response);
+            }
+            long retryAfterMillis = budget.blockForRateLimitResponse(headers, System.currentTimeMillis());
+            if (retryAfterMillis >= 0) {
+                return retry(request, next, budget, attempt, status, retryAfterMillis, response.releaseBody());
+            }
+            // 헤더로 판별되지 않는 403/429: 본문 메시지가 한도 초과이면 2차 한도로 보고 대기, 아니면 권한 오류 등 그대로 반환
+            return response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .flatMap(body -> {
+                        if (status == 429 || isRateLimitMessage(body)) {
+                            long waitMillis = budget.blockFor(secondaryWait.toMillis(), System.currentTimeMillis());
+                            return retry(request, next, budget, attempt, status, waitMillis, Mono.empty());
+                        }
+                        return Mono.just(response.mutate().body(body).build());
+                    });
+        });
+
+        if (delayMillis <= 0) {
+            return call;
+        }
+
+        log.debug("[GitHubRateLimitScheduler] 요청 지연 {}ms - 남은 한도: {}, 리소스: {}",
+                delayMillis, budget.remaining, budget.resource);
+        return Mono.delay(Duration.ofMillis(delayMillis))
+                .doOnSubscribe(s -> waitingRequests.incrementAndGet())
+                .doFinally(signal -> waitingRequests.decrementAndGet())
+                .then(call);
+    }
+
+    private Mono<ClientResponse> retry(ClientRequest request, ExchangeFunction next, TokenBudget budget, int attempt,
+                                       int status, long waitMillis, Mono<Void> release) {
+        log.warn("[GitHubRateLimitScheduler] 한도 초과 응답({}) - {}ms 후 재시도 ({}/{}), 리소스: {}",
+                status, waitMillis, attempt + 1, maxRetries, budget.resource);
+        return release.then(exchange(request, next, budget, attempt + 1));
+    }
+
+    /**
+     * 한도 초과 응답 본문 판별 ("API rate limit exceeded", "You have exceeded a secondary rate limit" 등)
+     */
+    public static boolean isRateLimitMessage(String body) {
+        return body != null && body.toLowerCase(Locale.ROOT).contains("rate limit");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        Gauge.builder("github.rate_limit.waiting", waitingRequests, AtomicInteger::get)
+                .description("한도 페이싱으로 대기 중인 GitHub 요청 수")
+                .register(registry);
+        budgets.asMap().values().forEach(budget -> budget.register(registry));
+    }
+
+    private TokenBudget newBudget(String tokenId, String resource) {
+        TokenBudget budget = new TokenBudget(tokenId, resource);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            budget.register(registry);
+        }
+        return budget;
+    }
+
+    /**
+     * 요청 경로로 GitHub rate limit 리소스 구분 (리소스마다 한도가 별도)
+     */
+    private static String resourceOf(String path) {
+        if (path.endsWith("/graphql")) return "graphql";
+        if (path.contains("/search/")) return "search";
+        return "core";
+    }
+
+    /**
+     * 토큰 식별자 (Authorization 헤더 해시 앞 12자리, 지표 태그로도 사용)
+     */
+    private static String tokenId(String authorization) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(authorization.getBytes(StandardCharsets.UTF_8))).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 토큰 + 리소스 단위 요청 한도 상태
+     */
+    static class TokenBudget {
+        private final String tokenId;
+        private final String resource;
+        private final List<Meter> meters = new ArrayList<>();
+
+        private volatile int limit = -1;       // 시간당 한도 (모르면 -1)
+        private volatile int remaining = -1;   // 남은 한도 (모르면 -1)
+        private volatile long resetAtMillis;   // 한도 리셋 시각
+        private long blockedUntilMillis;       // Retry-After 등으로 전체 대기해야 하는 시각
+        private long nextSlotMillis;           // 페이싱 대기열의 다음 실행 가능 시각
+
+        TokenBudget(String tokenId, String resource) {
+            this.tokenId = tokenId;
+            this.resource = resource;
+        }
+
+        private void register(MeterRegistry registry) {
+            meters.add(Gauge.builder("github.rate_limit.remaining", this, budget -> budget.remaining)
+                    .tag("token", tokenId)
+                    .tag("resource", resource)
+                    .description("토큰별 남은 GitHub 요청 한도")
+                    .register(registry));
+            meters.add(Gauge.builder("github.rate_limit.limit", this, budget -> budget.limit)
+                    .tag("token", tokenId)
+                    .tag("resource", resource)
+                    .description("토큰별 GitHub 요청 한도")
+                    .register(registry));
+        }
+
+        /**
+         * 이번 요청의 실행 시각을 예약하고 지금부터의 대기 시간 반환
+         * - 남은 한도가 충분하면 0
+         * - 임계치 이하면 (리셋까지 남은 시간 / 남은 한도) 간격으로 순서대로 배치
+         * - 한도 소진 또는 Retry-After 대기 중이면 해당 시각까지 대기
+         */
+        synchronized long reserveDelayMillis(int lowWatermark, long now) {
+            long earliest = Math.max(now, blockedUntilMillis);
+
+            int left = remaining;
+            if (left < 0 || left > lowWatermark || resetAtMillis <= now) {
+                return earliest - now;
+            }
+            if (left == 0) {
+                earliest = Math.max(earliest, resetAtMillis);
+                return earliest - now;
+            }
+
+            long spacing = (resetAtMillis - now) / left;
+            long slot = Math.max(earliest, nextSlotMillis);
+            nextSlotMillis = slot + spacing;
+            // 예약한 만큼 로컬에서 차감 (응답 헤더가 오면 실제 값으로 덮어씀)
+            remaining = left - 1;
+            return slot - now;
+        }
+
+        /**
+         * 응답 헤더로 한도 상태 갱신
+         */
+        synchronized void update(HttpHeaders headers) {
+            String responseResource = headers.getFirst(HEADER_RESOURCE);
+            if (responseResource != null && !responseResource.equals(resource)) return;
+
+            Integer newLimit = parseInt(headers.getFirst(HEADER_LIMIT));
+            Integer newRemaining = parseInt(headers.getFirst(HEADER_REMAINING));
+            Integer reset = parseInt(headers.getFirst(HEADER_RESET));
+            if (newLimit != null) limit = newLimit;
+            if (newRemaining != null) remaining = newRemaining;
+            if (reset != null) resetAtMillis = reset * 1000L;
+        }
+
+        /**
+         * 403/429 응답이 한도 초과인지 판단하고 대기 시각 설정
+         * @return 재시도까지 대기 시간(ms), 한도 초과가 아니면 -1 (권한 오류 등)
+         */
+        synchronized long blockForRateLimitResponse(HttpHeaders headers, long now) {
+            Integer retryAfterSeconds = parseInt(headers.getFirst(HttpHeaders.RETRY_AFTER));
+            if (retryAfterSeconds != null) {
+                // 2차 한도(secondary rate limit): Retry-After 만큼 대기
+                blockedUntilMillis = Math.max(blockedUntilMillis, now + retryAfterSeconds * 1000L);
+            } else if (remaining == 0 && resetAtMillis > now) {
+                blockedUntilMillis = Math.max(blockedUntilMillis, resetAtMillis);
+            } else {
+                return -1;
+            }
+            return blockedUntilMillis - now;
+        }
+
+        /**
+         * 응답 헤더로 판별되지 않는 한도 초과(2차 한도 등)에 대해 일정 시간 전체 대기 설정
+         * @return 재시도까지 대기 시간(ms)
+         */
+        synchronized long blockFor(long waitMillis, long now) {
+            blockedUntilMillis = Math.max(blockedUntilMillis, now + waitMillis);
+            return blockedUntilMillis - now;
+        }
+
+        int remaining() {
+            return remaining;
+        }
+
+        private static Integer parseInt(String value) {
+            if (value == null) return null;
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
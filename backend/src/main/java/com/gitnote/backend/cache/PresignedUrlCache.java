@@ -0,0 +1,90 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * PresignedUrlCache
+ * - S3 키별 Presigned URL을 서명 만료 직전까지 재사용하는 캐시
+ * - 보관 시간 = 서명 유효 시간 - reuse-margin → 클라이언트가 받은 URL은 최소 reuse-margin 동안 유효
+ * - 서명 계산(HMAC)과 URL 문자열 생성이 목록 요청마다 파일 수만큼 반복되지 않도록 함
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache implements MeterBinder {
+
+    private final Cache<String, String> cache;
+    private final Duration signatureDuration;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param signatureDuration Presigned URL 서명 유효 시간
+     * @param reuseMargin 만료까지 이 시간 이상 남은 URL만 재사용
+     * @param maxEntries 최대 보관 URL 수
+     */
+    public PresignedUrlCache(@Value("${s3.presign.duration:PT10M}") Duration signatureDuration,
+                             @Value("${s3.presign.reuse-margin:PT2M}") Duration reuseMargin,
+                             @Value("${s3.presign.cache-max-entries:100000}") long maxEntries) {
+        if (reuseMargin.compareTo(signatureDuration) >= 0) {
+            throw new IllegalArgumentException("s3.presign.reuse-margin must be shorter than s3.presign.duration");
+        }
+        this.signatureDuration = signatureDuration;
+        Duration ttl = signatureDuration.minus(reuseMargin);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+        log.info("[PresignedUrlCache] 초기화 - 서명 유효 시간: {}, 재사용 시간: {}, 최대 항목 수: {}", signatureDuration, ttl, maxEntries);
+    }
+
+    /**
+     * Presigned URL 서명 유효 시간 (URL 생성 시 사용)
+     */
+    public Duration signatureDuration() {
+        return signatureDuration;
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료가 가까우면 presigner로 새로 서명해 보관
+     * @param key S3 객체 키
+     * @param presigner URL 서명
+     * @return Presigned URL
+     */
+    public String get(String key, Function<String, String> presigner) {
+        boolean[] signed = {false};
+        String url = cache.get(key, k -> {
+            signed[0] = true;
+            return presigner.apply(k);
+        });
+        (signed[0] ? misses : hits).incrementAndGet();
+        return url;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("s3.presign.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("재사용한 Presigned URL 수")
+                .register(registry);
+        FunctionCounter.builder("s3.presign.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("새로 서명한 Presigned URL 수")
+                .register(registry);
+        Gauge.builder("s3.presign.cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 Presigned URL 수")
+                .register(registry);
+    }
+}
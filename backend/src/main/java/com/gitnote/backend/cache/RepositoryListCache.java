@@ -0,0 +1,113 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gitnote.backend.dto.GitHubRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RepositoryListCache
+ * - 사용자별 리포지토리 전체 목록(모든 페이지 병합 결과)을 짧은 TTL로 보관하는 캐시
+ * - 대시보드 진입 시마다 반복되는 /api/github/repositories 호출이 페이지 수만큼 요청 한도를 소모하지 않도록 함
+ * - 토큰마다 볼 수 있는 리포지토리가 다를 수 있으므로 키에 토큰 해시 포함
+ * - 로그아웃(GitHubService.revokeToken) 시 해당 토큰의 목록 제거
+ */
+@Slf4j
+@Component
+public class RepositoryListCache implements MeterBinder {
+
+    private final Cache<String, List<GitHubRepository>> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param ttl 목록 보관 시간 (0이면 캐시 미사용)
+     * @param maxEntries 최대 보관 사용자 수
+     */
+    public RepositoryListCache(@Value("${github.repositories.cache-ttl:PT1M}") Duration ttl,
+                               @Value("${github.repositories.cache-max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(ttl.isZero() ? 0 : maxEntries)
+                .build();
+        log.info("[RepositoryListCache] 초기화 - TTL: {}, 최대 항목 수: {}", ttl, maxEntries);
+    }
+
+    /**
+     * 캐시 키 생성
+     * @return username + 토큰 해시
+     */
+    public static String key(String accessToken, String username) {
+        return username + "#" + sha256(accessToken);
+    }
+
+    /**
+     * 캐시 조회
+     * @param key 캐시 키
+     * @return 리포지토리 목록, 없거나 만료되었으면 null
+     */
+    public List<GitHubRepository> get(String key) {
+        List<GitHubRepository> repositories = cache.getIfPresent(key);
+        if (repositories != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return repositories;
+    }
+
+    /**
+     * 캐시 저장 (수정 불가 목록으로 보관)
+     */
+    public void put(String key, List<GitHubRepository> repositories) {
+        cache.put(key, List.copyOf(repositories));
+    }
+
+    /**
+     * 토큰 단위 무효화 (로그아웃으로 토큰을 폐기할 때, 그 토큰으로 받은 모든 사용자 목록 제거)
+     * @param accessToken 폐기한 토큰
+     */
+    public void invalidateToken(String accessToken) {
+        String suffix = "#" + sha256(accessToken);
+        cache.asMap().keySet().removeIf(key -> key.endsWith(suffix));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("github.repositories.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("캐시에서 제공한 리포지토리 목록 조회 수")
+                .register(registry);
+        FunctionCounter.builder("github.repositories.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("GitHub에서 새로 받아온 리포지토리 목록 조회 수")
+                .register(registry);
+        Gauge.builder("github.repositories.cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 사용자별 리포지토리 목록 수")
+                .register(registry);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
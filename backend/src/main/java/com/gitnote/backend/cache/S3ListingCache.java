@@ -0,0 +1,85 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * S3ListingCache
+ * - 사용자별 S3 커밋 로그 전체 목록(정렬된 S3Object)을 TTL 동안 보관하는 캐시
+ * - 목록 페이지를 넘길 때마다 listObjectsV2 전체 페이지를 다시 읽지 않도록 함
+ * - 업로드 시 해당 사용자 항목을 무효화하며, 다른 인스턴스에서 올린 파일은 TTL 안에 반영
+ * - 페이지 단위로 읽지 않음: 미스(첫 조회, TTL 만료, 업로드 무효화)마다 loader가 prefix 전체를 나열
+ */
+@Slf4j
+@Component
+public class S3ListingCache implements MeterBinder {
+
+    private final Cache<String, List<S3Object>> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param ttl 목록 보관 시간 (0이면 캐시 미사용)
+     * @param maxEntries 최대 보관 사용자 수
+     */
+    public S3ListingCache(@Value("${s3.list.cache-ttl:PT1M}") Duration ttl,
+                          @Value("${s3.list.cache-max-entries:1000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(ttl.isZero() ? 0 : maxEntries)
+                .build();
+        log.info("[S3ListingCache] 초기화 - TTL: {}, 최대 항목 수: {}", ttl, maxEntries);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 S3 전체 목록을 읽어 보관 (같은 사용자 동시 조회는 한 번만 읽음)
+     * @param username 사용자명 (S3 prefix)
+     * @param loader S3 전체 목록 조회
+     * @return 수정 불가 목록
+     */
+    public List<S3Object> get(String username, Function<String, List<S3Object>> loader) {
+        boolean[] loaded = {false};
+        List<S3Object> objects = cache.get(username, name -> {
+            loaded[0] = true;
+            return List.copyOf(loader.apply(name));
+        });
+        (loaded[0] ? misses : hits).incrementAndGet();
+        return objects;
+    }
+
+    /**
+     * 캐시 무효화 (업로드 등 목록 변경 시)
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("s3.list.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("캐시에서 제공한 S3 목록 조회 수")
+                .register(registry);
+        FunctionCounter.builder("s3.list.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("S3에서 새로 읽은 목록 조회 수")
+                .register(registry);
+        Gauge.builder("s3.list.cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 사용자별 S3 목록 수")
+                .register(registry);
+    }
+}
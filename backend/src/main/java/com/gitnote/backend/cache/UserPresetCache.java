@@ -0,0 +1,152 @@
+package com.gitnote.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gitnote.backend.entity.UserPreset;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * UserPresetCache
+ * - userId → UserPreset 조회 결과를 TTL 동안 보관하는 로컬 캐시 (UserPresetRepository 앞단)
+ * - 프리셋이 없는 사용자도 빈 값으로 보관해 반복 조회를 막음
+ * - 저장/삭제는 UserPresetRepository가 DynamoDB에 쓴 뒤 바로 반영(write-through)
+ * - 인스턴스 간 무효화는 하지 않음: 다른 인스턴스(또는 Lambda/콘솔)에서 바뀐 값은 TTL이 지나야 반영
+ *   (반영 지연 상한 = user-preset.cache.ttl, 조건부 수정이 충돌하면 해당 항목만 비움)
+ * - 보관/반환 시 복사본을 사용하므로 호출 측에서 객체를 수정해도 캐시 값은 바뀌지 않음
+ */
+@Slf4j
+@Component
+public class UserPresetCache implements MeterBinder {
+
+    private final Cache<String, Optional<UserPreset>> cache;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param ttl 프리셋 보관 시간 (다른 인스턴스 변경이 반영되기까지 최대 지연, 0이면 캐시 미사용)
+     * @param maxEntries 최대 보관 사용자 수
+     */
+    public UserPresetCache(@Value("${user-preset.cache.ttl:PT1M}") Duration ttl,
+                           @Value("${user-preset.cache.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(ttl.isZero() ? 0 : maxEntries)
+                .build();
+        log.info("[UserPresetCache] 초기화 - TTL: {}, 최대 항목 수: {}", ttl, maxEntries);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 DynamoDB에서 읽어 보관 (같은 userId 동시 조회는 한 번만 읽음)
+     * @param userId 사용자 ID
+     * @param loader DynamoDB 조회 (없으면 null 반환)
+     * @return 프리셋 복사본 (없으면 Optional.empty)
+     */
+    public Optional<UserPreset> get(String userId, Function<String, UserPreset> loader) {
+        boolean[] loaded = {false};
+        Optional<UserPreset> preset = cache.get(userId, id -> {
+            loaded[0] = true;
+            return Optional.ofNullable(copy(loader.apply(id)));
+        });
+        (loaded[0] ? misses : hits).incrementAndGet();
+        return preset.map(UserPresetCache::copy);
+    }
+
+    /**
+     * 캐시 조회 - 논블로킹, 없으면 loader 결과를 보관
+     * - 조회 중 저장/삭제가 반영됐으면 그 값을 유지 (이전 값으로 덮어쓰지 않음)
+     * @param userId 사용자 ID
+     * @param loader DynamoDB 비동기 조회 (없으면 empty)
+     * @return 프리셋 복사본 (없으면 empty)
+     */
+    public Mono<UserPreset> getAsync(String userId, Function<String, Mono<UserPreset>> loader) {
+        Optional<UserPreset> cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Mono.justOrEmpty(cached.map(UserPresetCache::copy));
+        }
+        misses.incrementAndGet();
+        return loader.apply(userId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(preset -> {
+                    cache.asMap().putIfAbsent(userId, preset.map(UserPresetCache::copy));
+                    return Mono.justOrEmpty(preset);
+                });
+    }
+
+    /**
+     * 캐시에 있는 프리셋 확인 (DynamoDB를 읽지 않으며 적중률에도 포함하지 않음)
+     * @return 프리셋 복사본, 캐시에 없거나 없는 사용자이면 null
+     */
+    public UserPreset peek(String userId) {
+        Optional<UserPreset> cached = cache.getIfPresent(userId);
+        return cached != null ? cached.map(UserPresetCache::copy).orElse(null) : null;
+    }
+
+    /**
+     * 저장된 프리셋 반영 (write-through)
+     */
+    public void put(UserPreset preset) {
+        cache.put(preset.getUserId(), Optional.of(copy(preset)));
+    }
+
+    /**
+     * 삭제된 프리셋 반영 (빈 값으로 보관해 삭제 직후 조회도 DynamoDB를 읽지 않음)
+     */
+    public void putAbsent(String userId) {
+        cache.put(userId, Optional.empty());
+    }
+
+    /**
+     * 사용자 한 명의 캐시 무효화 (조건부 수정 충돌 등 캐시 값이 오래됐을 때, 다음 조회에서 DynamoDB를 읽음)
+     */
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+        log.debug("[UserPresetCache] 캐시 무효화 - userId: {}", userId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.preset.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("캐시에서 제공한 프리셋 조회 수 (절감한 DynamoDB 읽기 수)")
+                .register(registry);
+        FunctionCounter.builder("user.preset.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("DynamoDB에서 읽은 프리셋 조회 수")
+                .register(registry);
+        // GetItem(최종 일관성 읽기) 1건 = 0.5 RCU (프리셋은 4KB 미만)
+        FunctionCounter.builder("user.preset.cache.dynamodb.rcu.saved", hits, h -> h.get() * 0.5)
+                .description("캐시 적중으로 절감한 DynamoDB 읽기 용량 단위")
+                .register(registry);
+        Gauge.builder("user.preset.cache.hit.ratio", this, UserPresetCache::hitRatio)
+                .description("프리셋 조회 캐시 적중률")
+                .register(registry);
+        Gauge.builder("user.preset.cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 사용자 프리셋 수")
+                .register(registry);
+    }
+
+    private double hitRatio() {
+        long hit = hits.get();
+        long total = hit + misses.get();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    private static UserPreset copy(UserPreset preset) {
+        return preset != null ? preset.toBuilder().build() : null;
+    }
+}
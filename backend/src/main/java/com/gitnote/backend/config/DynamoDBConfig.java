@@ -5,10 +5,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.net.URI;
+
 /**
  * DynamoDB와의 연동을 위한 설정 클래스입니다.
  * AWS 크레덴셜 및 리전을 주입받아 DynamoDB 관련 빈을 등록합니다.
@@ -25,6 +30,14 @@ public class DynamoDBConfig {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // 동기 클라이언트 커넥션 풀 크기
+    @Value("${aws.http.max-connections:50}")
+    private int maxConnections;
+
+    // 엔드포인트 재정의 (DynamoDB Local 등, 비우면 AWS 기본 엔드포인트)
+    @Value("${aws.dynamodb.endpoint:}")
+    private String endpoint;
+
     /**
      * DynamoDbClient Bean 등록
      * - AWS 크레덴셜과 리전을 바탕으로 DynamoDbClient 인스턴스를 생성합니다.
@@ -36,6 +49,10 @@ public class DynamoDBConfig {
         return DynamoDbClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(maxConnections))
+                .applyMutation(builder -> {
+                    if (!endpoint.isBlank()) builder.endpointOverride(URI.create(endpoint));
+                })
                 .build();
     }
 
@@ -50,4 +67,31 @@ public class DynamoDBConfig {
                 .dynamoDbClient(dynamoDbClient)
                 .build();
     }
+
+    /**
+     * DynamoDbAsyncClient Bean 등록
+     * - 논블로킹 리포트 파이프라인용 비동기 클라이언트 (Netty 기반, 요청마다 스레드를 점유하지 않음)
+     */
+    @Bean
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
+        return DynamoDbAsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+                .applyMutation(builder -> {
+                    if (!endpoint.isBlank()) builder.endpointOverride(URI.create(endpoint));
+                })
+                .build();
+    }
+
+    /**
+     * DynamoDbEnhancedAsyncClient Bean 등록
+     * - DynamoDbAsyncClient 기반 객체 매핑 클라이언트
+     */
+    @Bean
+    public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -29,6 +30,10 @@ public class S3Config {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // 동기 클라이언트 최대 커넥션 수 (SDK 기본 50, 가상 스레드 사용 시 동시 호출이 늘어나므로 설정으로 조정)
+    @Value("${aws.http.max-connections:50}")
+    private int maxConnections;
+
     /**
      * S3Client Bean 등록
      * - AWS 크레덴셜과 리전을 바탕으로 S3Client 인스턴스를 생성합니다.
@@ -40,6 +45,7 @@ public class S3Config {
         return S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(maxConnections))
                 .build();
     }
 
@@ -9,7 +9,9 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ses.SesAsyncClient;
 import software.amazon.awssdk.services.ses.SesClient;
 
 import java.time.Duration;
@@ -29,6 +31,10 @@ public class SESConfig {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // 동기 클라이언트 커넥션 풀 크기
+    @Value("${aws.http.max-connections:50}")
+    private int maxConnections;
+
     /**
      * SesClient Bean 등록
      * - AWS SES를 통해 이메일을 전송하기 위한 클라이언트
@@ -37,7 +43,34 @@ public class SESConfig {
     @Bean
     public SesClient sesClient() {
         AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
-        
+
+        return SesClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(maxConnections))
+                .overrideConfiguration(clientOverrideConfiguration())
+                .build();
+    }
+
+    /**
+     * SesAsyncClient Bean 등록
+     * - 논블로킹 리포트 파이프라인용 비동기 클라이언트 (동일한 타임아웃/재시도 정책)
+     */
+    @Bean
+    public SesAsyncClient sesAsyncClient() {
+        AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
+
+        return SesAsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+                .overrideConfiguration(clientOverrideConfiguration())
+                .build();
+    }
+
+    /**
+     * 클라이언트 오버라이드 설정 (타임아웃 + 재시도 정책)
+     */
+    private ClientOverrideConfiguration clientOverrideConfiguration() {
         // 재시도 정책 설정
         BackoffStrategy backoffStrategy = EqualJitterBackoffStrategy.builder()
                 .baseDelay(Duration.ofMillis(100))
@@ -50,16 +83,10 @@ public class SESConfig {
                 .build();
         
         // 클라이언트 오버라이드 설정 (타임아웃 포함)
-        ClientOverrideConfiguration clientConfig = ClientOverrideConfiguration.builder()
+        return ClientOverrideConfiguration.builder()
                 .apiCallTimeout(Duration.ofSeconds(30))
                 .apiCallAttemptTimeout(Duration.ofSeconds(10))
                 .retryPolicy(retryPolicy)
                 .build();
-        
-        return SesClient.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
-                .overrideConfiguration(clientConfig)
-                .build();
     }
 }
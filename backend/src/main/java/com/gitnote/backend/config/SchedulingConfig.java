@@ -0,0 +1,15 @@
+package com.gitnote.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 자동 리포트 스케줄러(AutoReportScheduler) 활성화 설정
+ * auto-report.scheduler.enabled=true 일 때만 @Scheduled 작업을 등록합니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "auto-report.scheduler.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
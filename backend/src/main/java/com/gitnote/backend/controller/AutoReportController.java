@@ -1,22 +1,23 @@
 package com.gitnote.backend.controller;
 
-import com.gitnote.backend.dto.GitHubCommit;
-import com.gitnote.backend.entity.UserPreset;
-import com.gitnote.backend.service.DDBReportService;
-import com.gitnote.backend.service.EmailService;
-import com.gitnote.backend.service.GeminiApiService;
-import com.gitnote.backend.service.GitHubService;
-import com.gitnote.backend.service.UserPresetService;
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.service.ReportJobService;
+import com.gitnote.backend.service.ReportPipelineService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 
-import java.time.LocalDate;
+import java.time.DateTimeException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * 자동 리포트 생성을 위한 Controller
@@ -28,11 +29,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AutoReportController {
 
-    private final GitHubService gitHubService;
-    private final GeminiApiService geminiApiService;
-    private final DDBReportService reportService;
-    private final UserPresetService userPresetService;
-    private final EmailService emailService;
+    private final ReportPipelineService reportPipelineService;
+    private final ReportJobService reportJobService;
 
     /**
      * 리포트 생성 API
@@ -57,94 +55,65 @@ public class AutoReportController {
      */
     @PostMapping("/generate")
     public ResponseEntity<?> generateReport(@RequestBody Map<String, String> request) {
-        try {
-            // 요청 파라미터 추출
-            String accessToken = request.get("accessToken");
-            String repository = request.get("repository");
-            String sinceStr = request.get("since");
-            String untilStr = request.get("until");
-            String reportStyle = request.getOrDefault("reportStyle", "summary");
-            String userId = request.get("userId");
-
-            // 필수 파라미터 검증
-            if (accessToken == null || repository == null || sinceStr == null ||
-                untilStr == null || userId == null) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "error", "Missing required parameters: accessToken, repository, since, until, userId"
-                ));
-            }
-
-            // repository 형식 검증 (owner/repo)
-            String[] repoParts = repository.split("/");
-            if (repoParts.length != 2) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "error", "Invalid repository format. Expected: owner/repo"
-                ));
-            }
-
-            String owner = repoParts[0];
-            String repo = repoParts[1];
-
-            // 날짜 파싱
-            LocalDate since = LocalDate.parse(sinceStr);
-            LocalDate until = LocalDate.parse(untilStr);
-
-            // 1. GitHub에서 커밋 조회
-            List<GitHubCommit> commits = gitHubService.getCommitsByDateRange(
-                accessToken, owner, repo, since, until
-            );
-
-            // 커밋이 없으면 에러 반환
-            if (commits.isEmpty()) {
-                return ResponseEntity.ok(Map.of(
-                    "success", false,
-                    "message", "No commits found for the specified period",
-                    "repository", repository,
-                    "period", Map.of("since", sinceStr, "until", untilStr)
-                ));
-            }
-
-            // 2. 커밋 데이터를 텍스트로 변환
-            String commitsText = gitHubService.exportCommitsAsText(
-                commits, repository, since, until
-            );
-
-            // 3. Gemini API로 리포트 생성
-            String reportContent = geminiApiService.generateContent(commitsText, reportStyle);
-
-            // 4. DynamoDB에 리포트 저장 (자동 저장이므로 한국 시간대 사용)
-            log.info("보고서 저장 시작: userId={}, repository={}", userId, repository);
-            reportService.saveUserReport(userId, repository, reportContent, java.time.ZoneId.of("Asia/Seoul"));
-            log.info("보고서 저장 완료: userId={}, repository={}", userId, repository);
-
-            // 5. 이메일 알림 전송 (사용자 설정에 따라)
-            log.info("이메일 알림 전송 프로세스 시작: userId={}, repository={}", userId, repository);
-            sendEmailNotificationIfEnabled(userId, repository, sinceStr, untilStr);
-            log.info("이메일 알림 전송 프로세스 완료: userId={}, repository={}", userId, repository);
+        // 동기 API: 논블로킹 파이프라인 결과를 기다려 반환 (기존 호출자 호환)
+        return generateReportAsync(request).block();
+    }
 
-            // 6. 성공 응답 반환
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "reportId", repository,
-                "userId", userId,
-                "commitsCount", commits.size(),
-                "period", Map.of("since", sinceStr, "until", untilStr),
-                "message", "Report generated and saved successfully"
-            ));
+    /**
+     * 리포트 생성 API - 논블로킹
+     * - 요청/응답 형식은 /generate와 동일
+     * - GitHub/Gemini(WebClient), DynamoDB/SES(비동기 클라이언트) 호출 동안 서블릿 스레드를 점유하지 않음
+     */
+    @PostMapping("/generate-async")
+    public Mono<ResponseEntity<Map<String, Object>>> generateReportAsync(@RequestBody Map<String, String> request) {
+        String repository = request.get("repository");
+        String sinceStr = request.get("since");
+        String untilStr = request.get("until");
 
+        // 필수 파라미터/repository 형식(owner/repo) 검증 + 날짜 파싱
+        AutoReportRequest reportRequest;
+        try {
+            reportRequest = AutoReportRequest.from(request);
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(Map.of(
+            return Mono.just(ResponseEntity.badRequest().body(Map.<String, Object>of(
                 "success", false,
-                "error", "Invalid parameters: " + e.getMessage()
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                "error", e.getMessage()
+            )));
+        } catch (DateTimeException e) {
+            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.<String, Object>of(
                 "success", false,
                 "error", "Failed to generate report: " + e.getMessage()
-            ));
+            )));
         }
+
+        return reportPipelineService.generateReport(reportRequest)
+                .map(report -> {
+                    // 커밋이 없으면 에러 반환
+                    if (report.commitsCount() == 0) {
+                        return ResponseEntity.ok(Map.<String, Object>of(
+                            "success", false,
+                            "message", "No commits found for the specified period",
+                            "repository", repository,
+                            "period", Map.of("since", sinceStr, "until", untilStr)
+                        ));
+                    }
+                    return ResponseEntity.ok(Map.<String, Object>of(
+                        "success", true,
+                        "reportId", repository,
+                        "userId", reportRequest.userId(),
+                        "commitsCount", report.commitsCount(),
+                        "period", Map.of("since", sinceStr, "until", untilStr),
+                        "message", "Report generated and saved successfully"
+                    ));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(Map.<String, Object>of(
+                    "success", false,
+                    "error", "Invalid parameters: " + e.getMessage()
+                ))))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.<String, Object>of(
+                    "success", false,
+                    "error", "Failed to generate report: " + e.getMessage()
+                ))));
     }
 
     /**
@@ -177,34 +146,22 @@ public class AutoReportController {
                 ));
             }
 
+            // 단계별 동시성 제한으로 병렬 생성 후 전체 결과 집계
+            List<Map<String, Object>> results = reportPipelineService.generateBatch(reports).collectList().block();
+            if (results == null) results = List.of();
+
             int successCount = 0;
             int failCount = 0;
             StringBuilder errors = new StringBuilder();
 
-            for (Map<String, String> reportRequest : reports) {
-                try {
-                    ResponseEntity<?> response = generateReport(reportRequest);
-                    if (response.getStatusCode().is2xxSuccessful()) {
-                        Map<String, Object> body = (Map<String, Object>) response.getBody();
-                        if (body != null && Boolean.TRUE.equals(body.get("success"))) {
-                            successCount++;
-                        } else {
-                            failCount++;
-                            errors.append(String.format("Repository %s: %s\n",
-                                reportRequest.get("repository"),
-                                body != null ? body.get("message") : "Unknown error"));
-                        }
-                    } else {
-                        failCount++;
-                        errors.append(String.format("Repository %s: HTTP %s\n",
-                            reportRequest.get("repository"),
-                            response.getStatusCode()));
-                    }
-                } catch (Exception e) {
+            for (Map<String, Object> result : results) {
+                if (Boolean.TRUE.equals(result.get("success"))) {
+                    successCount++;
+                } else {
                     failCount++;
                     errors.append(String.format("Repository %s: %s\n",
-                        reportRequest.get("repository"),
-                        e.getMessage()));
+                        result.get("repository"),
+                        result.get("error")));
                 }
             }
 
@@ -225,91 +182,113 @@ public class AutoReportController {
     }
 
     /**
-     * 사용자 설정에 따라 이메일 알림 전송
-     * - UserPreset에서 emailNotificationEnabled가 true인 경우에만 전송
+     * 여러 리포트 일괄 생성 API - 항목별 결과 스트리밍 (NDJSON)
+     * - 요청 형식은 /generate-batch와 동일
+     * - 항목이 끝나는 순서대로 한 줄씩 전송하므로 호출자는 전체 완료를 기다리지 않고 진행 상황을 기록할 수 있음
+     *
+     * Response (application/x-ndjson, 항목당 한 줄):
+     * {"index":3,"repository":"owner/repo","userId":"user1","success":true,"commitsCount":12}
+     * {"index":0,"repository":"owner/repo2","userId":"user2","success":false,"error":"No commits found for the specified period"}
      */
-    private void sendEmailNotificationIfEnabled(String userId, String repository, String since, String until) {
-        log.info("========== 이메일 알림 전송 프로세스 시작 ==========");
-        log.info("파라미터: userId={}, repository={}, since={}, until={}", userId, repository, since, until);
-        
-        try {
-            log.info("[1단계] UserPreset 조회 시작: userId={}", userId);
-            Optional<UserPreset> presetOpt = userPresetService.getPreset(userId);
-            
-            if (presetOpt.isEmpty()) {
-                log.warn("[1단계] UserPreset을 찾을 수 없음: userId={} - 이메일 미전송", userId);
-                log.info("========== 이메일 알림 전송 프로세스 종료 (설정 없음) ==========");
-                return; // 설정 없으면 이메일 미전송
-            }
+    @PostMapping(value = "/generate-batch/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map<String, Object>> generateBatchReportsStream(@RequestBody Map<String, Object> request) {
+        List<Map<String, String>> reports = (List<Map<String, String>>) request.get("reports");
 
-            UserPreset preset = presetOpt.get();
-            log.info("[1단계] UserPreset 조회 성공: userId={}", userId);
-            log.info("  - emailNotificationEnabled: {}", preset.getEmailNotificationEnabled());
-            log.info("  - email 설정 여부: {}", preset.getEmail() != null && !preset.getEmail().isEmpty());
+        if (reports == null || reports.isEmpty()) {
+            throw new IllegalArgumentException("No reports to generate");
+        }
+        return reportPipelineService.generateBatch(reports);
+    }
 
-            // 이메일 알림이 활성화되어 있고, 이메일 주소가 있는 경우에만 전송
-            boolean emailEnabled = Boolean.TRUE.equals(preset.getEmailNotificationEnabled());
-            boolean emailExists = preset.getEmail() != null && !preset.getEmail().isEmpty();
-            
-            log.info("[2단계] 이메일 전송 조건 확인:");
-            log.info("  - 이메일 알림 활성화: {}", emailEnabled);
-            log.info("  - 이메일 주소 존재: {}", emailExists);
-            
-            if (emailEnabled && emailExists) {
-                String reportPeriod = String.format("%s ~ %s", since, until);
-                String reportUrl = null; // TODO: 실제 보고서 URL이 있다면 설정
+    /**
+     * 리포트 생성 작업 등록 API
+     * - 작업 ID를 바로 반환하고 생성은 워커가 처리 (GET /jobs/{jobId}로 상태 확인)
+     * - 요청 형식은 /generate와 동일
+     * - Idempotency-Key 헤더가 같으면 같은 작업을 반환하므로 재시도해도 중복 생성하지 않음 (헤더가 없으면 매번 새 작업)
+     *
+     * Response (202 Accepted):
+     * {
+     *   "success": true,
+     *   "jobId": "3f2a...",
+     *   "status": "QUEUED",
+     *   "statusUrl": "/api/auto-report/jobs/3f2a..."
+     * }
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitJob(@RequestBody Map<String, String> request,
+                                       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        AutoReportRequest reportRequest;
+        try {
+            reportRequest = AutoReportRequest.from(request);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "error", e.getMessage()
+            ));
+        }
+
+        ReportJob job;
+        try {
+            job = reportJobService.submit(reportRequest, idempotencyKey);
+        } catch (ResourceNotFoundException e) {
+            log.error("[AutoReportController] 작업 큐 테이블이 없습니다 - 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                "success", false,
+                "error", "Report job queue is not available"
+            ));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+            "success", true,
+            "jobId", job.getJobId(),
+            "status", job.getStatus(),
+            "statusUrl", "/api/auto-report/jobs/" + job.getJobId()
+        ));
+    }
 
-                log.info("[3단계] 이메일 전송 시작:");
-                log.info("  - 리포지토리: {}", repository);
-                log.info("  - 보고서 기간: {}", reportPeriod);
+    /**
+     * 리포트 생성 작업 상태 조회 API
+     *
+     * Response:
+     * {
+     *   "jobId": "3f2a...",
+     *   "status": "QUEUED|RUNNING|SUCCEEDED|FAILED",
+     *   "userId": "github-username",
+     *   "repository": "owner/repo",
+     *   "period": { "since": "2024-01-01", "until": "2024-01-31" },
+     *   "attempts": 1,
+     *   "commitsCount": 12,          // SUCCEEDED
+     *   "report": { "pk": "owner/repo", "sk": "2024-02-01T09:00:00" },  // SUCCEEDED (보고서 생성 시, /api/user/report/view로 조회)
+     *   "error": "...",              // FAILED (재시도 대기 중이면 마지막 오류)
+     *   "createdAt": "...", "updatedAt": "...", "completedAt": "..."
+     * }
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        return reportJobService.getJob(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(toJobResponse(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                    "success", false,
+                    "error", "Job not found"
+                )));
+    }
 
-                emailService.sendReportCompletionEmail(
-                    preset.getEmail(),
-                    userId,
-                    repository,
-                    reportPeriod,
-                    reportUrl
-                );
-                
-                log.info("[3단계] 이메일 전송 완료: userId={}, repository={}", 
-                    userId, repository);
-                log.info("========== 이메일 알림 전송 프로세스 성공 완료 ==========");
-            } else {
-                log.info("[2단계] 이메일 전송 조건 미충족 - 전송하지 않음");
-                if (!emailEnabled) {
-                    log.info("  - 이유: 이메일 알림이 비활성화되어 있음");
-                }
-                if (!emailExists) {
-                    log.info("  - 이유: 이메일 주소가 설정되지 않음");
-                }
-                log.info("========== 이메일 알림 전송 프로세스 종료 (조건 미충족) ==========");
-            }
-        } catch (Exception e) {
-            // 이메일 전송 실패는 로그만 남기고 전체 프로세스에는 영향 없음
-            log.error("========== 이메일 전송 중 오류 발생 ==========");
-            log.error("오류 정보: userId={}, repository={}", userId, repository);
-            log.error("오류 메시지: {}", e.getMessage());
-            log.error("오류 클래스: {}", e.getClass().getName());
-            log.error("스택 트레이스:", e);
-            
-            // DynamoDB 관련 오류인 경우 더 상세한 정보 제공
-            if (e.getMessage() != null && e.getMessage().contains("DynamoDb")) {
-                log.error("DynamoDB 오류 가능성 - 확인사항:");
-                log.error("  1. DynamoDB 테이블 'UserPreset'이 존재하는지 확인");
-                log.error("  2. AWS 자격 증명이 올바른지 확인 (AWS_ACCESS_KEY, AWS_SECRET_KEY)");
-                log.error("  3. AWS 리전이 올바른지 확인 (ap-northeast-2)");
-                log.error("  4. DynamoDB 테이블에 userId='{}'인 데이터가 있는지 확인", userId);
-            }
-            
-            // SES 관련 오류인 경우
-            if (e.getMessage() != null && (e.getMessage().contains("SES") || e.getMessage().contains("ses"))) {
-                log.error("SES 오류 가능성 - 확인사항:");
-                log.error("  1. 발신자 이메일이 AWS SES에서 인증되었는지 확인");
-                log.error("  2. SES 샌드박스 모드인 경우 수신자 이메일도 인증 필요");
-                log.error("  3. SES 권한이 올바른지 확인");
-            }
-            
-            log.error("========== 이메일 알림 전송 프로세스 오류 종료 ==========");
+    // 작업 응답 변환 (accessToken 등 내부 필드는 제외, 값이 없는 항목은 생략)
+    private static Map<String, Object> toJobResponse(ReportJob job) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jobId", job.getJobId());
+        response.put("status", job.getStatus());
+        response.put("userId", job.getUserId());
+        response.put("repository", job.getRepository());
+        response.put("period", Map.of("since", job.getSince(), "until", job.getUntil()));
+        response.put("attempts", job.getAttempts());
+        if (job.getCommitsCount() != null) response.put("commitsCount", job.getCommitsCount());
+        if (job.getReportPk() != null && job.getReportSk() != null) {
+            response.put("report", Map.of("pk", job.getReportPk(), "sk", job.getReportSk()));
         }
+        if (job.getError() != null) response.put("error", job.getError());
+        response.put("createdAt", job.getCreatedAt());
+        response.put("updatedAt", job.getUpdatedAt());
+        if (job.getCompletedAt() != null) response.put("completedAt", job.getCompletedAt());
+        return response;
     }
 }
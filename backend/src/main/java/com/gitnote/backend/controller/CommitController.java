@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpSession;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -72,12 +73,12 @@ public class CommitController {
             List<GitHubCommit> commits = gitHubService.getCommitsByDateRange(accessToken, owner, repo, since, until);
 
             if (includeDetails) {
-                List<GitHubCommit> detailedCommits = new ArrayList<>();
-                for (GitHubCommit commit : commits) {
-                    GitHubCommit detailed = gitHubService.getCommitDetails(accessToken, owner, repo, commit.getSha());
-                    if (detailed != null) detailedCommits.add(detailed);
-                }
-                commits = detailedCommits;
+                // 상세 조회는 제한된 동시성으로 병렬 수행 (순서 유지, 실패 건은 제외)
+                List<GitHubCommit> detailedCommits = gitHubService
+                        .enrichWithDetails(accessToken, owner, repo, Flux.fromIterable(commits))
+                        .collectList()
+                        .block();
+                commits = detailedCommits != null ? detailedCommits : Collections.emptyList();
             }
 
             return ResponseEntity.ok(Map.of(
@@ -1,7 +1,9 @@
 package com.gitnote.backend.controller;
 
 import com.gitnote.backend.service.DDBReportService;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -30,10 +32,22 @@ public class DDBReportController {
         }
     }
 
+    /**
+     * 로그인 사용자의 보고서 목록 (최신순, 커서 페이지네이션, Content 제외)
+     * - 다음 페이지: 응답의 nextCursor를 cursor 파라미터로 전달 (null이면 마지막 페이지)
+     */
     @GetMapping("/report/list")
-    public ResponseEntity<?> getAllReports() {
+    public ResponseEntity<?> getReports(@RequestParam(defaultValue = "20") int limit,
+                                        @RequestParam(required = false) String cursor,
+                                        HttpSession session) {
+        String username = (String) session.getAttribute("username");
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
+        }
         try {
-            return ResponseEntity.ok(reportService.getAllReports());
+            return ResponseEntity.ok(reportService.getUserReports(username, limit, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(Map.of("message", e.getMessage()));
         }
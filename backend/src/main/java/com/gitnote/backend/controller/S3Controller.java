@@ -1,24 +1,30 @@
 package com.gitnote.backend.controller;
 
 import com.gitnote.backend.dto.S3UploadRequest;
+import com.gitnote.backend.service.CommitTextExporter;
+import com.gitnote.backend.service.GitHubService;
 import com.gitnote.backend.service.S3Service;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import software.amazon.awssdk.services.s3.model.S3Object;
-import java.util.Date;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/s3")
 @RequiredArgsConstructor
 public class S3Controller {
 
+    // 내보내기 중 미리 받아 둘 커밋 수 (업로드가 밀리면 GitHub 조회도 멈춤)
+    private static final int EXPORT_PREFETCH = 32;
+
     private final S3Service s3Service;
+    private final GitHubService gitHubService;
 
     // 1. 업로드 (기존 유지)
     @PostMapping("/upload")
@@ -46,48 +52,55 @@ public class S3Controller {
         }
     }
 
-    // [수정됨] 2. 내 커밋 파일 목록 조회
-    // 단순히 파일명만 주는 게 아니라, '열람 가능한 URL'도 같이 줍니다!
-    @GetMapping("/list")
-    public ResponseEntity<?> getMyCommitLogs(@RequestParam String username) {
+    // 1-1. GitHub 커밋을 바로 S3에 내보내기
+    // - 브라우저에서 만든 본문을 다시 올리는 대신, 서버가 조회한 커밋을 CommitTextExporter로 업로드 스트림에 바로 기록
+    // - 커밋 목록을 모으지 않고 페이지 단위로 받는 대로 기록 → 큰 기간도 파트 크기 + 페이지 몇 개만큼만 메모리 사용
+    @PostMapping("/export")
+    public ResponseEntity<?> exportCommitLog(@RequestParam("owner") String owner,
+                                             @RequestParam("repo") String repo,
+                                             @RequestParam("since") String sinceStr,
+                                             @RequestParam("until") String untilStr,
+                                             HttpSession session) {
         try {
-            // [변경] 반환 타입이 S3Object로 바뀜
-            List<S3Object> summaries = s3Service.getUserFileSummaries(username);
-
-            List<Map<String, Object>> fileList = new ArrayList<>();
-
-            for (S3Object summary : summaries) { // 타입 S3Object
-                String key = summary.key(); // .getKey() -> .key()
-
-                if (key.endsWith("/")) continue;
-
-                String fileName = key.contains("/") ? key.substring(key.lastIndexOf("/") + 1) : key;
-                String presignedUrl = s3Service.getPresignedUrl(key);
-
-                // [핵심 변경] v2는 get...()이 아니라 그냥 .size(), .lastModified() 입니다.
-                long size = summary.size();
-
-                // Instant 타입을 Date 타입으로 변환 (프론트엔드 호환용)
-                Date lastModified = Date.from(summary.lastModified());
-
-                fileList.add(Map.of(
-                        "fileName", fileName,
-                        "url", presignedUrl,
-                        "key", key,
-                        "size", size,
-                        "lastModified", lastModified
-                ));
+            String accessToken = (String) session.getAttribute("accessToken");
+            String username = (String) session.getAttribute("username");
+            if (accessToken == null || username == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "Not authenticated. Please login first"));
             }
+            LocalDate since = LocalDate.parse(sinceStr);
+            LocalDate until = LocalDate.parse(untilStr);
 
-            // [정렬 로직 유지]
-            fileList.sort((a, b) -> {
-                Date dateA = (Date) a.get("lastModified");
-                Date dateB = (Date) b.get("lastModified");
-                return dateB.compareTo(dateA);
-            });
+            String repositoryName = owner + "/" + repo;
+            String baseFileName = owner + "_" + repo + "_" + LocalDate.now() + ".txt";
+            int[] commitCount = {0};
+            String fileUrl = s3Service.uploadLog(username, baseFileName, writer -> commitCount[0] = CommitTextExporter.exportStream(
+                    gitHubService.streamCommitsByDateRange(accessToken, owner, repo, since, until).toIterable(EXPORT_PREFETCH),
+                    repositoryName, since, until, writer));
 
-            return ResponseEntity.ok(Map.of("files", fileList, "count", fileList.size()));
+            return ResponseEntity.ok(Map.of(
+                    "url", fileUrl,
+                    "commitCount", commitCount[0],
+                    "message", "Upload success"
+            ));
+        } catch (Exception e) {
+            log.error("[S3Controller] 커밋 로그 내보내기 실패 - owner: {}, repo: {}", owner, repo, e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "message", "Upload failed: " + e.getMessage()
+            ));
+        }
+    }
 
+    // 2. 내 커밋 파일 목록 조회 (최신순, 커서 페이지네이션)
+    // - 파일명뿐 아니라 '열람 가능한 URL'도 같이 줍니다!
+    // - 다음 페이지: 응답의 nextCursor를 cursor 파라미터로 전달 (null이면 마지막 페이지)
+    @GetMapping("/list")
+    public ResponseEntity<?> getMyCommitLogs(@RequestParam String username,
+                                             @RequestParam(defaultValue = "20") int limit,
+                                             @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(s3Service.getUserFilePage(username, limit, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError().body(Map.of(
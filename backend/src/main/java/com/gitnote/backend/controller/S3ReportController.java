@@ -1,30 +1,21 @@
 package com.gitnote.backend.controller;
 
-import com.gitnote.backend.service.GeminiApiService;
+import com.gitnote.backend.service.S3ReportService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
-import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.Scanner;
 
 @RestController
 @RequestMapping("/api/s3")
 @RequiredArgsConstructor
 public class S3ReportController {
 
-    private final GeminiApiService geminiApiService;
-    private final S3Client s3Client;
-
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final S3ReportService s3ReportService;
 
     @GetMapping("/report")
     public ResponseEntity<?> generateReport(
@@ -34,15 +25,8 @@ public class S3ReportController {
         try {
             key = java.net.URLDecoder.decode(key, StandardCharsets.UTF_8);
 
-            GetObjectRequest request = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            InputStream s3InputStream = s3Client.getObject(request);
-            String content = new Scanner(s3InputStream, StandardCharsets.UTF_8).useDelimiter("\\A").next();
-
-            String summary = geminiApiService.generateContent(content, style);
+            // 큰 로그는 범위별로 나눠 읽으며 바로 요약 (전체를 한 문자열로 올리지 않음)
+            String summary = s3ReportService.summarize(key, style).block();
 
             return ResponseEntity.ok(Map.of("summary", summary));
 
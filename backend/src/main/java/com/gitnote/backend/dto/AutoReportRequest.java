@@ -0,0 +1,69 @@
+package com.gitnote.backend.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 자동 리포트 생성 요청 1건 (/api/auto-report/generate, generate-batch 항목)
+ * @param accessToken GitHub 액세스 토큰
+ * @param owner 리포지토리 소유자
+ * @param repo 리포지토리 명
+ * @param since 시작일
+ * @param until 종료일
+ * @param reportStyle 보고서 스타일 (기본 summary)
+ * @param userId 사용자 ID
+ */
+public record AutoReportRequest(
+        String accessToken,
+        String owner,
+        String repo,
+        LocalDate since,
+        LocalDate until,
+        String reportStyle,
+        String userId
+) {
+
+    /**
+     * 요청 본문(Map) 검증 및 변환
+     * @param request accessToken, repository(owner/repo), since, until, reportStyle, userId
+     * @return 변환된 요청
+     * @throws IllegalArgumentException 필수 파라미터 누락, repository 형식 오류
+     * @throws java.time.format.DateTimeParseException 날짜 형식 오류
+     */
+    public static AutoReportRequest from(Map<String, String> request) {
+        String accessToken = request.get("accessToken");
+        String repository = request.get("repository");
+        String sinceStr = request.get("since");
+        String untilStr = request.get("until");
+        String userId = request.get("userId");
+
+        // 필수 파라미터 검증
+        if (accessToken == null || repository == null || sinceStr == null ||
+            untilStr == null || userId == null) {
+            throw new IllegalArgumentException("Missing required parameters: accessToken, repository, since, until, userId");
+        }
+
+        // repository 형식 검증 (owner/repo)
+        String[] repoParts = repository.split("/");
+        if (repoParts.length != 2) {
+            throw new IllegalArgumentException("Invalid repository format. Expected: owner/repo");
+        }
+
+        return new AutoReportRequest(
+                accessToken,
+                repoParts[0],
+                repoParts[1],
+                LocalDate.parse(sinceStr),
+                LocalDate.parse(untilStr),
+                request.getOrDefault("reportStyle", "summary"),
+                userId
+        );
+    }
+
+    /**
+     * @return owner/repo
+     */
+    public String repository() {
+        return owner + "/" + repo;
+    }
+}
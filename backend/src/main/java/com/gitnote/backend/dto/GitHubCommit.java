@@ -2,6 +2,7 @@ package com.gitnote.backend.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class GitHubCommit {
@@ -45,6 +46,14 @@ public class GitHubCommit {
         public void setCommitter(Committer committer) {
             this.committer = committer;
         }
+
+        public CommitInfo copy() {
+            CommitInfo copy = new CommitInfo();
+            copy.message = message;
+            copy.author = author != null ? author.copy() : null;
+            copy.committer = committer != null ? committer.copy() : null;
+            return copy;
+        }
     }
 
     public static class Author {
@@ -97,6 +106,16 @@ public class GitHubCommit {
         public void setAvatarUrl(String avatarUrl) {
             this.avatarUrl = avatarUrl;
         }
+
+        public Author copy() {
+            Author copy = new Author();
+            copy.name = name;
+            copy.email = email;
+            copy.date = date;
+            copy.login = login;
+            copy.avatarUrl = avatarUrl;
+            return copy;
+        }
     }
 
     public static class Committer {
@@ -127,6 +146,14 @@ public class GitHubCommit {
         public void setDate(String date) {
             this.date = date;
         }
+
+        public Committer copy() {
+            Committer copy = new Committer();
+            copy.name = name;
+            copy.email = email;
+            copy.date = date;
+            return copy;
+        }
     }
 
     public static class FileChange {
@@ -184,12 +211,24 @@ public class GitHubCommit {
         public void setPatch(String patch) {
             this.patch = patch;
         }
+
+        public FileChange copy() {
+            FileChange copy = new FileChange();
+            copy.filename = filename;
+            copy.status = status;
+            copy.additions = additions;
+            copy.deletions = deletions;
+            copy.changes = changes;
+            copy.patch = patch;
+            return copy;
+        }
     }
 
     public static class CommitStats {
         private Integer additions;
         private Integer deletions;
         private Integer total;
+        private Integer changedFiles;
 
         public Integer getAdditions() {
             return additions;
@@ -214,6 +253,23 @@ public class GitHubCommit {
         public void setTotal(Integer total) {
             this.total = total;
         }
+
+        public Integer getChangedFiles() {
+            return changedFiles;
+        }
+
+        public void setChangedFiles(Integer changedFiles) {
+            this.changedFiles = changedFiles;
+        }
+
+        public CommitStats copy() {
+            CommitStats copy = new CommitStats();
+            copy.additions = additions;
+            copy.deletions = deletions;
+            copy.total = total;
+            copy.changedFiles = changedFiles;
+            return copy;
+        }
     }
 
     // Main class Getters and Setters
@@ -264,5 +320,24 @@ public class GitHubCommit {
     public void setStats(CommitStats stats) {
         this.stats = stats;
     }
+
+    /**
+     * 깊은 복사 (공유 캐시에 보관된 인스턴스를 호출자가 수정하지 않도록)
+     */
+    public GitHubCommit copy() {
+        GitHubCommit copy = new GitHubCommit();
+        copy.sha = sha;
+        copy.commit = commit != null ? commit.copy() : null;
+        copy.htmlUrl = htmlUrl;
+        copy.author = author != null ? author.copy() : null;
+        if (files != null) {
+            copy.files = new ArrayList<>(files.size());
+            for (FileChange file : files) {
+                copy.files.add(file != null ? file.copy() : null);
+            }
+        }
+        copy.stats = stats != null ? stats.copy() : null;
+        return copy;
+    }
 }
 
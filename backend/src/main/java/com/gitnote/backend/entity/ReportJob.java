@@ -0,0 +1,69 @@
+package com.gitnote.backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+
+import java.time.Instant;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class ReportJob {
+
+    // 대기/실행 중인 작업만 모아 실행 가능 시각 순으로 보는 GSI (완료되면 pendingQueue를 비워 인덱스에서 빠짐)
+    public static final String PENDING_INDEX = "pending-index";
+    public static final String PENDING = "PENDING";
+
+    private String jobId;               // 작업 ID (Partition Key, 멱등성 키에서 파생)
+    private String status;              // 작업 상태 (QUEUED, RUNNING, SUCCEEDED, FAILED)
+    private String pendingQueue;        // 대기 큐 구분값 (QUEUED/RUNNING이면 PENDING, 완료되면 null)
+    private String userId;              // 사용자 ID
+    private String repository;          // 리포지토리 (owner/repo)
+    private String since;               // 시작일 (yyyy-MM-dd)
+    private String until;               // 종료일 (yyyy-MM-dd)
+    private String reportStyle;         // 보고서 스타일
+    private String accessToken;         // GitHub Access Token (완료 시 삭제)
+    private Integer attempts;           // 실행 시도 횟수
+    private String workerId;            // 실행 중인 워커
+    private Instant availableAt;        // 실행 가능 시각 (QUEUED: 예약/재시도 대기, RUNNING: 임대 만료 → 다른 워커가 다시 가져감)
+    private Integer commitsCount;       // 보고서에 포함된 커밋 수
+    private String reportPk;            // 생성된 보고서 PK (UserReports, 커밋이 없어 보고서를 만들지 않았으면 null)
+    private String reportSk;            // 생성된 보고서 SK
+    private String error;               // 실패 사유
+    private Instant createdAt;          // 생성 시간
+    private Instant updatedAt;          // 수정 시간
+    private Instant completedAt;        // 완료 시간
+    private Long expiresAt;             // 만료 시각 (epoch seconds, DynamoDB TTL)
+    private Long version;               // 낙관적 잠금 버전 (동시 갱신 시 조건부 쓰기 실패)
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("PK")  // DynamoDB 테이블의 파티션 키 이름과 매핑
+    public String getJobId() {
+        return jobId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = PENDING_INDEX)
+    public String getPendingQueue() {
+        return pendingQueue;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = PENDING_INDEX)
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    @DynamoDbVersionAttribute
+    public Long getVersion() {
+        return version;
+    }
+}
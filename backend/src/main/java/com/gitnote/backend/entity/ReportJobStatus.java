@@ -0,0 +1,22 @@
+package com.gitnote.backend.entity;
+
+public enum ReportJobStatus {
+    QUEUED("대기"),
+    RUNNING("실행 중"),
+    SUCCEEDED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    ReportJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -4,19 +4,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
 
 import java.time.Instant;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @DynamoDbBean
 public class UserPreset {
 
+    // 자동 생성 대상 조회용 희소 GSI (파티션 키: activeReportFrequency, 자동 생성이 꺼진 사용자는 인덱스에 없음)
+    public static final String ACTIVE_FREQUENCY_INDEX = "active-frequency-index";
+
     private String userId;              // GitHub 사용자 ID (Partition Key)
     private Boolean autoReportEnabled;  // 보고서 자동 생성 활성화 여부
     private String email;               // 알림받을 이메일
@@ -25,12 +30,24 @@ public class UserPreset {
     private String reportFrequency;     // 보고서 생성 주기 (DAILY, WEEKLY, MONTHLY)
     private String repository;          // 자동 보고서 생성할 리포지토리 (fullName 형식: owner/repo)
     private String accessToken;         // GitHub Access Token (Lambda에서 사용)
+    private String activeReportFrequency;  // autoReportEnabled=true일 때만 reportFrequency 값 (저장 시 자동 설정)
     private Instant createdAt;          // 생성 시간
     private Instant updatedAt;          // 수정 시간
+    private Long version;               // 낙관적 잠금 버전 (저장/부분 수정마다 1씩 증가)
 
     @DynamoDbPartitionKey
     @DynamoDbAttribute("PK")  // DynamoDB 테이블의 파티션 키 이름과 매핑
     public String getUserId() {
         return userId;
     }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = ACTIVE_FREQUENCY_INDEX)
+    public String getActiveReportFrequency() {
+        return activeReportFrequency;
+    }
+
+    @DynamoDbVersionAttribute
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,120 @@
+package com.gitnote.backend.repository;
+
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DynamoDbReportJobQueue
+ * - 리포트 생성 작업 큐(DynamoDB) 구현
+ * - 대기/실행 중 작업은 pending-index(GSI, pendingQueue + availableAt)에서 실행 가능 시각이 지난 것만 조회
+ * - 모든 쓰기는 version 조건부 쓰기라서 여러 인스턴스의 워커가 같은 작업을 동시에 가져가지 않음
+ *
+ * 테이블 구성:
+ * - PK(String) 파티션 키
+ * - GSI pending-index: pendingQueue(String) 파티션 키 + availableAt(String) 정렬 키, 프로젝션 ALL
+ * - TTL 속성: expiresAt (완료된 작업 자동 삭제)
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "auto-report.jobs.queue", havingValue = "dynamodb", matchIfMissing = true)
+public class DynamoDbReportJobQueue implements ReportJobQueue {
+
+    // 한 번에 살펴볼 대기 작업 수 (다른 워커와 경합해 조건부 쓰기에 실패하면 다음 후보로)
+    private static final int CLAIM_CANDIDATES = 10;
+
+    // DynamoDB 테이블 객체 (ReportJob)
+    private final DynamoDbTable<ReportJob> jobTable;
+
+    /**
+     * 생성자: DynamoDbEnhancedClient와 테이블명 입력 받아 테이블 객체 생성
+     * @param dynamoDbEnhancedClient DynamoDB Enhanced 클라이언트
+     * @param tableName 작업 테이블 이름 (application.properties에서 주입)
+     */
+    public DynamoDbReportJobQueue(DynamoDbEnhancedClient dynamoDbEnhancedClient,
+                                  @Value("${aws.dynamodb.table.report-job}") String tableName) {
+        this.jobTable = dynamoDbEnhancedClient.table(tableName, TableSchema.fromBean(ReportJob.class));
+    }
+
+    @Override
+    public ReportJob enqueue(ReportJob job) {
+        try {
+            // version이 비어 있으면 attribute_not_exists 조건으로 쓰므로 같은 jobId는 한 번만 등록됨
+            return jobTable.updateItem(job);
+        } catch (ConditionalCheckFailedException e) {
+            log.info("[DynamoDbReportJobQueue] 이미 등록된 작업 - jobId: {}", job.getJobId());
+            return findById(job.getJobId()).orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public Optional<ReportJob> findById(String jobId) {
+        if (jobId == null || jobId.isBlank()) {
+            return Optional.empty();
+        }
+        Key key = Key.builder()
+                .partitionValue(jobId)
+                .build();
+        return Optional.ofNullable(jobTable.getItem(r -> r.key(key).consistentRead(true)));
+    }
+
+    @Override
+    public Optional<ReportJob> claimNext(String workerId, Duration lease) {
+        Instant now = Instant.now();
+        List<ReportJob> candidates = jobTable.index(ReportJob.PENDING_INDEX)
+                .query(r -> r.queryConditional(QueryConditional.sortLessThanOrEqualTo(k -> k
+                                .partitionValue(ReportJob.PENDING)
+                                .sortValue(now.toString())))
+                        .limit(CLAIM_CANDIDATES))
+                .stream()
+                .findFirst()
+                .map(Page::items)
+                .orElse(List.of());
+
+        for (ReportJob candidate : candidates) {
+            if (!ReportJobQueue.isClaimable(candidate, now)) {
+                continue;
+            }
+            ReportJob claimed = candidate.toBuilder()
+                    .status(ReportJobStatus.RUNNING.name())
+                    .workerId(workerId)
+                    .availableAt(now.plus(lease))
+                    .attempts((candidate.getAttempts() != null ? candidate.getAttempts() : 0) + 1)
+                    .updatedAt(now)
+                    .build();
+            try {
+                return Optional.of(jobTable.updateItem(claimed));
+            } catch (ConditionalCheckFailedException e) {
+                // 다른 워커가 먼저 가져갔거나 GSI 결과가 오래된 경우
+                log.debug("[DynamoDbReportJobQueue] 작업 임대 경합 - jobId: {}", candidate.getJobId());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean update(ReportJob job) {
+        try {
+            jobTable.updateItem(job);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.warn("[DynamoDbReportJobQueue] 작업 갱신 충돌 - jobId: {}, workerId: {}", job.getJobId(), job.getWorkerId());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.gitnote.backend.repository;
+
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * InMemoryReportJobQueue
+ * - 리포트 생성 작업 큐의 메모리 구현 (테스트/로컬 실행용, 재시작 시 작업 유실)
+ * - 중복 등록/version 충돌 처리는 DynamoDB 구현과 동일하게 동작
+ */
+@Repository
+@ConditionalOnProperty(name = "auto-report.jobs.queue", havingValue = "memory")
+public class InMemoryReportJobQueue implements ReportJobQueue {
+
+    private final Map<String, ReportJob> jobs = new LinkedHashMap<>();
+
+    @Override
+    public synchronized ReportJob enqueue(ReportJob job) {
+        ReportJob existing = jobs.get(job.getJobId());
+        if (existing != null) {
+            return copy(existing);
+        }
+        ReportJob stored = job.toBuilder().version(1L).build();
+        jobs.put(stored.getJobId(), stored);
+        return copy(stored);
+    }
+
+    @Override
+    public synchronized Optional<ReportJob> findById(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(InMemoryReportJobQueue::copy);
+    }
+
+    @Override
+    public synchronized Optional<ReportJob> claimNext(String workerId, Duration lease) {
+        Instant now = Instant.now();
+        return jobs.values().stream()
+                .filter(job -> ReportJob.PENDING.equals(job.getPendingQueue()))
+                .filter(job -> ReportJobQueue.isClaimable(job, now))
+                .min(Comparator.comparing(ReportJob::getAvailableAt))
+                .map(job -> {
+                    ReportJob claimed = job.toBuilder()
+                            .status(ReportJobStatus.RUNNING.name())
+                            .workerId(workerId)
+                            .availableAt(now.plus(lease))
+                            .attempts((job.getAttempts() != null ? job.getAttempts() : 0) + 1)
+                            .updatedAt(now)
+                            .version(job.getVersion() + 1)
+                            .build();
+                    jobs.put(claimed.getJobId(), claimed);
+                    return copy(claimed);
+                });
+    }
+
+    @Override
+    public synchronized boolean update(ReportJob job) {
+        ReportJob existing = jobs.get(job.getJobId());
+        if (existing == null || !Objects.equals(existing.getVersion(), job.getVersion())) {
+            return false;
+        }
+        jobs.put(job.getJobId(), job.toBuilder().version(job.getVersion() + 1).build());
+        return true;
+    }
+
+    private static ReportJob copy(ReportJob job) {
+        return job.toBuilder().build();
+    }
+}
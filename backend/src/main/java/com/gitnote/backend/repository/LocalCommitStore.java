@@ -0,0 +1,269 @@
+package com.gitnote.backend.repository;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gitnote.backend.dto.GitHubCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * LocalCommitStore
+ * - 리포지토리별 커밋 목록을 committer 날짜 순으로 보관하는 로컬 저장소
+ * - 리포지토리마다 동기화가 끝난 구간(coveredFrom ~ coveredUntil)을 함께 기록
+ * - github.commit-sync.store-dir 설정 시 리포지토리 단위 스냅샷을 파일로 저장해 재시작 후에도 유지
+ * - 메모리에는 전체 커밋 수 max-commits 이내로만 보관하고 idle-ttl 동안 쓰이지 않은 리포지토리는 내림
+ *   (내린 리포지토리는 다음 조회 때 스냅샷에서 다시 읽거나, 스냅샷이 없으면 GitHub에서 다시 동기화)
+ */
+@Slf4j
+@Repository
+public class LocalCommitStore {
+
+    private static final DateTimeFormatter KEY_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final Cache<String, RepoCommits> repos;
+    private final Path storeDir;
+    private final ExecutorService snapshotWriter;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * @param storeDir 스냅샷 저장 경로 (비우면 메모리에만 보관)
+     * @param maxCommits 메모리에 보관할 전체 커밋 수 상한
+     * @param idleTtl 이 시간 동안 조회/병합이 없는 리포지토리는 메모리에서 내림
+     */
+    public LocalCommitStore(@Value("${github.commit-sync.store-dir:}") String storeDir,
+                            @Value("${github.commit-sync.store-max-commits:200000}") long maxCommits,
+                            @Value("${github.commit-sync.store-idle-ttl:PT6H}") Duration idleTtl) {
+        // 가중치 = 커밋 수 (병합 후 다시 넣어 갱신), 정리는 호출 스레드에서 바로 수행
+        this.repos = Caffeine.newBuilder()
+                .maximumWeight(maxCommits)
+                .weigher((String repository, RepoCommits entry) -> entry.commits.size() + 1)
+                .expireAfterAccess(idleTtl)
+                .executor(Runnable::run)
+                .build();
+        Path dir = null;
+        if (storeDir != null && !storeDir.isBlank()) {
+            try {
+                dir = Files.createDirectories(Path.of(storeDir));
+            } catch (IOException e) {
+                log.warn("[LocalCommitStore] 저장 디렉터리 생성 실패 - 메모리에만 보관: {}", e.getMessage());
+            }
+        }
+        this.storeDir = dir;
+        this.snapshotWriter = dir != null ? Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "commit-store-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * 동기화가 끝난 구간 조회
+     * @param repository owner/repo
+     * @return 동기화 구간, 없으면 null
+     */
+    public Coverage getCoverage(String repository) {
+        RepoCommits entry = load(repository);
+        synchronized (entry) {
+            return entry.coveredFrom != null ? new Coverage(entry.coveredFrom, entry.coveredUntil) : null;
+        }
+    }
+
+    /**
+     * 가져온 커밋을 병합하고 동기화 구간 갱신
+     * - 새 구간이 기존 구간과 겹치거나 맞닿으면 합집합으로 확장
+     * - 떨어져 있으면 기존 데이터를 버리고 새 구간으로 교체 (중간 공백 구간을 동기화된 것으로 오인하지 않도록)
+     * - retainFrom 이전 커밋은 정리
+     * @param repository owner/repo
+     * @param commits 가져온 커밋
+     * @param fetchedFrom 이번에 가져온 구간 시작
+     * @param fetchedUntil 이번에 가져온 구간 끝
+     * @param retainFrom 보관 시작 시각 (이전 데이터는 삭제)
+     */
+    public void merge(String repository, Collection<GitHubCommit> commits,
+                      Instant fetchedFrom, Instant fetchedUntil, Instant retainFrom) {
+        RepoCommits entry = load(repository);
+        synchronized (entry) {
+            boolean contiguous = entry.coveredFrom != null
+                    && !fetchedFrom.isAfter(entry.coveredUntil)
+                    && !fetchedUntil.isBefore(entry.coveredFrom);
+            if (contiguous) {
+                entry.coveredFrom = fetchedFrom.isBefore(entry.coveredFrom) ? fetchedFrom : entry.coveredFrom;
+                entry.coveredUntil = fetchedUntil.isAfter(entry.coveredUntil) ? fetchedUntil : entry.coveredUntil;
+            } else {
+                entry.commits.clear();
+                entry.coveredFrom = fetchedFrom;
+                entry.coveredUntil = fetchedUntil;
+            }
+
+            for (GitHubCommit commit : commits) {
+                String key = sortKey(commit);
+                if (key != null) entry.commits.put(key, commit);
+            }
+
+            if (retainFrom != null && entry.coveredFrom.isBefore(retainFrom)) {
+                entry.commits.headMap(instantKey(retainFrom), false).clear();
+                entry.coveredFrom = retainFrom;
+            }
+        }
+        // 커밋 수가 바뀌었으므로 다시 넣어 가중치 갱신 (상한을 넘으면 덜 쓰인 리포지토리부터 내림)
+        repos.put(repository, entry);
+        writeSnapshot(repository, entry);
+    }
+
+    /**
+     * 구간 내 커밋 조회 (최신순, GitHub 목록 API와 같은 순서)
+     * @param repository owner/repo
+     * @param from 시작 시각(포함)
+     * @param until 끝 시각(포함)
+     * @return 커밋 목록
+     */
+    public List<GitHubCommit> query(String repository, Instant from, Instant until) {
+        RepoCommits entry = load(repository);
+        synchronized (entry) {
+            // 키 형식: committer 날짜(고정 자릿수 UTC) + "#" + SHA → 문자열 비교가 시간 순서와 일치
+            return new ArrayList<>(entry.commits
+                    .subMap(instantKey(from), true, instantKey(until) + "#\uffff", true)
+                    .descendingMap()
+                    .values());
+        }
+    }
+
+    /**
+     * 커밋의 committer 날짜 (없으면 author 날짜)
+     */
+    public static Instant commitDate(GitHubCommit commit) {
+        if (commit.getCommit() == null) return null;
+        String date = commit.getCommit().getCommitter() != null ? commit.getCommit().getCommitter().getDate() : null;
+        if (date == null && commit.getCommit().getAuthor() != null) {
+            date = commit.getCommit().getAuthor().getDate();
+        }
+        if (date == null) return null;
+        try {
+            return Instant.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (snapshotWriter != null) {
+            snapshotWriter.shutdown();
+        }
+    }
+
+    private static String sortKey(GitHubCommit commit) {
+        Instant date = commitDate(commit);
+        if (date == null || commit.getSha() == null) return null;
+        return instantKey(date) + "#" + commit.getSha();
+    }
+
+    // Instant.toString()은 소수 초 자릿수가 값마다 달라(예: 00Z, 00.5Z) 문자열 순서가 시간 순서와 어긋나므로 고정 자릿수로 변환
+    private static String instantKey(Instant instant) {
+        return KEY_FORMAT.format(instant);
+    }
+
+    private RepoCommits load(String repository) {
+        return repos.get(repository, this::readSnapshot);
+    }
+
+    private RepoCommits readSnapshot(String repository) {
+        RepoCommits entry = new RepoCommits();
+        if (storeDir == null) return entry;
+
+        Path file = snapshotFile(repository);
+        if (!Files.exists(file)) return entry;
+        try {
+            Snapshot snapshot = objectMapper.readValue(file.toFile(), Snapshot.class);
+            entry.coveredFrom = snapshot.coveredFrom();
+            entry.coveredUntil = snapshot.coveredUntil();
+            for (GitHubCommit commit : snapshot.commits()) {
+                String key = sortKey(commit);
+                if (key != null) entry.commits.put(key, commit);
+            }
+            log.info("[LocalCommitStore] 스냅샷 로드 - repository: {}, 커밋 수: {}", repository, entry.commits.size());
+        } catch (IOException e) {
+            log.warn("[LocalCommitStore] 스냅샷 읽기 실패 - repository: {}, 원인: {}", repository, e.getMessage());
+        }
+        return entry;
+    }
+
+    private void writeSnapshot(String repository, RepoCommits entry) {
+        if (snapshotWriter == null) return;
+        snapshotWriter.execute(() -> {
+            Snapshot snapshot;
+            synchronized (entry) {
+                snapshot = new Snapshot(entry.coveredFrom, entry.coveredUntil, new ArrayList<>(entry.commits.values()));
+            }
+            try {
+                Path tmp = Files.createTempFile(storeDir, "commits-", ".tmp");
+                objectMapper.writeValue(tmp.toFile(), snapshot);
+                Files.move(tmp, snapshotFile(repository), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("[LocalCommitStore] 스냅샷 쓰기 실패 - repository: {}, 원인: {}", repository, e.getMessage());
+            }
+        });
+    }
+
+    private Path snapshotFile(String repository) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String name = HexFormat.of().formatHex(digest.digest(repository.getBytes(StandardCharsets.UTF_8)));
+            return storeDir.resolve(name + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 동기화가 끝난 구간
+     * @param from 시작 시각
+     * @param until 끝 시각
+     */
+    public record Coverage(Instant from, Instant until) {
+    }
+
+    /**
+     * 리포지토리 한 개 분량의 커밋 (committer 날짜#SHA → 커밋)
+     */
+    private static class RepoCommits {
+        private final NavigableMap<String, GitHubCommit> commits = new TreeMap<>();
+        private Instant coveredFrom;
+        private Instant coveredUntil;
+    }
+
+    /**
+     * 디스크 스냅샷 형식
+     */
+    private record Snapshot(Instant coveredFrom, Instant coveredUntil, List<GitHubCommit> commits) {
+    }
+}
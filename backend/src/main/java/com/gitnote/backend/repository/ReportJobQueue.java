@@ -0,0 +1,57 @@
+package com.gitnote.backend.repository;
+
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * ReportJobQueue
+ * - 리포트 생성 작업 큐 (DynamoDB: 운영, InMemory: 테스트/로컬)
+ * - auto-report.jobs.queue=dynamodb|memory 로 구현 선택
+ */
+public interface ReportJobQueue {
+
+    /**
+     * 작업 등록 (같은 jobId가 이미 있으면 등록하지 않고 기존 작업 반환)
+     * @param job QUEUED 상태의 새 작업
+     * @return 저장된 작업 (중복이면 기존 작업)
+     */
+    ReportJob enqueue(ReportJob job);
+
+    /**
+     * 작업 조회
+     * @param jobId 작업 ID
+     * @return 작업 (없으면 Optional.empty)
+     */
+    Optional<ReportJob> findById(String jobId);
+
+    /**
+     * 실행할 작업 하나를 임대 (isClaimable 조건을 만족하는 작업 중 실행 가능 시각이 이른 순)
+     * - 상태를 RUNNING, 실행 가능 시각을 임대 만료 시각으로 바꾸고 attempts를 1 증가시킨 뒤 반환
+     * @param workerId 워커 ID
+     * @param lease 임대 시간 (이 시간 안에 완료하지 못하면 다른 워커가 다시 가져감)
+     * @return 임대한 작업 (없으면 Optional.empty)
+     */
+    Optional<ReportJob> claimNext(String workerId, Duration lease);
+
+    /**
+     * 작업 상태 갱신 (완료/실패/재시도 대기/재등록)
+     * - 읽은 뒤 다른 곳에서 먼저 갱신했으면(version 불일치) 반영하지 않음
+     * @param job findById/claimNext로 받은 작업을 수정한 객체
+     * @return 갱신 성공 여부 (임대를 잃어 다른 워커가 가져간 경우 등 충돌 시 false)
+     */
+    boolean update(ReportJob job);
+
+    /**
+     * 임대 가능 여부 (QUEUED/RUNNING 작업 중 실행 가능 시각이 지난 작업)
+     * - QUEUED: 예약 시각/재시도 대기 시각 이후, RUNNING: 임대가 만료된 경우
+     */
+    static boolean isClaimable(ReportJob job, Instant now) {
+        boolean pending = ReportJobStatus.QUEUED.name().equals(job.getStatus())
+                || ReportJobStatus.RUNNING.name().equals(job.getStatus());
+        return pending && (job.getAvailableAt() == null || !job.getAvailableAt().isAfter(now));
+    }
+}
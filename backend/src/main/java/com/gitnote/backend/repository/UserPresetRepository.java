@@ -1,47 +1,167 @@
 package com.gitnote.backend.repository;
 
+import com.gitnote.backend.cache.UserPresetCache;
+import com.gitnote.backend.entity.ReportFrequency;
 import com.gitnote.backend.entity.UserPreset;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * UserPresetRepository
  * - 사용자별 프리셋 설정(DynamoDB) 조작을 책임지는 레포지토리 클래스
+ * - 단건 조회는 UserPresetCache를 거치고, 저장/삭제는 DynamoDB 반영 후 캐시에도 바로 반영
+ * - 필드 단위 수정(update*)은 UpdateItem 한 번으로 처리 (조회 없이 SET, 존재 조건 + version 증가)
+ * - 전체 저장(save)은 version 조건부 쓰기라서 그 사이 다른 요청이 수정했으면 ConditionalCheckFailedException
  */
+@Slf4j
 @Repository
 public class UserPresetRepository {
 
+    // 자동 생성 대상 조회 시 가져올 속성 (active-frequency-index 프로젝션: KEYS_ONLY + INCLUDE repository, reportStyle, accessToken)
+    private static final List<String> GENERATOR_ATTRIBUTES = List.of("PK", "repository", "reportStyle", "accessToken");
+
+    // 조건식의 속성 이름 자리표시자 (#이름)
+    private static final Pattern NAME_PLACEHOLDER = Pattern.compile("#(\\w+)");
+
     // DynamoDB 테이블 객체 (UserPreset)
     private final DynamoDbTable<UserPreset> userPresetTable;
 
+    // 비동기 테이블 객체 (논블로킹 리포트 파이프라인용)
+    private final DynamoDbAsyncTable<UserPreset> userPresetAsyncTable;
+
+    // 부분 수정(UpdateItem 표현식)용 저수준 클라이언트
+    private final DynamoDbClient dynamoDbClient;
+    private final TableSchema<UserPreset> tableSchema;
+    private final String tableName;
+
+    private final UserPresetCache userPresetCache;
+
     /**
      * 생성자: DynamoDbEnhancedClient와 테이블명 입력 받아 테이블 객체 생성
+     * @param dynamoDbClient DynamoDB 클라이언트 (부분 수정용)
      * @param dynamoDbEnhancedClient DynamoDB Enhanced 클라이언트
+     * @param dynamoDbEnhancedAsyncClient DynamoDB Enhanced 비동기 클라이언트
+     * @param userPresetCache 프리셋 단건 조회 캐시
      * @param tableName 사용자 프리셋 테이블 이름 (application.yml에서 주입)
      */
-    public UserPresetRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient,
+    public UserPresetRepository(DynamoDbClient dynamoDbClient,
+                                DynamoDbEnhancedClient dynamoDbEnhancedClient,
+                                DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+                                UserPresetCache userPresetCache,
                                 @Value("${aws.dynamodb.table.user-preset}") String tableName) {
-        this.userPresetTable = dynamoDbEnhancedClient.table(tableName, TableSchema.fromBean(UserPreset.class));
+        this.tableSchema = TableSchema.fromBean(UserPreset.class);
+        this.userPresetTable = dynamoDbEnhancedClient.table(tableName, tableSchema);
+        this.userPresetAsyncTable = dynamoDbEnhancedAsyncClient.table(tableName, tableSchema);
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.userPresetCache = userPresetCache;
     }
 
     /**
      * 사용자 프리셋 데이터 저장(업서트)
-     * @param userPreset 저장할 사용자 프리셋
-     * @return 저장된 사용자 프리셋
+     * - version이 비어 있으면 새 항목(또는 version 도입 전 항목), 있으면 그 version일 때만 저장
+     * @param userPreset 저장할 사용자 프리셋 (조회한 version 유지)
+     * @return 저장된 사용자 프리셋 (증가한 version 포함)
+     * @throws ConditionalCheckFailedException 조회 이후 다른 요청이 먼저 수정한 경우
      */
     public UserPreset save(UserPreset userPreset) {
-        userPresetTable.putItem(userPreset); // PK 충돌 시 덮어씀
-        return userPreset;
+        // 희소 GSI 키: 자동 생성이 켜진 경우에만 설정 (꺼지면 null → 인덱스에서 빠짐)
+        userPreset.setActiveReportFrequency(activeReportFrequency(userPreset));
+        try {
+            UserPreset saved = userPresetTable.updateItem(userPreset); // null 필드는 삭제 (putItem과 같은 결과)
+            userPresetCache.put(saved);
+            return saved;
+        } catch (ConditionalCheckFailedException e) {
+            // 캐시 값이 오래됐을 수 있으므로 비워서 재시도 시 최신 값을 읽도록
+            userPresetCache.invalidate(userPreset.getUserId());
+            throw e;
+        }
+    }
+
+    /**
+     * 이메일/이메일 알림 설정 수정 (UpdateItem 1회)
+     * @param userId GitHub 사용자 ID
+     * @param email 이메일 주소 (null이면 삭제)
+     * @param enabled 알림 활성화 여부 (null이면 삭제)
+     * @return 수정된 프리셋 (프리셋이 없으면 Optional.empty)
+     */
+    public Optional<UserPreset> updateEmail(String userId, String email, Boolean enabled) {
+        Map<String, AttributeValue> values = new LinkedHashMap<>();
+        values.put("email", email != null ? AttributeValue.builder().s(email).build() : null);
+        values.put("emailNotificationEnabled", enabled != null ? AttributeValue.builder().bool(enabled).build() : null);
+        return update(userId, values, null, Map.of());
+    }
+
+    /**
+     * 보고서 스타일 수정 (UpdateItem 1회)
+     * @param userId GitHub 사용자 ID
+     * @param reportStyle 보고서 스타일 (null이면 삭제)
+     * @return 수정된 프리셋 (프리셋이 없으면 Optional.empty)
+     */
+    public Optional<UserPreset> updateReportStyle(String userId, String reportStyle) {
+        Map<String, AttributeValue> values = new LinkedHashMap<>();
+        values.put("reportStyle", reportStyle != null ? AttributeValue.builder().s(reportStyle).build() : null);
+        return update(userId, values, null, Map.of());
+    }
+
+    /**
+     * 보고서 생성 주기 수정 (보통 UpdateItem 1회)
+     * - 자동 생성이 켜진 프리셋은 희소 GSI 키(activeReportFrequency)도 함께 바꿔야 하므로
+     *   autoReportEnabled 조건을 건 수정을 먼저 시도하고, 조건이 맞지 않으면 반대 경우로 한 번 더 시도
+     * - 어느 쪽을 먼저 시도할지는 캐시에 있는 프리셋으로 판단 (대부분 조회 직후 수정이므로 1회로 끝남)
+     * @param userId GitHub 사용자 ID
+     * @param frequency 보고서 생성 주기 (null이면 삭제)
+     * @return 수정된 프리셋 (프리셋이 없으면 Optional.empty)
+     */
+    public Optional<UserPreset> updateReportFrequency(String userId, String frequency) {
+        UserPreset cached = userPresetCache.peek(userId);
+        boolean enabledFirst = cached == null || Boolean.TRUE.equals(cached.getAutoReportEnabled());
+        Optional<UserPreset> updated = updateReportFrequency(userId, frequency, enabledFirst);
+        return updated.isPresent() ? updated : updateReportFrequency(userId, frequency, !enabledFirst);
+    }
+
+    private Optional<UserPreset> updateReportFrequency(String userId, String frequency, boolean autoReportEnabled) {
+        AttributeValue value = frequency != null ? AttributeValue.builder().s(frequency).build() : null;
+        Map<String, AttributeValue> values = new LinkedHashMap<>();
+        values.put("reportFrequency", value);
+        values.put("activeReportFrequency", autoReportEnabled ? value : null);
+        String condition = autoReportEnabled
+                ? "#autoReportEnabled = :true"
+                : "(attribute_not_exists(#autoReportEnabled) OR #autoReportEnabled = :false)";
+        Map<String, AttributeValue> conditionValues = autoReportEnabled
+                ? Map.of(":true", AttributeValue.builder().bool(true).build())
+                : Map.of(":false", AttributeValue.builder().bool(false).build());
+        return update(userId, values, condition, conditionValues);
     }
 
     /**
      * userId로 사용자 프리셋 조회 (없는 경우 Optional.empty 반환)
+     * - 캐시에 있으면 DynamoDB를 읽지 않음 (반환값은 복사본이므로 수정 후 save 필요)
      * @param userId GitHub 사용자 ID (PartitionKey)
      * @return Optional<UserPreset> 프리셋
      */
@@ -49,10 +169,96 @@ public class UserPresetRepository {
         if (userId == null || userId.isBlank()) {
             return Optional.empty(); // 불필요한 쿼리 방지
         }
-        Key key = Key.builder()
-                .partitionValue(userId)
-                .build();
-        return Optional.ofNullable(userPresetTable.getItem(key));
+        return userPresetCache.get(userId, id -> userPresetTable.getItem(Key.builder()
+                .partitionValue(id)
+                .build()));
+    }
+
+    /**
+     * userId로 사용자 프리셋 조회 - 논블로킹 (캐시 우선)
+     * @param userId GitHub 사용자 ID (PartitionKey)
+     * @return 프리셋 (없으면 empty)
+     */
+    public Mono<UserPreset> findByUserIdAsync(String userId) {
+        if (userId == null || userId.isBlank()) {
+            return Mono.empty(); // 불필요한 쿼리 방지
+        }
+        return userPresetCache.getAsync(userId, id -> Mono.fromFuture(() -> userPresetAsyncTable.getItem(Key.builder()
+                .partitionValue(id)
+                .build())));
+    }
+
+    /**
+     * 보고서 생성 주기로 자동 생성 대상 프리셋 조회
+     * - active-frequency-index(희소 GSI)를 Query하므로 자동 생성이 켜진 해당 주기 사용자만 읽음
+     * - 리포트 생성에 필요한 속성(PK, repository, reportStyle, accessToken)만 가져옴 (나머지 필드는 null)
+     * - 페이지는 Stream을 소비하는 만큼 이어서 조회
+     * @param frequency 보고서 생성 주기
+     * @return 자동 생성 대상 프리셋 스트림
+     */
+    public Stream<UserPreset> findActiveByFrequency(ReportFrequency frequency) {
+        return userPresetTable.index(UserPreset.ACTIVE_FREQUENCY_INDEX)
+                .query(r -> r.queryConditional(QueryConditional.keyEqualTo(k -> k.partitionValue(frequency.name())))
+                        .attributesToProject(GENERATOR_ATTRIBUTES))
+                .stream()
+                .flatMap(page -> page.items().stream());
+    }
+
+    /**
+     * 리포지토리별 프리셋 사용자 ID (보고서 User 속성 이전용, 전체 스캔)
+     * @return 리포지토리(owner/repo) → 그 리포지토리를 설정한 사용자 ID 목록
+     */
+    public Map<String, List<String>> findUserIdsByRepository() {
+        Map<String, List<String>> result = new HashMap<>();
+        for (UserPreset preset : userPresetTable.scan(r -> r.attributesToProject("PK", "repository")).items()) {
+            if (preset.getRepository() != null) {
+                result.computeIfAbsent(preset.getRepository(), k -> new ArrayList<>()).add(preset.getUserId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * activeReportFrequency가 없는 기존 프리셋에 값 채우기 (희소 GSI 도입 전 데이터 1회 이전용)
+     * - activeReportFrequency만 SET (version/updatedAt은 그대로 → 진행 중인 사용자 저장과 충돌하지 않음)
+     * - 스캔 이후 삭제되었거나 자동 생성 설정이 바뀐 프리셋은 조건 불일치로 건너뜀 (저장 시 다시 계산됨)
+     * @return 갱신한 프리셋 수
+     */
+    public int backfillActiveReportFrequency() {
+        int updated = 0;
+        for (UserPreset preset : userPresetTable.scan().items()) {
+            String active = activeReportFrequency(preset);
+            if (active != null && !active.equals(preset.getActiveReportFrequency())
+                    && setActiveReportFrequency(preset.getUserId(), active)) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    // 자동 생성이 켜져 있고 주기가 그대로일 때만 GSI 키 설정
+    private boolean setActiveReportFrequency(String userId, String frequency) {
+        AttributeValue value = AttributeValue.builder().s(frequency).build();
+        try {
+            dynamoDbClient.updateItem(r -> r
+                    .tableName(tableName)
+                    .key(Map.of("PK", AttributeValue.builder().s(userId).build()))
+                    .updateExpression("SET #activeReportFrequency = :frequency")
+                    .conditionExpression("attribute_exists(#PK) AND #autoReportEnabled = :true AND #reportFrequency = :frequency")
+                    .expressionAttributeNames(Map.of(
+                            "#PK", "PK",
+                            "#activeReportFrequency", "activeReportFrequency",
+                            "#autoReportEnabled", "autoReportEnabled",
+                            "#reportFrequency", "reportFrequency"))
+                    .expressionAttributeValues(Map.of(
+                            ":frequency", value,
+                            ":true", AttributeValue.builder().bool(true).build())));
+            userPresetCache.invalidate(userId);
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("[UserPresetRepository] activeReportFrequency 채우기 건너뜀 (변경/삭제됨) - userId: {}", userId);
+            return false;
+        }
     }
 
     /**
@@ -67,5 +273,73 @@ public class UserPresetRepository {
                 .partitionValue(userId)
                 .build();
         userPresetTable.deleteItem(key);
+        userPresetCache.putAbsent(userId);
+    }
+
+    /**
+     * 필드 단위 수정 (UpdateItem: SET/REMOVE + updatedAt 갱신 + version 1 증가)
+     * - attribute_exists(PK) 조건으로 없는 프리셋을 새로 만들지 않음
+     * - version을 올리므로 이 수정 전에 읽은 값으로 save하는 요청은 충돌로 실패 (덮어쓰기 방지)
+     * @param values 수정할 속성 (값이 null이면 REMOVE)
+     * @param condition 추가 조건식 (속성 이름은 #이름 형식, null이면 존재 조건만)
+     * @param conditionValues 추가 조건식의 값
+     * @return 수정된 프리셋, 프리셋이 없거나 추가 조건이 맞지 않으면 Optional.empty
+     */
+    private Optional<UserPreset> update(String userId, Map<String, AttributeValue> values,
+                                        String condition, Map<String, AttributeValue> conditionValues) {
+        if (userId == null || userId.isBlank()) {
+            return Optional.empty();
+        }
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> expressionValues = new HashMap<>(conditionValues);
+        List<String> sets = new ArrayList<>();
+        List<String> removes = new ArrayList<>();
+        for (Map.Entry<String, AttributeValue> entry : values.entrySet()) {
+            names.put("#" + entry.getKey(), entry.getKey());
+            if (entry.getValue() != null) {
+                sets.add("#" + entry.getKey() + " = :" + entry.getKey());
+                expressionValues.put(":" + entry.getKey(), entry.getValue());
+            } else {
+                removes.add("#" + entry.getKey());
+            }
+        }
+        names.put("#updatedAt", "updatedAt");
+        names.put("#version", "version");
+        names.put("#PK", "PK");
+        if (condition != null) {
+            Matcher matcher = NAME_PLACEHOLDER.matcher(condition);
+            while (matcher.find()) {
+                names.put(matcher.group(), matcher.group(1));
+            }
+        }
+        sets.add("#updatedAt = :updatedAt");
+        expressionValues.put(":updatedAt", AttributeValue.builder().s(Instant.now().toString()).build());
+        expressionValues.put(":one", AttributeValue.builder().n("1").build());
+
+        String updateExpression = "SET " + String.join(", ", sets)
+                + (removes.isEmpty() ? "" : " REMOVE " + String.join(", ", removes))
+                + " ADD #version :one";
+        String conditionExpression = "attribute_exists(#PK)" + (condition != null ? " AND " + condition : "");
+
+        try {
+            UpdateItemResponse response = dynamoDbClient.updateItem(r -> r
+                    .tableName(tableName)
+                    .key(Map.of("PK", AttributeValue.builder().s(userId).build()))
+                    .updateExpression(updateExpression)
+                    .conditionExpression(conditionExpression)
+                    .expressionAttributeNames(names)
+                    .expressionAttributeValues(expressionValues)
+                    .returnValues(ReturnValue.ALL_NEW));
+            UserPreset updated = tableSchema.mapToItem(response.attributes());
+            userPresetCache.put(updated);
+            return Optional.of(updated);
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("[UserPresetRepository] 부분 수정 조건 불일치 - userId: {}, 조건: {}", userId, conditionExpression);
+            return Optional.empty();
+        }
+    }
+
+    private static String activeReportFrequency(UserPreset preset) {
+        return Boolean.TRUE.equals(preset.getAutoReportEnabled()) ? preset.getReportFrequency() : null;
     }
 }
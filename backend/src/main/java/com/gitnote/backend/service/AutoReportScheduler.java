@@ -0,0 +1,170 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportFrequency;
+import com.gitnote.backend.entity.UserPreset;
+import com.gitnote.backend.repository.UserPresetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * AutoReportScheduler
+ * - 보고서 생성 주기(DAILY/WEEKLY/MONTHLY)별로 대상 사용자를 찾아 리포트 생성 작업을 예약하는 스케줄러
+ * - 사용자를 userId 해시로 인스턴스(shard)에 나눠 각 인스턴스는 자기 몫만 등록
+ * - 자정에 한꺼번에 몰리지 않도록 사용자별 실행 시각을 spread-window 안에 고르게 분산 (userId 해시로 결정, 재실행해도 같은 시각)
+ * - 작업 ID는 (userId, 주기, 기간)으로 정해지므로 스케줄러가 다시 돌거나 Lambda와 함께 실행돼도 리포트는 한 번만 생성
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auto-report.scheduler.enabled", havingValue = "true")
+public class AutoReportScheduler {
+
+    // 보고서 기간은 한국 시간 기준
+    private static final ZoneId REPORT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final UserPresetRepository userPresetRepository;
+    private final ReportJobService reportJobService;
+
+    private final int shardCount;
+    private final int shardIndex;
+    private final Duration spreadWindow;
+
+    /**
+     * @param shardCount 스케줄러를 실행하는 인스턴스 수
+     * @param shardIndex 이 인스턴스의 번호 (0 ~ shardCount-1)
+     * @param spreadWindow 실행 시각 분산 구간 (스케줄 시각부터)
+     */
+    public AutoReportScheduler(UserPresetRepository userPresetRepository,
+                               ReportJobService reportJobService,
+                               @Value("${auto-report.scheduler.shard-count:1}") int shardCount,
+                               @Value("${auto-report.scheduler.shard-index:0}") int shardIndex,
+                               @Value("${auto-report.scheduler.spread-window:PT2H}") Duration spreadWindow) {
+        if (shardCount <= 0 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard configuration: index " + shardIndex + " of " + shardCount);
+        }
+        this.userPresetRepository = userPresetRepository;
+        this.reportJobService = reportJobService;
+        this.shardCount = shardCount;
+        this.shardIndex = shardIndex;
+        this.spreadWindow = spreadWindow;
+        log.info("[AutoReportScheduler] 초기화 - shard: {}/{}, 분산 구간: {}", shardIndex, shardCount, spreadWindow);
+    }
+
+    @Scheduled(cron = "${auto-report.scheduler.daily-cron:0 0 0 * * *}", zone = "Asia/Seoul")
+    public void scheduleDaily() {
+        schedule(ReportFrequency.DAILY);
+    }
+
+    @Scheduled(cron = "${auto-report.scheduler.weekly-cron:0 0 0 * * MON}", zone = "Asia/Seoul")
+    public void scheduleWeekly() {
+        schedule(ReportFrequency.WEEKLY);
+    }
+
+    @Scheduled(cron = "${auto-report.scheduler.monthly-cron:0 0 0 1 * *}", zone = "Asia/Seoul")
+    public void scheduleMonthly() {
+        schedule(ReportFrequency.MONTHLY);
+    }
+
+    /**
+     * 주기별 리포트 생성 작업 예약
+     * @param frequency 보고서 생성 주기
+     * @return 이 인스턴스가 등록한 작업 수
+     */
+    public int schedule(ReportFrequency frequency) {
+        Instant start = Instant.now();
+        LocalDate today = LocalDate.now(REPORT_ZONE);
+        LocalDate[] period = reportPeriod(frequency, today);
+        String since = period[0].toString();
+        String until = period[1].toString();
+        // Lambda(auto-report)와 같은 멱등성 키 → 둘 다 실행돼도 작업은 하나
+        String idempotencyKey = "auto-report:" + frequency.name() + ":" + since + ":" + until;
+
+        int total = 0;
+        int submitted = 0;
+        int skipped = 0;
+        int failed = 0;
+
+        // 희소 인덱스를 페이지 단위로 읽으며 바로 등록 (대상 전체를 메모리에 올리지 않음)
+        Iterator<UserPreset> presets = userPresetRepository.findActiveByFrequency(frequency).iterator();
+        while (presets.hasNext()) {
+            UserPreset preset = presets.next();
+            total++;
+            String userId = preset.getUserId();
+            if (shardOf(userId) != shardIndex) {
+                continue;
+            }
+            if (preset.getRepository() == null || preset.getAccessToken() == null) {
+                log.info("[AutoReportScheduler] 스킵 (리포지토리/토큰 없음) - userId: {}", userId);
+                skipped++;
+                continue;
+            }
+
+            try {
+                AutoReportRequest request = AutoReportRequest.from(Map.of(
+                        "accessToken", preset.getAccessToken(),
+                        "repository", preset.getRepository(),
+                        "since", since,
+                        "until", until,
+                        "reportStyle", preset.getReportStyle() != null ? preset.getReportStyle() : "summary",
+                        "userId", userId
+                ));
+                reportJobService.submit(request, idempotencyKey, start.plus(spreadOffset(userId, frequency)));
+                submitted++;
+            } catch (Exception e) {
+                log.error("[AutoReportScheduler] 작업 예약 실패 - userId: {}, repository: {}, 오류: {}",
+                        userId, preset.getRepository(), e.getMessage());
+                failed++;
+            }
+        }
+
+        log.info("[AutoReportScheduler] {} 작업 예약 완료 - 기간: {} ~ {}, 대상: {}명 중 shard {}/{} 몫 {}건 등록, 스킵: {}, 실패: {}, 소요시간: {}ms",
+                frequency, since, until, total, shardIndex, shardCount, submitted, skipped, failed,
+                Duration.between(start, Instant.now()).toMillis());
+        return submitted;
+    }
+
+    // userId → 담당 인스턴스 번호
+    int shardOf(String userId) {
+        return Math.floorMod(userId.hashCode(), shardCount);
+    }
+
+    // userId → 분산 구간 안의 실행 지연 (주기마다 다른 위치)
+    Duration spreadOffset(String userId, ReportFrequency frequency) {
+        long windowSeconds = spreadWindow.getSeconds();
+        if (windowSeconds <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofSeconds(Math.floorMod((userId + "#" + frequency.name()).hashCode(), windowSeconds));
+    }
+
+    /**
+     * 주기별 보고서 기간 계산 (auto-report Lambda와 동일)
+     * - DAILY: 전날, WEEKLY: 지난 주 월요일 ~ 일요일, MONTHLY: 지난 달 1일 ~ 마지막 날
+     * @return [since, until]
+     */
+    static LocalDate[] reportPeriod(ReportFrequency frequency, LocalDate today) {
+        return switch (frequency) {
+            case DAILY -> new LocalDate[]{today.minusDays(1), today.minusDays(1)};
+            case WEEKLY -> {
+                LocalDate lastMonday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+                yield new LocalDate[]{lastMonday, lastMonday.plusDays(6)};
+            }
+            case MONTHLY -> {
+                LocalDate firstDayLastMonth = today.minusMonths(1).withDayOfMonth(1);
+                yield new LocalDate[]{firstDayLastMonth, firstDayLastMonth.with(TemporalAdjusters.lastDayOfMonth())};
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+/**
+ * CommitHistorySource
+ * - 리포트용 커밋 이력(커밋 + 변경 통계) 조회 방식 추상화
+ * - github.commit-history.mode 설정으로 구현체 선택 (rest | graphql)
+ */
+public interface CommitHistorySource {
+
+    /**
+     * 기간 내 커밋 목록과 커밋별 통계(additions/deletions/변경 파일 수) 조회
+     * - rest 모드 기본값은 목록만 조회하므로 통계가 비어 있음 (github.commit-history.rest-details)
+     * @param accessToken 사용자 인증 토큰
+     * @param owner 리포지토리 소유자
+     * @param repo 리포지토리 명
+     * @param since 조회 시작일
+     * @param until 조회 종료일(포함)
+     * @return 커밋 스트림 (최신순)
+     */
+    Flux<GitHubCommit> fetchCommitsWithStats(String accessToken, String owner, String repo,
+                                             LocalDate since, LocalDate until);
+}
@@ -0,0 +1,295 @@
+package com.gitnote.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CommitSummarizationService
+ * - 커밋 리포트 텍스트를 토큰 예산 단위로 나눠 요약하는 map-reduce 파이프라인
+ * - map: 커밋 경계 기준으로 청크를 나누고, 청크별 요약을 제한된 동시성으로 병렬 생성
+ * - reduce: 구간 요약을 모아 요청 스타일(summary/detailed/statistics)의 최종 보고서 생성
+ *   (구간 요약 합계가 예산을 넘으면 여러 단계로 나눠 합침)
+ * - 예산 안에 들어오는 짧은 텍스트는 기존과 동일하게 한 번의 호출로 처리
+ */
+@Slf4j
+@Service
+public class CommitSummarizationService {
+
+    // CommitTextExporter가 출력하는 커밋 시작 줄 (예: "[12] 커밋 #12")
+    private static final Pattern COMMIT_START = Pattern.compile("^\\[\\d+] 커밋 #\\d+$", Pattern.MULTILINE);
+
+    // 프롬프트 지침 문구 등 본문 외 고정 분량 (토큰)
+    private static final int PROMPT_OVERHEAD_TOKENS = 512;
+
+    private final GeminiApiService geminiApiService;
+    private final int chunkTokens;
+    private final int concurrency;
+
+    /**
+     * @param chunkTokens 호출 1회당 입력 본문 토큰 예산
+     * @param concurrency 청크 요약 동시 호출 수
+     */
+    public CommitSummarizationService(GeminiApiService geminiApiService,
+                                      @Value("${gemini.summarize.chunk-tokens:24000}") int chunkTokens,
+                                      @Value("${gemini.summarize.concurrency:4}") int concurrency) {
+        if (chunkTokens <= PROMPT_OVERHEAD_TOKENS * 2) {
+            throw new IllegalArgumentException("gemini.summarize.chunk-tokens는 " + PROMPT_OVERHEAD_TOKENS * 2 + "보다 커야 합니다.");
+        }
+        this.geminiApiService = geminiApiService;
+        this.chunkTokens = chunkTokens;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * 커밋 리포트 텍스트 요약 (블로킹)
+     * @param text exportCommitsAsText/CommitTextExporter 출력 또는 임의의 텍스트
+     * @param style 보고서 스타일
+     * @return 최종 보고서
+     */
+    public String summarize(String text, String style) {
+        String result = summarizeAsync(text, style).block();
+        return result != null ? result : "";
+    }
+
+    /**
+     * 커밋 리포트 텍스트 요약 (논블로킹)
+     * @param text exportCommitsAsText/CommitTextExporter 출력 또는 임의의 텍스트
+     * @param style 보고서 스타일
+     * @return 최종 보고서
+     */
+    public Mono<String> summarizeAsync(String text, String style) {
+        String source = text != null ? text : "";
+        int estimated = estimateTokens(source);
+        if (estimated <= chunkTokens) {
+            return geminiApiService.generateContentAsync(source, style);
+        }
+
+        // 머리말(리포지토리/기간/커밋 수)은 모든 청크에 문맥으로 붙임
+        int bodyStart = headerLength(source);
+        String header = source.substring(0, bodyStart).strip();
+
+        List<String> chunks = chunk(source.substring(bodyStart), chunkBudget(header));
+        log.info("[CommitSummarizationService] map-reduce 요약 시작 - 예상 토큰: {}, 청크 수: {}, 동시성: {}",
+                estimated, chunks.size(), concurrency);
+
+        return summarizeChunks(header, Flux.fromIterable(chunks), style);
+    }
+
+    /**
+     * 머리말 길이 (첫 커밋 시작 줄 위치)
+     * - 커밋 리포트 형식이 아니거나 머리말이 너무 길면 0 (머리말 없이 전체를 본문으로 취급)
+     * @param text 커밋 리포트 텍스트 (앞부분만 있어도 됨)
+     * @return 본문 시작 위치 (문자 단위)
+     */
+    public int headerLength(String text) {
+        Matcher matcher = COMMIT_START.matcher(text);
+        if (!matcher.find()) {
+            return 0;
+        }
+        return estimateTokens(text.substring(0, matcher.start()).strip()) > chunkTokens / 4 ? 0 : matcher.start();
+    }
+
+    /**
+     * 머리말을 붙였을 때 청크 하나에 넣을 수 있는 본문 토큰 예산 (chunk()에 전달)
+     * @param header 모든 청크에 붙일 머리말
+     */
+    public int chunkBudget(String header) {
+        return chunkTokens - estimateTokens(header) - PROMPT_OVERHEAD_TOKENS;
+    }
+
+    /**
+     * 이미 나뉜 청크 스트림을 요약 (map → reduce)
+     * - 청크를 모두 메모리에 올리지 않고 들어오는 대로 요약 (S3 스트리밍 읽기 등과 연결)
+     * - 각 청크는 chunkTokens 이하여야 함 (chunk() 사용)
+     * @param header 모든 청크에 공통으로 붙일 문맥 (리포지토리, 기간 등. 없으면 빈 문자열)
+     * @param chunks 청크 스트림
+     * @param style 최종 보고서 스타일
+     * @return 최종 보고서
+     */
+    public Mono<String> summarizeChunks(String header, Flux<String> chunks, String style) {
+        long startTime = System.currentTimeMillis();
+        return chunks
+                .index()
+                .flatMapSequential(indexed -> geminiApiService.generateRaw(
+                        mapPrompt(header, indexed.getT2(), indexed.getT1() + 1)), concurrency)
+                .collectList()
+                .flatMap(partials -> {
+                    log.info("[CommitSummarizationService] 청크 요약 완료 - {}개, 소요시간: {}ms",
+                            partials.size(), System.currentTimeMillis() - startTime);
+                    return reduce(header, partials, style);
+                })
+                .doOnSuccess(result -> log.info("[CommitSummarizationService] 최종 보고서 생성 완료 - 길이: {}, 총 소요시간: {}ms",
+                        result != null ? result.length() : 0, System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * 텍스트를 토큰 예산 이하의 청크로 분할
+     * - 커밋 경계("[n] 커밋 #n")를 우선 사용하고, 커밋 하나가 예산을 넘으면 줄 단위 → 문자 단위로 분할
+     * @param text 분할할 텍스트
+     * @param budgetTokens 청크당 토큰 예산
+     * @return 청크 목록 (원문 순서 유지)
+     */
+    public List<String> chunk(String text, int budgetTokens) {
+        int budget = Math.max(1, budgetTokens);
+        List<String> blocks = new ArrayList<>();
+
+        Matcher matcher = COMMIT_START.matcher(text);
+        int blockStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > blockStart) {
+                addBlock(blocks, text.substring(blockStart, matcher.start()), budget);
+            }
+            blockStart = matcher.start();
+        }
+        if (blockStart < text.length()) {
+            addBlock(blocks, text.substring(blockStart), budget);
+        }
+
+        return pack(blocks, budget);
+    }
+
+    /**
+     * 토큰 수 추정 (토크나이저 호출 없이 보수적으로 계산)
+     * - ASCII: 약 4자당 1토큰, 한글 등 그 외 문자: 1자당 1토큰
+     */
+    public static int estimateTokens(CharSequence text) {
+        if (text == null) return 0;
+        long ascii = 0;
+        long other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (ascii + 3) / 4 + other);
+    }
+
+    // 구간 요약 합치기: 예산 안이면 최종 보고서 생성, 넘으면 묶음별로 중간 요약 후 다시 시도
+    private Mono<String> reduce(String header, List<String> partials, String style) {
+        int budget = chunkBudget(header);
+        int total = partials.stream().mapToInt(CommitSummarizationService::estimateTokens).sum();
+        if (partials.size() <= 1) {
+            List<String> single = partials.stream().map(partial -> truncate(partial, budget)).toList();
+            return geminiApiService.generateContentAsync(reducePrompt(header, single), style);
+        }
+        if (total <= budget) {
+            return geminiApiService.generateContentAsync(reducePrompt(header, partials), style);
+        }
+
+        // 각 요약을 예산의 1/4 이하로 제한 → 묶음마다 최소 2개가 들어가 단계마다 개수가 줄어듦
+        List<String> groups = pack(partials.stream()
+                .map(partial -> truncate(partial, budget / 4))
+                .map(partial -> partial + "\n\n")
+                .toList(), budget);
+        log.info("[CommitSummarizationService] 중간 요약 단계 - 요약 {}개 → {}개", partials.size(), groups.size());
+
+        return Flux.fromIterable(groups)
+                .flatMapSequential(group -> geminiApiService.generateRaw(mergePrompt(header, group)), concurrency)
+                .collectList()
+                .flatMap(merged -> reduce(header, merged, style));
+    }
+
+    // 블록 목록을 예산 이하 청크로 묶음 (순서 유지)
+    private static List<String> pack(List<String> blocks, int budget) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (String block : blocks) {
+            int tokens = estimateTokens(block);
+            if (currentTokens > 0 && currentTokens + tokens > budget) {
+                chunks.add(current.toString());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            current.append(block);
+            currentTokens += tokens;
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    // 예산을 넘는 블록은 줄 단위로, 한 줄이 예산을 넘으면 문자 단위로 분할
+    private static void addBlock(List<String> blocks, String block, int budget) {
+        if (estimateTokens(block) <= budget) {
+            blocks.add(block);
+            return;
+        }
+        int lineStart = 0;
+        while (lineStart < block.length()) {
+            int lineEnd = block.indexOf('\n', lineStart);
+            lineEnd = lineEnd < 0 ? block.length() : lineEnd + 1;
+            String line = block.substring(lineStart, lineEnd);
+            if (estimateTokens(line) <= budget) {
+                blocks.add(line);
+            } else {
+                // 최악의 경우(비 ASCII 문자) 1자 = 1토큰
+                for (int i = 0; i < line.length(); ) {
+                    int end = cutEnd(line, i, Math.min(line.length(), i + budget));
+                    blocks.add(line.substring(i, end));
+                    i = end;
+                }
+            }
+            lineStart = lineEnd;
+        }
+    }
+
+    // 토큰 예산에 맞게 자름 (1자 = 최대 1토큰 기준)
+    private static String truncate(String text, int budgetTokens) {
+        if (estimateTokens(text) <= budgetTokens || text.length() <= budgetTokens) {
+            return text;
+        }
+        return text.substring(0, cutEnd(text, 0, budgetTokens)) + "\n...(생략)";
+    }
+
+    // 서로게이트 쌍 중간에서 자르지 않도록 끝 위치 조정 (한 글자도 못 넣으면 쌍 전체를 포함)
+    private static int cutEnd(String text, int start, int end) {
+        if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+            return end - 1 > start ? end - 1 : end + 1;
+        }
+        return end;
+    }
+
+    private static String mapPrompt(String header, String chunk, long index) {
+        return "다음은 Git 커밋 리포트의 일부(구간 " + index + ")입니다.\n" +
+                (header.isEmpty() ? "" : "리포트 정보:\n" + header + "\n") +
+                "\n이 구간의 커밋들을 한국어로 요약하세요.\n" +
+                "- 기능 추가, 버그 수정, 리팩터링 등 작업 유형별로 주요 변경 사항을 정리합니다.\n" +
+                "- 자주 변경된 파일/모듈과 구간의 커밋 수, 추가/삭제 라인 수를 포함합니다.\n" +
+                "- 최종 보고서는 다른 단계에서 작성하므로 서론/결론 없이 사실 위주로 간결하게 작성합니다.\n\n" +
+                "---\n" + chunk;
+    }
+
+    private static String mergePrompt(String header, String group) {
+        return "다음은 같은 Git 커밋 리포트를 구간별로 나눠 요약한 내용입니다.\n" +
+                (header.isEmpty() ? "" : "리포트 정보:\n" + header + "\n") +
+                "\n아래 구간 요약들을 하나의 요약으로 합치세요. 작업 유형, 주요 변경 사항, 수치(커밋 수, 추가/삭제 라인 수)는 빠짐없이 유지하고 중복은 합칩니다.\n\n" +
+                "---\n" + group;
+    }
+
+    private static String reducePrompt(String header, List<String> partials) {
+        StringBuilder prompt = new StringBuilder()
+                .append("다음은 Git 커밋 리포트 전체를 구간별로 나눠 요약한 내용입니다. ")
+                .append("구간 요약들을 종합해 하나의 보고서로 작성하세요. 중복된 내용은 합치고 작업 흐름은 시간 순서대로 정리합니다.\n\n");
+        if (!header.isEmpty()) {
+            prompt.append(header).append("\n\n");
+        }
+        for (int i = 0; i < partials.size(); i++) {
+            prompt.append("### 구간 요약 ").append(i + 1).append('\n')
+                    .append(partials.get(i))
+                    .append("\n\n");
+        }
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import com.gitnote.backend.repository.LocalCommitStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * CommitSyncService
+ * - 인스턴스 로컬 커밋 저장소를 이용한 증분 커밋 동기화 (로컬 캐시: 인스턴스 간 공유하지 않음)
+ * - 이미 동기화된 구간은 로컬에서 제공하고, 동기화 끝 이후(delta)만 GitHub에서 조회
+ * - 늦게 push된 커밋(과거 committer 날짜)을 위해 동기화 끝보다 overlap만큼 앞에서부터 다시 조회
+ * - 알려진 한계: committer 날짜가 (동기화 끝 - overlap)보다 이른 커밋이 그 뒤에 브랜치에 들어오면(머지된 기능 브랜치, 늦은 push)
+ *   이미 동기화된 구간에 속해 다시 조회하지 않으므로 결과에서 빠짐 → 기본 비활성화 (github.commit-sync.enabled=false)
+ * - 재시작 후에도 유지하려면 github.commit-sync.store-dir 지정 (없으면 재시작/다른 인스턴스에서는 요청 구간 전체 조회)
+ */
+@Slf4j
+@Service
+public class CommitSyncService {
+
+    private final LocalCommitStore localCommitStore;
+    private final boolean enabled;
+    private final Duration overlap;
+    private final Period retention;
+
+    public CommitSyncService(LocalCommitStore localCommitStore,
+                             @Value("${github.commit-sync.enabled:false}") boolean enabled,
+                             @Value("${github.commit-sync.overlap:PT24H}") Duration overlap,
+                             @Value("${github.commit-sync.retention:P62D}") Period retention) {
+        this.localCommitStore = localCommitStore;
+        this.enabled = enabled;
+        this.overlap = overlap;
+        this.retention = retention;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기간 내 커밋 조회 (로컬 저장소 + delta 조회)
+     * @param repository owner/repo
+     * @param from 조회 시작 시각(포함)
+     * @param until 조회 끝 시각(포함)
+     * @param fetcher GitHub 조회 함수 (구간 시작, 구간 끝) → 커밋 스트림
+     * @return 커밋 스트림 (최신순)
+     */
+    public Flux<GitHubCommit> getCommits(String repository, Instant from, Instant until,
+                                         BiFunction<Instant, Instant, Flux<GitHubCommit>> fetcher) {
+        Instant now = Instant.now();
+        Instant retainFrom = now.atOffset(ZoneOffset.UTC).minus(retention).toInstant();
+        // 보관 기간보다 오래된 구간은 로컬 저장소를 거치지 않고 바로 조회
+        if (from.isBefore(retainFrom)) {
+            return fetcher.apply(from, until);
+        }
+
+        // 스냅샷 파일을 읽을 수 있으므로 블로킹 허용 스케줄러에서 계산
+        return Mono.fromCallable(() -> resolveFetchFrom(repository, from))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(fetchFrom -> {
+                    // 요청 구간이 이미 동기화되어 있어도 동기화 끝 이후 delta는 항상 조회
+                    // (저장소 최신화 + 다른 사용자가 채운 데이터를 제공하기 전에 이 토큰의 접근 권한 확인)
+                    Instant fetchUntil = until.isBefore(fetchFrom) ? now : until;
+                    // 미래 구간은 동기화된 것으로 기록하지 않음
+                    Instant coveredUntil = fetchUntil.isAfter(now) ? now : fetchUntil;
+                    log.info("[CommitSyncService] delta 조회 - repository: {}, 구간: {} ~ {}", repository, fetchFrom, fetchUntil);
+
+                    // delta는 받는 대로 흘려보내고(최신순), 끝까지 받은 경우에만 저장소에 병합한 뒤
+                    // delta 구간보다 오래된 커밋을 로컬 저장소에서 이어 붙임
+                    // (중간에 취소되면 일부만 받은 구간을 동기화된 것으로 기록하지 않음)
+                    List<GitHubCommit> fetched = new ArrayList<>();
+                    Flux<GitHubCommit> delta = fetcher.apply(fetchFrom, fetchUntil)
+                            .doOnNext(fetched::add)
+                            .filter(commit -> inRange(commit, from, until));
+                    Instant storedUntil = until.isBefore(fetchFrom) ? until : fetchFrom.minusNanos(1);
+                    Flux<GitHubCommit> stored = Flux.defer(() -> {
+                        localCommitStore.merge(repository, fetched, fetchFrom, coveredUntil, retainFrom);
+                        return Flux.fromIterable(localCommitStore.query(repository, from, storedUntil));
+                    }).subscribeOn(Schedulers.boundedElastic());
+                    return delta.concatWith(stored);
+                });
+    }
+
+    // 로컬 저장소와 같은 기준: 날짜가 없는 커밋은 제외
+    private static boolean inRange(GitHubCommit commit, Instant from, Instant until) {
+        Instant date = LocalCommitStore.commitDate(commit);
+        return date != null && !date.isBefore(from) && !date.isAfter(until);
+    }
+
+    /**
+     * 이번 요청에서 GitHub로부터 가져와야 하는 구간의 시작 시각 계산
+     * - 로컬 저장소가 요청 시작 시각을 포함하지 않으면 요청 구간 전체
+     * - 포함하면 로컬 동기화 끝 - overlap 부터
+     */
+    private Instant resolveFetchFrom(String repository, Instant from) {
+        LocalCommitStore.Coverage coverage = localCommitStore.getCoverage(repository);
+        if (coverage == null || coverage.from().isAfter(from)) {
+            return from;
+        }
+
+        Instant fetchFrom = coverage.until().minus(overlap);
+        return fetchFrom.isAfter(from) ? fetchFrom : from;
+    }
+}
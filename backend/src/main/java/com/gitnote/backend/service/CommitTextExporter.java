@@ -0,0 +1,283 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * CommitTextExporter
+ * - 커밋 목록을 리포트용 텍스트로 출력하는 스트리밍 익스포터
+ * - 결과 전체를 문자열로 만들지 않고 Appendable(StringBuilder, Writer 등)에 바로 기록
+ * - String.format, 줄마다 만드는 구분선/Optional 없이 고정 문자열 + 숫자 직접 기록으로 할당 최소화
+ * - 출력 형식은 기존 GitHubService.exportCommitsAsText와 바이트 단위로 동일
+ *   (exportStream은 커밋 수를 미리 알 수 없으므로 총 커밋 수를 머리말 대신 맺음말에 기록)
+ *
+ * 사용 예:
+ *   CommitTextExporter exporter = new CommitTextExporter(writer);
+ *   exporter.writeHeader(repositoryName, since, until, commitCount);
+ *   commits.forEach(exporter::writeCommit);
+ *   exporter.writeFooter();
+ *
+ * 인스턴스는 내부 버퍼를 재사용하므로 스레드 안전하지 않음 (리포트 1건당 1개 사용)
+ */
+public class CommitTextExporter {
+
+    private static final String DOUBLE_RULE = "=".repeat(80);
+    private static final String SINGLE_RULE = "-".repeat(80);
+
+    // 커밋 1건당 대략적인 출력 크기 (StringBuilder 초기 용량 추정용)
+    private static final int ESTIMATED_COMMIT_CHARS = 512;
+    private static final int ESTIMATED_FILE_CHARS = 64;
+
+    private final Appendable out;
+
+    // Writer 출력 시 숫자 변환용 재사용 버퍼 (Integer.toString 할당 회피)
+    private final StringBuilder numberBuffer = new StringBuilder(11);
+    private final char[] numberChars = new char[11];
+
+    private int index = 0;
+
+    /**
+     * @param out 출력 대상 (StringBuilder, Writer 등)
+     */
+    public CommitTextExporter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * 커밋 목록 전체를 문자열로 변환 (기존 exportCommitsAsText와 동일한 결과)
+     * - 커밋/파일 수로 버퍼 크기를 미리 잡아 중간 재할당을 줄임
+     */
+    public static String exportToString(List<GitHubCommit> commits, String repositoryName,
+                                        LocalDate since, LocalDate until) {
+        StringBuilder sb = new StringBuilder(estimateLength(commits));
+        export(commits, repositoryName, since, until, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 커밋 목록 전체를 출력 대상에 기록
+     * @param out 출력 대상 (Writer를 넘기면 중간 문자열 없이 바로 스트리밍)
+     */
+    public static void export(List<GitHubCommit> commits, String repositoryName,
+                              LocalDate since, LocalDate until, Appendable out) {
+        CommitTextExporter exporter = new CommitTextExporter(out);
+        exporter.writeHeader(repositoryName, since, until, commits.size());
+        for (GitHubCommit commit : commits) {
+            exporter.writeCommit(commit);
+        }
+        exporter.writeFooter();
+    }
+
+    /**
+     * 커밋을 받는 대로 출력 대상에 기록 (전체 목록을 메모리에 두지 않음)
+     * - 총 커밋 수는 맺음말에 기록
+     * @param commits 커밋 (Flux.toIterable 등, 순회하는 동안 다음 커밋을 받아옴)
+     * @return 기록한 커밋 수
+     */
+    public static int exportStream(Iterable<GitHubCommit> commits, String repositoryName,
+                                   LocalDate since, LocalDate until, Appendable out) {
+        CommitTextExporter exporter = new CommitTextExporter(out);
+        exporter.writeHeader(repositoryName, since, until);
+        for (GitHubCommit commit : commits) {
+            exporter.writeCommit(commit);
+        }
+        exporter.writeFooter(exporter.index);
+        return exporter.index;
+    }
+
+    /**
+     * 리포트 머리말 기록
+     * @param commitCount 전체 커밋 수
+     */
+    public CommitTextExporter writeHeader(String repositoryName, LocalDate since, LocalDate until, int commitCount) {
+        try {
+            out.append(DOUBLE_RULE).append('\n')
+                    .append("커밋 리포트: ");
+            appendValue(repositoryName);
+            out.append("\n기간: ");
+            appendValue(since);
+            out.append(" ~ ");
+            appendValue(until);
+            out.append("\n총 커밋 수: ");
+            appendInt(commitCount);
+            out.append('\n')
+                    .append(DOUBLE_RULE).append("\n\n");
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 리포트 머리말 기록 (총 커밋 수 없이, 커밋 수는 writeFooter(int)로 기록)
+     */
+    public CommitTextExporter writeHeader(String repositoryName, LocalDate since, LocalDate until) {
+        try {
+            out.append(DOUBLE_RULE).append('\n')
+                    .append("커밋 리포트: ");
+            appendValue(repositoryName);
+            out.append("\n기간: ");
+            appendValue(since);
+            out.append(" ~ ");
+            appendValue(until);
+            out.append('\n')
+                    .append(DOUBLE_RULE).append("\n\n");
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 커밋 1건 기록 (번호는 1부터 순서대로 부여)
+     */
+    public CommitTextExporter writeCommit(GitHubCommit commit) {
+        int i = ++index;
+        try {
+            out.append('[');
+            appendInt(i);
+            out.append("] 커밋 #");
+            appendInt(i);
+            out.append('\n')
+                    .append(SINGLE_RULE).append('\n')
+                    .append("SHA: ");
+            appendValue(commit.getSha());
+            out.append('\n');
+
+            // 커밋 메타 및 작성자
+            GitHubCommit.CommitInfo info = commit.getCommit();
+            if (info != null) {
+                out.append("메시지: ");
+                appendValue(info.getMessage());
+                out.append('\n');
+                GitHubCommit.Author author = info.getAuthor();
+                if (author != null) {
+                    out.append("작성자: ");
+                    appendValue(author.getName());
+                    out.append(" <");
+                    appendValue(author.getEmail());
+                    out.append(">\n작성일: ");
+                    appendValue(author.getDate());
+                    out.append('\n');
+                }
+            }
+
+            out.append("URL: ");
+            appendValue(commit.getHtmlUrl());
+            out.append('\n');
+
+            // 변경 파일 정보
+            List<GitHubCommit.FileChange> files = commit.getFiles();
+            if (files != null && !files.isEmpty()) {
+                out.append("\n변경된 파일 (");
+                appendInt(files.size());
+                out.append("개):\n");
+                for (GitHubCommit.FileChange file : files) {
+                    out.append("  - ");
+                    appendValue(file.getFilename());
+                    out.append(" (");
+                    appendValue(file.getStatus());
+                    out.append(") [+");
+                    appendInt(orZero(file.getAdditions()));
+                    out.append("/-");
+                    appendInt(orZero(file.getDeletions()));
+                    out.append("]\n");
+                }
+            }
+
+            // 변경 통계 정보
+            GitHubCommit.CommitStats stats = commit.getStats();
+            if (stats != null) {
+                out.append("\n통계: +");
+                appendInt(orZero(stats.getAdditions()));
+                out.append(" / -");
+                appendInt(orZero(stats.getDeletions()));
+                out.append(" (총 ");
+                appendInt(orZero(stats.getTotal()));
+                out.append(" 변경)\n");
+            }
+
+            out.append('\n');
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 리포트 맺음말 기록
+     */
+    public void writeFooter() {
+        try {
+            out.append(DOUBLE_RULE).append('\n')
+                    .append("리포트 종료\n")
+                    .append(DOUBLE_RULE).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 리포트 맺음말 기록 (총 커밋 수 포함)
+     * @param commitCount 전체 커밋 수
+     */
+    public void writeFooter(int commitCount) {
+        try {
+            out.append(DOUBLE_RULE).append('\n')
+                    .append("총 커밋 수: ");
+            appendInt(commitCount);
+            out.append("\n리포트 종료\n")
+                    .append(DOUBLE_RULE).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 출력 크기 추정 (StringBuilder 초기 용량)
+     */
+    static int estimateLength(List<GitHubCommit> commits) {
+        long estimate = 512;
+        for (GitHubCommit commit : commits) {
+            estimate += ESTIMATED_COMMIT_CHARS;
+            if (commit.getFiles() != null) {
+                estimate += (long) commit.getFiles().size() * ESTIMATED_FILE_CHARS;
+            }
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 8);
+    }
+
+    // String.format("%s")와 동일하게 null은 "null"로 출력
+    private void appendValue(Object value) throws IOException {
+        if (value instanceof CharSequence text) {
+            out.append(text);
+        } else {
+            out.append(String.valueOf(value));
+        }
+    }
+
+    private void appendInt(int value) throws IOException {
+        if (out instanceof StringBuilder sb) {
+            sb.append(value);
+            return;
+        }
+        numberBuffer.setLength(0);
+        numberBuffer.append(value);
+        if (out instanceof Writer writer) {
+            int length = numberBuffer.length();
+            numberBuffer.getChars(0, length, numberChars, 0);
+            writer.write(numberChars, 0, length);
+        } else {
+            out.append(numberBuffer);
+        }
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
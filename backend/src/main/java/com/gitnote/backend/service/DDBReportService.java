@@ -1,23 +1,65 @@
 package com.gitnote.backend.service;
 
+import com.gitnote.backend.repository.UserPresetRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
-import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DDBReportService {
 
+    private static final String TABLE_NAME = "UserReports";
+
+    // 사용자별 목록 조회용 GSI (파티션 키: User, 정렬 키: SK, 프로젝션: KEYS_ONLY)
+    private static final String USER_INDEX = "User-SK-index";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char CURSOR_SEPARATOR = '\n';
+    // 목록 응답 속성 (본문 관련 속성은 목록에 싣지 않음)
+    private static final Set<String> LIST_ATTRIBUTES = Set.of("PK", "SK", "User");
+
     private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final ReportContentCodec reportContentCodec;
+    private final UserPresetRepository userPresetRepository;
+
+    // 기동 시 기존 보고서의 User(리포지토리 소유자)를 요청 사용자로 이전 (배포 후 1회만 켜서 실행)
+    @Value("${report.backfill-user:false}")
+    private boolean backfillUser;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReportUsers() {
+        if (!backfillUser) {
+            return;
+        }
+        int updated = migrateReportUsers(userPresetRepository.findUserIdsByRepository());
+        log.info("[DDBReportService] 보고서 User 이전 완료 - 갱신: {}건", updated);
+    }
 
     /**
      * 사용자 보고서 저장 (서버 로컬 시간대 사용)
@@ -34,39 +76,153 @@ public class DDBReportService {
      * @param zoneId 시간대 (null이면 서버 로컬 시간대 사용)
      */
     public void saveUserReport(String userId, String reportId, String reportContent, ZoneId zoneId) {
-        String userName = reportId.split("/")[0];
+        dynamoDbClient.putItem(buildReportPutRequest(userId, reportId, reportContent, zoneId));
+    }
+
+    /**
+     * 사용자 보고서 저장 - 논블로킹 (DynamoDbAsyncClient)
+     * @param userId 사용자 ID
+     * @param reportId 보고서 ID
+     * @param reportContent 보고서 내용
+     * @param zoneId 시간대 (null이면 서버 로컬 시간대 사용)
+     * @return 저장한 보고서의 SK (PK는 reportId, getReportByPKAndSK로 조회)
+     */
+    public Mono<String> saveUserReportAsync(String userId, String reportId, String reportContent, ZoneId zoneId) {
+        // 본문이 커서 S3로 옮겨야 하면 업로드가 블로킹이므로 boundedElastic에서 요청 구성
+        return Mono.fromCallable(() -> buildReportPutRequest(userId, reportId, reportContent, zoneId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(request -> Mono.fromFuture(() -> dynamoDbAsyncClient.putItem(request))
+                        .thenReturn(request.item().get("SK").s()));
+    }
+
+    private PutItemRequest buildReportPutRequest(String userId, String reportId, String reportContent, ZoneId zoneId) {
+        // 목록 조회(User-SK-index) 기준 사용자: 요청 사용자, 없으면 리포지토리 소유자
+        String userName = (userId != null && !userId.isBlank()) ? userId : reportId.split("/")[0];
         // zoneId가 제공되면 해당 시간대 사용, 없으면 서버 로컬 시간대 사용
         String now = (zoneId != null) 
             ? LocalDateTime.now(zoneId).toString()
             : LocalDateTime.now().toString();
 
-        PutItemRequest request = PutItemRequest.builder()
-                .tableName("UserReports")
-                .item(Map.of(
-                        "PK", AttributeValue.builder().s(reportId).build(),
-                        "SK", AttributeValue.builder().s(now).build(),
-                        "User", AttributeValue.builder().s(userName).build(),
-                        "Content", AttributeValue.builder().s(reportContent).build()
-                ))
-                .build();
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("PK", AttributeValue.builder().s(reportId).build());
+        item.put("SK", AttributeValue.builder().s(now).build());
+        item.put("User", AttributeValue.builder().s(userName).build());
+        // 본문: 크기에 따라 Content(그대로) / ContentGz(gzip) / ContentRef + ContentPreview(S3)
+        item.putAll(reportContentCodec.encode(reportId, now, reportContent));
 
-        dynamoDbClient.putItem(request);
+        return PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(item)
+                .build();
     }
 
-    public List<Map<String, String>> getAllReports() {
-        ScanRequest scanRequest = ScanRequest.builder()
-                .tableName("UserReports")
-                .build();
+    /**
+     * 사용자별 보고서 목록 조회 (최신순, 커서 페이지네이션)
+     * - User-SK-index(GSI, 파티션 키 User + 정렬 키 SK)를 Query하므로 테이블 크기와 무관하게 요청한 한 페이지만 읽음
+     * - 인덱스 프로젝션이 KEYS_ONLY라 Content는 읽지 않음 (본문은 getReportByPKAndSK로 조회)
+     * @param user 사용자 ID (User 속성)
+     * @param limit 페이지 크기 (1 ~ 100)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @return items(PK, SK, User 목록), nextCursor(마지막 페이지면 null)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public Map<String, Object> getUserReports(String user, int limit, String cursor) {
+        QueryRequest.Builder request = QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .indexName(USER_INDEX)
+                .keyConditionExpression("#user = :user")
+                .expressionAttributeNames(Map.of("#user", "User")) // User는 DynamoDB 예약어
+                .expressionAttributeValues(Map.of(":user", AttributeValue.builder().s(user).build()))
+                .scanIndexForward(false)
+                .limit(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        if (cursor != null && !cursor.isBlank()) {
+            request.exclusiveStartKey(decodeCursor(cursor, user));
+        }
 
-        ScanResponse response = dynamoDbClient.scan(scanRequest);
+        QueryResponse response = dynamoDbClient.query(request.build());
 
-        return response.items().stream()
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("items", response.items().stream()
                 .map(item -> item.entrySet().stream()
+                        .filter(e -> LIST_ATTRIBUTES.contains(e.getKey()))
                         .collect(Collectors.toMap(
                                 Map.Entry::getKey,
                                 e -> e.getValue().s()
                         ))
-                ).toList();
+                ).toList());
+        result.put("nextCursor", response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                ? encodeCursor(response.lastEvaluatedKey())
+                : null);
+        return result;
+    }
+
+    /**
+     * 기존 보고서의 User 속성을 요청 사용자로 이전 (1회용)
+     * - 이전에는 User에 리포지토리 소유자를 저장해서 조직 리포지토리 보고서가 조직 이름으로 묶여 사용자 목록에 나오지 않음
+     * - User가 리포지토리 소유자이고, 소유자가 GitNote 사용자가 아니며, 그 리포지토리를 설정한 사용자가 한 명이면 그 사용자로 변경
+     * - 본인 리포지토리(소유자 = 사용자)나 요청 사용자를 특정할 수 없는 보고서는 그대로 둠
+     * @param userIdsByRepository 리포지토리(owner/repo)별 프리셋 사용자 ID
+     * @return 변경한 보고서 수
+     */
+    public int migrateReportUsers(Map<String, List<String>> userIdsByRepository) {
+        Set<String> presetUsers = new HashSet<>();
+        userIdsByRepository.values().forEach(presetUsers::addAll);
+
+        int updated = 0;
+        Iterable<Map<String, AttributeValue>> items = dynamoDbClient.scanPaginator(ScanRequest.builder()
+                .tableName(TABLE_NAME)
+                .projectionExpression("PK, SK, #user")
+                .expressionAttributeNames(Map.of("#user", "User"))
+                .build()).items();
+        for (Map<String, AttributeValue> item : items) {
+            String pk = item.get("PK").s();
+            String owner = pk.split("/")[0];
+            AttributeValue user = item.get("User");
+            List<String> users = userIdsByRepository.get(pk);
+            if (user == null || !owner.equals(user.s()) || presetUsers.contains(owner)
+                    || users == null || users.size() != 1) {
+                continue;
+            }
+            try {
+                dynamoDbClient.updateItem(r -> r
+                        .tableName(TABLE_NAME)
+                        .key(Map.of("PK", item.get("PK"), "SK", item.get("SK")))
+                        .updateExpression("SET #user = :user")
+                        .conditionExpression("#user = :owner")
+                        .expressionAttributeNames(Map.of("#user", "User"))
+                        .expressionAttributeValues(Map.of(
+                                ":user", AttributeValue.builder().s(users.get(0)).build(),
+                                ":owner", AttributeValue.builder().s(owner).build())));
+                updated++;
+            } catch (ConditionalCheckFailedException e) {
+                log.debug("[DDBReportService] 보고서 User 이전 건너뜀 (변경됨) - PK: {}, SK: {}", pk, item.get("SK").s());
+            }
+        }
+        return updated;
+    }
+
+    // LastEvaluatedKey → 불투명 커서 (PK, SK만 담고 User는 요청 사용자로 복원)
+    private static String encodeCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+        String raw = lastEvaluatedKey.get("PK").s() + CURSOR_SEPARATOR + lastEvaluatedKey.get("SK").s();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, AttributeValue> decodeCursor(String cursor, String user) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        int separator = raw.indexOf(CURSOR_SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return Map.of(
+                "PK", AttributeValue.builder().s(raw.substring(0, separator)).build(),
+                "SK", AttributeValue.builder().s(raw.substring(separator + 1)).build(),
+                "User", AttributeValue.builder().s(user).build()
+        );
     }
 
     public Map<String, Object> getReportByPKAndSK(String pk, String sk) {
@@ -76,18 +232,22 @@ public class DDBReportService {
         );
 
         var request = software.amazon.awssdk.services.dynamodb.model.GetItemRequest.builder()
-                .tableName("UserReports")
+                .tableName(TABLE_NAME)
                 .key(key)
                 .build();
 
         var response = dynamoDbClient.getItem(request);
 
         if (response.hasItem()) {
-            return response.item().entrySet().stream()
+            // 저장 형식(압축/S3)과 무관하게 Content에 원문을 담아 반환
+            Map<String, Object> report = response.item().entrySet().stream()
+                    .filter(e -> !ReportContentCodec.isContentAttribute(e.getKey()))
                     .collect(Collectors.toMap(
                             Map.Entry::getKey,
                             e -> (Object) e.getValue().s()
                     ));
+            report.put(ReportContentCodec.CONTENT, reportContentCodec.decode(response.item()));
+            return report;
         }
         return null;
     }
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.ses.SesAsyncClient;
 import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.*;
 
@@ -17,6 +19,7 @@ import software.amazon.awssdk.services.ses.model.*;
 public class EmailService {
 
     private final SesClient sesClient;
+    private final SesAsyncClient sesAsyncClient;
 
     @Value("${aws.ses.sender-email}")
     private String senderEmail;
@@ -83,30 +86,7 @@ public class EmailService {
         
         try {
             log.info("[SES 1단계] SendEmailRequest 생성 시작");
-            String sourceEmail = String.format("%s <%s>", senderName, senderEmail);
-            
-            SendEmailRequest request = SendEmailRequest.builder()
-                    .source(sourceEmail)
-                    .destination(Destination.builder()
-                            .toAddresses(recipientEmail)
-                            .build())
-                    .message(Message.builder()
-                            .subject(Content.builder()
-                                    .data(subject)
-                                    .charset("UTF-8")
-                                    .build())
-                            .body(Body.builder()
-                                    .html(Content.builder()
-                                            .data(htmlBody)
-                                            .charset("UTF-8")
-                                            .build())
-                                    .text(Content.builder()
-                                            .data(textBody)
-                                            .charset("UTF-8")
-                                            .build())
-                                    .build())
-                            .build())
-                    .build();
+            SendEmailRequest request = buildSendEmailRequest(recipientEmail, subject, htmlBody, textBody);
             log.info("[SES 1단계] SendEmailRequest 생성 완료");
 
             log.info("[SES 2단계] SES API 호출 시작 (sesClient.sendEmail)");
@@ -139,6 +119,64 @@ public class EmailService {
         }
     }
 
+    /**
+     * 보고서 생성 완료 알림 이메일 전송 - 논블로킹 (SesAsyncClient)
+     * @param recipientEmail 수신자 이메일
+     * @param userId GitHub 사용자 ID
+     * @param repository 리포지토리명
+     * @param reportPeriod 보고서 기간
+     * @param reportUrl 보고서 URL (선택사항)
+     * @return 전송 완료 신호 (실패 시 RuntimeException)
+     */
+    public Mono<Void> sendReportCompletionEmailAsync(
+            String recipientEmail,
+            String userId,
+            String repository,
+            String reportPeriod,
+            String reportUrl
+    ) {
+        String subject = String.format("[GitNote] %s 보고서가 생성되었습니다", repository);
+        SendEmailRequest request = buildSendEmailRequest(
+                recipientEmail,
+                subject,
+                buildReportEmailHtml(userId, repository, reportPeriod, reportUrl),
+                buildReportEmailText(userId, repository, reportPeriod, reportUrl));
+
+        long startTime = System.currentTimeMillis();
+        return Mono.fromFuture(() -> sesAsyncClient.sendEmail(request))
+                .doOnSuccess(response -> log.info("[EmailService] 보고서 완료 이메일 전송 성공(비동기) - repository: {}, 소요시간: {}ms",
+                        repository, System.currentTimeMillis() - startTime))
+                .onErrorMap(SesException.class, e -> new RuntimeException("이메일 전송 실패: " + e.awsErrorDetails().errorMessage(), e))
+                .then();
+    }
+
+    private SendEmailRequest buildSendEmailRequest(String recipientEmail, String subject, String htmlBody, String textBody) {
+        String sourceEmail = String.format("%s <%s>", senderName, senderEmail);
+
+        return SendEmailRequest.builder()
+                .source(sourceEmail)
+                .destination(Destination.builder()
+                        .toAddresses(recipientEmail)
+                        .build())
+                .message(Message.builder()
+                        .subject(Content.builder()
+                                .data(subject)
+                                .charset("UTF-8")
+                                .build())
+                        .body(Body.builder()
+                                .html(Content.builder()
+                                        .data(htmlBody)
+                                        .charset("UTF-8")
+                                        .build())
+                                .text(Content.builder()
+                                        .data(textBody)
+                                        .charset("UTF-8")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
+
     /**
      * 보고서 이메일 HTML 본문 생성
      */
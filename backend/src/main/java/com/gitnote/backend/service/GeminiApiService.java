@@ -2,6 +2,7 @@ package com.gitnote.backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gitnote.backend.cache.GeminiResultCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -10,29 +11,39 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Service
 public class GeminiApiService {
 
+    // 스타일 지침 없이 프롬프트를 그대로 보내는 호출의 캐시 키 구분값
+    private static final String RAW_STYLE = "raw";
+
     private final WebClient webClient;
+    private final GeminiResultCache geminiResultCache;
     private final String apiKey;
     private final String model;
     private final String projectId;
     private final String location;
 
     public GeminiApiService(
+            GeminiResultCache geminiResultCache,
             @Value("${gemini.api.key}") String apiKey,
             @Value("${gemini.api.model:gemini-2.5-flash}") String model,
             @Value("${gemini.project.id}") String projectId,
-            @Value("${gemini.location:us-central1}") String location
+            @Value("${gemini.location:us-central1}") String location,
+            @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1}") String apiBaseUrl
     ) {
+        this.geminiResultCache = geminiResultCache;
         this.apiKey = apiKey;
         this.model = model;
         this.projectId = projectId;
         this.location = location;
 
         this.webClient = WebClient.builder()
-                .baseUrl("https://generativelanguage.googleapis.com/v1")
+                .baseUrl(apiBaseUrl)
                 .build();
 
         log.info("[GeminiApiService] 초기화 완료 - 모델: {}, 프로젝트 ID: {}", model, projectId);
@@ -47,45 +58,10 @@ public class GeminiApiService {
     public String generateContent(String prompt, String style) {
         log.info("[GeminiApiService] 콘텐츠 생성 시작 - prompt 길이: {}", prompt != null ? prompt.length() : 0);
 
-        String styleInstruction = switch (style) {
-            case "summary" -> "**스타일:** 간결하게 요약된 보고서를 작성하세요. 핵심 포인트 위주로 표현합니다.\n";
-            case "detailed" -> "**스타일:** 상세 분석 보고서를 작성하세요. 각 커밋의 기능/문제점과 작업 흐름을 자세히 설명합니다.\n";
-            case "statistics" -> "**스타일:** 통계 중심 보고서를 작성하세요. 커밋 유형, 수정 빈도, 기능 추가 비율 등을 강조합니다.\n";
-            default -> "";
-        };
-
         try {
-            String uri = "/models/" + model + ":generateContent?key=" + apiKey;
-
-            String fullPrompt =
-                    "당신은 반드시 마크다운(Markdown) 형식으로만 출력해야 한다.\n" +
-                            "마크다운을 사용하지 않거나 서식이 유지되지 않으면 잘못된 출력으로 간주된다.\n" +
-                            "출력 시 제목, 본문, 구분선, 강조, 코드블록 등 마크다운 요소를 적극 활용한다.\n\n" +
-                            (prompt != null ? prompt : "") + "\n\n" +
-                            "## 보고서 작성 지침\n" +
-                            styleInstruction + "\n\n" +
-                            "**언어:** 한국어\n" +
-                            "**형식:** 자연스러운 서술식 문장 중심, 단순 목록 나열 금지\n" +
-                            "**리포지토리 이름과 조회 기간을 반드시 포함할 것**\n";
-
-            String jsonBody = String.format("{\"contents\":[{\"parts\":[{\"text\":\"%s\"}]}]}", fullPrompt.replace("\"", "\\\""));
-
-            log.debug("[GeminiApiService] API 호출 URI: {}", uri);
-
-            Mono<String> responseMono = webClient.post()
-                    .uri(uri)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(jsonBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .doOnError(e -> log.error("[GeminiApiService] Mono 에러 발생: {}", e.getMessage()));
-
-            String rawJsonResult = responseMono.block();
-            log.info("[GeminiApiService] Gemini API 호출 완료 - 응답 길이: {}", rawJsonResult != null ? rawJsonResult.length() : 0);
-
-            String extractedText = extractTextFromJson(rawJsonResult);
-            log.info("[GeminiApiService] 텍스트 추출 완료 - 길이: {}", extractedText.length());
-            return extractedText;
+            String extractedText = generateContentAsync(prompt, style).block();
+            log.info("[GeminiApiService] 텍스트 추출 완료 - 길이: {}", extractedText != null ? extractedText.length() : 0);
+            return extractedText != null ? extractedText : "";
 
         } catch (WebClientResponseException e) {
             log.error("[GeminiApiService] Gemini API 호출 실패 - 상태코드: {}, 응답: {}", 
@@ -100,6 +76,69 @@ public class GeminiApiService {
         }
     }
 
+    /**
+     * 보고서 형식(마크다운 + 스타일 지침)으로 콘텐츠 생성 - 논블로킹
+     * - (모델, 스타일, 전체 프롬프트)가 같은 요청은 GeminiResultCache에서 제공
+     * @param prompt 모델에게 전달할 요청 프롬프트
+     * @param style 보고서 스타일
+     * @return 생성된 텍스트
+     */
+    public Mono<String> generateContentAsync(String prompt, String style) {
+        String styleInstruction = switch (style != null ? style : "") {
+            case "summary" -> "**스타일:** 간결하게 요약된 보고서를 작성하세요. 핵심 포인트 위주로 표현합니다.\n";
+            case "detailed" -> "**스타일:** 상세 분석 보고서를 작성하세요. 각 커밋의 기능/문제점과 작업 흐름을 자세히 설명합니다.\n";
+            case "statistics" -> "**스타일:** 통계 중심 보고서를 작성하세요. 커밋 유형, 수정 빈도, 기능 추가 비율 등을 강조합니다.\n";
+            default -> "";
+        };
+
+        String fullPrompt =
+                "당신은 반드시 마크다운(Markdown) 형식으로만 출력해야 한다.\n" +
+                        "마크다운을 사용하지 않거나 서식이 유지되지 않으면 잘못된 출력으로 간주된다.\n" +
+                        "출력 시 제목, 본문, 구분선, 강조, 코드블록 등 마크다운 요소를 적극 활용한다.\n\n" +
+                        (prompt != null ? prompt : "") + "\n\n" +
+                        "## 보고서 작성 지침\n" +
+                        styleInstruction + "\n\n" +
+                        "**언어:** 한국어\n" +
+                        "**형식:** 자연스러운 서술식 문장 중심, 단순 목록 나열 금지\n" +
+                        "**리포지토리 이름과 조회 기간을 반드시 포함할 것**\n";
+
+        String cacheKey = GeminiResultCache.key(model, style, fullPrompt);
+        return geminiResultCache.getOrGenerate(cacheKey, () -> requestGeneration(fullPrompt));
+    }
+
+    /**
+     * 프롬프트를 그대로 전달해 텍스트 생성 (보고서 지침 없음) - 논블로킹
+     * - 요약 파이프라인의 중간 단계(청크 요약 등)에서 사용
+     * - 동일 프롬프트는 GeminiResultCache에서 제공
+     * @param fullPrompt 모델에게 전달할 전체 프롬프트
+     * @return 생성된 텍스트 (응답에 텍스트가 없으면 빈 문자열)
+     */
+    public Mono<String> generateRaw(String fullPrompt) {
+        String cacheKey = GeminiResultCache.key(model, RAW_STYLE, fullPrompt);
+        return geminiResultCache.getOrGenerate(cacheKey, () -> requestGeneration(fullPrompt));
+    }
+
+    // 실제 Gemini API 호출 (캐시 미사용)
+    private Mono<String> requestGeneration(String fullPrompt) {
+        String uri = "/models/" + model + ":generateContent?key=" + apiKey;
+
+        // 요청 본문은 Jackson으로 직렬화 (개행/역슬래시 등 JSON 이스케이프 처리)
+        Map<String, Object> body = Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", fullPrompt))))
+        );
+
+        return webClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(raw -> log.info("[GeminiApiService] Gemini API 호출 완료 - 응답 길이: {}", raw.length()))
+                .doOnError(e -> log.error("[GeminiApiService] Mono 에러 발생: {}", e.getMessage()))
+                .map(this::extractTextFromJson)
+                .defaultIfEmpty("");
+    }
+
     private String extractTextFromJson(String rawJson) {
         if (rawJson == null || rawJson.isEmpty()) return "";
 
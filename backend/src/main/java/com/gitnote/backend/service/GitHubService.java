@@ -1,5 +1,10 @@
 package com.gitnote.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gitnote.backend.cache.CommitDetailCache;
+import com.gitnote.backend.cache.GitHubConditionalRequestCache;
+import com.gitnote.backend.cache.GitHubRateLimitScheduler;
+import com.gitnote.backend.cache.RepositoryListCache;
 import com.gitnote.backend.dto.GitHubCommit;
 import com.gitnote.backend.dto.GitHubRepository;
 import com.gitnote.backend.dto.GitHubUserInfo;
@@ -13,11 +18,19 @@ import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -37,13 +50,52 @@ public class GitHubService {
     @Value("${github.client.secret}")
     private String clientSecret;
 
+    // 커밋 상세 조회 시 최대 동시 요청 수
+    @Value("${github.commit-details.concurrency:8}")
+    private int commitDetailsConcurrency;
+
+    // 리포지토리 목록 페이지 동시 조회 수
+    @Value("${github.repositories.page-concurrency:4}")
+    private int pageConcurrency;
+
+    // GitHub REST API 한 페이지당 최대 항목 수
+    private static final int PER_PAGE = 100;
+
     // WebClient 인스턴스 (재활용)
     private final WebClient webClient;
 
+    // 커밋 상세 캐시 (owner/repo@sha → 커밋 상세, 불변 데이터)
+    private final CommitDetailCache commitDetailCache;
+
+    // 사용자별 리포지토리 목록 캐시 (짧은 TTL)
+    private final RepositoryListCache repositoryListCache;
+
+    // GitHub API 기본 URL (예: https://api.github.com)
+    private final String apiBaseUrl;
+
+    // 증분 커밋 동기화 (null이면 항상 GitHub에서 전체 구간 조회)
+    private final CommitSyncService commitSyncService;
+
     /**
-     * 생성자 - 웹클라이언트 + HTTP 타임아웃 설정
+     * 생성자 - 웹클라이언트 + HTTP 타임아웃 + 요청 한도 스케줄러 + 조건부 요청 캐시 설정
+     * @param rateLimitScheduler 토큰별 요청 한도 추적/페이싱 (WebClient 필터)
+     * @param conditionalRequestCache ETag/Last-Modified 기반 GET 응답 캐시 (WebClient 필터)
+     * @param commitDetailCache SHA 단위 커밋 상세 캐시
+     * @param repositoryListCache 사용자별 리포지토리 목록 캐시
+     * @param commitSyncService 로컬 저장소 기반 증분 커밋 동기화 (null 허용)
+     * @param apiBaseUrl GitHub REST/GraphQL API 기본 URL (테스트 시 목 서버 주소로 교체)
      */
-    public GitHubService() {
+    public GitHubService(GitHubRateLimitScheduler rateLimitScheduler,
+                         GitHubConditionalRequestCache conditionalRequestCache,
+                         CommitDetailCache commitDetailCache,
+                         RepositoryListCache repositoryListCache,
+                         CommitSyncService commitSyncService,
+                         @Value("${github.api.base-url:https://api.github.com}") String apiBaseUrl) {
+        this.commitDetailCache = commitDetailCache;
+        this.repositoryListCache = repositoryListCache;
+        this.commitSyncService = commitSyncService;
+        this.apiBaseUrl = apiBaseUrl;
+
         // 네트워크 타임아웃(연결/응답, Read/Write) 설정
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 연결 타임아웃: 10초
@@ -54,6 +106,9 @@ public class GitHubService {
 
         this.webClient = WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // 바깥쪽 필터부터 적용: 한도 페이싱 → 조건부 요청 캐시
+                .filter(rateLimitScheduler)
+                .filter(conditionalRequestCache)
                 .build();
     }
 
@@ -151,7 +206,7 @@ public class GitHubService {
      * @return GitHubUserInfo(사용자 정보), 실패 시 null
      */
     public GitHubUserInfo getUserInfo(String accessToken) {
-        final String userUrl = "https://api.github.com/user";
+        final String userUrl = apiBaseUrl + "/user";
 
         try {
             Map<String, Object> response = webClient.get()
@@ -188,12 +243,14 @@ public class GitHubService {
 
     /**
      * 주어진 액세스 토큰을 만료(폐기) 처리함 (GitHub logout 등)
+     * - 폐기 성공 여부와 관계없이 이 토큰으로 캐시한 리포지토리 목록은 제거
      * @param accessToken 폐기할 액세스 토큰
      * @return 성공 여부(true/false)
      */
     public boolean revokeToken(String accessToken) {
+        repositoryListCache.invalidateToken(accessToken);
         try {
-            String revokeUrl = String.format("https://api.github.com/applications/%s/token", clientId);
+            String revokeUrl = String.format("%s/applications/%s/token", apiBaseUrl, clientId);
             // Basic Auth 필요 (clientId:clientSecret Base64 인코드)
             String credentials = clientId + ":" + clientSecret;
             String base64Credentials = Base64.getEncoder().encodeToString(credentials.getBytes());
@@ -220,7 +277,7 @@ public class GitHubService {
      * @return Map(레이트 리밋 정보 or 에러)
      */
     public Map<String, Object> getRateLimit(String accessToken) {
-        final String rateLimitUrl = "https://api.github.com/rate_limit";
+        final String rateLimitUrl = apiBaseUrl + "/rate_limit";
         try {
             Map<String, Object> response = webClient.get()
                     .uri(rateLimitUrl)
@@ -241,22 +298,28 @@ public class GitHubService {
 
     /**
      * 사용자 리포지토리 목록 조회
+     * - 첫 페이지 응답의 Link 헤더에서 rel="last" 페이지 번호를 읽고, 나머지 페이지는 동시에 조회
+     * - 병합 결과는 사용자(토큰)별로 짧은 TTL 동안 캐시 (github.repositories.cache-ttl)
      * @param accessToken 사용자 토큰
      * @param username GitHub 닉네임
      * @return GitHubRepository 목록 (없을 때 빈 리스트)
      */
     public List<GitHubRepository> getRepositories(String accessToken, String username) {
-        // 한 번에 최대 100개(per_page) - 페이지네이션 필요 시 개선!
-        final String reposUrl = String.format("https://api.github.com/users/%s/repos?per_page=100&sort=updated", username);
+        String cacheKey = RepositoryListCache.key(accessToken, username);
+        List<GitHubRepository> cached = repositoryListCache.get(cacheKey);
+        if (cached != null) {
+            log.info("[GitHubService] 리포지토리 목록 캐시 사용 - 사용자: {}, 개수: {}", username, cached.size());
+            return cached;
+        }
+
+        final String reposUrl = String.format("%s/users/%s/repos?per_page=%d&sort=updated", apiBaseUrl, username, PER_PAGE);
 
         long startTime = System.currentTimeMillis();
         try {
-            List<GitHubRepository> repositories = webClient.get()
-                    .uri(reposUrl)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .retrieve()
-                    .bodyToFlux(GitHubRepository.class)
+            List<GitHubRepository> repositories = fetchPage(accessToken, URI.create(reposUrl), GitHubRepository.class)
+                    .flatMapMany(first -> Flux.concat(
+                            Flux.fromIterable(first.items()),
+                            fetchRemainingPages(accessToken, first, GitHubRepository.class)))
                     .collectList()
                     .block();
 
@@ -264,7 +327,11 @@ public class GitHubService {
             int count = repositories != null ? repositories.size() : 0;
             log.info("[GitHubService] 리포지토리 조회 완료 - 사용자: {}, 개수: {}, 소요시간: {}ms", username, count, elapsed);
 
-            return repositories != null ? repositories : Collections.emptyList();
+            if (repositories == null) {
+                return Collections.emptyList();
+            }
+            repositoryListCache.put(cacheKey, repositories);
+            return repositories;
         } catch (WebClientResponseException e) {
             log.error("[GitHubService] GitHub API 오류 - 상태코드: {}, 응답: {}", e.getStatusCode(), e.getResponseBodyAsString());
             if (e.getStatusCode().value() == 403) {
@@ -280,8 +347,44 @@ public class GitHubService {
         }
     }
 
+    /**
+     * 첫 페이지 이후의 나머지 페이지를 동시에 조회
+     * - rel="last" URL의 page 파라미터로 전체 페이지 수를 알 수 있을 때: 2..last 페이지를 병렬 조회 (순서 유지)
+     * - last 링크가 없고 next만 있을 때: next 링크를 순차적으로 따라감
+     * @param first 첫 페이지
+     * @return 2페이지 이후 항목 스트림 (페이지 순서 유지)
+     */
+    private <T> Flux<T> fetchRemainingPages(String accessToken, GitHubPage<T> first, Class<T> elementType) {
+        if (first.nextUrl() == null) {
+            return Flux.empty();
+        }
+
+        UriComponents lastUri = first.lastUrl() != null
+                ? UriComponentsBuilder.fromUriString(first.lastUrl()).build()
+                : null;
+        String lastPageParam = lastUri != null ? lastUri.getQueryParams().getFirst("page") : null;
+        if (lastPageParam == null) {
+            return fetchPage(accessToken, URI.create(first.nextUrl()), elementType)
+                    .expand(page -> page.nextUrl() != null
+                            ? fetchPage(accessToken, URI.create(page.nextUrl()), elementType)
+                            : Mono.empty())
+                    .flatMapIterable(GitHubPage::items);
+        }
+
+        int lastPage = Integer.parseInt(lastPageParam);
+        return Flux.range(2, Math.max(0, lastPage - 1))
+                .map(page -> UriComponentsBuilder.newInstance()
+                        .uriComponents(lastUri)
+                        .replaceQueryParam("page", page)
+                        .build(true)
+                        .toUri())
+                .flatMapSequential(pageUri -> fetchPage(accessToken, pageUri, elementType), pageConcurrency)
+                .flatMapIterable(GitHubPage::items);
+    }
+
     /**
      * 특정 리포지토리, 날짜 범위 별 커밋 목록 조회
+     * - streamCommitsByDateRange를 끝까지 수집 (100건 초과 시에도 잘리지 않음)
      * @param accessToken 사용자 인증 토큰
      * @param owner 리포지토리 소유자
      * @param repo 리포지토리 명
@@ -291,23 +394,8 @@ public class GitHubService {
      */
     public List<GitHubCommit> getCommitsByDateRange(String accessToken, String owner, String repo,
                                                     LocalDate since, LocalDate until) {
-        // ISO_DATE_TIME 포맷 예: 2024-06-09T00:00:00
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
-        String sinceParam = since.atStartOfDay().format(formatter);
-        String untilParam = until.atTime(23, 59, 59).format(formatter);
-
-        final String commitsUrl = String.format(
-                "https://api.github.com/repos/%s/%s/commits?since=%s&until=%s&per_page=100",
-                owner, repo, sinceParam, untilParam
-        );
-
         try {
-            List<GitHubCommit> commits = webClient.get()
-                    .uri(commitsUrl)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .retrieve()
-                    .bodyToFlux(GitHubCommit.class)
+            List<GitHubCommit> commits = streamCommitsByDateRange(accessToken, owner, repo, since, until)
                     .collectList()
                     .block();
 
@@ -318,6 +406,120 @@ public class GitHubService {
         }
     }
 
+    /**
+     * 특정 리포지토리, 날짜 범위 별 커밋을 페이지 단위로 스트리밍 조회
+     * - GitHub Link 헤더의 rel="next"를 따라 마지막 페이지까지 이어서 요청
+     * - 현재 페이지를 소비하는 동안 다음 페이지 1개를 미리 받아둠 (페이지 선행 요청)
+     * - 구독자가 take(n) 등으로 취소하면 남은 페이지는 요청하지 않음
+     * - 증분 동기화(github.commit-sync.enabled) 사용 시 로컬 동기화 끝 이후 구간만 GitHub에서 조회
+     * @param accessToken 사용자 인증 토큰
+     * @param owner 리포지토리 소유자
+     * @param repo 리포지토리 명
+     * @param since 조회 시작일
+     * @param until 조회 종료일(포함)
+     * @return 커밋 스트림 (최신순)
+     */
+    public Flux<GitHubCommit> streamCommitsByDateRange(String accessToken, String owner, String repo,
+                                                       LocalDate since, LocalDate until) {
+        Instant from = since.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = until.atTime(23, 59, 59).toInstant(ZoneOffset.UTC);
+
+        // 증분 동기화 사용 시: 동기화된 구간은 로컬 저장소, 동기화 끝 이후만 GitHub 조회
+        if (commitSyncService != null && commitSyncService.isEnabled()) {
+            return commitSyncService.getCommits(owner + "/" + repo, from, to,
+                    (fetchFrom, fetchUntil) -> streamCommitsBetween(accessToken, owner, repo, fetchFrom, fetchUntil));
+        }
+        return streamCommitsBetween(accessToken, owner, repo, from, to);
+    }
+
+    /**
+     * 특정 리포지토리, 시각 구간 별 커밋을 GitHub에서 직접 스트리밍 조회 (로컬 저장소 미사용)
+     * @param accessToken 사용자 인증 토큰
+     * @param owner 리포지토리 소유자
+     * @param repo 리포지토리 명
+     * @param from 조회 시작 시각(포함)
+     * @param until 조회 끝 시각(포함)
+     * @return 커밋 스트림 (최신순)
+     */
+    public Flux<GitHubCommit> streamCommitsBetween(String accessToken, String owner, String repo,
+                                                   Instant from, Instant until) {
+        // ISO-8601 UTC 포맷 예: 2024-06-09T00:00:00Z
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT;
+        String sinceParam = formatter.format(from);
+        String untilParam = formatter.format(until);
+
+        final String commitsUrl = String.format(
+                "%s/repos/%s/%s/commits?since=%s&until=%s&per_page=%d",
+                apiBaseUrl, owner, repo, sinceParam, untilParam, PER_PAGE
+        );
+
+        return fetchPage(accessToken, URI.create(commitsUrl), GitHubCommit.class)
+                .expand(page -> page.nextUrl() != null
+                        ? fetchPage(accessToken, URI.create(page.nextUrl()), GitHubCommit.class)
+                        : Mono.empty())
+                // prefetch 2: 소비 중인 페이지 + 미리 받아둘 다음 페이지
+                .flatMapIterable(GitHubPage::items, 2);
+    }
+
+    /**
+     * 목록형 GitHub API 단일 페이지 조회 (본문 + Link 헤더)
+     * @param accessToken 인증 토큰
+     * @param pageUri 요청 URI (Link 헤더의 URL은 이미 인코딩되어 있으므로 URI 그대로 사용)
+     * @param elementType 목록 원소 타입
+     * @return 페이지 (항목 목록, 다음 페이지 URL)
+     */
+    private <T> Mono<GitHubPage<T>> fetchPage(String accessToken, URI pageUri, Class<T> elementType) {
+        return webClient.get()
+                .uri(pageUri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .retrieve()
+                .toEntityList(elementType)
+                .map(entity -> {
+                    Map<String, String> links = parseLinkHeader(entity.getHeaders());
+                    return new GitHubPage<>(
+                            entity.getBody() != null ? entity.getBody() : Collections.<T>emptyList(),
+                            links.get("next"),
+                            links.get("last")
+                    );
+                });
+    }
+
+    /**
+     * GitHub Link 헤더 파싱
+     * 예: <https://api.github.com/...&page=2>; rel="next", <https://api.github.com/...&page=5>; rel="last"
+     * @param headers 응답 헤더
+     * @return rel → URL 맵 (Link 헤더가 없으면 빈 맵)
+     */
+    static Map<String, String> parseLinkHeader(HttpHeaders headers) {
+        Map<String, String> links = new HashMap<>();
+        List<String> values = headers.get(HttpHeaders.LINK);
+        if (values == null) return links;
+
+        for (String value : values) {
+            for (String part : value.split(",")) {
+                int urlStart = part.indexOf('<');
+                int urlEnd = part.indexOf('>', urlStart + 1);
+                int relStart = part.indexOf("rel=\"", urlEnd);
+                if (urlStart < 0 || urlEnd < 0 || relStart < 0) continue;
+
+                int relEnd = part.indexOf('"', relStart + 5);
+                if (relEnd < 0) continue;
+                links.put(part.substring(relStart + 5, relEnd), part.substring(urlStart + 1, urlEnd));
+            }
+        }
+        return links;
+    }
+
+    /**
+     * 목록형 API 한 페이지 분량의 응답
+     * @param items 페이지 항목
+     * @param nextUrl 다음 페이지 URL (마지막 페이지면 null)
+     * @param lastUrl 마지막 페이지 URL (마지막 페이지이거나 GitHub이 제공하지 않으면 null)
+     */
+    private record GitHubPage<T>(List<T> items, String nextUrl, String lastUrl) {
+    }
+
     /**
      * 커밋 상세 정보(변경파일 포함) 단일 건 조회
      * @param accessToken 인증 토큰
@@ -327,24 +529,108 @@ public class GitHubService {
      * @return GitHubCommit 객체 또는 null
      */
     public GitHubCommit getCommitDetails(String accessToken, String owner, String repo, String sha) {
-        final String commitUrl = String.format("https://api.github.com/repos/%s/%s/commits/%s", owner, repo, sha);
-
         try {
-            return webClient.get()
-                    .uri(commitUrl)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .retrieve()
-                    .bodyToMono(GitHubCommit.class)
-                    .block();
+            return fetchCommitDetails(accessToken, owner, repo, sha).block();
         } catch (Exception e) {
             log.error("[GitHubService] 커밋 상세 조회 실패: {}", e.getMessage());
             return null;
         }
     }
 
+    /**
+     * 커밋 상세 정보(변경파일 포함) 단일 건 비동기 조회
+     * @param accessToken 인증 토큰
+     * @param owner 리포지토리 소유자
+     * @param repo 리포지토리 명
+     * @param sha 커밋 SHA
+     * @return 커밋 상세 Mono (실패 시 error 신호)
+     */
+    public Mono<GitHubCommit> fetchCommitDetails(String accessToken, String owner, String repo, String sha) {
+        final String commitUrl = String.format("%s/repos/%s/%s/commits/%s", apiBaseUrl, owner, repo, sha);
+
+        Mono<GitHubCommit> request = webClient.get()
+                .uri(commitUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .retrieve()
+                .bodyToMono(GitHubCommit.class);
+
+        // 전체 SHA가 아닌 ref(브랜치명 등)는 내용이 바뀔 수 있으므로 캐시하지 않음
+        if (!CommitDetailCache.isCacheable(sha)) {
+            return request;
+        }
+
+        String cacheKey = CommitDetailCache.key(owner, repo, sha);
+        // 디스크 계층 조회가 있을 수 있으므로 boundedElastic에서 조회
+        return Mono.fromCallable(() -> commitDetailCache.get(cacheKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> request.doOnNext(commit -> commitDetailCache.put(cacheKey, commit))));
+    }
+
+    /**
+     * 커밋 목록에 상세 정보(변경파일, 통계)를 병렬로 채워 넣음
+     * - 동시 요청 수는 github.commit-details.concurrency 로 제한
+     * - 입력 순서 유지 (flatMapSequential)
+     * - 개별 커밋 조회 실패 시 해당 커밋만 제외하고 나머지는 계속 진행
+     * @param accessToken 인증 토큰
+     * @param owner 리포지토리 소유자
+     * @param repo 리포지토리 명
+     * @param commits 상세 조회할 커밋 스트림 (목록 API 결과)
+     * @return 상세 정보가 포함된 커밋 스트림
+     */
+    public Flux<GitHubCommit> enrichWithDetails(String accessToken, String owner, String repo,
+                                                Flux<GitHubCommit> commits) {
+        return enrichWithDetails(accessToken, owner, repo, commits, commitDetailsConcurrency);
+    }
+
+    /**
+     * 커밋 목록에 상세 정보를 병렬로 채워 넣음 (동시 요청 수 직접 지정)
+     * @param concurrency 최대 동시 요청 수
+     */
+    public Flux<GitHubCommit> enrichWithDetails(String accessToken, String owner, String repo,
+                                                Flux<GitHubCommit> commits, int concurrency) {
+        return commits.flatMapSequential(commit ->
+                fetchCommitDetails(accessToken, owner, repo, commit.getSha())
+                        .onErrorResume(e -> {
+                            log.warn("[GitHubService] 커밋 상세 조회 실패 (건너뜀) - sha: {}, 원인: {}",
+                                    commit.getSha(), e.getMessage());
+                            return Mono.empty();
+                        }),
+                Math.max(1, concurrency));
+    }
+
+    /**
+     * GitHub GraphQL API 호출
+     * @param accessToken 인증 토큰
+     * @param query GraphQL 쿼리
+     * @param variables 쿼리 변수
+     * @return 응답의 data 노드 (errors가 있으면 error 신호)
+     */
+    public Mono<JsonNode> executeGraphQl(String accessToken, String query, Map<String, Object> variables) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("query", query);
+        body.put("variables", variables);
+
+        return webClient.post()
+                .uri(apiBaseUrl + "/graphql")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMap(response -> {
+                    JsonNode errors = response.path("errors");
+                    if (errors.isArray() && !errors.isEmpty()) {
+                        return Mono.error(new RuntimeException("GitHub GraphQL 오류: " + errors.get(0).path("message").asText()));
+                    }
+                    return Mono.just(response.path("data"));
+                });
+    }
+
     /**
      * 커밋 목록을 리포트용 텍스트로 변환 (변경파일, 통계 포함)
+     * - 문자열이 아닌 Writer 등으로 바로 스트리밍하려면 CommitTextExporter 사용
      * @param commits 커밋 목록
      * @param repositoryName 리포지토리 명
      * @param since 시작일
@@ -353,60 +639,6 @@ public class GitHubService {
      */
     public String exportCommitsAsText(List<GitHubCommit> commits, String repositoryName,
                                       LocalDate since, LocalDate until) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("=".repeat(80)).append("\n")
-            .append(String.format("커밋 리포트: %s\n", repositoryName))
-            .append(String.format("기간: %s ~ %s\n", since, until))
-            .append(String.format("총 커밋 수: %d\n", commits.size()))
-            .append("=".repeat(80)).append("\n\n");
-
-        int i = 1;
-        for (GitHubCommit commit : commits) {
-            sb.append(String.format("[%d] 커밋 #%d\n", i, i))
-              .append("-".repeat(80)).append("\n")
-              .append(String.format("SHA: %s\n", commit.getSha()));
-
-            // 커밋 메타 및 작성자
-            if (commit.getCommit() != null) {
-                sb.append(String.format("메시지: %s\n", commit.getCommit().getMessage()));
-                if (commit.getCommit().getAuthor() != null) {
-                    sb.append(String.format("작성자: %s <%s>\n",
-                            commit.getCommit().getAuthor().getName(),
-                            commit.getCommit().getAuthor().getEmail()))
-                      .append(String.format("작성일: %s\n", commit.getCommit().getAuthor().getDate()));
-                }
-            }
-
-            sb.append(String.format("URL: %s\n", commit.getHtmlUrl()));
-
-            // 변경 파일 정보
-            List<GitHubCommit.FileChange> files = commit.getFiles();
-            if (files != null && !files.isEmpty()) {
-                sb.append(String.format("\n변경된 파일 (%d개):\n", files.size()));
-                files.forEach(file -> sb.append(String.format("  - %s (%s) [+%d/-%d]\n",
-                        file.getFilename(),
-                        file.getStatus(),
-                        Optional.ofNullable(file.getAdditions()).orElse(0),
-                        Optional.ofNullable(file.getDeletions()).orElse(0)
-                )));
-            }
-
-            // 변경 통계 정보
-            if (commit.getStats() != null) {
-                sb.append(String.format("\n통계: +%d / -%d (총 %d 변경)\n",
-                        Optional.ofNullable(commit.getStats().getAdditions()).orElse(0),
-                        Optional.ofNullable(commit.getStats().getDeletions()).orElse(0),
-                        Optional.ofNullable(commit.getStats().getTotal()).orElse(0)
-                ));
-            }
-
-            sb.append("\n");
-            i++;
-        }
-        sb.append("=".repeat(80)).append("\n")
-            .append("리포트 종료\n")
-            .append("=".repeat(80)).append("\n");
-
-        return sb.toString();
+        return CommitTextExporter.exportToString(commits, repositoryName, since, until);
     }
 }
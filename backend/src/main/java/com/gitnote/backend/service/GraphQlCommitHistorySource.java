@@ -0,0 +1,158 @@
+package com.gitnote.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gitnote.backend.dto.GitHubCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphQlCommitHistorySource
+ * - GitHub GraphQL API 기반 커밋 이력 조회
+ * - history(since, until)로 커밋과 통계를 요청 1회당 최대 100건씩 함께 조회 (커서 페이지네이션)
+ * - 변경 파일 목록(patch)은 제공되지 않으며, 변경 파일 수만 changedFilesIfAvailable로 채움
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "github.commit-history.mode", havingValue = "graphql")
+public class GraphQlCommitHistorySource implements CommitHistorySource {
+
+    // GraphQL history 연결에서 한 번에 받을 수 있는 최대 커밋 수
+    private static final int PAGE_SIZE = 100;
+
+    private static final String HISTORY_QUERY = """
+            query($owner: String!, $name: String!, $since: GitTimestamp!, $until: GitTimestamp!, $first: Int!, $cursor: String) {
+              repository(owner: $owner, name: $name) {
+                defaultBranchRef {
+                  target {
+                    ... on Commit {
+                      history(first: $first, since: $since, until: $until, after: $cursor) {
+                        pageInfo { hasNextPage endCursor }
+                        nodes {
+                          oid
+                          message
+                          url
+                          additions
+                          deletions
+                          changedFilesIfAvailable
+                          author { name email date user { login avatarUrl } }
+                          committer { name email date }
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            }
+            """;
+
+    private final GitHubService gitHubService;
+
+    @Override
+    public Flux<GitHubCommit> fetchCommitsWithStats(String accessToken, String owner, String repo,
+                                                    LocalDate since, LocalDate until) {
+        // REST 경로와 동일한 기간 경계 (시작일 00:00:00 ~ 종료일 23:59:59, UTC)
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+        String sinceParam = since.atStartOfDay().atOffset(ZoneOffset.UTC).format(formatter);
+        String untilParam = until.atTime(23, 59, 59).atOffset(ZoneOffset.UTC).format(formatter);
+
+        return fetchHistoryPage(accessToken, owner, repo, sinceParam, untilParam, null)
+                .expand(page -> page.nextCursor() != null
+                        ? fetchHistoryPage(accessToken, owner, repo, sinceParam, untilParam, page.nextCursor())
+                        : Mono.empty())
+                .flatMapIterable(HistoryPage::commits, 2);
+    }
+
+    private Mono<HistoryPage> fetchHistoryPage(String accessToken, String owner, String repo,
+                                               String since, String until, String cursor) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("owner", owner);
+        variables.put("name", repo);
+        variables.put("since", since);
+        variables.put("until", until);
+        variables.put("first", PAGE_SIZE);
+        variables.put("cursor", cursor);
+
+        return gitHubService.executeGraphQl(accessToken, HISTORY_QUERY, variables)
+                .map(data -> {
+                    JsonNode history = data.path("repository").path("defaultBranchRef").path("target").path("history");
+
+                    List<GitHubCommit> commits = new ArrayList<>();
+                    for (JsonNode node : history.path("nodes")) {
+                        commits.add(toCommit(node));
+                    }
+
+                    JsonNode pageInfo = history.path("pageInfo");
+                    String nextCursor = pageInfo.path("hasNextPage").asBoolean(false)
+                            ? pageInfo.path("endCursor").asText(null)
+                            : null;
+                    return new HistoryPage(commits, nextCursor);
+                });
+    }
+
+    /**
+     * GraphQL Commit 노드 → REST 응답과 같은 형태의 GitHubCommit 변환
+     */
+    private GitHubCommit toCommit(JsonNode node) {
+        GitHubCommit commit = new GitHubCommit();
+        commit.setSha(node.path("oid").asText(null));
+        commit.setHtmlUrl(node.path("url").asText(null));
+
+        GitHubCommit.CommitInfo info = new GitHubCommit.CommitInfo();
+        info.setMessage(node.path("message").asText(null));
+
+        JsonNode authorNode = node.path("author");
+        GitHubCommit.Author gitAuthor = new GitHubCommit.Author();
+        gitAuthor.setName(authorNode.path("name").asText(null));
+        gitAuthor.setEmail(authorNode.path("email").asText(null));
+        gitAuthor.setDate(authorNode.path("date").asText(null));
+        info.setAuthor(gitAuthor);
+
+        JsonNode committerNode = node.path("committer");
+        GitHubCommit.Committer committer = new GitHubCommit.Committer();
+        committer.setName(committerNode.path("name").asText(null));
+        committer.setEmail(committerNode.path("email").asText(null));
+        committer.setDate(committerNode.path("date").asText(null));
+        info.setCommitter(committer);
+        commit.setCommit(info);
+
+        // GitHub 계정과 연결된 작성자인 경우에만 login 정보 존재
+        JsonNode userNode = authorNode.path("user");
+        if (!userNode.isMissingNode() && !userNode.isNull()) {
+            GitHubCommit.Author user = new GitHubCommit.Author();
+            user.setLogin(userNode.path("login").asText(null));
+            user.setAvatarUrl(userNode.path("avatarUrl").asText(null));
+            commit.setAuthor(user);
+        }
+
+        GitHubCommit.CommitStats stats = new GitHubCommit.CommitStats();
+        int additions = node.path("additions").asInt(0);
+        int deletions = node.path("deletions").asInt(0);
+        stats.setAdditions(additions);
+        stats.setDeletions(deletions);
+        stats.setTotal(additions + deletions);
+        if (node.hasNonNull("changedFilesIfAvailable")) {
+            stats.setChangedFiles(node.get("changedFilesIfAvailable").asInt());
+        }
+        commit.setStats(stats);
+        return commit;
+    }
+
+    /**
+     * history 연결 한 페이지 분량
+     * @param commits 페이지 커밋
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private record HistoryPage(List<GitHubCommit> commits, String nextCursor) {
+    }
+}
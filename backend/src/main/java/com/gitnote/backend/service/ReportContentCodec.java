@@ -0,0 +1,185 @@
+package com.gitnote.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ReportContentCodec
+ * - UserReports 보고서 본문(Content) 저장 형식 변환
+ *   1) compress-threshold 미만: Content(S) 그대로 저장 (기존 형식)
+ *   2) 그 이상: gzip 압축해 ContentGz(B)에 저장
+ *   3) 압축 후에도 offload-threshold 이상: S3(prefix/PK/SK.md.gz)에 올리고 ContentRef(S3 키) + ContentPreview(앞부분)만 저장
+ * - 쓰기 용량(WCU)은 아이템 크기 1KB당 1이므로 압축/오프로드로 쓰기 비용과 400KB 아이템 제한을 함께 해결
+ * - decode는 세 형식 모두 읽으므로 기존 데이터와 섞여 있어도 동작
+ */
+@Slf4j
+@Component
+public class ReportContentCodec {
+
+    public static final String CONTENT = "Content";
+    public static final String CONTENT_GZ = "ContentGz";
+    public static final String CONTENT_REF = "ContentRef";
+    public static final String CONTENT_PREVIEW = "ContentPreview";
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String s3Prefix;
+    private final int compressThreshold;
+    private final int offloadThreshold;
+    private final int previewChars;
+
+    /**
+     * @param compressThreshold 이 크기(UTF-8 바이트) 이상이면 gzip 압축
+     * @param offloadThreshold 압축 결과가 이 크기(바이트) 이상이면 S3로 이동 (버킷 미설정 시 이동하지 않음)
+     * @param previewChars S3로 이동한 경우 인라인으로 남길 미리보기 길이(문자)
+     * @param s3Prefix S3 키 prefix (사용자 폴더와 겹치지 않도록 '_'로 시작)
+     */
+    public ReportContentCodec(S3Client s3Client,
+                              @Value("${spring.cloud.aws.s3.bucket:}") String bucketName,
+                              @Value("${report.content.s3-prefix:_reports/}") String s3Prefix,
+                              @Value("${report.content.compress-threshold:2048}") int compressThreshold,
+                              @Value("${report.content.offload-threshold:65536}") int offloadThreshold,
+                              @Value("${report.content.preview-chars:500}") int previewChars) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.s3Prefix = s3Prefix;
+        this.compressThreshold = compressThreshold;
+        this.offloadThreshold = offloadThreshold;
+        this.previewChars = previewChars;
+    }
+
+    /**
+     * 본문을 저장 형식으로 변환 (S3 이동이 필요하면 업로드까지 수행, 블로킹)
+     * @param pk 보고서 PK
+     * @param sk 보고서 SK
+     * @param content 보고서 본문
+     * @return 아이템에 추가할 본문 속성
+     */
+    public Map<String, AttributeValue> encode(String pk, String sk, String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < compressThreshold) {
+            return Map.of(CONTENT, AttributeValue.builder().s(content).build());
+        }
+
+        byte[] compressed = gzip(raw);
+        if (compressed.length < offloadThreshold || bucketName == null || bucketName.isBlank()) {
+            return Map.of(CONTENT_GZ, AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(compressed)).build());
+        }
+
+        String key = s3Prefix + pk + "/" + sk + ".md.gz";
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType("text/markdown; charset=UTF-8")
+                        .contentEncoding("gzip")
+                        .build(),
+                RequestBody.fromBytes(compressed));
+        log.info("[ReportContentCodec] 본문 S3 저장 - key: {}, 원본: {}B, 압축: {}B", key, raw.length, compressed.length);
+
+        return Map.of(
+                CONTENT_REF, AttributeValue.builder().s(key).build(),
+                CONTENT_PREVIEW, AttributeValue.builder().s(preview(content)).build()
+        );
+    }
+
+    /**
+     * 아이템에서 본문 복원 (S3에 있으면 내려받음, 블로킹)
+     * @param item UserReports 아이템
+     * @return 보고서 본문 (본문 속성이 없으면 null)
+     */
+    public String decode(Map<String, AttributeValue> item) {
+        AttributeValue plain = item.get(CONTENT);
+        if (plain != null) {
+            return plain.s();
+        }
+        AttributeValue compressed = item.get(CONTENT_GZ);
+        if (compressed != null) {
+            return gunzip(compressed.b().asInputStream());
+        }
+        AttributeValue ref = item.get(CONTENT_REF);
+        if (ref != null) {
+            return gunzip(s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(ref.s())
+                    .build()));
+        }
+        return null;
+    }
+
+    /**
+     * 본문 속성 여부 (응답 변환 시 내부 저장 속성 제외용)
+     */
+    public static boolean isContentAttribute(String name) {
+        return CONTENT.equals(name) || CONTENT_GZ.equals(name) || CONTENT_REF.equals(name) || CONTENT_PREVIEW.equals(name);
+    }
+
+    /**
+     * DynamoDB 아이템 크기 계산 (속성 이름 + 값의 바이트 합, 문자열은 UTF-8 기준)
+     */
+    public static int itemSize(Map<String, AttributeValue> item) {
+        int size = 0;
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            size += entry.getKey().getBytes(StandardCharsets.UTF_8).length;
+            AttributeValue value = entry.getValue();
+            if (value.s() != null) {
+                size += value.s().getBytes(StandardCharsets.UTF_8).length;
+            } else if (value.b() != null) {
+                size += value.b().asByteArrayUnsafe().length;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 아이템 1건 쓰기에 드는 쓰기 용량 단위 (1KB 단위 올림)
+     */
+    public static int writeCapacityUnits(Map<String, AttributeValue> item) {
+        return Math.max(1, (itemSize(item) + 1023) / 1024);
+    }
+
+    private String preview(String content) {
+        if (content.length() <= previewChars) {
+            return content;
+        }
+        int end = previewChars;
+        // 서로게이트 쌍 중간에서 자르지 않도록
+        if (Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+        }
+        return content.substring(0, end);
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String gunzip(InputStream compressed) {
+        try (InputStream in = new GZIPInputStream(compressed)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import com.gitnote.backend.repository.ReportJobQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * ReportJobService
+ * - 리포트 생성 작업 등록/조회
+ * - 멱등성 키가 있으면 jobId를 (userId, 멱등성 키)에서 파생하므로 같은 요청을 재시도해도 작업이 하나만 생김
+ * - 멱등성 키가 없으면 매번 새 작업 (같은 리포지토리/기간이라도 의도한 재생성을 막지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobService {
+
+    private final ReportJobQueue reportJobQueue;
+    private final ReportJobWorker reportJobWorker;
+
+    /**
+     * 작업 등록
+     * - 같은 키의 작업이 대기/실행 중이거나 완료되었으면 기존 작업을 그대로 반환
+     * - 실패로 끝난 작업이면 새 토큰으로 다시 대기열에 넣음
+     * @param request 리포트 생성 요청
+     * @param idempotencyKey 클라이언트 멱등성 키 (null이면 중복 제거 없이 새 작업)
+     * @return 등록된 작업
+     */
+    public ReportJob submit(AutoReportRequest request, String idempotencyKey) {
+        return submit(request, idempotencyKey, Instant.now());
+    }
+
+    /**
+     * 예약 작업 등록 (availableAt 이후에 워커가 실행)
+     * @param request 리포트 생성 요청
+     * @param idempotencyKey 멱등성 키 (null이면 중복 제거 없이 새 작업)
+     * @param availableAt 실행 가능 시각
+     * @return 등록된 작업
+     */
+    public ReportJob submit(AutoReportRequest request, String idempotencyKey, Instant availableAt) {
+        Instant now = Instant.now();
+        ReportJob job = ReportJob.builder()
+                .jobId(jobId(request, idempotencyKey))
+                .status(ReportJobStatus.QUEUED.name())
+                .pendingQueue(ReportJob.PENDING)
+                .userId(request.userId())
+                .repository(request.repository())
+                .since(request.since().toString())
+                .until(request.until().toString())
+                .reportStyle(request.reportStyle())
+                .accessToken(request.accessToken())
+                .attempts(0)
+                .availableAt(availableAt)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        ReportJob stored = reportJobQueue.enqueue(job);
+        if (ReportJobStatus.FAILED.name().equals(stored.getStatus())) {
+            stored = requeue(stored, request.accessToken());
+        }
+        if (ReportJobStatus.QUEUED.name().equals(stored.getStatus()) && !availableAt.isAfter(now)) {
+            reportJobWorker.wakeUp();
+        }
+
+        log.info("[ReportJobService] 작업 등록 - jobId: {}, userId: {}, repository: {}, 상태: {}",
+                stored.getJobId(), stored.getUserId(), stored.getRepository(), stored.getStatus());
+        return stored;
+    }
+
+    /**
+     * 작업 조회
+     * @param jobId 작업 ID
+     * @return 작업 (없으면 Optional.empty)
+     */
+    public Optional<ReportJob> getJob(String jobId) {
+        return reportJobQueue.findById(jobId);
+    }
+
+    // 실패한 작업 재등록 (동시에 재등록한 다른 요청이 이기면 그 결과를 반환)
+    private ReportJob requeue(ReportJob failed, String accessToken) {
+        Instant now = Instant.now();
+        ReportJob requeued = failed.toBuilder()
+                .status(ReportJobStatus.QUEUED.name())
+                .pendingQueue(ReportJob.PENDING)
+                .accessToken(accessToken)
+                .attempts(0)
+                .availableAt(now)
+                .error(null)
+                .completedAt(null)
+                .expiresAt(null)
+                .updatedAt(now)
+                .build();
+        if (reportJobQueue.update(requeued)) {
+            return reportJobQueue.findById(failed.getJobId()).orElse(requeued);
+        }
+        return reportJobQueue.findById(failed.getJobId()).orElse(failed);
+    }
+
+    /**
+     * 작업 ID 생성
+     * @return 멱등성 키가 있으면 sha256(userId, 멱등성 키) 앞 32자리, 없으면 무작위 ID
+     */
+    static String jobId(AutoReportRequest request, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return UUID.randomUUID().toString().replace("-", "");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.userId().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(("key:" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 32);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
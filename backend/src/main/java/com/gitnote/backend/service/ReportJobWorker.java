@@ -0,0 +1,288 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.cache.GitHubRateLimitScheduler;
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import com.gitnote.backend.repository.ReportJobQueue;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReportJobWorker
+ * - 작업 큐(ReportJobQueue)에서 작업을 임대해 리포트를 생성하는 워커 풀
+ * - 작업이 있으면 연속으로 처리하고, 없으면 poll-interval 동안 대기 (새 작업 등록 시 즉시 깨어남)
+ * - 실패하면 max-attempts까지 retry-backoff 후 재시도, 인스턴스가 죽어 임대가 만료된 작업은 다른 워커가 다시 가져감
+ * - 생성은 임대 만료 lease-margin 전에 취소하고 재시도로 돌려놓음 (임대가 만료된 뒤에도 생성이 이어지면 다른 워커가 같은 리포트를 또 만듦)
+ * - 다시 실행해도 결과가 같은 오류(잘못된 요청, GitHub 인증 만료/권한 없음/리포지토리 없음)는 재시도 없이 바로 실패 처리
+ * - 작업 큐 테이블이 없으면 오류를 한 번만 남기고 확인 간격을 max-idle-backoff까지 늘림
+ */
+@Slf4j
+@Component
+public class ReportJobWorker {
+
+    private final ReportJobQueue reportJobQueue;
+    private final ReportPipelineService reportPipelineService;
+
+    private final boolean enabled;
+    private final int workers;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Duration leaseMargin;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retention;
+    private final Duration maxIdleBackoff;
+
+    // 새 작업 등록 알림 (대기 중인 워커를 바로 깨움)
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    private ExecutorService executor;
+    private volatile boolean running;
+    // 작업 큐 테이블 없음 (워커 여러 개가 같은 오류를 반복해 남기지 않도록)
+    private final AtomicBoolean queueMissing = new AtomicBoolean();
+
+    /**
+     * @param enabled 워커 실행 여부 (API 전용 인스턴스는 false)
+     * @param workers 동시에 처리할 작업 수
+     * @param pollInterval 큐가 비었을 때 다시 확인하기까지 대기 시간
+     * @param lease 작업 1건 임대 시간 (리포트 생성 최대 소요시간보다 길게)
+     * @param leaseMargin 임대 만료 이 시간 전까지 끝나지 않은 생성은 취소 (lease보다 짧게)
+     * @param maxAttempts 최대 실행 시도 횟수
+     * @param retryBackoff 실패 후 재시도까지 대기 시간
+     * @param retention 완료된 작업 보관 기간 (DynamoDB TTL)
+     * @param maxIdleBackoff 작업 큐 테이블이 없을 때 확인 간격 상한
+     */
+    public ReportJobWorker(ReportJobQueue reportJobQueue,
+                           ReportPipelineService reportPipelineService,
+                           @Value("${auto-report.jobs.worker-enabled:true}") boolean enabled,
+                           @Value("${auto-report.jobs.workers:4}") int workers,
+                           @Value("${auto-report.jobs.poll-interval:PT2S}") Duration pollInterval,
+                           @Value("${auto-report.jobs.lease:PT10M}") Duration lease,
+                           @Value("${auto-report.jobs.lease-margin:PT1M}") Duration leaseMargin,
+                           @Value("${auto-report.jobs.max-attempts:3}") int maxAttempts,
+                           @Value("${auto-report.jobs.retry-backoff:PT30S}") Duration retryBackoff,
+                           @Value("${auto-report.jobs.retention:P7D}") Duration retention,
+                           @Value("${auto-report.jobs.max-idle-backoff:PT5M}") Duration maxIdleBackoff) {
+        if (leaseMargin.isNegative() || leaseMargin.compareTo(lease) >= 0) {
+            throw new IllegalArgumentException("auto-report.jobs.lease-margin must be shorter than auto-report.jobs.lease");
+        }
+        this.reportJobQueue = reportJobQueue;
+        this.reportPipelineService = reportPipelineService;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.leaseMargin = leaseMargin;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retention = retention;
+        this.maxIdleBackoff = maxIdleBackoff;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || workers <= 0) {
+            log.info("[ReportJobWorker] 워커 비활성화");
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "report-job-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::runLoop);
+        }
+        log.info("[ReportJobWorker] 워커 시작 - {}개, 임대 시간: {}, 최대 시도: {}", workers, lease, maxAttempts);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 새 작업이 등록되었음을 알림 (대기 중인 워커 하나를 깨움)
+     */
+    public void wakeUp() {
+        wakeUp.release();
+    }
+
+    private void runLoop() {
+        String workerId = Thread.currentThread().getName() + "@" + ProcessHandle.current().pid();
+        Duration idleBackoff = pollInterval;
+        while (running) {
+            try {
+                boolean processed = processNext(workerId);
+                if (queueMissing.compareAndSet(true, false)) {
+                    log.info("[ReportJobWorker] 작업 큐 테이블 확인 - 처리 재개");
+                }
+                idleBackoff = pollInterval;
+                if (processed) {
+                    continue;
+                }
+                wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                Duration wait = pollInterval;
+                if (e instanceof ResourceNotFoundException) {
+                    if (queueMissing.compareAndSet(false, true)) {
+                        log.error("[ReportJobWorker] 작업 큐 테이블이 없습니다 - 최대 {} 간격으로 다시 확인 (생성: infra/dynamodb/create-tables.sh), 오류: {}",
+                                maxIdleBackoff, e.getMessage());
+                    }
+                    idleBackoff = min(idleBackoff.multipliedBy(2), maxIdleBackoff);
+                    wait = idleBackoff;
+                } else {
+                    log.error("[ReportJobWorker] 작업 큐 처리 실패 - 오류: {}", e.getMessage());
+                }
+                try {
+                    Thread.sleep(wait.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 실행 가능한 작업 하나를 임대해 처리 (성공/재시도 대기/실패 반영)
+     * @return 처리한 작업이 있으면 true
+     */
+    boolean processNext(String workerId) {
+        Optional<ReportJob> job = reportJobQueue.claimNext(workerId, lease);
+        job.ifPresent(this::process);
+        return job.isPresent();
+    }
+
+    private void process(ReportJob job) {
+        log.info("[ReportJobWorker] 작업 시작 - jobId: {}, userId: {}, repository: {}, 시도: {}",
+                job.getJobId(), job.getUserId(), job.getRepository(), job.getAttempts());
+
+        try {
+            // 임대 만료(claimNext가 기록한 availableAt) - lease-margin까지만 기다린 뒤 취소 → 임대를 잃기 전에 재시도/실패로 반영
+            Instant leaseUntil = job.getAvailableAt() != null ? job.getAvailableAt() : Instant.now().plus(lease);
+            Duration remaining = Duration.between(Instant.now(), leaseUntil.minus(leaseMargin));
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new IllegalStateException("임대 만료가 임박해 리포트 생성을 시작하지 않음");
+            }
+            ReportPipelineService.GeneratedReport report = reportPipelineService.generateReport(toRequest(job))
+                    .timeout(remaining, Mono.error(() -> new IllegalStateException(
+                            "리포트 생성이 임대 만료 " + leaseMargin + " 전까지 끝나지 않아 취소")))
+                    .block();
+            finish(job.toBuilder()
+                    .status(ReportJobStatus.SUCCEEDED.name())
+                    .commitsCount(report != null ? report.commitsCount() : 0)
+                    .reportPk(report != null ? report.pk() : null)
+                    .reportSk(report != null ? report.sk() : null)
+                    .error(null)
+                    .build());
+        } catch (Exception e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (isRetryable(e) && job.getAttempts() != null && job.getAttempts() < maxAttempts) {
+                log.warn("[ReportJobWorker] 작업 실패, 재시도 예정 - jobId: {}, 시도: {}/{}, 오류: {}",
+                        job.getJobId(), job.getAttempts(), maxAttempts, error);
+                Instant now = Instant.now();
+                reportJobQueue.update(job.toBuilder()
+                        .status(ReportJobStatus.QUEUED.name())
+                        .workerId(null)
+                        .availableAt(now.plus(retryBackoff))
+                        .error(error)
+                        .updatedAt(now)
+                        .build());
+                return;
+            }
+            finish(job.toBuilder()
+                    .status(ReportJobStatus.FAILED.name())
+                    .error(error)
+                    .build());
+        }
+    }
+
+    // 완료 처리: 대기 인덱스에서 빼고 토큰 삭제, 보관 기간 후 TTL로 삭제
+    private void finish(ReportJob job) {
+        Instant now = Instant.now();
+        ReportJob finished = job.toBuilder()
+                .pendingQueue(null)
+                .accessToken(null)
+                .workerId(null)
+                .availableAt(null)
+                .updatedAt(now)
+                .completedAt(now)
+                .expiresAt(now.plus(retention).getEpochSecond())
+                .build();
+
+        if (reportJobQueue.update(finished)) {
+            log.info("[ReportJobWorker] 작업 종료 - jobId: {}, 상태: {}, 커밋 수: {}, 오류: {}",
+                    job.getJobId(), job.getStatus(), job.getCommitsCount(), job.getError());
+        } else {
+            log.warn("[ReportJobWorker] 임대 만료로 결과 반영 실패 - jobId: {}", job.getJobId());
+        }
+    }
+
+    /**
+     * 재시도 대상 오류 판별
+     * - 잘못된 요청(리포지토리/기간 형식), GitHub 400/401/404/422, 한도 초과가 아닌 403은 다시 실행해도 같은 결과이므로 제외
+     */
+    static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException
+                    || cause instanceof DateTimeException
+                    || cause instanceof IndexOutOfBoundsException) {
+                return false;
+            }
+            if (cause instanceof WebClientResponseException response) {
+                int status = response.getStatusCode().value();
+                if (status == 403) {
+                    return GitHubRateLimitScheduler.isRateLimitMessage(response.getResponseBodyAsString());
+                }
+                return status != 400 && status != 401 && status != 404 && status != 422;
+            }
+        }
+        return true;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static AutoReportRequest toRequest(ReportJob job) {
+        String[] repoParts = job.getRepository().split("/");
+        return new AutoReportRequest(
+                job.getAccessToken(),
+                repoParts[0],
+                repoParts[1],
+                LocalDate.parse(job.getSince()),
+                LocalDate.parse(job.getUntil()),
+                job.getReportStyle(),
+                job.getUserId()
+        );
+    }
+}
@@ -0,0 +1,201 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.dto.GitHubCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReportPipelineService
+ * - 자동 리포트 생성 흐름(커밋 조회 → 텍스트 변환 → Gemini 요약 → DynamoDB 저장 → 이메일 알림)을 논블로킹으로 연결
+ * - GitHub/Gemini는 WebClient, DynamoDB/SES는 비동기 클라이언트를 사용해 대기 중에 스레드를 점유하지 않음
+ *   (동시에 수백 건을 생성해도 스레드 수는 이벤트 루프 + 제한된 boundedElastic 수준으로 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportPipelineService {
+
+    // 자동 저장 보고서는 한국 시간대 기준
+    private static final ZoneId REPORT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final CommitHistorySource commitHistorySource;
+    private final CommitSummarizationService commitSummarizationService;
+    private final DDBReportService reportService;
+    private final UserPresetService userPresetService;
+    private final EmailService emailService;
+
+    // 일괄 생성 단계별 동시 처리 수 (GitHub: 커밋 조회, Gemini: 요약 + 저장)
+    @Value("${auto-report.batch.github-concurrency:8}")
+    private int batchGitHubConcurrency;
+
+    @Value("${auto-report.batch.gemini-concurrency:4}")
+    private int batchGeminiConcurrency;
+
+    /**
+     * 생성된 리포트
+     * @param commitsCount 보고서에 포함된 커밋 수 (0이면 커밋이 없어 보고서를 만들지 않음)
+     * @param pk 저장된 보고서 PK (리포지토리, 보고서가 없으면 null)
+     * @param sk 저장된 보고서 SK (생성 시각, 보고서가 없으면 null)
+     */
+    public record GeneratedReport(int commitsCount, String pk, String sk) {
+
+        static GeneratedReport empty() {
+            return new GeneratedReport(0, null, null);
+        }
+    }
+
+    /**
+     * 리포트 생성
+     * @param request 리포트 생성 요청
+     * @return 커밋 수와 저장된 보고서 키 (getReportByPKAndSK로 조회)
+     */
+    public Mono<GeneratedReport> generateReport(AutoReportRequest request) {
+        long startTime = System.currentTimeMillis();
+
+        return fetchCommits(request)
+                .flatMap(commits -> {
+                    if (commits.isEmpty()) {
+                        log.info("[ReportPipelineService] 커밋 없음 - userId: {}, repository: {}", request.userId(), request.repository());
+                        return Mono.just(GeneratedReport.empty());
+                    }
+                    return summarizeAndSave(request, commits)
+                            .map(sk -> new GeneratedReport(commits.size(), request.repository(), sk));
+                })
+                .doOnSuccess(report -> log.info("[ReportPipelineService] 리포트 생성 완료 - userId: {}, repository: {}, 커밋 수: {}, 소요시간: {}ms",
+                        request.userId(), request.repository(), report.commitsCount(), System.currentTimeMillis() - startTime))
+                .doOnError(e -> log.error("[ReportPipelineService] 리포트 생성 실패 - userId: {}, repository: {}, 오류: {}",
+                        request.userId(), request.repository(), e.getMessage()));
+    }
+
+    /**
+     * 여러 리포트 병렬 생성
+     * - GitHub 단계(커밋 조회)와 Gemini 단계(요약 + 저장 + 알림)의 동시 처리 수를 따로 제한
+     * - 항목별 결과는 완료되는 순서대로 내보냄 (요청 순서와 다를 수 있으므로 index 포함)
+     * - 항목 하나의 실패는 해당 항목 결과(success=false)로만 기록하고 나머지는 계속 진행
+     * @param reports 요청 본문 목록 (AutoReportRequest.from 형식)
+     * @return 항목별 결과 스트림 (index, repository, userId, success, commitsCount | error)
+     */
+    public Flux<Map<String, Object>> generateBatch(List<Map<String, String>> reports) {
+        log.info("[ReportPipelineService] 일괄 생성 시작 - {}건, GitHub 동시성: {}, Gemini 동시성: {}",
+                reports.size(), batchGitHubConcurrency, batchGeminiConcurrency);
+
+        return Flux.range(0, reports.size())
+                .flatMap(index -> fetchStage(index, reports.get(index)), batchGitHubConcurrency)
+                .flatMap(this::summarizeStage, batchGeminiConcurrency);
+    }
+
+    // 1단계: 요청 검증 + 커밋 조회 (완료된 항목이면 result가 채워짐)
+    private Mono<BatchItem> fetchStage(int index, Map<String, String> body) {
+        AutoReportRequest request;
+        try {
+            request = AutoReportRequest.from(body);
+        } catch (Exception e) {
+            return Mono.just(BatchItem.done(failure(index, body.get("repository"), body.get("userId"), e.getMessage())));
+        }
+
+        return fetchCommits(request)
+                .map(commits -> commits.isEmpty()
+                        ? BatchItem.done(failure(index, request.repository(), request.userId(), "No commits found for the specified period"))
+                        : new BatchItem(index, request, commits, null))
+                .onErrorResume(e -> Mono.just(BatchItem.done(failure(index, request.repository(), request.userId(), e.getMessage()))));
+    }
+
+    // 2단계: Gemini 요약 → 저장 → 알림
+    private Mono<Map<String, Object>> summarizeStage(BatchItem item) {
+        if (item.result() != null) {
+            return Mono.just(item.result());
+        }
+        AutoReportRequest request = item.request();
+        return summarizeAndSave(request, item.commits())
+                .then(Mono.fromSupplier(() -> {
+                    Map<String, Object> result = result(item.index(), request.repository(), request.userId(), true);
+                    result.put("commitsCount", item.commits().size());
+                    return result;
+                }))
+                .onErrorResume(e -> Mono.just(failure(item.index(), request.repository(), request.userId(), e.getMessage())));
+    }
+
+    // 1. GitHub에서 커밋 + 변경 통계 조회 (REST/GraphQL 중 설정된 방식)
+    private Mono<List<GitHubCommit>> fetchCommits(AutoReportRequest request) {
+        return commitHistorySource.fetchCommitsWithStats(
+                        request.accessToken(), request.owner(), request.repo(), request.since(), request.until())
+                .collectList();
+    }
+
+    // 저장한 보고서의 SK 반환
+    private Mono<String> summarizeAndSave(AutoReportRequest request, List<GitHubCommit> commits) {
+        String repository = request.repository();
+        String userId = request.userId();
+
+        // 2. 커밋 데이터를 텍스트로 변환
+        String commitsText = CommitTextExporter.exportToString(commits, repository, request.since(), request.until());
+
+        // 3. Gemini API로 리포트 생성 → 4. DynamoDB에 저장 → 5. 이메일 알림 (사용자 설정에 따라)
+        return commitSummarizationService.summarizeAsync(commitsText, request.reportStyle())
+                .flatMap(reportContent -> reportService.saveUserReportAsync(userId, repository, reportContent, REPORT_ZONE))
+                .doOnSuccess(sk -> log.info("[ReportPipelineService] 보고서 저장 완료 - userId: {}, repository: {}, SK: {}", userId, repository, sk))
+                .flatMap(sk -> sendEmailNotificationIfEnabled(userId, repository, request.since().toString(), request.until().toString())
+                        .thenReturn(sk));
+    }
+
+    private static Map<String, Object> result(int index, String repository, String userId, boolean success) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("index", index);
+        result.put("repository", repository);
+        result.put("userId", userId);
+        result.put("success", success);
+        return result;
+    }
+
+    private static Map<String, Object> failure(int index, String repository, String userId, String error) {
+        Map<String, Object> result = result(index, repository, userId, false);
+        result.put("error", error != null ? error : "Unknown error");
+        return result;
+    }
+
+    /**
+     * 사용자 설정에 따라 이메일 알림 전송
+     * - UserPreset에서 emailNotificationEnabled가 true이고 이메일 주소가 있는 경우에만 전송
+     * - 이메일 전송 실패는 로그만 남기고 전체 프로세스에는 영향 없음
+     */
+    private Mono<Void> sendEmailNotificationIfEnabled(String userId, String repository, String since, String until) {
+        return userPresetService.getPresetAsync(userId)
+                .filter(preset -> Boolean.TRUE.equals(preset.getEmailNotificationEnabled())
+                        && preset.getEmail() != null && !preset.getEmail().isEmpty())
+                .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.info("[ReportPipelineService] 이메일 전송 조건 미충족(설정 없음/비활성화/주소 없음) - userId: {}", userId)))
+                .flatMap(preset -> emailService.sendReportCompletionEmailAsync(
+                        preset.getEmail(),
+                        userId,
+                        repository,
+                        String.format("%s ~ %s", since, until),
+                        null // TODO: 실제 보고서 URL이 있다면 설정
+                ))
+                .onErrorResume(e -> {
+                    log.error("[ReportPipelineService] 이메일 알림 전송 실패 - userId: {}, repository: {}, 오류: {} ({})",
+                            userId, repository, e.getMessage(), e.getClass().getName());
+                    log.error("  - 확인사항: UserPreset 테이블/AWS 자격 증명/리전, SES 발신자(샌드박스면 수신자) 인증 여부");
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 일괄 생성 중간 상태 (GitHub 단계 → Gemini 단계)
+     * @param result 이미 결과가 정해진 항목(검증 실패, 커밋 없음, 조회 실패)이면 결과, 아니면 null
+     */
+    private record BatchItem(int index, AutoReportRequest request, List<GitHubCommit> commits, Map<String, Object> result) {
+        static BatchItem done(Map<String, Object> result) {
+            return new BatchItem((int) result.get("index"), null, null, result);
+        }
+    }
+}
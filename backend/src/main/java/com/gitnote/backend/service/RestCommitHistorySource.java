@@ -0,0 +1,46 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+/**
+ * RestCommitHistorySource
+ * - REST API 기반 커밋 이력 조회 (기본값)
+ * - 기본은 커밋 목록 페이지만 조회 (요청 수: 페이지 수, 통계 없음 → 기존 리포트와 같은 내용)
+ * - github.commit-history.rest-details=true이면 커밋별 상세도 조회해 통계/변경 파일을 채움 (요청 수: 페이지 수 + N, SHA 캐시 적용)
+ * - 통계가 필요하면 요청 수가 적은 graphql 모드를 권장
+ */
+@Service
+@ConditionalOnProperty(name = "github.commit-history.mode", havingValue = "rest", matchIfMissing = true)
+public class RestCommitHistorySource implements CommitHistorySource {
+
+    private final GitHubService gitHubService;
+    private final boolean includeDetails;
+
+    public RestCommitHistorySource(GitHubService gitHubService,
+                                   @Value("${github.commit-history.rest-details:false}") boolean includeDetails) {
+        this.gitHubService = gitHubService;
+        this.includeDetails = includeDetails;
+    }
+
+    @Override
+    public Flux<GitHubCommit> fetchCommitsWithStats(String accessToken, String owner, String repo,
+                                                    LocalDate since, LocalDate until) {
+        Flux<GitHubCommit> commits = gitHubService.streamCommitsByDateRange(accessToken, owner, repo, since, until);
+        if (!includeDetails) {
+            return commits;
+        }
+        return gitHubService.enrichWithDetails(accessToken, owner, repo, commits)
+                .doOnNext(commit -> {
+                    // GraphQL 결과와 동일하게 변경 파일 수를 통계에 채움
+                    if (commit.getStats() != null && commit.getFiles() != null) {
+                        commit.getStats().setChangedFiles(commit.getFiles().size());
+                    }
+                });
+    }
+}
@@ -0,0 +1,273 @@
+package com.gitnote.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * S3MultipartOutputStream
+ * - S3 객체에 바로 쓰는 OutputStream (파트 하나 크기만큼만 버퍼링)
+ * - 닫을 때까지 part-size를 넘지 않으면 PutObject 1회로 업로드
+ * - 넘으면 멀티파트 업로드로 전환해 채워진 파트를 executor에서 병렬로 올리고, close()에서 완료
+ * - 동시에 올리는 파트는 maxInFlight개로 제한 → 업로드 1건의 메모리는 (maxInFlight + 1) × part-size 이내
+ * - 쓰기 도중 실패하면 close() 대신 abort()를 호출해야 잘린 객체가 저장되지 않음
+ */
+@Slf4j
+class S3MultipartOutputStream extends OutputStream {
+
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    // 작은 로그는 작은 버퍼로 시작해 part-size까지 늘림
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final S3Client s3Client;
+    private final Executor executor;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final String contentEncoding;
+    private final int partSize;
+    private final Semaphore inFlight;
+
+    private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    private byte[] buffer;
+    private int count;
+    private long totalBytes;
+    private String uploadId;
+    private boolean closed;
+
+    /**
+     * @param executor 파트 업로드 실행
+     * @param contentEncoding Content-Encoding (없으면 null)
+     * @param partSize 파트 크기 (5MB 이상)
+     * @param maxInFlight 업로드 1건에서 동시에 올리는 파트 수
+     */
+    S3MultipartOutputStream(S3Client s3Client, Executor executor, String bucket, String key,
+                            String contentType, String contentEncoding, int partSize, int maxInFlight) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("part size must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        this.s3Client = s3Client;
+        this.executor = executor;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+        this.partSize = partSize;
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.buffer = new byte[Math.min(partSize, INITIAL_BUFFER_SIZE)];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (count == buffer.length) {
+            makeRoom();
+        }
+        buffer[count++] = (byte) b;
+        totalBytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        while (len > 0) {
+            if (count == buffer.length) {
+                makeRoom();
+            }
+            int n = Math.min(len, buffer.length - count);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            totalBytes += n;
+        }
+    }
+
+    /**
+     * 남은 데이터를 올리고 업로드 완료 (part-size 이하이면 PutObject, 아니면 CompleteMultipartUpload)
+     * - 실패하면 멀티파트 업로드를 중단하고 예외를 던짐
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (uploadId == null) {
+                putObject();
+                return;
+            }
+            if (count > 0) {
+                uploadPart();
+            }
+            List<CompletedPart> completed = new ArrayList<>(parts.size());
+            for (CompletableFuture<CompletedPart> part : parts) {
+                completed.add(await(part));
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .build());
+            log.info("[S3MultipartOutputStream] 멀티파트 업로드 완료 - key: {}, 크기: {}B, 파트: {}개",
+                    key, totalBytes, completed.size());
+        } catch (IOException | RuntimeException e) {
+            abortUpload();
+            throw e;
+        } finally {
+            buffer = null;
+        }
+    }
+
+    /**
+     * 업로드 취소 (쓰기 도중 실패 시, 이미 올린 파트도 삭제)
+     * - 이미 완료/취소된 경우 아무것도 하지 않음
+     */
+    void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer = null;
+        abortUpload();
+    }
+
+    // 버퍼가 가득 참: part-size까지는 버퍼를 늘리고, 이후에는 파트로 올림
+    private void makeRoom() throws IOException {
+        if (buffer.length < partSize) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(partSize, (long) buffer.length * 2));
+            return;
+        }
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentEncoding(contentEncoding)
+                    .build()).uploadId();
+            log.info("[S3MultipartOutputStream] 멀티파트 업로드 시작 - key: {}, 파트 크기: {}B", key, partSize);
+        }
+        uploadPart();
+        buffer = new byte[partSize];
+    }
+
+    // 현재 버퍼를 다음 파트로 비동기 업로드 (동시 업로드 수가 가득 차면 자리가 날 때까지 대기)
+    private void uploadPart() throws IOException {
+        failFast();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a part upload slot");
+        }
+        int partNumber = parts.size() + 1;
+        byte[] data = buffer;
+        int length = count;
+        count = 0;
+
+        CompletableFuture<CompletedPart> part;
+        try {
+            part = CompletableFuture.supplyAsync(() -> {
+                try {
+                    String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                    .bucket(bucket)
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber)
+                                    .contentLength((long) length)
+                                    .build(),
+                            RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length)).eTag();
+                    return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+                } finally {
+                    inFlight.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        parts.add(part);
+    }
+
+    private void putObject() {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentEncoding(contentEncoding)
+                        .contentLength((long) count)
+                        .build(),
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, count), count));
+    }
+
+    // 앞서 실패한 파트가 있으면 나머지를 올리지 않고 바로 실패
+    private void failFast() throws IOException {
+        for (CompletableFuture<CompletedPart> part : parts) {
+            if (part.isCompletedExceptionally()) {
+                await(part);
+            }
+        }
+    }
+
+    // 진행 중인 파트가 끝난 뒤 중단해야 S3에 파트가 남지 않음
+    private void abortUpload() {
+        if (uploadId == null) {
+            return;
+        }
+        for (CompletableFuture<CompletedPart> part : parts) {
+            try {
+                part.join();
+            } catch (RuntimeException ignored) {
+                // 실패한 파트는 중단 요청으로 함께 정리됨
+            }
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("[S3MultipartOutputStream] 멀티파트 업로드 중단 - key: {}", key);
+        } catch (RuntimeException e) {
+            log.error("[S3MultipartOutputStream] 멀티파트 업로드 중단 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    private static CompletedPart await(CompletableFuture<CompletedPart> part) throws IOException {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            throw new IOException("S3 part upload failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.gitnote.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+/**
+ * S3ReportService
+ * - S3에 저장된 커밋 로그로 보고서 생성
+ * - range-size 이하 로그: 한 번에 읽어 기존과 같이 요약
+ * - 그보다 큰 로그: 줄 경계에 맞춘 Range GET으로 나눠 병렬로 읽고, 읽은 구간을 바로 청크로 나눠 map-reduce 요약에 흘려보냄
+ *   → 요청당 메모리는 (range-concurrency + 1) × range-size 수준으로 객체 크기와 무관
+ * - gzip으로 저장된 로그: 범위를 나눠 읽을 수 없으므로 한 번의 GET을 풀면서 range-size 블록 단위로 순서대로 흘려보냄
+ */
+@Slf4j
+@Service
+public class S3ReportService {
+
+    private static final String GZIP_ENCODING = "gzip";
+
+    private final S3Service s3Service;
+    private final CommitSummarizationService commitSummarizationService;
+
+    private final int rangeSize;
+    private final int rangeConcurrency;
+    private final int headerBytes;
+
+    /**
+     * @param rangeSize Range GET 한 번에 읽을 크기 (bytes)
+     * @param rangeConcurrency 동시에 읽을 범위 수
+     * @param headerBytes 머리말(리포지토리/기간/커밋 수)을 찾을 앞부분 크기 (bytes)
+     */
+    public S3ReportService(S3Service s3Service,
+                           CommitSummarizationService commitSummarizationService,
+                           @Value("${s3.report.range-size:1048576}") int rangeSize,
+                           @Value("${s3.report.range-concurrency:4}") int rangeConcurrency,
+                           @Value("${s3.report.header-bytes:16384}") int headerBytes) {
+        if (rangeSize <= 0 || headerBytes <= 0) {
+            throw new IllegalArgumentException("s3.report.range-size and s3.report.header-bytes must be positive");
+        }
+        this.s3Service = s3Service;
+        this.commitSummarizationService = commitSummarizationService;
+        this.rangeSize = rangeSize;
+        this.rangeConcurrency = Math.max(1, rangeConcurrency);
+        this.headerBytes = headerBytes;
+    }
+
+    /**
+     * S3 커밋 로그 요약
+     * @param key S3 객체 키
+     * @param style 보고서 스타일
+     * @return 최종 보고서
+     */
+    public Mono<String> summarize(String key, String style) {
+        return blocking(() -> s3Service.headObject(key))
+                .flatMap(head -> {
+                    if (GZIP_ENCODING.equalsIgnoreCase(head.contentEncoding())) {
+                        return summarizeStream(key, style);
+                    }
+                    long size = head.contentLength();
+                    if (size == 0) {
+                        return commitSummarizationService.summarizeAsync("", style);
+                    }
+                    if (size <= rangeSize) {
+                        return blocking(() -> s3Service.readLines(key, 0, size))
+                                .flatMap(content -> commitSummarizationService.summarizeAsync(content, style));
+                    }
+                    return summarizeRanges(key, size, style);
+                });
+    }
+
+    // 머리말을 먼저 읽은 뒤 본문을 range-size 단위로 나눠 순서대로 요약 파이프라인에 전달
+    private Mono<String> summarizeRanges(String key, long size, String style) {
+        return blocking(() -> s3Service.readLines(key, 0, Math.min(size, headerBytes)))
+                .flatMap(prefix -> {
+                    String headerText = prefix.substring(0, commitSummarizationService.headerLength(prefix));
+                    String header = headerText.strip();
+                    long bodyStart = headerText.getBytes(StandardCharsets.UTF_8).length;
+                    int budget = commitSummarizationService.chunkBudget(header);
+                    int ranges = (int) ((size - bodyStart + rangeSize - 1) / rangeSize);
+                    log.info("[S3ReportService] 범위 분할 읽기 - key: {}, 크기: {}B, 범위: {}개 × {}B, 동시성: {}",
+                            key, size, ranges, rangeSize, rangeConcurrency);
+
+                    // prefetch 1: 요약이 밀리면 S3 읽기도 멈춤 (읽어 둔 범위가 쌓이지 않도록)
+                    Flux<String> chunks = Flux.range(0, ranges)
+                            .flatMapSequential(i -> blocking(() -> s3Service.readLines(key,
+                                    bodyStart + (long) i * rangeSize,
+                                    Math.min(size, bodyStart + (long) (i + 1) * rangeSize))), rangeConcurrency, 1)
+                            .concatMapIterable(range -> commitSummarizationService.chunk(range, budget), 1);
+                    return commitSummarizationService.summarizeChunks(header, chunks, style);
+                });
+    }
+
+    // 압축을 풀며 순서대로 읽은 블록 중 첫 블록에서 머리말을 찾고, 첫 블록이 전부이면 한 번에 요약
+    private Mono<String> summarizeStream(String key, String style) {
+        return s3Service.streamLines(key, rangeSize)
+                .switchOnFirst((first, blocks) -> {
+                    if (!first.hasValue()) {
+                        return blocks.thenMany(commitSummarizationService.summarizeAsync("", style));
+                    }
+                    String prefix = first.get();
+                    if (prefix.getBytes(StandardCharsets.UTF_8).length < rangeSize) {
+                        return commitSummarizationService.summarizeAsync(prefix, style).flux();
+                    }
+                    String headerText = prefix.substring(0, commitSummarizationService.headerLength(prefix));
+                    String header = headerText.strip();
+                    int budget = commitSummarizationService.chunkBudget(header);
+                    log.info("[S3ReportService] gzip 로그 순차 읽기 - key: {}, 블록 크기: {}B", key, rangeSize);
+
+                    Flux<String> chunks = blocks.skip(1)
+                            .startWith(prefix.substring(headerText.length()))
+                            .concatMapIterable(block -> commitSummarizationService.chunk(block, budget), 1);
+                    return commitSummarizationService.summarizeChunks(header, chunks, style).flux();
+                })
+                .next();
+    }
+
+    // S3 동기 클라이언트 호출은 boundedElastic에서 실행
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -1,16 +1,19 @@
 package com.gitnote.backend.service;
 
-import io.awspring.cloud.s3.ObjectMetadata;
-import io.awspring.cloud.s3.S3Template;
+import com.gitnote.backend.cache.PresignedUrlCache;
+import com.gitnote.backend.cache.S3ListingCache;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
-import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 // [추가된 import] Presigned URL 관련
@@ -19,42 +22,148 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
-import java.io.ByteArrayInputStream;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Template s3Template;
     private final S3Client s3Client;
     private final S3Presigner s3Presigner; // [핵심] Config에 있는 프리사이너 주입
+    private final S3ListingCache s3ListingCache;
+    private final PresignedUrlCache presignedUrlCache;
+
+    // 업로드 파일명 고유 접미사: _시분초밀리초-임의값 (같은 날 파일끼리 시간순 정렬)
+    private static final DateTimeFormatter UNIQUE_SUFFIX_TIME = DateTimeFormatter.ofPattern("HHmmssSSS")
+            .withZone(ZoneId.systemDefault());
+    // 고유 접미사(_093012345-1a2b3c4d) 또는 이전 방식 번호((1), (2), ...)
+    private static final Pattern UNIQUE_SUFFIX = Pattern.compile("(_\\d{9}-[0-9a-f]{8}|\\(\\d+\\))$");
+
+    // 목록 정렬: 최신순, 같은 시각이면 키 순 (커서 위치 탐색에도 사용)
+    private static final Comparator<S3Object> NEWEST_FIRST = Comparator.comparing(S3Object::lastModified)
+            .reversed()
+            .thenComparing(S3Object::key);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char CURSOR_SEPARATOR = '\n';
+
+    private static final String LOG_CONTENT_TYPE = "text/plain; charset=UTF-8";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    // 범위 읽기에서 end를 넘는 마지막 줄을 위해 더 요청하는 여유분 (줄이 더 길면 이어서 요청)
+    static final int LINE_SLACK = 16 * 1024;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    // 멀티파트 파트 업로드 스레드 (업로드 1건의 동시 파트 수는 s3.upload.part-concurrency로 제한)
+    private static final AtomicInteger PART_UPLOAD_THREADS = new AtomicInteger();
+    private final ExecutorService partUploadExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "s3-part-upload-" + PART_UPLOAD_THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
-    // 1. 파일 업로드 (기존 유지)
+    // 이 크기(bytes)를 넘는 로그는 멀티파트 업로드 (파트 크기, 최소 5MB)
+    @Value("${s3.upload.part-size:8388608}")
+    private int uploadPartSize;
+
+    // 업로드 1건에서 동시에 올리는 파트 수
+    @Value("${s3.upload.part-concurrency:4}")
+    private int uploadPartConcurrency;
+
+    // gzip Content-Encoding으로 저장 (전송/저장 크기 절감, 브라우저는 Presigned URL 열람 시 자동으로 풀어 줌)
+    @Value("${s3.upload.gzip:false}")
+    private boolean uploadGzip;
+
+    /**
+     * 커밋 로그 본문 작성 (업로드 스트림에 바로 기록)
+     */
+    @FunctionalInterface
+    public interface LogWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    // 1. 파일 업로드
+    // - 파일명에 시간순 고유 접미사를 붙여 존재 여부 확인(HEAD) 없이 바로 업로드 (기존 파일 수와 무관하게 요청 1회)
     public String uploadLog(String username, String baseFileName, String content) {
-        String uniqueFileName = getUniqueFileName(username, baseFileName);
-        String fullKey = username + "/" + uniqueFileName;
+        return uploadLog(username, baseFileName, writer -> writer.write(content));
+    }
 
-        InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
-        ObjectMetadata metadata = ObjectMetadata.builder()
-                .contentType("text/plain; charset=UTF-8")
-                .build();
+    /**
+     * 커밋 로그 스트리밍 업로드
+     * - body가 쓰는 내용을 UTF-8(+ 선택적으로 gzip)으로 인코딩해 바로 S3 업로드 스트림에 흘려보냄 (전체 byte[]를 만들지 않음)
+     * - part-size 이하이면 PutObject 1회, 넘으면 멀티파트 업로드로 파트를 병렬 전송
+     *   → 업로드 1건의 메모리는 (part-concurrency + 1) × part-size 이내로 로그 크기와 무관
+     * - body 실행 중 실패하면 멀티파트 업로드를 중단해 잘린 파일이 남지 않음
+     * @param username 사용자명 (S3 prefix)
+     * @param baseFileName 기본 파일명 (고유 접미사가 붙음)
+     * @param body 로그 본문 작성 (CommitTextExporter.export 등)
+     * @return 업로드된 S3 키
+     */
+    public String uploadLog(String username, String baseFileName, LogWriter body) {
+        String uniqueFileName = uniqueFileName(baseFileName, Instant.now());
+        String fullKey = username + "/" + uniqueFileName;
 
-        s3Template.upload(bucketName, fullKey, inputStream, metadata);
+        S3MultipartOutputStream upload = new S3MultipartOutputStream(s3Client, partUploadExecutor, bucketName, fullKey,
+                LOG_CONTENT_TYPE, uploadGzip ? GZIP_ENCODING : null, uploadPartSize, uploadPartConcurrency);
+        try {
+            OutputStream out = uploadGzip ? new GZIPOutputStream(upload, STREAM_BUFFER_SIZE) : upload;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            body.writeTo(writer);
+            writer.close(); // gzip trailer 기록 후 업로드 완료
+        } catch (IOException e) {
+            upload.abort();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            upload.abort();
+            throw e;
+        }
+        s3ListingCache.invalidate(username);
 
         // [팁] DB에는 긴 URL 대신 'fullKey'(경로)만 저장하는 게 좋습니다.
         // 하지만 기존 코드 호환성을 위해 일단 둡니다.
         return fullKey;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        partUploadExecutor.shutdown();
+    }
+
     // 2. [NEW] 임시 열람 URL 생성 (이게 없어서 안 보이는 겁니다!)
     public String getPresignedUrl(String keyName) {
         if (keyName == null || keyName.isEmpty()) return "";
@@ -68,15 +177,21 @@ public class S3Service {
             }
         }
 
+        // 같은 키는 만료 직전까지 같은 URL 재사용
+        String url = presignedUrlCache.get(keyName, this::presign);
+        return url != null ? url : "";
+    }
+
+    private String presign(String keyName) {
         try {
-            // S3에게 "이 파일 10분만 보여줘" 요청 생성
+            // S3에게 "이 파일 잠시만 보여줘" 요청 생성
             GetObjectRequest objectRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
                     .key(keyName) // 파일 경로 (예: MinJ-i/file.txt)
                     .build();
 
             GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(10)) // 10분 유효
+                    .signatureDuration(presignedUrlCache.signatureDuration()) // 기본 10분 유효
                     .getObjectRequest(objectRequest)
                     .build();
 
@@ -86,54 +201,292 @@ public class S3Service {
             return presignedRequest.url().toString();
         } catch (Exception e) {
             log.error("[S3Service] Presigned URL 생성 실패: {}", e.getMessage());
-            return "";
+            return null; // 실패는 캐시하지 않음
         }
     }
 
-    // ... (나머지 getUserFileList, getUniqueFileName 등 기존 코드 유지) ...
     public List<String> getUserFileList(String username) {
-        ListObjectsV2Request request = ListObjectsV2Request.builder()
-                .bucket(bucketName)
-                .prefix(username + "/")
-                .build();
-        ListObjectsV2Response result = s3Client.listObjectsV2(request);
-        return result.contents().stream().map(S3Object::key).collect(Collectors.toList());
+        return getUserFileSummaries(username).stream().map(S3Object::key).collect(Collectors.toList());
     }
 
-    // [수정/추가] ★정보(날짜, 크기 등)를 통째로 주는 메서드★
+    // ★정보(날짜, 크기 등)를 통째로 주는 메서드★ (최신순, 폴더 항목 제외)
+    // - continuation token을 따라 전체 페이지를 읽으므로 1,000개를 넘어도 빠짐없이 조회, 결과는 S3ListingCache에 보관
     public List<S3Object> getUserFileSummaries(String username) {
-        String prefix = username + "/";
+        return s3ListingCache.get(username, this::listAllUserFiles);
+    }
 
+    /**
+     * 커밋 로그 목록 한 페이지 (최신순, 커서 페이지네이션)
+     * - 전체 목록은 캐시에서 가져오고 커서 위치는 이진 탐색으로 찾으므로 캐시 적중 시 페이지 비용은 O(log n + limit)
+     * - 캐시 미스(첫 조회, TTL 만료, 업로드로 인한 무효화)마다 prefix 전체를 다시 나열하고 정렬함
+     *   → ListObjectsV2 ceil(n / 1000)회 + O(n log n), 파일 수가 많고 업로드가 잦으면 이 비용이 페이지 비용을 좌우
+     * - Presigned URL은 이 페이지 파일만 생성 (캐시 재사용)
+     * @param username 사용자명
+     * @param limit 페이지 크기 (1 ~ 100)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @return files(파일 정보 목록), count(이 페이지 파일 수), total(전체 파일 수), nextCursor(마지막 페이지면 null)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public Map<String, Object> getUserFilePage(String username, int limit, String cursor) {
+        List<S3Object> summaries = getUserFileSummaries(username);
+        int from = cursor != null && !cursor.isBlank() ? positionAfter(summaries, decodeCursor(cursor)) : 0;
+        int to = Math.min(summaries.size(), from + Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+
+        List<Map<String, Object>> files = new ArrayList<>(to - from);
+        for (S3Object summary : summaries.subList(from, to)) {
+            String key = summary.key();
+            String fileName = key.contains("/") ? key.substring(key.lastIndexOf("/") + 1) : key;
+            files.add(Map.of(
+                    "fileName", fileName,
+                    // 업로드 고유 접미사를 뗀 이름 (이전 방식 name(n).txt 포함, 같은 리포지토리/날짜 파일 묶음용)
+                    "baseFileName", baseFileName(fileName),
+                    "url", getPresignedUrl(key),
+                    "key", key,
+                    "size", summary.size(),
+                    // Instant 타입을 Date 타입으로 변환 (프론트엔드 호환용)
+                    "lastModified", Date.from(summary.lastModified())
+            ));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("files", files);
+        result.put("count", files.size());
+        result.put("total", summaries.size());
+        result.put("nextCursor", to < summaries.size() ? encodeCursor(summaries.get(to - 1)) : null);
+        return result;
+    }
+
+    private List<S3Object> listAllUserFiles(String username) {
         ListObjectsV2Request request = ListObjectsV2Request.builder()
                 .bucket(bucketName)
-                .prefix(prefix)
+                .prefix(username + "/")
                 .build();
+        // Paginator가 NextContinuationToken으로 다음 페이지를 이어서 요청
+        return s3Client.listObjectsV2Paginator(request).contents().stream()
+                .filter(summary -> !summary.key().endsWith("/"))
+                .sorted(NEWEST_FIRST)
+                .toList();
+    }
 
-        // s3Client를 사용해야 합니다! (amazonS3 아님)
-        ListObjectsV2Response result = s3Client.listObjectsV2(request);
+    // 커서 다음 위치 (커서 파일이 그 사이 삭제됐어도 정렬 위치 기준으로 이어감)
+    private static int positionAfter(List<S3Object> summaries, S3Object cursor) {
+        int index = Collections.binarySearch(summaries, cursor, NEWEST_FIRST);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
 
-        // v2에서는 getObjectSummaries()가 아니라 contents()입니다.
-        return result.contents();
+    // 마지막 파일 → 불투명 커서 (lastModified + key)
+    private static String encodeCursor(S3Object last) {
+        String raw = last.lastModified().toString() + CURSOR_SEPARATOR + last.key();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
-    private String getUniqueFileName(String username, String originalFileName) {
-        String fileName = originalFileName;
-        String nameWithoutExt = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf(".")) : fileName;
-        String ext = fileName.contains(".") ? fileName.substring(fileName.lastIndexOf(".")) : "";
-        int count = 1;
-        while (doesFileExist(username + "/" + fileName)) {
-            fileName = nameWithoutExt + "(" + count + ")" + ext;
-            count++;
+    private static S3Object decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return S3Object.builder()
+                    .lastModified(Instant.parse(raw.substring(0, separator)))
+                    .key(raw.substring(separator + 1))
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
         }
-        return fileName;
     }
 
-    private boolean doesFileExist(String fullKey) {
+    /**
+     * 객체 메타데이터 조회 (HEAD)
+     * @param key S3 객체 키
+     * @return 크기(contentLength), 인코딩(contentEncoding) 등
+     */
+    public HeadObjectResponse headObject(String key) {
+        return s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+    }
+
+    /**
+     * gzip으로 저장된 로그를 한 번의 GET으로 풀면서 줄 경계 블록 단위로 읽기
+     * - gzip 객체는 범위를 나눠 읽을 수 없으므로 readLines 대신 사용
+     * - 블록은 blockSize 이상(마지막 블록 제외)이며 줄 끝에서 끊김, 구독 측이 요청할 때만 다음 블록을 읽음
+     * @param key S3 객체 키
+     * @param blockSize 블록 최소 크기 (압축 해제 기준 bytes)
+     * @return 블록 스트림 (UTF-8)
+     */
+    public Flux<String> streamLines(String key, int blockSize) {
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(key).build();
+        return Flux.using(
+                        () -> s3Client.getObject(request),
+                        response -> {
+                            InputStream in;
+                            try {
+                                in = new BufferedInputStream(new GZIPInputStream(response, STREAM_BUFFER_SIZE), STREAM_BUFFER_SIZE);
+                            } catch (IOException e) {
+                                return Flux.error(new UncheckedIOException(e));
+                            }
+                            return Flux.<String>generate(sink -> {
+                                String block = readBlock(in, blockSize);
+                                if (block != null) {
+                                    sink.next(block);
+                                } else {
+                                    sink.complete();
+                                }
+                            });
+                        },
+                        ResponseInputStream::abort) // 끝까지 읽지 않고 취소돼도 연결 종료
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // blockSize 이상 읽은 뒤 줄 끝까지 (끝이면 null)
+    private static String readBlock(InputStream in, int blockSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(blockSize + 1024);
         try {
-            s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(fullKey).build());
-            return true;
-        } catch (NoSuchKeyException e) {
-            return false;
+            int b;
+            boolean lineStart = true;
+            while (!(lineStart && out.size() >= blockSize) && (b = in.read()) != -1) {
+                out.write(b);
+                lineStart = b == '\n';
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return out.size() > 0 ? out.toString(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 줄 경계에 맞춘 범위 읽기 (Range GET)
+     * - [start, end) 안에서 시작하는 줄 전체를 반환 (마지막 줄은 end를 넘어도 줄 끝까지 읽음)
+     * - start 직전에서 이어지는 줄은 앞 범위 몫이므로 건너뜀 → 범위를 나눠 병렬로 읽어도 줄이 겹치거나 빠지지 않음
+     * - '\n'(0x0A)은 UTF-8 멀티바이트 문자 안에 나타나지 않으므로 줄 경계에서 나누면 문자가 깨지지 않음
+     * - [start - 1, end + LINE_SLACK)만 요청하고, 그 안에서 줄이 끝나지 않을 때만 이어서 요청 (RangeInputStream)
+     * @param key S3 객체 키
+     * @param start 시작 바이트 (포함)
+     * @param end 끝 바이트 (제외)
+     * @return 범위에서 시작하는 줄들 (UTF-8)
+     */
+    public String readLines(String key, long start, long end) {
+        long from = start > 0 ? start - 1 : 0; // 앞 바이트가 '\n'이면 start가 곧 줄 시작
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(end - start + 1024, Integer.MAX_VALUE - 8));
+        try (InputStream in = new RangeInputStream(key, from, end + LINE_SLACK)) {
+            long position = from;
+            int b;
+            if (start > 0) {
+                // 앞 범위에서 시작한 줄의 나머지 건너뛰기
+                while ((b = in.read()) != -1) {
+                    position++;
+                    if (b == '\n') break;
+                }
+            }
+            boolean lineStart = true;
+            while (!(lineStart && position >= end) && (b = in.read()) != -1) {
+                out.write(b);
+                position++;
+                lineStart = b == '\n';
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 닫힌 구간 단위 Range GET 스트림 (readLines용)
+     * - [position, limit)을 요청해 읽고, 다 읽었는데 더 필요하면 이어지는 구간을 앞 구간의 두 배 크기로 요청
+     * - 요청보다 적게 받거나 시작 위치가 객체 끝이면(416) EOF
+     * - 닫을 때 현재 구간의 남은 본문을 마저 읽어 연결을 재사용 (남은 양은 구간 하나 이내)
+     */
+    private final class RangeInputStream extends InputStream {
+
+        private final String key;
+        private long position;  // 다음에 읽을 바이트 위치
+        private long limit;     // 현재 구간 끝 (제외)
+        private long length;    // 현재 구간 크기
+        private ResponseInputStream<GetObjectResponse> response;
+        private InputStream current;
+        private boolean eof;
+
+        RangeInputStream(String key, long from, long limit) {
+            this.key = key;
+            this.position = from;
+            this.limit = limit;
+            this.length = limit - from;
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (!eof) {
+                if (current == null) {
+                    open();
+                    continue;
+                }
+                int b = current.read();
+                if (b != -1) {
+                    position++;
+                    return b;
+                }
+                closeCurrent();
+                if (position < limit) {
+                    eof = true; // 요청한 구간보다 짧음 → 객체 끝
+                } else {
+                    length *= 2;
+                    limit = position + length;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (current != null) {
+                current.transferTo(OutputStream.nullOutputStream());
+                closeCurrent();
+            }
+            eof = true;
+        }
+
+        private void open() {
+            try {
+                response = s3Client.getObject(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .range("bytes=" + position + "-" + (limit - 1))
+                        .build());
+                current = new BufferedInputStream(response, STREAM_BUFFER_SIZE);
+            } catch (S3Exception e) {
+                if (e.statusCode() != RANGE_NOT_SATISFIABLE) {
+                    throw e;
+                }
+                eof = true; // 이전 구간이 정확히 객체 끝에서 끝남
+            }
+        }
+
+        private void closeCurrent() throws IOException {
+            response.close();
+            response = null;
+            current = null;
+        }
+    }
+
+    /**
+     * 고유 파일명 생성: name.txt → name_093012345-1a2b3c4d.txt
+     * - 시각(밀리초) + 32비트 임의값이라 같은 밀리초에 올려도 충돌하지 않음
+     */
+    static String uniqueFileName(String fileName, Instant now) {
+        int dot = fileName.lastIndexOf('.');
+        String nameWithoutExt = dot >= 0 ? fileName.substring(0, dot) : fileName;
+        String ext = dot >= 0 ? fileName.substring(dot) : "";
+        String random = String.format("%08x", ThreadLocalRandom.current().nextInt());
+        return nameWithoutExt + "_" + UNIQUE_SUFFIX_TIME.format(now) + "-" + random + ext;
+    }
+
+    /**
+     * 고유 접미사를 뗀 원래 파일명 (새 방식/이전 방식 모두 지원)
+     * - name_093012345-1a2b3c4d.txt, name(3).txt, name.txt → name.txt
+     */
+    public static String baseFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String nameWithoutExt = dot >= 0 ? fileName.substring(0, dot) : fileName;
+        String ext = dot >= 0 ? fileName.substring(dot) : "";
+        return UNIQUE_SUFFIX.matcher(nameWithoutExt).replaceFirst("") + ext;
     }
-}
\ No newline at end of file
+}
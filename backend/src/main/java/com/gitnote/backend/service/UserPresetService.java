@@ -3,7 +3,13 @@ package com.gitnote.backend.service;
 import com.gitnote.backend.entity.UserPreset;
 import com.gitnote.backend.repository.UserPresetRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -13,18 +19,42 @@ import java.util.Optional;
  * - 사용자 프리셋(설정) 관리 서비스
  * - 사용자 프리셋 생성, 수정, 조회, 삭제 등의 비즈니스 로직 담당
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserPresetService {
 
     private final UserPresetRepository userPresetRepository;
 
+    // 기동 시 기존 프리셋에 activeReportFrequency(희소 GSI 키) 채우기 (인덱스 도입 후 1회만 켜서 실행)
+    @Value("${user-preset.backfill-active-frequency:false}")
+    private boolean backfillActiveFrequency;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillActiveReportFrequency() {
+        if (!backfillActiveFrequency) {
+            return;
+        }
+        int updated = userPresetRepository.backfillActiveReportFrequency();
+        log.info("[UserPresetService] activeReportFrequency 이전 완료 - 갱신: {}건", updated);
+    }
+
     /**
      * 사용자 프리셋을 생성 또는 업데이트 (upsert: 있으면 수정, 없으면 생성)
      * @param preset 저장할 설정(사용자ID 필수)
      * @return 저장/수정된 UserPreset 객체
      */
     public UserPreset createOrUpdatePreset(UserPreset preset) {
+        try {
+            return mergeAndSave(preset);
+        } catch (ConditionalCheckFailedException e) {
+            // 조회 이후 다른 요청이 먼저 수정함 → 최신 값에 다시 병합 (한 번만)
+            log.info("[UserPresetService] 프리셋 동시 수정 감지, 재시도 - userId: {}", preset.getUserId());
+            return mergeAndSave(preset);
+        }
+    }
+
+    private UserPreset mergeAndSave(UserPreset preset) {
         // 기존 프리셋 있는지 먼저 조회
         return userPresetRepository.findByUserId(preset.getUserId())
                 .map(existing -> {
@@ -43,7 +73,7 @@ public class UserPresetService {
                     return userPresetRepository.save(existing);
                 })
                 .orElseGet(() -> {
-                    // 신규 생성: timestamp 기본값 설정
+                    // 신규 생성: timestamp 기본값 설정 (version 없이 저장 → 그 사이 다른 요청이 만들었으면 충돌)
                     Instant now = Instant.now();
                     preset.setCreatedAt(now);
                     preset.setUpdatedAt(now);
@@ -60,6 +90,15 @@ public class UserPresetService {
         return userPresetRepository.findByUserId(userId);
     }
 
+    /**
+     * 사용자 프리셋 단건 조회 - 논블로킹
+     * @param userId 사용자 ID
+     * @return 프리셋 (없으면 empty)
+     */
+    public Mono<UserPreset> getPresetAsync(String userId) {
+        return userPresetRepository.findByUserIdAsync(userId);
+    }
+
     /**
      * 사용자 프리셋 삭제
      * @param userId 사용자 ID
@@ -69,7 +108,7 @@ public class UserPresetService {
     }
 
     /**
-     * 사용자 프리셋의 이메일 설정/알림 활성화 수정
+     * 사용자 프리셋의 이메일 설정/알림 활성화 수정 (조회 없이 해당 필드만 수정)
      * @param userId 사용자 ID
      * @param email 이메일 주소
      * @param enabled 알림 활성화 여부
@@ -77,40 +116,29 @@ public class UserPresetService {
      */
     public UserPreset updateEmail(String userId, String email, Boolean enabled) {
         // 프리셋 미존재 시 예외 처리
-        UserPreset preset = userPresetRepository.findByUserId(userId)
+        return userPresetRepository.updateEmail(userId, email, enabled)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 설정을 찾을 수 없습니다."));
-        // 변경
-        preset.setEmail(email);
-        preset.setEmailNotificationEnabled(enabled);
-        preset.setUpdatedAt(Instant.now());
-        return userPresetRepository.save(preset);
     }
 
     /**
-     * 사용자 프리셋의 보고서 스타일 변경
+     * 사용자 프리셋의 보고서 스타일 변경 (조회 없이 해당 필드만 수정)
      * @param userId 사용자 ID
      * @param reportStyle 보고서 스타일 문자열
      * @return 수정된 UserPreset
      */
     public UserPreset updateReportStyle(String userId, String reportStyle) {
-        UserPreset preset = userPresetRepository.findByUserId(userId)
+        return userPresetRepository.updateReportStyle(userId, reportStyle)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 설정을 찾을 수 없습니다."));
-        preset.setReportStyle(reportStyle);
-        preset.setUpdatedAt(Instant.now());
-        return userPresetRepository.save(preset);
     }
 
     /**
-     * 사용자 프리셋의 보고서 빈도 변경
+     * 사용자 프리셋의 보고서 빈도 변경 (조회 없이 해당 필드만 수정)
      * @param userId 사용자 ID
      * @param frequency 빈도 문자열 (예: DAILY, WEEKLY 등)
      * @return 수정된 UserPreset
      */
     public UserPreset updateReportFrequency(String userId, String frequency) {
-        UserPreset preset = userPresetRepository.findByUserId(userId)
+        return userPresetRepository.updateReportFrequency(userId, frequency)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 설정을 찾을 수 없습니다."));
-        preset.setReportFrequency(frequency);
-        preset.setUpdatedAt(Instant.now());
-        return userPresetRepository.save(preset);
     }
 }
@@ -0,0 +1,166 @@
+package com.gitnote.backend.cache;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 상세 캐시: 전체 SHA만 캐시, 크기 기준 제거, 복사본 격리, 디스크 계층 재시작 후 조회/크기 상한
+ */
+public class CommitDetailCacheTest {
+
+    private static final String SHA = "a".repeat(40);
+
+    @Test
+    void cachesOnlyFullHexSha() {
+        assertThat(CommitDetailCache.isCacheable(SHA)).isTrue();
+        assertThat(CommitDetailCache.isCacheable("0123456789ABCDEFabcdef0123456789abcdef01")).isTrue();
+
+        // 축약 SHA, 브랜치명, 16진수가 아닌 40자 ref는 내용이 바뀔 수 있으므로 제외
+        assertThat(CommitDetailCache.isCacheable("a".repeat(39))).isFalse();
+        assertThat(CommitDetailCache.isCacheable("a".repeat(41))).isFalse();
+        assertThat(CommitDetailCache.isCacheable("main")).isFalse();
+        assertThat(CommitDetailCache.isCacheable("g".repeat(40))).isFalse();
+        assertThat(CommitDetailCache.isCacheable(null)).isFalse();
+    }
+
+    @Test
+    void evictsByPatchWeight() {
+        // 항목 1개 가중치 = 1024 + 256 + patch 1000 = 2280 → 상한 3000에는 1개만 들어감
+        CommitDetailCache cache = new CommitDetailCache(3000, "", 0);
+        cache.put(key("1"), commit("1", 1000));
+        cache.put(key("2"), commit("2", 1000));
+
+        long kept = Stream.of(key("1"), key("2")).filter(key -> cache.get(key) != null).count();
+        assertThat(kept).isEqualTo(1);
+    }
+
+    @Test
+    void storesAndReturnsCopies() {
+        CommitDetailCache cache = new CommitDetailCache(1_000_000, "", 0);
+        GitHubCommit commit = commit(SHA, 10);
+        cache.put(key(SHA), commit);
+
+        // 저장 후 원본 수정, 조회 결과 수정 → 캐시 값은 그대로
+        commit.getStats().setChangedFiles(99);
+        GitHubCommit first = cache.get(key(SHA));
+        first.getStats().setChangedFiles(42);
+        first.getFiles().get(0).setPatch("changed");
+
+        GitHubCommit second = cache.get(key(SHA));
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getStats().getChangedFiles()).isNull();
+        assertThat(second.getFiles().get(0).getPatch()).isEqualTo("x".repeat(10));
+    }
+
+    @Test
+    void freshInstanceReadsDiskTier(@TempDir Path diskDir) throws Exception {
+        CommitDetailCache writer = new CommitDetailCache(1_000_000, diskDir.toString(), 1_000_000);
+        writer.put(key(SHA), commit(SHA, 10));
+        awaitFiles(diskDir, 1);
+        writer.shutdown();
+
+        // 재시작: 메모리는 비어 있고 디스크에서 읽어 메모리 계층으로 올림
+        CommitDetailCache restarted = new CommitDetailCache(1_000_000, diskDir.toString(), 1_000_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        restarted.bindTo(registry);
+
+        GitHubCommit loaded = restarted.get(key(SHA));
+        restarted.get(key(SHA));
+
+        assertThat(loaded.getSha()).isEqualTo(SHA);
+        assertThat(loaded.getFiles().get(0).getPatch()).isEqualTo("x".repeat(10));
+        assertThat(count(registry, "disk-hit")).isEqualTo(1);
+        assertThat(count(registry, "memory-hit")).isEqualTo(1);
+        assertThat(restarted.get(key("b".repeat(40)))).isNull();
+        assertThat(count(registry, "miss")).isEqualTo(1);
+        restarted.shutdown();
+    }
+
+    @Test
+    void prunesDiskTierAboveMaxBytes(@TempDir Path diskDir) throws Exception {
+        // 파일 1개 ≈ 2.2KB, 상한 5KB → 3번째 쓰기에서 오래된 파일부터 4.5KB 이하로 정리
+        long maxBytes = 5_000;
+        CommitDetailCache cache = new CommitDetailCache(1_000_000, diskDir.toString(), maxBytes);
+        for (int i = 1; i <= 3; i++) {
+            cache.put(key(String.valueOf(i)), commit(String.valueOf(i), 2000));
+            if (i < 3) awaitFiles(diskDir, i);
+            // 파일 시각 순서가 쓰기 순서와 같도록
+            Thread.sleep(20);
+        }
+        // 3번째 파일이 보이고 정리까지 끝나 2개만 남을 때까지 대기
+        awaitPruned(diskDir, "\"sha\":\"3\"", 2);
+        cache.shutdown();
+
+        assertThat(diskUsage(diskDir)).isLessThanOrEqualTo(maxBytes / 10 * 9);
+        // 가장 먼저 쓴 커밋만 삭제 → 새 인스턴스에서 1은 없고 3은 있음
+        CommitDetailCache restarted = new CommitDetailCache(1_000_000, diskDir.toString(), maxBytes);
+        assertThat(restarted.get(key("1"))).isNull();
+        assertThat(restarted.get(key("3"))).isNotNull();
+        restarted.shutdown();
+    }
+
+    private static String key(String sha) {
+        return CommitDetailCache.key("testuser", "testrepo", sha);
+    }
+
+    private static GitHubCommit commit(String sha, int patchLength) {
+        GitHubCommit.FileChange file = new GitHubCommit.FileChange();
+        file.setFilename("file.txt");
+        file.setPatch("x".repeat(patchLength));
+        GitHubCommit commit = new GitHubCommit();
+        commit.setSha(sha);
+        commit.setFiles(List.of(file));
+        commit.setStats(new GitHubCommit.CommitStats());
+        return commit;
+    }
+
+    private static double count(SimpleMeterRegistry registry, String result) {
+        return registry.get("github.commit.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    // 디스크 쓰기는 별도 스레드에서 임시 파일 → 이동으로 하므로 .json 파일 수로 완료 확인
+    private static void awaitFiles(Path dir, int expected) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            if (jsonFiles(dir).size() == expected) return;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("디스크 캐시 파일 수가 " + expected + "개가 아님: " + jsonFiles(dir).size());
+    }
+
+    private static void awaitPruned(Path dir, String latestContent, int expected) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            List<Path> files = jsonFiles(dir);
+            boolean latestWritten = false;
+            for (Path file : files) {
+                if (Files.exists(file) && Files.readString(file).contains(latestContent)) latestWritten = true;
+            }
+            if (latestWritten && files.size() == expected) return;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("디스크 캐시가 정리되지 않음: " + jsonFiles(dir).size());
+    }
+
+    private static List<Path> jsonFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".json")).toList();
+        }
+    }
+
+    private static long diskUsage(Path dir) throws IOException {
+        long total = 0;
+        for (Path file : jsonFiles(dir)) {
+            total += Files.size(file);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,162 @@
+package com.gitnote.backend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Gemini 결과 캐시: 동시에 들어온 동일 프롬프트는 upstream 1회, 진행 중 요청은 구독 시점에 등록, 실패/빈 결과는 캐시하지 않음, 모델/스타일별 키 분리
+ */
+public class GeminiResultCacheTest {
+
+    private static final String KEY = GeminiResultCache.key("gemini-2.5-flash", "summary", "커밋 목록...");
+
+    private final GeminiResultCache cache = new GeminiResultCache(mock(S3Client.class), 1_000_000,
+            Duration.ofMinutes(1), false, "", "_cache/gemini/");
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void concurrentIdenticalPromptsCallUpstreamOnce() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // 응답이 늦는 동안 나머지 요청은 진행 중인 생성에 합류
+                    return cache.getOrGenerate(KEY, () -> Mono.fromCallable(() -> "보고서 " + upstreamCalls.incrementAndGet())
+                                    .delayElement(Duration.ofMillis(200)))
+                            .block(Duration.ofSeconds(5));
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("보고서 1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(count(registry, "miss")).isEqualTo(1);
+        assertThat(count(registry, "coalesced") + count(registry, "memory-hit")).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void joinersOfPendingGenerationShareResult() {
+        Mono<String> first = cache.getOrGenerate(KEY, this::slowGeneration);
+        Mono<String> second = cache.getOrGenerate(KEY, this::slowGeneration);
+
+        // first 구독으로 시작된 생성에 second가 구독 시점에 합류
+        assertThat(Mono.zip(first, second).block(Duration.ofSeconds(5)))
+                .satisfies(pair -> assertThat(pair.getT1()).isEqualTo(pair.getT2()));
+        assertThat(upstreamCalls).hasValue(1);
+
+        // 완료 후에는 메모리 계층에서 제공
+        assertThat(cache.getOrGenerate(KEY, this::slowGeneration).block()).isEqualTo("보고서 1");
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void unsubscribedCallDoesNotRegisterPendingGeneration() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // 조립만 하고 구독하지 않음 → 진행 중 요청으로 등록되지 않고 생성도 호출되지 않음
+        cache.getOrGenerate(KEY, () -> Mono.fromCallable(() -> "버려진 요청 " + upstreamCalls.incrementAndGet()));
+
+        assertThat(cache.getOrGenerate(KEY, () -> Mono.just("보고서")).block()).isEqualTo("보고서");
+        assertThat(upstreamCalls).hasValue(0);
+        assertThat(count(registry, "coalesced")).isZero();
+    }
+
+    @Test
+    void resubscribingAfterCompletionReadsMemory() {
+        Mono<String> report = cache.getOrGenerate(KEY, () -> Mono.fromCallable(() -> "보고서 " + upstreamCalls.incrementAndGet()));
+
+        assertThat(report.block()).isEqualTo("보고서 1");
+        // 같은 Mono를 다시 구독해도 조회부터 다시 → 메모리 계층에서 제공
+        assertThat(report.block()).isEqualTo("보고서 1");
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void upstreamErrorIsNotCachedAndNextCallRetries() {
+        assertThatThrownBy(() -> cache.getOrGenerate(KEY, () -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new IllegalStateException("503 Service Unavailable"));
+        }).block()).hasMessageContaining("503");
+
+        assertThat(cache.getOrGenerate(KEY, () -> Mono.fromCallable(() -> "보고서 " + upstreamCalls.incrementAndGet()))
+                .block()).isEqualTo("보고서 2");
+        assertThat(cache.getOrGenerate(KEY, () -> Mono.error(new IllegalStateException("cached"))).block())
+                .isEqualTo("보고서 2");
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void emptyResultIsNotCached() {
+        assertThat(cache.getOrGenerate(KEY, () -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.just("");
+        }).block()).isEmpty();
+
+        assertThat(cache.getOrGenerate(KEY, () -> Mono.fromCallable(() -> "보고서 " + upstreamCalls.incrementAndGet()))
+                .block()).isEqualTo("보고서 2");
+    }
+
+    @Test
+    void keysDifferByModelStyleAndPrompt() {
+        String key = GeminiResultCache.key("gemini-2.5-flash", "summary", "prompt");
+
+        assertThat(GeminiResultCache.key("gemini-2.5-flash", "summary", "prompt")).isEqualTo(key);
+        assertThat(List.of(
+                GeminiResultCache.key("gemini-2.5-pro", "summary", "prompt"),
+                GeminiResultCache.key("gemini-2.5-flash", "detailed", "prompt"),
+                GeminiResultCache.key("gemini-2.5-flash", "summary", "prompt2"),
+                // 구분자로 경계가 달라지면 다른 키
+                GeminiResultCache.key("gemini-2.5-flash", "summaryprompt", ""),
+                GeminiResultCache.key("gemini-2.5-flash", null, "prompt")))
+                .doesNotContain(key)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void differentStylesAreGeneratedSeparately() {
+        String summary = GeminiResultCache.key("gemini-2.5-flash", "summary", "prompt");
+        String detailed = GeminiResultCache.key("gemini-2.5-flash", "detailed", "prompt");
+
+        assertThat(cache.getOrGenerate(summary, () -> Mono.just("요약")).block()).isEqualTo("요약");
+        assertThat(cache.getOrGenerate(detailed, () -> Mono.just("상세")).block()).isEqualTo("상세");
+        assertThat(cache.getOrGenerate(summary, () -> Mono.just("다시 생성")).block()).isEqualTo("요약");
+    }
+
+    private Mono<String> slowGeneration() {
+        return Mono.fromCallable(() -> "보고서 " + upstreamCalls.incrementAndGet())
+                .delayElement(Duration.ofMillis(100));
+    }
+
+    private static double count(SimpleMeterRegistry registry, String result) {
+        return registry.get("gemini.cache.requests").tag("result", result).functionCounter().count();
+    }
+}
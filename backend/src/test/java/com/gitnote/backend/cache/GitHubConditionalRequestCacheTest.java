@@ -0,0 +1,160 @@
+package com.gitnote.backend.cache;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 요청 캐시: 304 → 캐시 본문으로 200 대체, ETag/Last-Modified 조건 헤더, 토큰별 분리, 커밋 상세 제외, 크기 상한, 적중/미스 횟수
+ */
+public class GitHubConditionalRequestCacheTest {
+
+    private static final String REPOS_PATH = "/user/repos";
+    private static final String ETAG = "\"etag-1\"";
+    private static final String LAST_MODIFIED = "Tue, 02 Jan 2024 10:00:00 GMT";
+    private static final String BODY = "[{\"name\":\"testrepo\"}]";
+
+    private WireMockServer wireMock;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    void replaysNotModifiedAsOkWithCachedBody() {
+        GitHubConditionalRequestCache cache = new GitHubConditionalRequestCache(1_000_000);
+        stubConditional(REPOS_PATH, HttpHeaders.IF_NONE_MATCH, ETAG,
+                okJson(BODY).withHeader(HttpHeaders.ETAG, ETAG));
+
+        ResponseEntity<String> first = request(cache, REPOS_PATH, "token-a");
+        ResponseEntity<String> second = request(cache, REPOS_PATH, "token-a");
+
+        // then: 두 번째 요청은 If-None-Match로 보내고 304를 캐시 본문의 200으로 받음
+        assertThat(first.getBody()).isEqualTo(BODY);
+        assertThat(second.getStatusCode().value()).isEqualTo(200);
+        assertThat(second.getBody()).isEqualTo(BODY);
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo(REPOS_PATH)).withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(ETAG)));
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void sendsIfModifiedSinceWhenOnlyLastModifiedIsGiven() {
+        GitHubConditionalRequestCache cache = new GitHubConditionalRequestCache(1_000_000);
+        stubConditional(REPOS_PATH, HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED,
+                okJson(BODY).withHeader(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED));
+
+        request(cache, REPOS_PATH, "token-a");
+        ResponseEntity<String> second = request(cache, REPOS_PATH, "token-a");
+
+        assertThat(second.getBody()).isEqualTo(BODY);
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo(REPOS_PATH))
+                .withHeader(HttpHeaders.IF_MODIFIED_SINCE, equalTo(LAST_MODIFIED))
+                .withoutHeader(HttpHeaders.IF_NONE_MATCH));
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsSeparateEntriesPerToken() {
+        GitHubConditionalRequestCache cache = new GitHubConditionalRequestCache(1_000_000);
+        stubConditional(REPOS_PATH, HttpHeaders.IF_NONE_MATCH, ETAG,
+                okJson(BODY).withHeader(HttpHeaders.ETAG, ETAG));
+
+        request(cache, REPOS_PATH, "token-a");
+        request(cache, REPOS_PATH, "token-b");
+
+        // then: 다른 토큰의 같은 URL은 조건 없이 새로 조회 (다른 사용자의 캐시 본문을 재사용하지 않음)
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo(REPOS_PATH)).withoutHeader(HttpHeaders.IF_NONE_MATCH));
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void skipsCommitDetailPaths() {
+        GitHubConditionalRequestCache cache = new GitHubConditionalRequestCache(1_000_000);
+        String detailPath = "/repos/testuser/testrepo/commits/" + "a".repeat(40);
+        stubConditional(detailPath, HttpHeaders.IF_NONE_MATCH, ETAG,
+                okJson("{\"sha\":\"a\"}").withHeader(HttpHeaders.ETAG, ETAG));
+
+        request(cache, detailPath, "token-a");
+        request(cache, detailPath, "token-a");
+
+        // then: 커밋 상세는 CommitDetailCache 담당 → 보관/조건부 요청/횟수 집계 없음
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo(detailPath)).withoutHeader(HttpHeaders.IF_NONE_MATCH));
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    void evictsEntriesAboveMaxBytes() {
+        // 항목 1개 크기(키 ≈ 100자 + 본문 300자)가 상한의 절반을 넘음 → 동시에 1개만 보관
+        GitHubConditionalRequestCache cache = new GitHubConditionalRequestCache(600);
+        String body = "[\"" + "x".repeat(296) + "\"]";
+        for (int i = 1; i <= 3; i++) {
+            wireMock.stubFor(get(urlPathEqualTo("/repos/page" + i))
+                    .willReturn(okJson(body).withHeader(HttpHeaders.ETAG, ETAG)));
+            request(cache, "/repos/page" + i, "token-a");
+        }
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotCacheErrorsOrResponsesWithoutValidators() {
+        GitHubConditionalRequestCache cache = new GitHubConditionalRequestCache(1_000_000);
+        wireMock.stubFor(get(urlPathEqualTo(REPOS_PATH))
+                .willReturn(okJson(BODY)));
+
+        request(cache, REPOS_PATH, "token-a");
+        request(cache, REPOS_PATH, "token-a");
+
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo(REPOS_PATH)).withoutHeader(HttpHeaders.IF_NONE_MATCH));
+        assertThat(cache.size()).isZero();
+    }
+
+    // 조건 헤더가 맞으면 304, 아니면 주어진 응답
+    private void stubConditional(String path, String conditionHeader, String value,
+                                 ResponseDefinitionBuilder response) {
+        wireMock.stubFor(get(urlPathEqualTo(path))
+                .atPriority(2)
+                .willReturn(response));
+        wireMock.stubFor(get(urlPathEqualTo(path))
+                .atPriority(1)
+                .withHeader(conditionHeader, equalTo(value))
+                .willReturn(aResponse().withStatus(304)));
+    }
+
+    private ResponseEntity<String> request(GitHubConditionalRequestCache cache, String path, String token) {
+        return WebClient.builder()
+                .baseUrl(wireMock.baseUrl())
+                .filter(cache)
+                .build()
+                .get()
+                .uri(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .retrieve()
+                .toEntity(String.class)
+                .block(Duration.ofSeconds(5));
+    }
+}
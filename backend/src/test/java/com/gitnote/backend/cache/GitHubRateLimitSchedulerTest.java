@@ -0,0 +1,157 @@
+package com.gitnote.backend.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 한도 페이싱(예약 간격, 로컬 차감, 리셋 이후)과 한도 초과 응답 재시도 검증
+ */
+public class GitHubRateLimitSchedulerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void noDelayAboveLowWatermark() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(500, NOW + 60_000);
+
+        assertThat(budget.reserveDelayMillis(100, NOW)).isZero();
+        assertThat(budget.reserveDelayMillis(100, NOW)).isZero();
+        // 임계치 위에서는 로컬 차감 없음 (응답 헤더 값 유지)
+        assertThat(budget.remaining()).isEqualTo(500);
+    }
+
+    @Test
+    void spacesRequestsEvenlyUntilReset() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(10, NOW + 10_000);
+
+        // 첫 요청은 바로, 이후 (리셋까지 남은 시간 / 남은 한도) 간격으로 순서대로 배치
+        assertThat(budget.reserveDelayMillis(100, NOW)).isZero();           // 10_000 / 10 = 1_000
+        assertThat(budget.reserveDelayMillis(100, NOW)).isEqualTo(1_000);   // 10_000 / 9 = 1_111
+        assertThat(budget.reserveDelayMillis(100, NOW)).isEqualTo(2_111);
+        assertThat(budget.remaining()).isEqualTo(7);
+    }
+
+    @Test
+    void responseHeadersOverrideLocalDecrement() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(10, NOW + 10_000);
+        budget.reserveDelayMillis(100, NOW);
+        budget.reserveDelayMillis(100, NOW);
+
+        budget.update(rateLimitHeaders(4, NOW + 10_000));
+
+        assertThat(budget.remaining()).isEqualTo(4);
+    }
+
+    @Test
+    void waitsUntilResetWhenExhausted() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(0, NOW + 5_000);
+
+        assertThat(budget.reserveDelayMillis(100, NOW)).isEqualTo(5_000);
+        assertThat(budget.reserveDelayMillis(100, NOW + 2_000)).isEqualTo(3_000);
+    }
+
+    @Test
+    void stopsPacingAfterReset() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(0, NOW + 5_000);
+
+        // 리셋 시각이 지나면 이전 창의 남은 한도로 지연하지 않음
+        assertThat(budget.reserveDelayMillis(100, NOW + 5_000)).isZero();
+        assertThat(budget.reserveDelayMillis(100, NOW + 6_000)).isZero();
+    }
+
+    @Test
+    void blocksAllRequestsForRetryAfter() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(4000, NOW + 60_000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+
+        assertThat(budget.blockForRateLimitResponse(headers, NOW)).isEqualTo(30_000);
+        assertThat(budget.reserveDelayMillis(100, NOW + 10_000)).isEqualTo(20_000);
+        assertThat(budget.reserveDelayMillis(100, NOW + 30_000)).isZero();
+    }
+
+    @Test
+    void headersAloneDoNotIdentifySecondaryLimit() {
+        GitHubRateLimitScheduler.TokenBudget budget = budget(4000, NOW + 60_000);
+
+        // Retry-After 없고 남은 한도도 있음 → 헤더만으로는 판별 불가 (본문 메시지로 판단)
+        assertThat(budget.blockForRateLimitResponse(new HttpHeaders(), NOW)).isEqualTo(-1);
+    }
+
+    @Test
+    void retriesSecondaryRateLimitWithoutRetryAfter() {
+        GitHubRateLimitScheduler scheduler = new GitHubRateLimitScheduler(100, Duration.ofSeconds(1), 3, Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = sequence(calls,
+                () -> ClientResponse.create(HttpStatus.FORBIDDEN)
+                        .headers(headers -> headers.addAll(rateLimitHeaders(4000, NOW + 60_000)))
+                        .body("{\"message\":\"You have exceeded a secondary rate limit. Please wait a few minutes before you try again.\"}")
+                        .build(),
+                () -> ClientResponse.create(HttpStatus.OK).body("[]").build());
+
+        ClientResponse response = scheduler.filter(request(), next).block();
+
+        assertThat(response.statusCode().value()).isEqualTo(200);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void returnsPermissionErrorWithoutRetry() {
+        GitHubRateLimitScheduler scheduler = new GitHubRateLimitScheduler(100, Duration.ofSeconds(1), 3, Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction next = sequence(calls,
+                () -> ClientResponse.create(HttpStatus.FORBIDDEN)
+                        .headers(headers -> headers.addAll(rateLimitHeaders(4000, NOW + 60_000)))
+                        .body("{\"message\":\"Resource not accessible by integration\"}")
+                        .build());
+
+        ClientResponse response = scheduler.filter(request(), next).block();
+
+        assertThat(response.statusCode().value()).isEqualTo(403);
+        assertThat(response.bodyToMono(String.class).block()).contains("Resource not accessible");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private static GitHubRateLimitScheduler.TokenBudget budget(int remaining, long resetAtMillis) {
+        GitHubRateLimitScheduler.TokenBudget budget = new GitHubRateLimitScheduler.TokenBudget("token", "core");
+        budget.update(rateLimitHeaders(remaining, resetAtMillis));
+        return budget;
+    }
+
+    private static HttpHeaders rateLimitHeaders(int remaining, long resetAtMillis) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", "5000");
+        headers.set("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.set("X-RateLimit-Reset", String.valueOf(resetAtMillis / 1000));
+        headers.set("X-RateLimit-Resource", "core");
+        return headers;
+    }
+
+    private static ClientRequest request() {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.github.com/repos/testuser/testrepo/commits"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+                .build();
+    }
+
+    // 호출 순서대로 응답 (마지막 응답 반복)
+    @SafeVarargs
+    private static ExchangeFunction sequence(AtomicInteger calls, Supplier<ClientResponse>... responses) {
+        List<Supplier<ClientResponse>> list = List.of(responses);
+        return request -> Mono.fromSupplier(() ->
+                list.get(Math.min(calls.getAndIncrement(), list.size() - 1)).get());
+    }
+}
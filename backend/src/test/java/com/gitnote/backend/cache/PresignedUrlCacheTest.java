@@ -0,0 +1,83 @@
+package com.gitnote.backend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Presigned URL 캐시: 재사용 시간(서명 유효 시간 - reuse-margin) 안 재사용, 이후 재서명, 실패 미보관, 설정 검증, 적중/미적중 지표
+ */
+public class PresignedUrlCacheTest {
+
+    private static final String KEY = "testuser/commits.txt";
+
+    private final AtomicInteger signatures = new AtomicInteger();
+
+    @Test
+    void reusesUrlWithinReuseWindow() {
+        PresignedUrlCache cache = new PresignedUrlCache(Duration.ofMinutes(10), Duration.ofMinutes(2), 100);
+
+        String first = cache.get(KEY, this::sign);
+
+        assertThat(cache.get(KEY, this::sign)).isEqualTo(first);
+        assertThat(cache.get("testuser/other.txt", this::sign)).isNotEqualTo(first);
+        assertThat(signatures).hasValue(2);
+        assertThat(cache.signatureDuration()).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void resignsOnceOnlyMarginIsLeft() throws InterruptedException {
+        // 재사용 시간 = 1초 - 800ms = 200ms
+        PresignedUrlCache cache = new PresignedUrlCache(Duration.ofSeconds(1), Duration.ofMillis(800), 100);
+        String first = cache.get(KEY, this::sign);
+
+        Thread.sleep(400);
+
+        assertThat(cache.get(KEY, this::sign)).isNotEqualTo(first);
+        assertThat(signatures).hasValue(2);
+    }
+
+    @Test
+    void doesNotKeepFailedSignature() {
+        PresignedUrlCache cache = new PresignedUrlCache(Duration.ofMinutes(10), Duration.ofMinutes(2), 100);
+
+        assertThat(cache.get(KEY, key -> {
+            signatures.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(cache.get(KEY, this::sign)).isNotNull();
+
+        assertThat(signatures).hasValue(2);
+    }
+
+    @Test
+    void rejectsMarginNotShorterThanDuration() {
+        assertThatThrownBy(() -> new PresignedUrlCache(Duration.ofMinutes(2), Duration.ofMinutes(2), 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        PresignedUrlCache cache = new PresignedUrlCache(Duration.ofMinutes(10), Duration.ofMinutes(2), 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(KEY, this::sign);                    // miss
+        cache.get(KEY, this::sign);                    // hit
+        cache.get(KEY, this::sign);                    // hit
+        cache.get("testuser/other.txt", this::sign);   // miss
+
+        assertThat(registry.get("s3.presign.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("s3.presign.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("s3.presign.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    private String sign(String key) {
+        return "https://test-bucket.s3.amazonaws.com/" + key + "?X-Amz-Signature=" + signatures.incrementAndGet();
+    }
+}
@@ -0,0 +1,105 @@
+package com.gitnote.backend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3 목록 캐시: 사용자별 전체 목록 보관, 무효화/TTL 만료 시 전체 재조회, TTL 0이면 미사용, 수정 불가 목록, 적중/미적중 지표
+ */
+public class S3ListingCacheTest {
+
+    private static final String USERNAME = "testuser";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadsFullListingOncePerUser() {
+        S3ListingCache cache = new S3ListingCache(Duration.ofMinutes(1), 100);
+
+        assertThat(cache.get(USERNAME, this::load)).hasSize(1);
+        assertThat(cache.get(USERNAME, this::load)).hasSize(1);
+        cache.get("other", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidateReloadsOnlyThatUser() {
+        S3ListingCache cache = new S3ListingCache(Duration.ofMinutes(1), 100);
+        cache.get(USERNAME, this::load);
+        cache.get("other", this::load);
+
+        cache.invalidate(USERNAME);
+        cache.get(USERNAME, this::load);
+        cache.get("other", this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void entriesExpireAfterTtl() throws InterruptedException {
+        S3ListingCache cache = new S3ListingCache(Duration.ofMillis(50), 100);
+        cache.get(USERNAME, this::load);
+
+        Thread.sleep(150);
+
+        cache.get(USERNAME, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void zeroTtlLoadsEveryTime() {
+        S3ListingCache cache = new S3ListingCache(Duration.ZERO, 100);
+
+        cache.get(USERNAME, this::load);
+        cache.get(USERNAME, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void returnsUnmodifiableCopyOfLoadedListing() {
+        S3ListingCache cache = new S3ListingCache(Duration.ofMinutes(1), 100);
+        List<S3Object> loaded = new ArrayList<>(load(USERNAME));
+
+        List<S3Object> cached = cache.get(USERNAME, name -> loaded);
+        loaded.clear();
+
+        assertThat(cached).hasSize(1);
+        assertThatThrownBy(() -> cached.add(object("testuser/new.txt"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        S3ListingCache cache = new S3ListingCache(Duration.ofMinutes(1), 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(USERNAME, this::load);   // miss
+        cache.get(USERNAME, this::load);   // hit
+        cache.invalidate(USERNAME);
+        cache.get(USERNAME, this::load);   // miss
+
+        assertThat(registry.get("s3.list.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("s3.list.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    private List<S3Object> load(String username) {
+        loads.incrementAndGet();
+        return List.of(object(username + "/commits.txt"));
+    }
+
+    private static S3Object object(String key) {
+        return S3Object.builder().key(key).lastModified(Instant.parse("2024-01-01T00:00:00Z")).size(10L).build();
+    }
+}
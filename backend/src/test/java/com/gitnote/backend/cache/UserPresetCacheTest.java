@@ -0,0 +1,128 @@
+package com.gitnote.backend.cache;
+
+import com.gitnote.backend.entity.UserPreset;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프리셋 캐시: 없는 사용자 보관, 복사본 격리, write-through(put/putAbsent), TTL 만료, 적중/미적중 지표
+ */
+public class UserPresetCacheTest {
+
+    private static final String USER_ID = "testuser";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadsOnceAndCachesMissingUser() {
+        UserPresetCache cache = new UserPresetCache(Duration.ofMinutes(1), 100);
+
+        assertThat(cache.get(USER_ID, this::load)).map(UserPreset::getEmail).contains("user@example.com");
+        assertThat(cache.get(USER_ID, this::load)).isPresent();
+        // 프리셋이 없는 사용자도 빈 값으로 보관
+        assertThat(cache.get("nobody", id -> {
+            loads.incrementAndGet();
+            return null;
+        })).isEmpty();
+        assertThat(cache.get("nobody", this::load)).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void returnedAndStoredPresetsAreCopies() {
+        UserPresetCache cache = new UserPresetCache(Duration.ofMinutes(1), 100);
+        UserPreset preset = preset("before@example.com");
+        cache.put(preset);
+
+        // 저장 후 원본 수정 → 캐시 값은 그대로
+        preset.setEmail("changed@example.com");
+        // 조회 결과 수정 → 캐시 값은 그대로
+        cache.get(USER_ID, this::load).orElseThrow().setEmail("changed@example.com");
+        cache.peek(USER_ID).setEmail("changed@example.com");
+
+        assertThat(cache.peek(USER_ID).getEmail()).isEqualTo("before@example.com");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void writeThroughReplacesCachedValue() {
+        UserPresetCache cache = new UserPresetCache(Duration.ofMinutes(1), 100);
+        cache.get(USER_ID, this::load);
+
+        cache.put(preset("saved@example.com"));
+        assertThat(cache.get(USER_ID, this::load)).map(UserPreset::getEmail).contains("saved@example.com");
+
+        cache.putAbsent(USER_ID);
+        assertThat(cache.get(USER_ID, this::load)).isEmpty();
+        assertThat(cache.peek(USER_ID)).isNull();
+
+        cache.invalidate(USER_ID);
+        assertThat(cache.get(USER_ID, this::load)).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void asyncLookupKeepsValueWrittenDuringLoad() {
+        UserPresetCache cache = new UserPresetCache(Duration.ofMinutes(1), 100);
+
+        // 조회 중 저장이 반영되면 조회 결과(이전 값)로 덮어쓰지 않음
+        UserPreset loaded = cache.getAsync(USER_ID, id -> Mono.fromSupplier(() -> {
+            cache.put(preset("saved@example.com"));
+            return preset("stale@example.com");
+        })).block();
+
+        assertThat(loaded.getEmail()).isEqualTo("stale@example.com");
+        assertThat(cache.peek(USER_ID).getEmail()).isEqualTo("saved@example.com");
+        assertThat(cache.getAsync(USER_ID, id -> Mono.error(new IllegalStateException("cached"))).block().getEmail())
+                .isEqualTo("saved@example.com");
+    }
+
+    @Test
+    void entriesExpireAfterTtl() throws InterruptedException {
+        UserPresetCache cache = new UserPresetCache(Duration.ofMillis(50), 100);
+        cache.get(USER_ID, this::load);
+
+        Thread.sleep(150);
+
+        assertThat(cache.peek(USER_ID)).isNull();
+        cache.get(USER_ID, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        UserPresetCache cache = new UserPresetCache(Duration.ofMinutes(1), 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(USER_ID, this::load);                          // miss
+        cache.get(USER_ID, this::load);                          // hit
+        cache.getAsync(USER_ID, id -> Mono.empty()).block();     // hit
+        cache.getAsync("other", id -> Mono.empty()).block();     // miss
+        cache.peek(USER_ID);                                     // 집계 제외
+
+        assertThat(registry.get("user.preset.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("user.preset.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("user.preset.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("user.preset.cache.dynamodb.rcu.saved").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private UserPreset load(String userId) {
+        loads.incrementAndGet();
+        return preset("user@example.com");
+    }
+
+    private static UserPreset preset(String email) {
+        return UserPreset.builder()
+                .userId(USER_ID)
+                .email(email)
+                .build();
+    }
+}
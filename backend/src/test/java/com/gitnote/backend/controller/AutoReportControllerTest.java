@@ -0,0 +1,214 @@
+package com.gitnote.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gitnote.backend.RestDocsConfiguration;
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import com.gitnote.backend.service.ReportJobService;
+import com.gitnote.backend.service.ReportPipelineService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AutoReportController.class)
+@AutoConfigureRestDocs
+@Import(RestDocsConfiguration.class)
+public class AutoReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RestDocumentationResultHandler restDocs;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReportPipelineService reportPipelineService;
+
+    @MockBean
+    private ReportJobService reportJobService;
+
+    @Test
+    public void submitJob() throws Exception {
+        // given
+        Map<String, String> request = new HashMap<>();
+        request.put("accessToken", "gho_xxxxxxxxxxxx");
+        request.put("repository", "owner/repo");
+        request.put("since", "2024-01-01");
+        request.put("until", "2024-01-31");
+        request.put("reportStyle", "summary");
+        request.put("userId", "testuser");
+
+        ReportJob job = ReportJob.builder()
+                .jobId("3f2a9c0d4b5e6f708192a3b4c5d6e7f8")
+                .status(ReportJobStatus.QUEUED.name())
+                .build();
+
+        given(reportJobService.submit(any(AutoReportRequest.class), eq("report-testuser-2024-01")))
+                .willReturn(job);
+
+        // when & then
+        mockMvc.perform(post("/api/auto-report/jobs")
+                        .header("Idempotency-Key", "report-testuser-2024-01")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value("3f2a9c0d4b5e6f708192a3b4c5d6e7f8"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName("Idempotency-Key").optional().description("멱등성 키 (같은 키로 재시도하면 같은 작업 반환, 생략 시 리포지토리/기간/스타일 기준)")
+                        ),
+                        requestFields(
+                                fieldWithPath("accessToken").type(JsonFieldType.STRING).description("GitHub 액세스 토큰"),
+                                fieldWithPath("repository").type(JsonFieldType.STRING).description("리포지토리 (owner/repo)"),
+                                fieldWithPath("since").type(JsonFieldType.STRING).description("시작일 (yyyy-MM-dd)"),
+                                fieldWithPath("until").type(JsonFieldType.STRING).description("종료일 (yyyy-MM-dd)"),
+                                fieldWithPath("reportStyle").type(JsonFieldType.STRING).description("보고서 스타일"),
+                                fieldWithPath("userId").type(JsonFieldType.STRING).description("사용자 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("등록 성공 여부"),
+                                fieldWithPath("jobId").type(JsonFieldType.STRING).description("작업 ID"),
+                                fieldWithPath("status").type(JsonFieldType.STRING).description("작업 상태 (QUEUED, RUNNING, SUCCEEDED, FAILED)"),
+                                fieldWithPath("statusUrl").type(JsonFieldType.STRING).description("상태 조회 경로")
+                        )
+                ));
+    }
+
+    @Test
+    public void getJob() throws Exception {
+        // given
+        ReportJob job = ReportJob.builder()
+                .jobId("3f2a9c0d4b5e6f708192a3b4c5d6e7f8")
+                .status(ReportJobStatus.SUCCEEDED.name())
+                .userId("testuser")
+                .repository("owner/repo")
+                .since("2024-01-01")
+                .until("2024-01-31")
+                .attempts(1)
+                .commitsCount(12)
+                .reportPk("owner/repo")
+                .reportSk("2024-01-31T21:00:42.123")
+                .createdAt(Instant.parse("2024-01-31T12:00:00Z"))
+                .updatedAt(Instant.parse("2024-01-31T12:00:42Z"))
+                .completedAt(Instant.parse("2024-01-31T12:00:42Z"))
+                .build();
+
+        given(reportJobService.getJob(anyString())).willReturn(Optional.of(job));
+
+        // when & then
+        mockMvc.perform(get("/api/auto-report/jobs/{jobId}", "3f2a9c0d4b5e6f708192a3b4c5d6e7f8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.commitsCount").value(12))
+                .andExpect(jsonPath("$.report.pk").value("owner/repo"))
+                .andExpect(jsonPath("$.report.sk").value("2024-01-31T21:00:42.123"))
+                .andExpect(jsonPath("$.accessToken").doesNotExist())
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("jobId").description("작업 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("jobId").type(JsonFieldType.STRING).description("작업 ID"),
+                                fieldWithPath("status").type(JsonFieldType.STRING).description("작업 상태 (QUEUED, RUNNING, SUCCEEDED, FAILED)"),
+                                fieldWithPath("userId").type(JsonFieldType.STRING).description("사용자 ID"),
+                                fieldWithPath("repository").type(JsonFieldType.STRING).description("리포지토리 (owner/repo)"),
+                                fieldWithPath("period.since").type(JsonFieldType.STRING).description("시작일"),
+                                fieldWithPath("period.until").type(JsonFieldType.STRING).description("종료일"),
+                                fieldWithPath("attempts").type(JsonFieldType.NUMBER).description("실행 시도 횟수"),
+                                fieldWithPath("commitsCount").type(JsonFieldType.NUMBER).optional().description("보고서에 포함된 커밋 수 (SUCCEEDED, 0이면 기간 내 커밋 없음)"),
+                                fieldWithPath("report.pk").type(JsonFieldType.STRING).optional().description("생성된 보고서 PK (SUCCEEDED이고 보고서를 만든 경우, /api/user/report/view의 pk)"),
+                                fieldWithPath("report.sk").type(JsonFieldType.STRING).optional().description("생성된 보고서 SK (/api/user/report/view의 sk)"),
+                                fieldWithPath("error").type(JsonFieldType.STRING).optional().description("실패 사유 (FAILED, 재시도 대기 중이면 마지막 오류)"),
+                                fieldWithPath("createdAt").type(JsonFieldType.STRING).description("등록 일시"),
+                                fieldWithPath("updatedAt").type(JsonFieldType.STRING).description("수정 일시"),
+                                fieldWithPath("completedAt").type(JsonFieldType.STRING).optional().description("완료 일시")
+                        )
+                ));
+    }
+
+    @Test
+    public void generateBatchStreamWritesOneJsonLinePerResult() throws Exception {
+        // given: 완료 순서대로 나오는 항목별 결과
+        Map<String, Object> done = new LinkedHashMap<>();
+        done.put("index", 1);
+        done.put("repository", "owner/repo2");
+        done.put("userId", "user2");
+        done.put("success", true);
+        done.put("commitsCount", 12);
+        Map<String, Object> failed = new LinkedHashMap<>();
+        failed.put("index", 0);
+        failed.put("repository", "owner/repo1");
+        failed.put("userId", "user1");
+        failed.put("success", false);
+        failed.put("error", "No commits found for the specified period");
+        given(reportPipelineService.generateBatch(anyList())).willReturn(Flux.just(done, failed));
+
+        Map<String, Object> batch = Map.of("reports", List.of(
+                Map.of("accessToken", "token1", "repository", "owner/repo1", "since", "2024-01-01",
+                        "until", "2024-01-31", "userId", "user1"),
+                Map.of("accessToken", "token2", "repository", "owner/repo2", "since", "2024-01-01",
+                        "until", "2024-01-31", "userId", "user2")));
+
+        // when
+        MvcResult started = mockMvc.perform(post("/api/auto-report/generate-batch/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then: 결과 1건당 JSON 한 줄, 받은 순서 그대로
+        assertThat(body.lines().toList()).containsExactly(
+                objectMapper.writeValueAsString(done),
+                objectMapper.writeValueAsString(failed));
+    }
+
+    @Test
+    public void getJobNotFound() throws Exception {
+        given(reportJobService.getJob(anyString())).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/auto-report/jobs/{jobId}", "unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Job not found"));
+    }
+}
@@ -10,17 +10,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DDBReportController.class)
@@ -67,5 +74,47 @@ public class DDBReportControllerTest {
                         )
                 ));
     }
-}
 
+    @Test
+    public void getReports() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("username", "testuser");
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("items", List.of(
+                Map.of("PK", "owner/repo", "SK", "2024-11-27T09:00:12.345", "User", "testuser"),
+                Map.of("PK", "owner/repo", "SK", "2024-11-26T09:00:08.123", "User", "testuser")
+        ));
+        page.put("nextCursor", "b3duZXIvcmVwbwoyMDI0LTExLTI2VDA5OjAwOjA4LjEyMw");
+
+        given(reportService.getUserReports(eq("testuser"), eq(2), isNull())).willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/user/report/list")
+                        .session(session)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].SK").value("2024-11-27T09:00:12.345"))
+                .andExpect(jsonPath("$.nextCursor").value("b3duZXIvcmVwbwoyMDI0LTExLTI2VDA5OjAwOjA4LjEyMw"))
+                .andDo(restDocs.document(
+                        queryParameters(
+                                parameterWithName("limit").optional().description("페이지 크기 (기본 20, 최대 100)"),
+                                parameterWithName("cursor").optional().description("다음 페이지 커서 (이전 응답의 nextCursor)")
+                        ),
+                        responseFields(
+                                fieldWithPath("items[].PK").type(JsonFieldType.STRING).description("보고서 ID (리포지토리)"),
+                                fieldWithPath("items[].SK").type(JsonFieldType.STRING).description("생성 일시"),
+                                fieldWithPath("items[].User").type(JsonFieldType.STRING).description("사용자 ID"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.STRING).optional().description("다음 페이지 커서 (마지막 페이지면 null)")
+                        )
+                ));
+    }
+
+    @Test
+    public void getReportsWithoutLogin() throws Exception {
+        mockMvc.perform(get("/api/user/report/list"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -2,7 +2,9 @@ package com.gitnote.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gitnote.backend.RestDocsConfiguration;
+import com.gitnote.backend.dto.GitHubCommit;
 import com.gitnote.backend.dto.S3UploadRequest;
+import com.gitnote.backend.service.GitHubService;
 import com.gitnote.backend.service.S3Service;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,14 +13,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Flux;
 
-import java.util.Arrays;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -42,6 +53,9 @@ public class S3ControllerTest {
     @MockBean
     private S3Service s3Service;
 
+    @MockBean
+    private GitHubService gitHubService;
+
     @Test
     public void uploadCommitLog() throws Exception {
         // given
@@ -79,35 +93,136 @@ public class S3ControllerTest {
                 ));
     }
 
+    @Test
+    public void exportCommitLog() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("accessToken", "test-token");
+        session.setAttribute("username", "testuser");
+
+        GitHubCommit commit = new GitHubCommit();
+        commit.setSha("abc123");
+
+        String key = "testuser/testuser_testrepo_2024-11-27_093012345-1a2b3c4d.txt";
+
+        given(gitHubService.streamCommitsByDateRange(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.just(commit));
+        // 업로드 대신 기록 내용을 받아 둠 (커밋을 받는 대로 기록하고 총 커밋 수는 맺음말에)
+        StringWriter written = new StringWriter();
+        given(s3Service.uploadLog(eq("testuser"), anyString(), any(S3Service.LogWriter.class)))
+                .willAnswer(invocation -> {
+                    invocation.getArgument(2, S3Service.LogWriter.class).writeTo(written);
+                    return key;
+                });
+
+        // when & then
+        mockMvc.perform(post("/api/s3/export")
+                        .session(session)
+                        .param("owner", "testuser")
+                        .param("repo", "testrepo")
+                        .param("since", "2024-11-01")
+                        .param("until", "2024-11-27"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.url").value(key))
+                .andExpect(jsonPath("$.commitCount").value(1))
+                .andDo(restDocs.document(
+                        queryParameters(
+                                parameterWithName("owner").description("저장소 소유자"),
+                                parameterWithName("repo").description("저장소 이름"),
+                                parameterWithName("since").description("시작 날짜 (yyyy-MM-dd)"),
+                                parameterWithName("until").description("종료 날짜 (yyyy-MM-dd)")
+                        ),
+                        responseFields(
+                                fieldWithPath("url").type(JsonFieldType.STRING).description("업로드된 파일의 S3 키"),
+                                fieldWithPath("commitCount").type(JsonFieldType.NUMBER).description("기록한 커밋 수"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("업로드 성공 메시지")
+                        )
+                ));
+
+        assertThat(written.toString())
+                .contains("SHA: abc123")
+                .contains("총 커밋 수: 1\n리포트 종료");
+    }
+
+    @Test
+    public void exportCommitLogWithoutLogin() throws Exception {
+        mockMvc.perform(post("/api/s3/export")
+                        .param("owner", "testuser")
+                        .param("repo", "testrepo")
+                        .param("since", "2024-11-01")
+                        .param("until", "2024-11-27"))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     public void getMyCommitLogs() throws Exception {
         // given
         String username = "testuser";
-        List<String> fileList = Arrays.asList(
-                "testrepo_2024-11-27.txt",
-                "testrepo_2024-11-26.txt",
-                "anotherepo_2024-11-25.txt"
-        );
-
-        given(s3Service.getUserFileList(anyString()))
-                .willReturn(fileList);
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("files", List.of(
+                Map.of(
+                        "fileName", "testrepo_2024-11-27_093012345-1a2b3c4d.txt",
+                        "baseFileName", "testrepo_2024-11-27.txt",
+                        "url", "https://bucket.s3.ap-northeast-2.amazonaws.com/testuser/testrepo_2024-11-27_093012345-1a2b3c4d.txt?X-Amz-Signature=...",
+                        "key", "testuser/testrepo_2024-11-27_093012345-1a2b3c4d.txt",
+                        "size", 2048,
+                        "lastModified", "2024-11-27T00:30:12.000+00:00"
+                ),
+                Map.of(
+                        "fileName", "testrepo_2024-11-26(1).txt",
+                        "baseFileName", "testrepo_2024-11-26.txt",
+                        "url", "https://bucket.s3.ap-northeast-2.amazonaws.com/testuser/testrepo_2024-11-26(1).txt?X-Amz-Signature=...",
+                        "key", "testuser/testrepo_2024-11-26(1).txt",
+                        "size", 1024,
+                        "lastModified", "2024-11-26T08:10:00.000+00:00"
+                )
+        ));
+        page.put("count", 2);
+        page.put("total", 3);
+        page.put("nextCursor", "MjAyNC0xMS0yNlQwODoxMDowMFoKdGVzdHVzZXIvdGVzdHJlcG9fMjAyNC0xMS0yNigxKS50eHQ");
+
+        given(s3Service.getUserFilePage(eq(username), eq(2), isNull()))
+                .willReturn(page);
 
         // when & then
         mockMvc.perform(get("/api/s3/list")
                         .param("username", username)
+                        .param("limit", "2")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.files").isArray())
-                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.total").value(3))
                 .andDo(restDocs.document(
                         queryParameters(
-                                parameterWithName("username").description("파일 목록을 조회할 사용자명")
+                                parameterWithName("username").description("파일 목록을 조회할 사용자명"),
+                                parameterWithName("limit").optional().description("페이지 크기 (기본 20, 최대 100)"),
+                                parameterWithName("cursor").optional().description("다음 페이지 커서 (이전 응답의 nextCursor)")
                         ),
                         responseFields(
-                                fieldWithPath("files").type(JsonFieldType.ARRAY).description("사용자의 커밋 로그 파일 목록"),
-                                fieldWithPath("count").type(JsonFieldType.NUMBER).description("파일 개수")
+                                fieldWithPath("files").type(JsonFieldType.ARRAY).description("사용자의 커밋 로그 파일 목록 (최신순)"),
+                                fieldWithPath("files[].fileName").type(JsonFieldType.STRING).description("파일명"),
+                                fieldWithPath("files[].baseFileName").type(JsonFieldType.STRING).description("업로드 고유 접미사를 뗀 파일명"),
+                                fieldWithPath("files[].url").type(JsonFieldType.STRING).description("열람용 Presigned URL"),
+                                fieldWithPath("files[].key").type(JsonFieldType.STRING).description("S3 객체 키"),
+                                fieldWithPath("files[].size").type(JsonFieldType.NUMBER).description("파일 크기 (bytes)"),
+                                fieldWithPath("files[].lastModified").type(JsonFieldType.STRING).description("업로드 일시"),
+                                fieldWithPath("count").type(JsonFieldType.NUMBER).description("이 페이지의 파일 개수"),
+                                fieldWithPath("total").type(JsonFieldType.NUMBER).description("전체 파일 개수"),
+                                fieldWithPath("nextCursor").type(JsonFieldType.STRING).optional().description("다음 페이지 커서 (마지막 페이지면 null)")
                         )
                 ));
     }
+
+    @Test
+    public void getMyCommitLogsWithInvalidCursor() throws Exception {
+        given(s3Service.getUserFilePage(anyString(), anyInt(), eq("invalid")))
+                .willThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/s3/list")
+                        .param("username", "testuser")
+                        .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest());
+    }
 }
 
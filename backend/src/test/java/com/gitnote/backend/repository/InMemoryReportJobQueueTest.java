@@ -0,0 +1,109 @@
+package com.gitnote.backend.repository;
+
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업 큐 임대: 실행 가능 시각 순 임대, 임대 중 재임대 불가, 임대 만료 후 다른 워커가 가져가면 이전 워커의 갱신은 거부
+ */
+public class InMemoryReportJobQueueTest {
+
+    private final InMemoryReportJobQueue queue = new InMemoryReportJobQueue();
+
+    @Test
+    void enqueueIsIdempotentByJobId() {
+        queue.enqueue(job("job-1", Instant.now()));
+
+        ReportJob duplicate = queue.enqueue(job("job-1", Instant.now()).toBuilder().reportStyle("detailed").build());
+
+        assertThat(duplicate.getReportStyle()).isEqualTo("summary");
+        assertThat(duplicate.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void claimsEarliestAvailableJobAndSkipsFutureJobs() {
+        Instant now = Instant.now();
+        queue.enqueue(job("later", now.minusSeconds(10)));
+        queue.enqueue(job("earlier", now.minusSeconds(60)));
+        queue.enqueue(job("scheduled", now.plusSeconds(3600)));
+
+        assertThat(queue.claimNext("w1", Duration.ofMinutes(10))).map(ReportJob::getJobId).contains("earlier");
+        assertThat(queue.claimNext("w1", Duration.ofMinutes(10))).map(ReportJob::getJobId).contains("later");
+        assertThat(queue.claimNext("w1", Duration.ofMinutes(10))).isEmpty();
+    }
+
+    @Test
+    void claimMarksJobRunningUntilLeaseExpires() {
+        queue.enqueue(job("job-1", Instant.now()));
+
+        ReportJob claimed = queue.claimNext("w1", Duration.ofMinutes(10)).orElseThrow();
+
+        assertThat(claimed.getStatus()).isEqualTo(ReportJobStatus.RUNNING.name());
+        assertThat(claimed.getWorkerId()).isEqualTo("w1");
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+        assertThat(claimed.getAvailableAt()).isAfter(Instant.now().plus(Duration.ofMinutes(9)));
+        // 임대 중에는 다른 워커가 가져가지 않음
+        assertThat(queue.claimNext("w2", Duration.ofMinutes(10))).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndStaleWorkerCannotUpdate() {
+        queue.enqueue(job("job-1", Instant.now()));
+        // 임대 시간 0 → 바로 만료 (워커가 죽은 경우)
+        ReportJob first = queue.claimNext("w1", Duration.ZERO).orElseThrow();
+
+        ReportJob second = queue.claimNext("w2", Duration.ofMinutes(10)).orElseThrow();
+
+        assertThat(second.getWorkerId()).isEqualTo("w2");
+        assertThat(second.getAttempts()).isEqualTo(2);
+        // 늦게 끝난 이전 워커의 결과는 version 불일치로 반영되지 않음
+        assertThat(queue.update(first.toBuilder().status(ReportJobStatus.SUCCEEDED.name()).build())).isFalse();
+        assertThat(queue.update(second.toBuilder().status(ReportJobStatus.SUCCEEDED.name()).build())).isTrue();
+        assertThat(queue.findById("job-1")).map(ReportJob::getStatus).contains(ReportJobStatus.SUCCEEDED.name());
+    }
+
+    @Test
+    void finishedJobIsNotClaimed() {
+        queue.enqueue(job("job-1", Instant.now()));
+        ReportJob claimed = queue.claimNext("w1", Duration.ZERO).orElseThrow();
+
+        queue.update(claimed.toBuilder().status(ReportJobStatus.FAILED.name()).pendingQueue(null).availableAt(null).build());
+
+        assertThat(queue.claimNext("w2", Duration.ofMinutes(10))).isEmpty();
+    }
+
+    @Test
+    void returnedJobsAreCopies() {
+        queue.enqueue(job("job-1", Instant.now()));
+
+        Optional<ReportJob> found = queue.findById("job-1");
+        found.orElseThrow().setStatus(ReportJobStatus.FAILED.name());
+
+        assertThat(queue.findById("job-1")).map(ReportJob::getStatus).contains(ReportJobStatus.QUEUED.name());
+    }
+
+    static ReportJob job(String jobId, Instant availableAt) {
+        return ReportJob.builder()
+                .jobId(jobId)
+                .status(ReportJobStatus.QUEUED.name())
+                .pendingQueue(ReportJob.PENDING)
+                .userId("testuser")
+                .repository("owner/repo")
+                .since("2024-01-01")
+                .until("2024-01-31")
+                .reportStyle("summary")
+                .accessToken("test-token")
+                .attempts(0)
+                .availableAt(availableAt)
+                .createdAt(availableAt)
+                .updatedAt(availableAt)
+                .build();
+    }
+}
@@ -0,0 +1,266 @@
+package com.gitnote.backend.repository;
+
+import com.gitnote.backend.cache.UserPresetCache;
+import com.gitnote.backend.entity.UserPreset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 필드 단위 수정(UpdateItem) 요청 구성: 표현식 이름/값, null 필드 REMOVE, 희소 GSI 키 동기화, 캐시가 오래됐을 때 재시도
+ * 저장/삭제 후 캐시 반영(write-through): 다음 조회에서 DynamoDB를 읽지 않음
+ */
+public class UserPresetRepositoryTest {
+
+    private static final String USER_ID = "testuser";
+
+    private DynamoDbClient dynamoDbClient;
+    private UserPresetCache userPresetCache;
+    private UserPresetRepository userPresetRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        // Consumer 오버로드는 요청을 만들어 UpdateItemRequest 오버로드를 호출하도록 (캡처 대상)
+        given(dynamoDbClient.updateItem(any(Consumer.class))).willCallRealMethod();
+        userPresetCache = new UserPresetCache(Duration.ofMinutes(1), 100);
+        userPresetRepository = new UserPresetRepository(
+                dynamoDbClient,
+                DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build(),
+                DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(mock(DynamoDbAsyncClient.class)).build(),
+                userPresetCache,
+                "UserPreset");
+    }
+
+    @Test
+    void updateEmailSetsFieldsWithPlaceholders() {
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willReturn(response(Map.of(
+                "email", s("user@example.com"),
+                "emailNotificationEnabled", AttributeValue.builder().bool(true).build())));
+
+        Optional<UserPreset> updated = userPresetRepository.updateEmail(USER_ID, "user@example.com", true);
+
+        UpdateItemRequest request = captureSingle();
+        assertThat(request.tableName()).isEqualTo("UserPreset");
+        assertThat(request.key()).isEqualTo(Map.of("PK", s(USER_ID)));
+        assertThat(request.updateExpression()).isEqualTo(
+                "SET #email = :email, #emailNotificationEnabled = :emailNotificationEnabled, #updatedAt = :updatedAt"
+                        + " ADD #version :one");
+        assertThat(request.conditionExpression()).isEqualTo("attribute_exists(#PK)");
+        assertThat(request.expressionAttributeNames()).isEqualTo(Map.of(
+                "#email", "email",
+                "#emailNotificationEnabled", "emailNotificationEnabled",
+                "#updatedAt", "updatedAt",
+                "#version", "version",
+                "#PK", "PK"));
+        assertThat(request.expressionAttributeValues())
+                .containsEntry(":email", s("user@example.com"))
+                .containsEntry(":emailNotificationEnabled", AttributeValue.builder().bool(true).build())
+                .containsEntry(":one", AttributeValue.builder().n("1").build())
+                .containsKey(":updatedAt");
+        assertThat(request.returnValues()).isEqualTo(ReturnValue.ALL_NEW);
+
+        // 수정 결과(ALL_NEW)를 캐시에 반영
+        assertThat(updated).map(UserPreset::getEmail).contains("user@example.com");
+        assertThat(userPresetCache.peek(USER_ID).getEmail()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void nullFieldIsRemoved() {
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willReturn(response(Map.of(
+                "emailNotificationEnabled", AttributeValue.builder().bool(false).build())));
+
+        userPresetRepository.updateEmail(USER_ID, null, false);
+
+        UpdateItemRequest request = captureSingle();
+        assertThat(request.updateExpression()).isEqualTo(
+                "SET #emailNotificationEnabled = :emailNotificationEnabled, #updatedAt = :updatedAt"
+                        + " REMOVE #email ADD #version :one");
+        assertThat(request.expressionAttributeNames()).containsEntry("#email", "email");
+        assertThat(request.expressionAttributeValues()).doesNotContainKey(":email");
+    }
+
+    @Test
+    void missingPresetReturnsEmpty() {
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willThrow(conditionFailed());
+
+        assertThat(userPresetRepository.updateReportStyle(USER_ID, "summary")).isEmpty();
+        assertThat(userPresetCache.peek(USER_ID)).isNull();
+    }
+
+    @Test
+    void frequencySyncsActiveIndexKeyWhenAutoReportEnabled() {
+        userPresetCache.put(cached(true));
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willReturn(response(Map.of(
+                "autoReportEnabled", AttributeValue.builder().bool(true).build(),
+                "reportFrequency", s("WEEKLY"),
+                "activeReportFrequency", s("WEEKLY"))));
+
+        Optional<UserPreset> updated = userPresetRepository.updateReportFrequency(USER_ID, "WEEKLY");
+
+        UpdateItemRequest request = captureSingle();
+        assertThat(request.updateExpression()).isEqualTo(
+                "SET #reportFrequency = :reportFrequency, #activeReportFrequency = :activeReportFrequency, #updatedAt = :updatedAt"
+                        + " ADD #version :one");
+        assertThat(request.conditionExpression()).isEqualTo("attribute_exists(#PK) AND #autoReportEnabled = :true");
+        assertThat(request.expressionAttributeNames()).containsEntry("#autoReportEnabled", "autoReportEnabled");
+        assertThat(request.expressionAttributeValues())
+                .containsEntry(":reportFrequency", s("WEEKLY"))
+                .containsEntry(":activeReportFrequency", s("WEEKLY"))
+                .containsEntry(":true", AttributeValue.builder().bool(true).build());
+        assertThat(updated).map(UserPreset::getActiveReportFrequency).contains("WEEKLY");
+    }
+
+    @Test
+    void frequencyRemovesActiveIndexKeyWhenAutoReportDisabled() {
+        userPresetCache.put(cached(false));
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willReturn(response(Map.of(
+                "autoReportEnabled", AttributeValue.builder().bool(false).build(),
+                "reportFrequency", s("MONTHLY"))));
+
+        userPresetRepository.updateReportFrequency(USER_ID, "MONTHLY");
+
+        UpdateItemRequest request = captureSingle();
+        assertThat(request.updateExpression()).isEqualTo(
+                "SET #reportFrequency = :reportFrequency, #updatedAt = :updatedAt"
+                        + " REMOVE #activeReportFrequency ADD #version :one");
+        assertThat(request.conditionExpression()).isEqualTo(
+                "attribute_exists(#PK) AND (attribute_not_exists(#autoReportEnabled) OR #autoReportEnabled = :false)");
+        assertThat(request.expressionAttributeValues())
+                .containsEntry(":false", AttributeValue.builder().bool(false).build())
+                .doesNotContainKey(":activeReportFrequency");
+    }
+
+    @Test
+    void frequencyRetriesOppositeConditionWhenCacheIsStale() {
+        // 캐시는 자동 생성 꺼짐, 실제로는 다른 인스턴스에서 켜짐 → 첫 시도 조건 불일치 후 켜짐 조건으로 재시도
+        userPresetCache.put(cached(false));
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .willThrow(conditionFailed())
+                .willReturn(response(Map.of(
+                        "autoReportEnabled", AttributeValue.builder().bool(true).build(),
+                        "reportFrequency", s("DAILY"),
+                        "activeReportFrequency", s("DAILY"))));
+
+        Optional<UserPreset> updated = userPresetRepository.updateReportFrequency(USER_ID, "DAILY");
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient, times(2)).updateItem(captor.capture());
+        List<UpdateItemRequest> requests = captor.getAllValues();
+        assertThat(requests.get(0).updateExpression()).contains("REMOVE #activeReportFrequency");
+        assertThat(requests.get(0).conditionExpression()).contains("#autoReportEnabled = :false");
+        assertThat(requests.get(1).updateExpression()).contains("#activeReportFrequency = :activeReportFrequency");
+        assertThat(requests.get(1).conditionExpression()).endsWith("#autoReportEnabled = :true");
+
+        assertThat(updated).map(UserPreset::getActiveReportFrequency).contains("DAILY");
+        assertThat(userPresetCache.peek(USER_ID).getAutoReportEnabled()).isTrue();
+    }
+
+    @Test
+    void frequencyTriesBothConditionsWhenNotCached() {
+        // 캐시에 없으면 켜짐 조건부터 시도, 프리셋이 없으면 두 번 모두 실패
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willThrow(conditionFailed());
+
+        assertThat(userPresetRepository.updateReportFrequency(USER_ID, "DAILY")).isEmpty();
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient, times(2)).updateItem(captor.capture());
+        assertThat(captor.getAllValues().get(0).conditionExpression()).endsWith("#autoReportEnabled = :true");
+        assertThat(captor.getAllValues().get(1).conditionExpression()).contains("#autoReportEnabled = :false");
+    }
+
+    @Test
+    void saveWritesThroughToCache() {
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willReturn(response(Map.of(
+                "email", s("saved@example.com"))));
+
+        userPresetRepository.save(UserPreset.builder().userId(USER_ID).email("saved@example.com").build());
+
+        assertThat(userPresetRepository.findByUserId(USER_ID)).map(UserPreset::getEmail).contains("saved@example.com");
+        assertThat(userPresetRepository.findByUserIdAsync(USER_ID).block().getVersion()).isEqualTo(4L);
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void saveConflictInvalidatesCache() {
+        userPresetCache.put(cached(true));
+        given(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).willThrow(conditionFailed());
+
+        assertThatThrownBy(() -> userPresetRepository.save(cached(true)))
+                .isInstanceOf(ConditionalCheckFailedException.class);
+
+        // 다른 요청이 먼저 수정 → 캐시를 비워 재시도 시 최신 값을 읽음
+        assertThat(userPresetCache.peek(USER_ID)).isNull();
+    }
+
+    @Test
+    void deleteWritesThroughToCache() {
+        userPresetCache.put(cached(true));
+        given(dynamoDbClient.deleteItem(any(DeleteItemRequest.class))).willReturn(DeleteItemResponse.builder().build());
+
+        userPresetRepository.deleteByUserId(USER_ID);
+
+        assertThat(userPresetRepository.findByUserId(USER_ID)).isEmpty();
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    private UpdateItemRequest captureSingle() {
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        return captor.getValue();
+    }
+
+    private static UserPreset cached(boolean autoReportEnabled) {
+        return UserPreset.builder()
+                .userId(USER_ID)
+                .autoReportEnabled(autoReportEnabled)
+                .reportFrequency("WEEKLY")
+                .version(3L)
+                .build();
+    }
+
+    // UpdateItem ALL_NEW 응답 (PK, version 포함)
+    private static UpdateItemResponse response(Map<String, AttributeValue> attributes) {
+        Map<String, AttributeValue> item = new HashMap<>(attributes);
+        item.put("PK", s(USER_ID));
+        item.put("version", AttributeValue.builder().n("4").build());
+        return UpdateItemResponse.builder().attributes(item).build();
+    }
+
+    private static ConditionalCheckFailedException conditionFailed() {
+        return ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+    }
+
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportFrequency;
+import com.gitnote.backend.entity.UserPreset;
+import com.gitnote.backend.repository.UserPresetRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 자동 리포트 스케줄러: 주기별 기간 경계(월요일/1월 1일/월말), shard 분할(겹침·누락 없음), 실행 시각 분산(구간 내, 재실행 시 동일)
+ */
+public class AutoReportSchedulerTest {
+
+    private static final Duration SPREAD_WINDOW = Duration.ofHours(2);
+    private static final List<String> USER_IDS = IntStream.range(0, 300).mapToObj(i -> "user" + i).toList();
+
+    private final UserPresetRepository userPresetRepository = mock(UserPresetRepository.class);
+
+    @Test
+    void dailyPeriodIsYesterday() {
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.DAILY, LocalDate.of(2024, 1, 1)))
+                .containsExactly(LocalDate.of(2023, 12, 31), LocalDate.of(2023, 12, 31));
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.DAILY, LocalDate.of(2024, 3, 1)))
+                .containsExactly(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    void weeklyPeriodIsPreviousMondayToSunday() {
+        // 월요일 실행 → 지난 주 월~일
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.WEEKLY, LocalDate.of(2024, 1, 8)))
+                .containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7));
+        // 일요일 실행 → 이번 주가 아니라 그 전 주 (연도 경계)
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.WEEKLY, LocalDate.of(2024, 1, 7)))
+                .containsExactly(LocalDate.of(2023, 12, 25), LocalDate.of(2023, 12, 31));
+        // 1월 1일(월요일) 실행
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.WEEKLY, LocalDate.of(2024, 1, 1)))
+                .containsExactly(LocalDate.of(2023, 12, 25), LocalDate.of(2023, 12, 31));
+    }
+
+    @Test
+    void monthlyPeriodIsPreviousMonth() {
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.MONTHLY, LocalDate.of(2024, 1, 1)))
+                .containsExactly(LocalDate.of(2023, 12, 1), LocalDate.of(2023, 12, 31));
+        // 윤년 2월
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.MONTHLY, LocalDate.of(2024, 3, 1)))
+                .containsExactly(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+        // 31일에 실행해도 지난 달 말일까지 (30일로 끝나는 달)
+        assertThat(AutoReportScheduler.reportPeriod(ReportFrequency.MONTHLY, LocalDate.of(2024, 5, 31)))
+                .containsExactly(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30));
+    }
+
+    @Test
+    void shardsPartitionUsersWithoutOverlapOrGaps() {
+        given(userPresetRepository.findActiveByFrequency(ReportFrequency.DAILY))
+                .willAnswer(invocation -> USER_IDS.stream().map(AutoReportSchedulerTest::preset));
+        int shardCount = 3;
+
+        Set<String> scheduled = new HashSet<>();
+        int submitted = 0;
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            ReportJobService reportJobService = mock(ReportJobService.class);
+            AutoReportScheduler scheduler = scheduler(reportJobService, shardCount, shardIndex);
+
+            int count = scheduler.schedule(ReportFrequency.DAILY);
+
+            ArgumentCaptor<AutoReportRequest> requests = ArgumentCaptor.forClass(AutoReportRequest.class);
+            verify(reportJobService, times(count)).submit(requests.capture(), any(String.class), any(Instant.class));
+            for (AutoReportRequest request : requests.getAllValues()) {
+                assertThat(scheduler.shardOf(request.userId())).isEqualTo(shardIndex);
+                // 다른 shard가 이미 등록한 사용자는 없어야 함
+                assertThat(scheduled.add(request.userId())).as(request.userId()).isTrue();
+            }
+            // 한 shard에 몰리지 않음
+            assertThat(count).isBetween(USER_IDS.size() / shardCount / 2, USER_IDS.size() / shardCount * 2);
+            submitted += count;
+        }
+
+        assertThat(scheduled).containsExactlyInAnyOrderElementsOf(USER_IDS);
+        assertThat(submitted).isEqualTo(USER_IDS.size());
+    }
+
+    @Test
+    void spreadOffsetsStayInWindowAndAreStable() {
+        AutoReportScheduler scheduler = scheduler(mock(ReportJobService.class), 1, 0);
+        // 다른 인스턴스(재시작)에서도 같은 값
+        AutoReportScheduler restarted = scheduler(mock(ReportJobService.class), 1, 0);
+
+        Set<Duration> distinct = new HashSet<>();
+        for (String userId : USER_IDS) {
+            for (ReportFrequency frequency : ReportFrequency.values()) {
+                Duration offset = scheduler.spreadOffset(userId, frequency);
+                assertThat(offset).isBetween(Duration.ZERO, SPREAD_WINDOW.minusSeconds(1));
+                assertThat(scheduler.spreadOffset(userId, frequency)).isEqualTo(offset);
+                assertThat(restarted.spreadOffset(userId, frequency)).isEqualTo(offset);
+                distinct.add(offset);
+            }
+        }
+        // 같은 시각에 몰리지 않음
+        assertThat(distinct).hasSizeGreaterThan(USER_IDS.size());
+    }
+
+    @Test
+    void scheduledJobsBecomeAvailableWithinSpreadWindow() {
+        given(userPresetRepository.findActiveByFrequency(ReportFrequency.WEEKLY))
+                .willAnswer(invocation -> USER_IDS.stream().map(AutoReportSchedulerTest::preset));
+        ReportJobService reportJobService = mock(ReportJobService.class);
+        AutoReportScheduler scheduler = scheduler(reportJobService, 1, 0);
+
+        Instant before = Instant.now();
+        scheduler.schedule(ReportFrequency.WEEKLY);
+        Instant after = Instant.now();
+
+        ArgumentCaptor<AutoReportRequest> requests = ArgumentCaptor.forClass(AutoReportRequest.class);
+        ArgumentCaptor<Instant> availableAt = ArgumentCaptor.forClass(Instant.class);
+        verify(reportJobService, times(USER_IDS.size())).submit(requests.capture(), any(String.class), availableAt.capture());
+        for (int i = 0; i < USER_IDS.size(); i++) {
+            Duration offset = scheduler.spreadOffset(requests.getAllValues().get(i).userId(), ReportFrequency.WEEKLY);
+            assertThat(availableAt.getAllValues().get(i)).isBetween(before.plus(offset), after.plus(offset));
+            assertThat(availableAt.getAllValues().get(i)).isBefore(after.plus(SPREAD_WINDOW));
+        }
+    }
+
+    @Test
+    void zeroWindowSchedulesImmediately() {
+        AutoReportScheduler scheduler = new AutoReportScheduler(userPresetRepository, mock(ReportJobService.class),
+                1, 0, Duration.ZERO);
+
+        assertThat(USER_IDS).allSatisfy(userId ->
+                assertThat(scheduler.spreadOffset(userId, ReportFrequency.DAILY)).isZero());
+    }
+
+    @Test
+    void skipsPresetsWithoutRepositoryOrToken() {
+        given(userPresetRepository.findActiveByFrequency(ReportFrequency.MONTHLY)).willAnswer(invocation -> List.of(
+                preset("user1"),
+                preset("user2").toBuilder().repository(null).build(),
+                preset("user3").toBuilder().accessToken(null).build()).stream());
+        ReportJobService reportJobService = mock(ReportJobService.class);
+
+        int submitted = scheduler(reportJobService, 1, 0).schedule(ReportFrequency.MONTHLY);
+
+        assertThat(submitted).isEqualTo(1);
+        verify(reportJobService).submit(any(AutoReportRequest.class), eq(idempotencyKey(ReportFrequency.MONTHLY)), any(Instant.class));
+    }
+
+    @Test
+    void rejectsInvalidShardConfiguration() {
+        ReportJobService reportJobService = mock(ReportJobService.class);
+
+        assertThatThrownBy(() -> scheduler(reportJobService, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduler(reportJobService, 3, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduler(reportJobService, 3, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AutoReportScheduler scheduler(ReportJobService reportJobService, int shardCount, int shardIndex) {
+        return new AutoReportScheduler(userPresetRepository, reportJobService, shardCount, shardIndex, SPREAD_WINDOW);
+    }
+
+    // 오늘(한국 시간) 기준 멱등성 키
+    private static String idempotencyKey(ReportFrequency frequency) {
+        LocalDate[] period = AutoReportScheduler.reportPeriod(frequency, LocalDate.now(ZoneId.of("Asia/Seoul")));
+        return "auto-report:" + frequency.name() + ":" + period[0] + ":" + period[1];
+    }
+
+    private static UserPreset preset(String userId) {
+        return UserPreset.builder()
+                .userId(userId)
+                .autoReportEnabled(true)
+                .repository("owner/repo")
+                .accessToken("test-token")
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.gitnote.backend.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.gitnote.backend.cache.CommitDetailCache;
+import com.gitnote.backend.cache.GitHubConditionalRequestCache;
+import com.gitnote.backend.cache.GitHubRateLimitScheduler;
+import com.gitnote.backend.cache.RepositoryListCache;
+import com.gitnote.backend.dto.GitHubCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST / GraphQL 커밋 이력 조회 결과와 요청 수 비교
+ */
+public class CommitHistorySourceTest {
+
+    private static final String SHA_1 = "1111111111111111111111111111111111111111";
+    private static final String SHA_2 = "2222222222222222222222222222222222222222";
+
+    private WireMockServer wireMock;
+    private GitHubService gitHubService;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+
+        gitHubService = new GitHubService(
+                new GitHubRateLimitScheduler(100, Duration.ofSeconds(1), 0, Duration.ofSeconds(1)),
+                new GitHubConditionalRequestCache(1_000_000),
+                new CommitDetailCache(1_000_000, "", 0),
+                new RepositoryListCache(Duration.ZERO, 0),
+                null,
+                wireMock.baseUrl()
+        );
+
+        // REST: 커밋 목록 (1페이지)
+        wireMock.stubFor(get(urlPathEqualTo("/repos/testuser/testrepo/commits"))
+                .willReturn(okJson("[" + restListItem(SHA_1, "첫 번째 커밋") + "," + restListItem(SHA_2, "두 번째 커밋") + "]")));
+
+        // REST: 커밋 상세
+        wireMock.stubFor(get(urlPathEqualTo("/repos/testuser/testrepo/commits/" + SHA_1))
+                .willReturn(okJson(restDetail(SHA_1, "첫 번째 커밋", 10, 2, "a.txt", "b.txt"))));
+        wireMock.stubFor(get(urlPathEqualTo("/repos/testuser/testrepo/commits/" + SHA_2))
+                .willReturn(okJson(restDetail(SHA_2, "두 번째 커밋", 3, 7, "c.txt"))));
+
+        // GraphQL: history 1페이지
+        wireMock.stubFor(post(urlPathEqualTo("/graphql"))
+                .willReturn(okJson("""
+                        {"data":{"repository":{"defaultBranchRef":{"target":{"history":{
+                          "pageInfo":{"hasNextPage":false,"endCursor":null},
+                          "nodes":[%s,%s]
+                        }}}}}}
+                        """.formatted(
+                        graphQlNode(SHA_1, "첫 번째 커밋", 10, 2, 2),
+                        graphQlNode(SHA_2, "두 번째 커밋", 3, 7, 1)))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    public void restAndGraphQlReturnSameCommitsWithFewerRequests() {
+        LocalDate since = LocalDate.of(2024, 1, 1);
+        LocalDate until = LocalDate.of(2024, 1, 31);
+
+        // when: REST (커밋별 상세 조회 켬)
+        List<GitHubCommit> restCommits = new RestCommitHistorySource(gitHubService, true)
+                .fetchCommitsWithStats("test-token", "testuser", "testrepo", since, until)
+                .collectList()
+                .block();
+        int restRequests = wireMock.getAllServeEvents().size();
+        wireMock.resetRequests();
+
+        // when: GraphQL
+        List<GitHubCommit> graphQlCommits = new GraphQlCommitHistorySource(gitHubService)
+                .fetchCommitsWithStats("test-token", "testuser", "testrepo", since, until)
+                .collectList()
+                .block();
+        int graphQlRequests = wireMock.getAllServeEvents().size();
+
+        // then: 같은 커밋, 같은 통계
+        assertThat(graphQlCommits).hasSameSizeAs(restCommits);
+        for (int i = 0; i < restCommits.size(); i++) {
+            GitHubCommit rest = restCommits.get(i);
+            GitHubCommit graphQl = graphQlCommits.get(i);
+            assertThat(graphQl.getSha()).isEqualTo(rest.getSha());
+            assertThat(graphQl.getCommit().getMessage()).isEqualTo(rest.getCommit().getMessage());
+            assertThat(graphQl.getStats().getAdditions()).isEqualTo(rest.getStats().getAdditions());
+            assertThat(graphQl.getStats().getDeletions()).isEqualTo(rest.getStats().getDeletions());
+            assertThat(graphQl.getStats().getTotal()).isEqualTo(rest.getStats().getTotal());
+            assertThat(graphQl.getStats().getChangedFiles()).isEqualTo(rest.getStats().getChangedFiles());
+        }
+
+        // then: REST는 목록 1회 + 커밋별 상세 N회, GraphQL은 1회
+        assertThat(restRequests).isEqualTo(1 + restCommits.size());
+        assertThat(graphQlRequests).isEqualTo(1);
+        wireMock.verify(1, postRequestedFor(urlPathEqualTo("/graphql"))
+                .withHeader("Content-Type", containing(MediaType.APPLICATION_JSON_VALUE)));
+    }
+
+    @Test
+    public void restListsCommitsWithoutDetailsByDefault() {
+        // when: REST 기본값 (목록만)
+        List<GitHubCommit> commits = new RestCommitHistorySource(gitHubService, false)
+                .fetchCommitsWithStats("test-token", "testuser", "testrepo",
+                        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))
+                .collectList()
+                .block();
+
+        // then: 목록 요청 1회, 상세 요청 없음, 통계 없음
+        assertThat(commits).extracting(GitHubCommit::getSha).containsExactly(SHA_1, SHA_2);
+        assertThat(commits).allSatisfy(commit -> assertThat(commit.getStats()).isNull());
+        assertThat(wireMock.getAllServeEvents()).hasSize(1);
+        wireMock.verify(0, getRequestedFor(urlPathMatching("/repos/testuser/testrepo/commits/.+")));
+    }
+
+    private static String restListItem(String sha, String message) {
+        return """
+                {"sha":"%s","html_url":"https://github.com/testuser/testrepo/commit/%s",
+                 "commit":{"message":"%s","author":{"name":"testuser","email":"testuser@example.com","date":"2024-01-02T10:00:00Z"}}}
+                """.formatted(sha, sha, message);
+    }
+
+    private static String restDetail(String sha, String message, int additions, int deletions, String... files) {
+        StringBuilder fileJson = new StringBuilder();
+        for (String file : files) {
+            if (fileJson.length() > 0) fileJson.append(",");
+            fileJson.append("{\"filename\":\"").append(file).append("\",\"status\":\"modified\",\"patch\":\"@@ -1 +1 @@\"}");
+        }
+        return """
+                {"sha":"%s","html_url":"https://github.com/testuser/testrepo/commit/%s",
+                 "commit":{"message":"%s","author":{"name":"testuser","email":"testuser@example.com","date":"2024-01-02T10:00:00Z"}},
+                 "stats":{"additions":%d,"deletions":%d,"total":%d},
+                 "files":[%s]}
+                """.formatted(sha, sha, message, additions, deletions, additions + deletions, fileJson);
+    }
+
+    private static String graphQlNode(String sha, String message, int additions, int deletions, int changedFiles) {
+        return """
+                {"oid":"%s","message":"%s","url":"https://github.com/testuser/testrepo/commit/%s",
+                 "additions":%d,"deletions":%d,"changedFilesIfAvailable":%d,
+                 "author":{"name":"testuser","email":"testuser@example.com","date":"2024-01-02T10:00:00Z","user":{"login":"testuser","avatarUrl":null}},
+                 "committer":{"name":"testuser","email":"testuser@example.com","date":"2024-01-02T10:00:00Z"}}
+                """.formatted(sha, message, sha, additions, deletions, changedFiles);
+    }
+}
@@ -0,0 +1,144 @@
+package com.gitnote.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 토큰 예산 map-reduce: 커밋 경계 분할, 큰 커밋의 줄/문자 분할(서로게이트 쌍 유지), reduce 단계 수렴, 단일 호출 경로
+ */
+public class CommitSummarizationServiceTest {
+
+    private static final int CHUNK_TOKENS = 2000;
+    private static final Pattern LEVEL = Pattern.compile("L(\\d+) ");
+
+    private GeminiApiService geminiApiService;
+    private CommitSummarizationService service;
+
+    @BeforeEach
+    void setUp() {
+        geminiApiService = mock(GeminiApiService.class);
+        service = new CommitSummarizationService(geminiApiService, CHUNK_TOKENS, 4);
+    }
+
+    @Test
+    void chunksSplitOnCommitBoundaries() {
+        String text = commits(10, 40);
+        int commitTokens = CommitSummarizationService.estimateTokens(commit(1, 40));
+
+        List<String> chunks = service.chunk(text, commitTokens * 3);
+
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        assertThat(chunks).hasSizeGreaterThan(1)
+                .allMatch(chunk -> chunk.matches("(?s)\\[\\d+] 커밋 #\\d+\n.*"))
+                .allMatch(chunk -> CommitSummarizationService.estimateTokens(chunk) <= commitTokens * 3);
+    }
+
+    @Test
+    void oversizedCommitFallsBackToLinesThenCharacters() {
+        String longLine = "가".repeat(250) + "\n";
+        String text = commit(1, 5) + "[2] 커밋 #2\n" + "변경 파일: a.txt\n".repeat(30) + longLine + commit(3, 5);
+        int budget = 100;
+
+        List<String> chunks = service.chunk(text, budget);
+
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        assertThat(chunks).allMatch(chunk -> CommitSummarizationService.estimateTokens(chunk) <= budget);
+        // 긴 줄은 문자 단위로 나뉨 (예산 100자씩)
+        assertThat(chunks).contains("가".repeat(100));
+        // 다음 커밋은 새 청크에서 시작
+        assertThat(chunks).anyMatch(chunk -> chunk.startsWith("[3] 커밋 #3\n"));
+    }
+
+    @Test
+    void characterSplitKeepsSurrogatePairs() {
+        String line = "😀".repeat(40) + "a😀b";
+
+        for (int budget : new int[]{1, 3, 7}) {
+            List<String> chunks = service.chunk(line, budget);
+
+            assertThat(String.join("", chunks)).as("budget %d", budget).isEqualTo(line);
+            assertThat(chunks).as("budget %d", budget).allSatisfy(chunk -> {
+                assertThat(Character.isLowSurrogate(chunk.charAt(0))).isFalse();
+                assertThat(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))).isFalse();
+            });
+        }
+    }
+
+    @Test
+    void shortTextUsesSingleCall() {
+        given(geminiApiService.generateContentAsync(anyString(), anyString())).willReturn(Mono.just("report"));
+        String text = commits(3, 5);
+
+        assertThat(service.summarize(text, "summary")).isEqualTo("report");
+
+        verify(geminiApiService).generateContentAsync(text, "summary");
+        verify(geminiApiService, never()).generateRaw(anyString());
+    }
+
+    @Test
+    void reduceMergesInShrinkingRoundsAndTerminates() {
+        // 구간 요약마다 예산의 2/3 분량 → 한 번에 합칠 수 없어 중간 요약 단계 필요
+        // 결과 앞에 단계 표시(L0 = 청크 요약, Ln = n번째 중간 요약)
+        Map<Integer, Integer> mergesPerLevel = new ConcurrentHashMap<>();
+        given(geminiApiService.generateRaw(anyString())).willAnswer(invocation -> {
+            String prompt = invocation.getArgument(0);
+            Matcher matcher = LEVEL.matcher(prompt);
+            int level = matcher.find() ? Integer.parseInt(matcher.group(1)) + 1 : 0;
+            if (level > 0) {
+                mergesPerLevel.merge(level, 1, Integer::sum);
+            }
+            return Mono.just("L" + level + " " + "가".repeat(1000));
+        });
+        given(geminiApiService.generateContentAsync(anyString(), anyString())).willReturn(Mono.just("final"));
+        Flux<String> chunks = Flux.fromStream(IntStream.rangeClosed(1, 40).mapToObj(i -> commit(i, 5)));
+
+        String report = service.summarizeChunks("리포지토리: testuser/testrepo", chunks, "summary")
+                .block(Duration.ofSeconds(10));
+
+        assertThat(report).isEqualTo("final");
+        verify(geminiApiService).generateContentAsync(anyString(), anyString());
+        // 단계마다 중간 요약 수가 줄어듦
+        List<Integer> counts = List.copyOf(new TreeMap<>(mergesPerLevel).values());
+        assertThat(counts).isNotEmpty();
+        assertThat(counts.get(0)).isLessThan(40);
+        for (int i = 1; i < counts.size(); i++) {
+            assertThat(counts.get(i)).isLessThan(counts.get(i - 1));
+        }
+    }
+
+    private static String commits(int count, int lines) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            builder.append(commit(i, lines));
+        }
+        return builder.toString();
+    }
+
+    private static String commit(int number, int lines) {
+        StringBuilder builder = new StringBuilder()
+                .append('[').append(number).append("] 커밋 #").append(number).append('\n')
+                .append("-".repeat(80)).append('\n');
+        for (int line = 0; line < lines; line++) {
+            builder.append("변경 파일: src/Module").append(line).append(".java 수정\n");
+        }
+        return builder.append('\n').toString();
+    }
+}
@@ -0,0 +1,225 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import com.gitnote.backend.repository.LocalCommitStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증분 커밋 동기화: delta 구간 계산/병합, overlap 밖 늦은 커밋 누락(알려진 한계), 보관 기간, 로컬 저장소 상한
+ */
+public class CommitSyncServiceTest {
+
+    private static final String REPOSITORY = "testuser/testrepo";
+    private static final Duration OVERLAP = Duration.ofHours(24);
+
+    private LocalCommitStore localCommitStore;
+    private CommitSyncService commitSyncService;
+
+    @BeforeEach
+    void setUp() {
+        localCommitStore = new LocalCommitStore("", 10_000, Duration.ofHours(1));
+        commitSyncService = new CommitSyncService(localCommitStore, true, OVERLAP, Period.ofDays(62));
+    }
+
+    @Test
+    void fetchesOnlyDeltaAndMergesWithoutDuplicates() {
+        Instant from = Instant.now().minus(10, ChronoUnit.DAYS);
+        GitHubCommit c1 = commit("1", Instant.now().minus(5, ChronoUnit.DAYS));
+        GitHubCommit c2 = commit("2", Instant.now().minus(3, ChronoUnit.DAYS));
+
+        // 1회차: 로컬 저장소가 비어 있으므로 요청 구간 전체 조회
+        RecordingFetcher first = new RecordingFetcher(c1, c2);
+        Instant until1 = Instant.now();
+        List<GitHubCommit> result1 = commitSyncService.getCommits(REPOSITORY, from, until1, first).collectList().block();
+
+        assertThat(first.ranges).containsExactly(List.of(from, until1));
+        assertThat(result1).extracting(GitHubCommit::getSha).containsExactly("2", "1");
+
+        // 2회차: 동기화 끝 - overlap 이후만 조회, overlap 구간에서 다시 받은 커밋은 중복되지 않음
+        GitHubCommit c3 = commit("3", Instant.now().minus(1, ChronoUnit.HOURS));
+        RecordingFetcher second = new RecordingFetcher(c2, c3);
+        Instant until2 = Instant.now();
+        List<GitHubCommit> result2 = commitSyncService.getCommits(REPOSITORY, from, until2, second).collectList().block();
+
+        assertThat(second.ranges).containsExactly(List.of(until1.minus(OVERLAP), until2));
+        assertThat(result2).extracting(GitHubCommit::getSha).containsExactly("3", "2", "1");
+    }
+
+    @Test
+    void missesLateArrivingCommitOlderThanOverlap() {
+        // 알려진 한계 (그래서 기본 비활성화): 동기화 끝 - overlap보다 이른 committer 날짜로 나중에 들어온 커밋은 다시 조회하지 않음
+        Instant from = Instant.now().minus(10, ChronoUnit.DAYS);
+        GitHubCommit early = commit("early", Instant.now().minus(5, ChronoUnit.DAYS));
+        commitSyncService.getCommits(REPOSITORY, from, Instant.now(), new RecordingFetcher(early)).blockLast();
+
+        GitHubCommit merged = commit("merged", Instant.now().minus(3, ChronoUnit.DAYS));
+        List<GitHubCommit> result = commitSyncService.getCommits(REPOSITORY, from, Instant.now(),
+                new RecordingFetcher(early, merged)).collectList().block();
+
+        assertThat(result).extracting(GitHubCommit::getSha).containsExactly("early");
+    }
+
+    @Test
+    void streamsDeltaBeforeFetchCompletesAndSkipsMergeOnCancel() {
+        Instant from = Instant.now().minus(10, ChronoUnit.DAYS);
+        GitHubCommit latest = commit("latest", Instant.now().minus(1, ChronoUnit.HOURS));
+
+        // 첫 커밋 뒤로 끝나지 않는 조회: 전체를 모은 뒤 내보내면 take(1)이 끝나지 않음
+        List<GitHubCommit> result = commitSyncService.getCommits(REPOSITORY, from, Instant.now(),
+                        (fetchFrom, fetchUntil) -> Flux.concat(Flux.just(latest), Flux.never()))
+                .take(1)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(result).extracting(GitHubCommit::getSha).containsExactly("latest");
+        // 중간에 취소된 조회 구간은 동기화된 것으로 기록하지 않음
+        assertThat(localCommitStore.getCoverage(REPOSITORY)).isNull();
+    }
+
+    @Test
+    void servesFullyCoveredOlderRangeOnlyFromStore() {
+        Instant from = Instant.now().minus(10, ChronoUnit.DAYS);
+        GitHubCommit inside = commit("inside", Instant.now().minus(8, ChronoUnit.DAYS));
+        GitHubCommit after = commit("after", Instant.now().minus(5, ChronoUnit.DAYS));
+        commitSyncService.getCommits(REPOSITORY, from, Instant.now(), new RecordingFetcher(inside, after)).blockLast();
+
+        // 요청 끝이 delta 구간보다 앞이면 delta는 최신화만 하고 결과는 요청 구간의 저장 커밋만
+        Instant until = Instant.now().minus(7, ChronoUnit.DAYS);
+        List<GitHubCommit> result = commitSyncService.getCommits(REPOSITORY, from, until,
+                new RecordingFetcher(inside, after)).collectList().block();
+
+        assertThat(result).extracting(GitHubCommit::getSha).containsExactly("inside");
+    }
+
+    @Test
+    void resumesFromSnapshotAfterRestart(@TempDir Path storeDir) throws InterruptedException {
+        LocalCommitStore store = new LocalCommitStore(storeDir.toString(), 10_000, Duration.ofHours(1));
+        CommitSyncService service = new CommitSyncService(store, true, OVERLAP, Period.ofDays(62));
+        Instant from = Instant.now().minus(10, ChronoUnit.DAYS);
+        Instant until1 = Instant.now();
+        service.getCommits(REPOSITORY, from, until1,
+                new RecordingFetcher(commit("1", Instant.now().minus(5, ChronoUnit.DAYS)))).blockLast();
+        awaitSnapshot(storeDir);
+
+        // 같은 store-dir을 쓰는 새 인스턴스(재시작)는 스냅샷의 동기화 끝 - overlap 이후만 조회
+        LocalCommitStore restarted = new LocalCommitStore(storeDir.toString(), 10_000, Duration.ofHours(1));
+        CommitSyncService restartedService = new CommitSyncService(restarted, true, OVERLAP, Period.ofDays(62));
+        RecordingFetcher second = new RecordingFetcher();
+        Instant until2 = Instant.now();
+        List<GitHubCommit> result = restartedService.getCommits(REPOSITORY, from, until2, second).collectList().block();
+
+        assertThat(second.ranges).containsExactly(List.of(until1.minus(OVERLAP), until2));
+        assertThat(result).extracting(GitHubCommit::getSha).containsExactly("1");
+        store.shutdown();
+        restarted.shutdown();
+    }
+
+    @Test
+    void bypassesStoreOutsideRetention() {
+        Instant from = Instant.now().minus(90, ChronoUnit.DAYS);
+        Instant until = Instant.now().minus(80, ChronoUnit.DAYS);
+        RecordingFetcher fetcher = new RecordingFetcher(commit("1", until.minus(1, ChronoUnit.DAYS)));
+
+        List<GitHubCommit> result = commitSyncService.getCommits(REPOSITORY, from, until, fetcher).collectList().block();
+
+        assertThat(fetcher.ranges).containsExactly(List.of(from, until));
+        assertThat(result).extracting(GitHubCommit::getSha).containsExactly("1");
+        assertThat(localCommitStore.getCoverage(REPOSITORY)).isNull();
+    }
+
+    @Test
+    void dropsCommitsOlderThanRetention() {
+        Instant now = Instant.now();
+        Instant retainFrom = now.minus(5, ChronoUnit.DAYS);
+
+        localCommitStore.merge(REPOSITORY,
+                List.of(commit("old", now.minus(10, ChronoUnit.DAYS)), commit("recent", now.minus(1, ChronoUnit.DAYS))),
+                now.minus(20, ChronoUnit.DAYS), now, retainFrom);
+
+        assertThat(localCommitStore.getCoverage(REPOSITORY).from()).isEqualTo(retainFrom);
+        assertThat(localCommitStore.query(REPOSITORY, now.minus(30, ChronoUnit.DAYS), now))
+                .extracting(GitHubCommit::getSha)
+                .containsExactly("recent");
+    }
+
+    @Test
+    void doesNotKeepRepositoryLargerThanStoreLimit() {
+        LocalCommitStore store = new LocalCommitStore("", 3, Duration.ofHours(1));
+        Instant now = Instant.now();
+
+        store.merge("small/repo", List.of(commit("1", now.minus(1, ChronoUnit.HOURS))),
+                now.minus(1, ChronoUnit.DAYS), now, null);
+        store.merge("large/repo", List.of(
+                        commit("2", now.minus(3, ChronoUnit.HOURS)),
+                        commit("3", now.minus(2, ChronoUnit.HOURS)),
+                        commit("4", now.minus(1, ChronoUnit.HOURS))),
+                now.minus(1, ChronoUnit.DAYS), now, null);
+
+        // 상한을 넘는 리포지토리는 메모리에 남지 않음 → 다음 조회에서 다시 동기화
+        assertThat(store.getCoverage("large/repo")).isNull();
+    }
+
+    // 스냅샷은 별도 스레드에서 임시 파일 → 이동으로 쓰므로 .json 파일이 보이면 완성된 상태
+    private static void awaitSnapshot(Path storeDir) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            try (Stream<Path> files = Files.list(storeDir)) {
+                if (files.anyMatch(file -> file.toString().endsWith(".json"))) return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("스냅샷이 저장되지 않음: " + storeDir);
+    }
+
+    private static GitHubCommit commit(String sha, Instant date) {
+        GitHubCommit.Committer committer = new GitHubCommit.Committer();
+        committer.setDate(date.toString());
+        GitHubCommit.CommitInfo info = new GitHubCommit.CommitInfo();
+        info.setCommitter(committer);
+        GitHubCommit commit = new GitHubCommit();
+        commit.setSha(sha);
+        commit.setCommit(info);
+        return commit;
+    }
+
+    /**
+     * 호출 구간을 기록하고 구간 안의 커밋만 반환하는 GitHub 조회 대역
+     */
+    private static class RecordingFetcher implements BiFunction<Instant, Instant, Flux<GitHubCommit>> {
+        private final List<GitHubCommit> commits;
+        private final List<List<Instant>> ranges = new ArrayList<>();
+
+        RecordingFetcher(GitHubCommit... commits) {
+            this.commits = List.of(commits);
+        }
+
+        @Override
+        public Flux<GitHubCommit> apply(Instant from, Instant until) {
+            ranges.add(List.of(from, until));
+            return Flux.fromIterable(commits)
+                    .filter(commit -> {
+                        Instant date = LocalCommitStore.commitDate(commit);
+                        return !date.isBefore(from) && !date.isAfter(until);
+                    });
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.GitHubCommit;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 텍스트 출력 형식: 기존 exportCommitsAsText(String.format)와 바이트 단위 비교
+ * - StringBuilder / Writer / 그 외 Appendable 경로 (appendInt 분기)
+ * - exportStream은 총 커밋 수만 머리말에서 맺음말로 이동
+ */
+public class CommitTextExporterTest {
+
+    private static final String REPOSITORY = "testuser/testrepo";
+    private static final LocalDate SINCE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate UNTIL = LocalDate.of(2024, 1, 31);
+
+    @Test
+    void stringBuilderOutputMatchesBaseline() {
+        List<GitHubCommit> commits = commits();
+
+        assertThat(CommitTextExporter.exportToString(commits, REPOSITORY, SINCE, UNTIL))
+                .isEqualTo(baseline(commits, REPOSITORY, SINCE, UNTIL));
+    }
+
+    @Test
+    void writerOutputMatchesBaseline() {
+        List<GitHubCommit> commits = commits();
+        StringWriter writer = new StringWriter();
+
+        CommitTextExporter.export(commits, REPOSITORY, SINCE, UNTIL, writer);
+
+        assertThat(writer.toString()).isEqualTo(baseline(commits, REPOSITORY, SINCE, UNTIL));
+    }
+
+    @Test
+    void otherAppendableOutputMatchesBaseline() {
+        List<GitHubCommit> commits = commits();
+        StringBuilder target = new StringBuilder();
+        // StringBuilder/Writer가 아닌 Appendable
+        Appendable appendable = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) {
+                target.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                target.append(csq, start, end);
+                return this;
+            }
+
+            @Override
+            public Appendable append(char c) {
+                target.append(c);
+                return this;
+            }
+        };
+
+        CommitTextExporter.export(commits, REPOSITORY, SINCE, UNTIL, appendable);
+
+        assertThat(target.toString()).isEqualTo(baseline(commits, REPOSITORY, SINCE, UNTIL));
+    }
+
+    @Test
+    void emptyListAndNullHeaderValuesMatchBaseline() {
+        assertThat(CommitTextExporter.exportToString(List.of(), null, null, null))
+                .isEqualTo(baseline(List.of(), null, null, null));
+    }
+
+    @Test
+    void streamMovesCommitCountToFooter() {
+        List<GitHubCommit> commits = commits();
+        StringWriter writer = new StringWriter();
+
+        int count = CommitTextExporter.exportStream(commits, REPOSITORY, SINCE, UNTIL, writer);
+
+        String countLine = "총 커밋 수: " + commits.size() + "\n";
+        String rule = "=".repeat(80) + "\n";
+        String expected = baseline(commits, REPOSITORY, SINCE, UNTIL)
+                .replace(countLine, "")
+                .replace(rule + "리포트 종료\n", rule + countLine + "리포트 종료\n");
+        assertThat(count).isEqualTo(commits.size());
+        assertThat(writer.toString()).isEqualTo(expected);
+    }
+
+    // 두 자리 번호까지, null 작성자/파일/통계/값을 섞은 커밋 목록
+    private static List<GitHubCommit> commits() {
+        List<GitHubCommit> commits = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            GitHubCommit commit = new GitHubCommit();
+            commit.setSha(i == 7 ? null : "sha" + i);
+            commit.setHtmlUrl("https://github.com/testuser/testrepo/commit/sha" + i);
+            switch (i % 4) {
+                case 0 -> {
+                    // 커밋 정보/파일/통계 모두 없음
+                }
+                case 1 -> {
+                    commit.setCommit(info("기능 " + i + " 추가\n\n본문 %s %d", author("테스터", "tester@example.com")));
+                    commit.setFiles(List.of(file("src/Main.java", "modified", 12, 3), file("README.md", "added", 120_345, 0)));
+                    commit.setStats(stats(120_357, 3, 120_360));
+                }
+                case 2 -> {
+                    // 작성자 없음, 빈 파일 목록, 값이 빠진 통계
+                    commit.setCommit(info("수정 " + i, null));
+                    commit.setFiles(List.of());
+                    commit.setStats(stats(null, 5, null));
+                }
+                default -> {
+                    // 작성자 값 null, 값이 빠진 파일
+                    commit.setCommit(info(null, author(null, null)));
+                    commit.setFiles(List.of(file(null, null, null, null)));
+                }
+            }
+            commits.add(commit);
+        }
+        return commits;
+    }
+
+    private static GitHubCommit.CommitInfo info(String message, GitHubCommit.Author author) {
+        GitHubCommit.CommitInfo info = new GitHubCommit.CommitInfo();
+        info.setMessage(message);
+        info.setAuthor(author);
+        return info;
+    }
+
+    private static GitHubCommit.Author author(String name, String email) {
+        GitHubCommit.Author author = new GitHubCommit.Author();
+        author.setName(name);
+        author.setEmail(email);
+        author.setDate(name != null ? "2024-01-02T10:00:00Z" : null);
+        return author;
+    }
+
+    private static GitHubCommit.FileChange file(String filename, String status, Integer additions, Integer deletions) {
+        GitHubCommit.FileChange file = new GitHubCommit.FileChange();
+        file.setFilename(filename);
+        file.setStatus(status);
+        file.setAdditions(additions);
+        file.setDeletions(deletions);
+        return file;
+    }
+
+    private static GitHubCommit.CommitStats stats(Integer additions, Integer deletions, Integer total) {
+        GitHubCommit.CommitStats stats = new GitHubCommit.CommitStats();
+        stats.setAdditions(additions);
+        stats.setDeletions(deletions);
+        stats.setTotal(total);
+        return stats;
+    }
+
+    // 기존 GitHubService.exportCommitsAsText 구현 (형식 비교 기준)
+    private static String baseline(List<GitHubCommit> commits, String repositoryName,
+                                   LocalDate since, LocalDate until) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=".repeat(80)).append("\n")
+            .append(String.format("커밋 리포트: %s\n", repositoryName))
+            .append(String.format("기간: %s ~ %s\n", since, until))
+            .append(String.format("총 커밋 수: %d\n", commits.size()))
+            .append("=".repeat(80)).append("\n\n");
+
+        int i = 1;
+        for (GitHubCommit commit : commits) {
+            sb.append(String.format("[%d] 커밋 #%d\n", i, i))
+              .append("-".repeat(80)).append("\n")
+              .append(String.format("SHA: %s\n", commit.getSha()));
+
+            if (commit.getCommit() != null) {
+                sb.append(String.format("메시지: %s\n", commit.getCommit().getMessage()));
+                if (commit.getCommit().getAuthor() != null) {
+                    sb.append(String.format("작성자: %s <%s>\n",
+                            commit.getCommit().getAuthor().getName(),
+                            commit.getCommit().getAuthor().getEmail()))
+                      .append(String.format("작성일: %s\n", commit.getCommit().getAuthor().getDate()));
+                }
+            }
+
+            sb.append(String.format("URL: %s\n", commit.getHtmlUrl()));
+
+            List<GitHubCommit.FileChange> files = commit.getFiles();
+            if (files != null && !files.isEmpty()) {
+                sb.append(String.format("\n변경된 파일 (%d개):\n", files.size()));
+                files.forEach(file -> sb.append(String.format("  - %s (%s) [+%d/-%d]\n",
+                        file.getFilename(),
+                        file.getStatus(),
+                        Optional.ofNullable(file.getAdditions()).orElse(0),
+                        Optional.ofNullable(file.getDeletions()).orElse(0)
+                )));
+            }
+
+            if (commit.getStats() != null) {
+                sb.append(String.format("\n통계: +%d / -%d (총 %d 변경)\n",
+                        Optional.ofNullable(commit.getStats().getAdditions()).orElse(0),
+                        Optional.ofNullable(commit.getStats().getDeletions()).orElse(0),
+                        Optional.ofNullable(commit.getStats().getTotal()).orElse(0)
+                ));
+            }
+
+            sb.append("\n");
+            i++;
+        }
+        sb.append("=".repeat(80)).append("\n")
+            .append("리포트 종료\n")
+            .append("=".repeat(80)).append("\n");
+
+        return sb.toString();
+    }
+}
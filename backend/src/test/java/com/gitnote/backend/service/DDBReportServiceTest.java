@@ -0,0 +1,170 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.repository.UserPresetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 사용자별 보고서 목록(본문 제외), 본문 저장 형식과 무관한 저장 → 조회 왕복(내부 속성 제외), 기존 보고서 User 속성 이전
+ */
+public class DDBReportServiceTest {
+
+    private DynamoDbClient dynamoDbClient;
+    private DDBReportService reportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        // Consumer 오버로드는 요청을 만들어 UpdateItemRequest 오버로드를 호출하도록 (캡처 대상)
+        given(dynamoDbClient.updateItem(any(Consumer.class))).willCallRealMethod();
+        reportService = new DDBReportService(dynamoDbClient, mock(DynamoDbAsyncClient.class),
+                mock(ReportContentCodec.class), mock(UserPresetRepository.class));
+    }
+
+    @Test
+    void listsOnlyKeysEvenIfIndexReturnsContent() {
+        given(dynamoDbClient.query(any(QueryRequest.class))).willReturn(QueryResponse.builder()
+                .items(Map.of(
+                        "PK", s("owner/repo"),
+                        "SK", s("2024-11-27T09:00:12.345"),
+                        "User", s("testuser"),
+                        "Content", s("보고서 본문..."),
+                        "ContentPreview", s("보고서")))
+                .build());
+
+        Map<String, Object> page = reportService.getUserReports("testuser", 20, null);
+
+        assertThat((List<Map<String, String>>) page.get("items"))
+                .singleElement()
+                .satisfies(item -> assertThat(item).containsOnlyKeys("PK", "SK", "User"));
+        assertThat(page.get("nextCursor")).isNull();
+
+        ArgumentCaptor<QueryRequest> request = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(request.capture());
+        assertThat(request.getValue().indexName()).isEqualTo("User-SK-index");
+        assertThat(request.getValue().expressionAttributeValues().get(":user").s()).isEqualTo("testuser");
+        assertThat(request.getValue().scanIndexForward()).isFalse();
+    }
+
+    @Test
+    void savedReportIsReadBackWithoutInternalAttributes() {
+        DynamoDbAsyncClient dynamoDbAsyncClient = mock(DynamoDbAsyncClient.class);
+        given(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        S3ObjectStub s3 = new S3ObjectStub();
+        ReportContentCodec codec = new ReportContentCodec(s3.s3Client, "test-bucket", "_reports/", 100, 300, 20);
+        DDBReportService service = new DDBReportService(dynamoDbClient, dynamoDbAsyncClient, codec,
+                mock(UserPresetRepository.class));
+
+        // Content / ContentGz / ContentRef + ContentPreview 순
+        for (String content : List.of("짧은 보고서",
+                "- 변경 파일: src/Main.java 수정\n".repeat(50),
+                ReportContentCodecTest.incompressible(2000))) {
+            String sk = service.saveUserReportAsync("testuser", "my-org/service", content, ZoneId.of("Asia/Seoul")).block();
+
+            ArgumentCaptor<PutItemRequest> put = ArgumentCaptor.forClass(PutItemRequest.class);
+            verify(dynamoDbAsyncClient, atLeastOnce()).putItem(put.capture());
+            Map<String, AttributeValue> item = put.getValue().item();
+            assertThat(item.get("SK").s()).isEqualTo(sk);
+            given(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                    .willReturn(GetItemResponse.builder().item(item).build());
+
+            Map<String, Object> report = service.getReportByPKAndSK("my-org/service", sk);
+
+            assertThat(report).containsOnlyKeys("PK", "SK", "User", "Content");
+            assertThat(report).containsEntry("PK", "my-org/service")
+                    .containsEntry("SK", sk)
+                    .containsEntry("User", "testuser")
+                    .containsEntry("Content", content);
+        }
+        assertThat(s3.objects).hasSize(1);
+    }
+
+    @Test
+    void missingReportReturnsNull() {
+        given(dynamoDbClient.getItem(any(GetItemRequest.class))).willReturn(GetItemResponse.builder().build());
+
+        assertThat(reportService.getReportByPKAndSK("my-org/service", "2024-11-01T09:00:00")).isNull();
+    }
+
+    @Test
+    void migratesOrganizationReportsToPresetUser() {
+        givenReports(
+                report("my-org/service", "2024-11-01T09:00:00", "my-org"),       // 조직 리포지토리 → 설정한 사용자로
+                report("testuser/blog", "2024-11-02T09:00:00", "testuser"),      // 본인 리포지토리 → 그대로
+                report("shared-org/app", "2024-11-03T09:00:00", "shared-org"),   // 설정한 사용자가 여럿 → 특정 불가
+                report("my-org/service", "2024-11-04T09:00:00", "testuser"));    // 이미 요청 사용자
+
+        int updated = reportService.migrateReportUsers(Map.of(
+                "my-org/service", List.of("testuser"),
+                "testuser/blog", List.of("testuser"),
+                "shared-org/app", List.of("alice", "bob")));
+
+        assertThat(updated).isEqualTo(1);
+        ArgumentCaptor<UpdateItemRequest> request = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(request.capture());
+        assertThat(request.getValue().key()).isEqualTo(Map.of(
+                "PK", s("my-org/service"),
+                "SK", s("2024-11-01T09:00:00")));
+        assertThat(request.getValue().updateExpression()).isEqualTo("SET #user = :user");
+        assertThat(request.getValue().conditionExpression()).isEqualTo("#user = :owner");
+        assertThat(request.getValue().expressionAttributeValues()).isEqualTo(Map.of(
+                ":user", s("testuser"),
+                ":owner", s("my-org")));
+    }
+
+    @Test
+    void keepsReportsOfOwnerWhoIsGitNoteUser() {
+        // 소유자가 GitNote 사용자면 협업자가 같은 리포지토리를 설정했더라도 소유자 보고서로 유지
+        givenReports(report("alice/tool", "2024-11-01T09:00:00", "alice"));
+
+        int updated = reportService.migrateReportUsers(Map.of(
+                "alice/tool", List.of("bob"),
+                "alice/other", List.of("alice")));
+
+        assertThat(updated).isZero();
+    }
+
+    @SafeVarargs
+    private void givenReports(Map<String, AttributeValue>... items) {
+        given(dynamoDbClient.scan(any(ScanRequest.class))).willReturn(ScanResponse.builder().items(items).build());
+        given(dynamoDbClient.scanPaginator(any(ScanRequest.class)))
+                .willAnswer(invocation -> new ScanIterable(dynamoDbClient, invocation.getArgument(0)));
+    }
+
+    private static Map<String, AttributeValue> report(String pk, String sk, String user) {
+        return Map.of("PK", s(pk), "SK", s(sk), "User", s(user));
+    }
+
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+}
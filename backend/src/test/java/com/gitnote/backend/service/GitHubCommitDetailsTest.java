@@ -0,0 +1,159 @@
+package com.gitnote.backend.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.gitnote.backend.cache.CommitDetailCache;
+import com.gitnote.backend.cache.GitHubConditionalRequestCache;
+import com.gitnote.backend.cache.GitHubRateLimitScheduler;
+import com.gitnote.backend.cache.RepositoryListCache;
+import com.gitnote.backend.dto.GitHubCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 커밋 상세 병렬 조회(enrichWithDetails): 입력 순서 유지, 실패한 커밋만 제외, 동시 요청 수 ≤ github.commit-details.concurrency
+ */
+public class GitHubCommitDetailsTest {
+
+    private static final int COMMITS = 12;
+    private static final int CONCURRENCY = 3;
+    // 실패시킬 커밋 번호
+    private static final int FAILING = 5;
+
+    private WireMockServer wireMock;
+    private GitHubService gitHubService;
+
+    // fetchCommitDetails 구독 ~ 종료 사이의 요청 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+
+        GitHubService service = new GitHubService(
+                new GitHubRateLimitScheduler(100, Duration.ofSeconds(1), 0, Duration.ofSeconds(1)),
+                new GitHubConditionalRequestCache(1_000_000),
+                new CommitDetailCache(1_000_000, "", 0),
+                new RepositoryListCache(Duration.ZERO, 0),
+                null,
+                wireMock.baseUrl()
+        );
+        ReflectionTestUtils.setField(service, "commitDetailsConcurrency", CONCURRENCY);
+        gitHubService = spy(service);
+        doAnswer(invocation -> ((Mono<GitHubCommit>) invocation.callRealMethod())
+                .doOnSubscribe(subscription -> peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doFinally(signal -> inFlight.decrementAndGet()))
+                .when(gitHubService).fetchCommitDetails(anyString(), anyString(), anyString(), anyString());
+
+        // 앞선 커밋일수록 늦게 응답 → 완료 순서와 입력 순서가 다름
+        for (int i = 1; i <= COMMITS; i++) {
+            wireMock.stubFor(get(urlPathEqualTo("/repos/testuser/testrepo/commits/" + sha(i)))
+                    .willReturn(i == FAILING
+                            ? serverError().withBody("{\"message\":\"Server Error\"}")
+                            : okJson(detail(i)).withFixedDelay(20 * (COMMITS - i + 1))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    void keepsInputOrderAndSkipsFailedCommit() {
+        List<GitHubCommit> commits = gitHubService
+                .enrichWithDetails("test-token", "testuser", "testrepo", listed())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // then: 실패한 커밋만 빠지고 나머지는 입력 순서대로, 상세(통계/파일) 포함
+        assertThat(commits).extracting(GitHubCommit::getSha).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, COMMITS).filter(i -> i != FAILING).mapToObj(GitHubCommitDetailsTest::sha).toList());
+        assertThat(commits).allSatisfy(commit -> {
+            assertThat(commit.getStats().getTotal()).isEqualTo(Integer.parseInt(commit.getSha(), 16));
+            assertThat(commit.getFiles()).hasSize(1);
+        });
+
+        // then: 커밋마다 한 번씩 요청 (실패한 커밋도 다시 요청하지 않음)
+        for (int i = 1; i <= COMMITS; i++) {
+            wireMock.verify(1, getRequestedFor(urlPathEqualTo("/repos/testuser/testrepo/commits/" + sha(i))));
+        }
+    }
+
+    @Test
+    void limitsInFlightRequestsToConfiguredConcurrency() {
+        gitHubService.enrichWithDetails("test-token", "testuser", "testrepo", listed())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // 응답 지연 동안 설정값만큼 동시에 요청하되 넘지 않음
+        assertThat(peakInFlight).hasValue(CONCURRENCY);
+        assertThat(inFlight).hasValue(0);
+    }
+
+    @Test
+    void explicitConcurrencyOverridesConfiguredValue() {
+        List<GitHubCommit> commits = gitHubService
+                .enrichWithDetails("test-token", "testuser", "testrepo", listed(), 1)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(commits).hasSize(COMMITS - 1);
+        assertThat(peakInFlight).hasValue(1);
+    }
+
+    @Test
+    void neverRefetchesCachedCommitDetails() {
+        GitHubCommit first = gitHubService.fetchCommitDetails("test-token", "testuser", "testrepo", sha(1))
+                .block(Duration.ofSeconds(5));
+        // 호출자가 받은 상세를 수정해도 (RestCommitHistorySource의 changedFiles 등) 캐시 값은 그대로
+        first.getStats().setChangedFiles(99);
+        GitHubCommit second = gitHubService.fetchCommitDetails("test-token", "testuser", "testrepo", sha(1))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(second.getStats().getTotal()).isEqualTo(1);
+        assertThat(second.getStats().getChangedFiles()).isNull();
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/repos/testuser/testrepo/commits/" + sha(1))));
+    }
+
+    // 목록 API 결과 (상세 없음)
+    private static Flux<GitHubCommit> listed() {
+        return Flux.range(1, COMMITS).map(i -> {
+            GitHubCommit commit = new GitHubCommit();
+            commit.setSha(sha(i));
+            return commit;
+        });
+    }
+
+    private static String sha(int number) {
+        return String.format("%040x", number);
+    }
+
+    // 통계 합계 = 커밋 번호 → 커밋별 응답이 섞이지 않았는지 확인
+    private static String detail(int number) {
+        return """
+                {"sha":"%s","html_url":"https://github.com/testuser/testrepo/commit/%s",
+                 "commit":{"message":"커밋 %d","author":{"name":"testuser","email":"testuser@example.com","date":"2024-01-02T10:00:00Z"}},
+                 "stats":{"additions":%d,"deletions":0,"total":%d},
+                 "files":[{"filename":"file%d.txt","status":"modified"}]}
+                """.formatted(sha(number), sha(number), number, number, number, number);
+    }
+}
@@ -0,0 +1,165 @@
+package com.gitnote.backend.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.gitnote.backend.cache.CommitDetailCache;
+import com.gitnote.backend.cache.GitHubConditionalRequestCache;
+import com.gitnote.backend.cache.GitHubRateLimitScheduler;
+import com.gitnote.backend.cache.RepositoryListCache;
+import com.gitnote.backend.dto.GitHubCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 목록 페이지 스트리밍: Link rel="next" 추적, 다음 페이지 선행 요청, take(n) 시 남은 페이지 미요청
+ */
+public class GitHubCommitPaginationTest {
+
+    private static final String COMMITS_PATH = "/repos/testuser/testrepo/commits";
+    private static final int PAGES = 4;
+    private static final int PER_PAGE = 2;
+
+    private WireMockServer wireMock;
+    private GitHubService gitHubService;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+
+        gitHubService = new GitHubService(
+                new GitHubRateLimitScheduler(100, Duration.ofSeconds(1), 0, Duration.ofSeconds(1)),
+                new GitHubConditionalRequestCache(1_000_000),
+                new CommitDetailCache(1_000_000, "", 0),
+                new RepositoryListCache(Duration.ZERO, 0),
+                null,
+                wireMock.baseUrl()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    void followsNextLinksUntilLastPage() {
+        stubPages(Duration.ZERO);
+
+        List<GitHubCommit> commits = commits().collectList().block(Duration.ofSeconds(10));
+
+        // then: 페이지 순서대로 모든 커밋, 페이지마다 한 번씩 요청
+        assertThat(commits).extracting(GitHubCommit::getSha).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, PAGES * PER_PAGE).mapToObj(GitHubCommitPaginationTest::sha).toList());
+        for (int page = 1; page <= PAGES; page++) {
+            assertThat(requestsForPage(page)).as("page %d", page).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void requestsNextPageWhileCurrentPageIsConsumed() {
+        stubPages(Duration.ZERO);
+
+        // 첫 페이지의 첫 커밋만 소비한 상태에서 2페이지는 이미 요청됨, 받지 않은 3페이지 다음(4페이지)은 요청하지 않음
+        StepVerifier.create(commits(), 1)
+                .expectNextCount(1)
+                .then(() -> awaitRequests(2))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(requestsForPage(2)).isEqualTo(1);
+        assertThat(requestsForPage(4)).isZero();
+    }
+
+    @Test
+    void stopsRequestingPagesAfterTake() throws InterruptedException {
+        // 2페이지 응답이 오기 전에 take가 끝나도록 지연
+        stubPages(Duration.ofMillis(300));
+
+        List<GitHubCommit> commits = commits().take(PER_PAGE).collectList().block(Duration.ofSeconds(5));
+        // 취소 후 남은 페이지를 요청하는지 확인할 시간
+        Thread.sleep(500);
+
+        assertThat(commits).extracting(GitHubCommit::getSha).containsExactly(sha(1), sha(2));
+        assertThat(requestsForPage(1)).isEqualTo(1);
+        assertThat(requestsForPage(3)).isZero();
+        assertThat(requestsForPage(4)).isZero();
+    }
+
+    @Test
+    void parsesLinkHeader() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK, "<https://api.github.com/x?page=2>; rel=\"next\", <https://api.github.com/x?page=5>; rel=\"last\"");
+
+        assertThat(GitHubService.parseLinkHeader(headers))
+                .containsEntry("next", "https://api.github.com/x?page=2")
+                .containsEntry("last", "https://api.github.com/x?page=5");
+        assertThat(GitHubService.parseLinkHeader(new HttpHeaders())).isEmpty();
+    }
+
+    private Flux<GitHubCommit> commits() {
+        return gitHubService.streamCommitsByDateRange("test-token", "testuser", "testrepo",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+    }
+
+    // 1페이지는 page 파라미터 없음, 2페이지부터는 Link 헤더의 URL (page=N), 2페이지 이후 응답은 delay만큼 지연
+    private void stubPages(Duration laterPageDelay) {
+        for (int page = 1; page <= PAGES; page++) {
+            MappingBuilder request = get(urlPathEqualTo(COMMITS_PATH))
+                    .withQueryParam("page", page == 1 ? absent() : equalTo(String.valueOf(page)));
+            var response = okJson(pageBody(page));
+            if (page < PAGES) {
+                response = response.withHeader(HttpHeaders.LINK,
+                        "<%s%s?per_page=%d&page=%d>; rel=\"next\", <%s%s?per_page=%d&page=%d>; rel=\"last\"".formatted(
+                                wireMock.baseUrl(), COMMITS_PATH, PER_PAGE, page + 1,
+                                wireMock.baseUrl(), COMMITS_PATH, PER_PAGE, PAGES));
+            }
+            if (page > 1 && !laterPageDelay.isZero()) {
+                response = response.withFixedDelay((int) laterPageDelay.toMillis());
+            }
+            wireMock.stubFor(request.willReturn(response));
+        }
+    }
+
+    private int requestsForPage(int page) {
+        return wireMock.findAll(getRequestedFor(urlPathEqualTo(COMMITS_PATH))
+                .withQueryParam("page", page == 1 ? absent() : equalTo(String.valueOf(page)))).size();
+    }
+
+    private void awaitRequests(int count) {
+        for (int i = 0; i < 100 && wireMock.getAllServeEvents().size() < count; i++) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static String pageBody(int page) {
+        return IntStream.rangeClosed((page - 1) * PER_PAGE + 1, page * PER_PAGE)
+                .mapToObj(i -> """
+                        {"sha":"%s","commit":{"message":"커밋 %d","committer":{"name":"testuser","date":"2024-01-%02dT10:00:00Z"}}}
+                        """.formatted(sha(i), i, 31 - i))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String sha(int number) {
+        return String.format("%040x", number);
+    }
+}
@@ -0,0 +1,157 @@
+package com.gitnote.backend.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.gitnote.backend.cache.CommitDetailCache;
+import com.gitnote.backend.cache.GitHubConditionalRequestCache;
+import com.gitnote.backend.cache.GitHubRateLimitScheduler;
+import com.gitnote.backend.cache.RepositoryListCache;
+import com.gitnote.backend.dto.GitHubRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 목록: rel="last" 기준 2..N 페이지 병렬 조회(순서 유지), last 없을 때 next 순차 추적, 사용자/토큰별 캐시와 로그아웃 시 제거
+ */
+public class GitHubRepositoryListTest {
+
+    private static final String REPOS_PATH = "/users/testuser/repos";
+    private static final int PER_PAGE = 2;
+
+    private WireMockServer wireMock;
+    private GitHubService gitHubService;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+        gitHubService = gitHubService(new RepositoryListCache(Duration.ZERO, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    void fetchesPagesUpToLastInParallelAndKeepsOrder() {
+        // 앞 페이지일수록 늦게 응답 → 병렬 조회여도 결과는 페이지 순서
+        int pages = 4;
+        for (int page = 1; page <= pages; page++) {
+            ResponseDefinitionBuilder response = okJson(pageBody(page)).withFixedDelay(page == 1 ? 0 : 50 * (pages - page + 1));
+            if (page == 1) {
+                response = response.withHeader(HttpHeaders.LINK, link(2, "next") + ", " + link(pages, "last"));
+            }
+            wireMock.stubFor(get(urlPathEqualTo(REPOS_PATH)).withQueryParam("page", pageParam(page)).willReturn(response));
+        }
+
+        List<GitHubRepository> repositories = gitHubService.getRepositories("test-token", "testuser");
+
+        assertThat(repositories).extracting(GitHubRepository::getName).containsExactlyElementsOf(names(pages));
+        for (int page = 1; page <= pages; page++) {
+            wireMock.verify(1, getRequestedFor(urlPathEqualTo(REPOS_PATH)).withQueryParam("page", pageParam(page)));
+        }
+        // 2..N 페이지 URL은 last 링크의 나머지 파라미터 유지
+        wireMock.verify(pages - 1, getRequestedFor(urlPathEqualTo(REPOS_PATH))
+                .withQueryParam("page", matching("[2-4]"))
+                .withQueryParam("sort", equalTo("updated")));
+    }
+
+    @Test
+    void followsNextLinksWhenLastIsMissing() {
+        int pages = 3;
+        for (int page = 1; page <= pages; page++) {
+            ResponseDefinitionBuilder response = okJson(pageBody(page));
+            if (page < pages) {
+                response = response.withHeader(HttpHeaders.LINK, link(page + 1, "next"));
+            }
+            wireMock.stubFor(get(urlPathEqualTo(REPOS_PATH)).withQueryParam("page", pageParam(page)).willReturn(response));
+        }
+
+        List<GitHubRepository> repositories = gitHubService.getRepositories("test-token", "testuser");
+
+        assertThat(repositories).extracting(GitHubRepository::getName).containsExactlyElementsOf(names(pages));
+        assertThat(wireMock.getAllServeEvents()).hasSize(pages);
+    }
+
+    @Test
+    void cachesPerUserAndTokenUntilLogout() {
+        GitHubService service = gitHubService(new RepositoryListCache(Duration.ofMinutes(1), 100));
+        wireMock.stubFor(get(urlPathEqualTo(REPOS_PATH)).willReturn(okJson(pageBody(1))));
+        wireMock.stubFor(get(urlPathEqualTo("/users/otheruser/repos")).willReturn(okJson(pageBody(1))));
+
+        service.getRepositories("token-a", "testuser");
+        service.getRepositories("token-a", "testuser");
+        assertThat(listRequests()).isEqualTo(1);
+
+        // 다른 토큰 / 다른 사용자는 따로 조회
+        service.getRepositories("token-b", "testuser");
+        service.getRepositories("token-a", "otheruser");
+        assertThat(listRequests()).isEqualTo(3);
+
+        // 로그아웃(토큰 폐기) → 그 토큰의 목록만 제거 (폐기 요청 실패와 무관)
+        service.revokeToken("token-a");
+        service.getRepositories("token-a", "testuser");
+        service.getRepositories("token-a", "otheruser");
+        service.getRepositories("token-b", "testuser");
+        assertThat(listRequests()).isEqualTo(5);
+    }
+
+    @Test
+    void expiresCachedListAfterTtl() throws InterruptedException {
+        GitHubService service = gitHubService(new RepositoryListCache(Duration.ofMillis(100), 100));
+        wireMock.stubFor(get(urlPathEqualTo(REPOS_PATH)).willReturn(okJson(pageBody(1))));
+
+        service.getRepositories("token-a", "testuser");
+        Thread.sleep(200);
+        service.getRepositories("token-a", "testuser");
+
+        assertThat(listRequests()).isEqualTo(2);
+    }
+
+    private GitHubService gitHubService(RepositoryListCache repositoryListCache) {
+        return new GitHubService(
+                new GitHubRateLimitScheduler(100, Duration.ofSeconds(1), 0, Duration.ofSeconds(1)),
+                new GitHubConditionalRequestCache(1_000_000),
+                new CommitDetailCache(1_000_000, "", 0),
+                repositoryListCache,
+                null,
+                wireMock.baseUrl()
+        );
+    }
+
+    private int listRequests() {
+        return wireMock.findAll(getRequestedFor(urlPathMatching("/users/[^/]+/repos"))).size();
+    }
+
+    private String link(int page, String rel) {
+        return "<%s%s?per_page=%d&sort=updated&page=%d>; rel=\"%s\"".formatted(wireMock.baseUrl(), REPOS_PATH, PER_PAGE, page, rel);
+    }
+
+    // 1페이지는 page 파라미터 없이 요청
+    private static StringValuePattern pageParam(int page) {
+        return page == 1 ? absent() : equalTo(String.valueOf(page));
+    }
+
+    private static List<String> names(int pages) {
+        return IntStream.rangeClosed(1, pages * PER_PAGE).mapToObj(i -> "repo" + i).toList();
+    }
+
+    private static String pageBody(int page) {
+        return IntStream.rangeClosed((page - 1) * PER_PAGE + 1, page * PER_PAGE)
+                .mapToObj(i -> "{\"name\":\"repo%d\",\"full_name\":\"testuser/repo%d\"}".formatted(i, i))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.gitnote.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 보고서 본문 저장 형식: Content / ContentGz / ContentRef+ContentPreview(S3) 각각 encode → decode 왕복, 버킷 미설정 시 인라인 유지
+ */
+public class ReportContentCodecTest {
+
+    private static final String PK = "testuser/testrepo";
+    private static final String SK = "2024-11-27T09:00:12.345";
+    private static final int COMPRESS_THRESHOLD = 100;
+    private static final int OFFLOAD_THRESHOLD = 300;
+    private static final int PREVIEW_CHARS = 20;
+
+    private final S3ObjectStub s3 = new S3ObjectStub();
+
+    @Test
+    void smallContentStaysPlain() {
+        String content = "## 요약\n- 짧은 보고서";
+
+        Map<String, AttributeValue> encoded = codec("test-bucket").encode(PK, SK, content);
+
+        assertThat(encoded).containsOnlyKeys(ReportContentCodec.CONTENT);
+        assertThat(encoded.get(ReportContentCodec.CONTENT).s()).isEqualTo(content);
+        assertThat(codec("test-bucket").decode(encoded)).isEqualTo(content);
+        verify(s3.s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void mediumContentIsCompressedInline() {
+        // 반복이 많아 압축 후 offload-threshold 미만
+        String content = "- 변경 파일: src/Main.java 수정 😀\n".repeat(50);
+
+        Map<String, AttributeValue> encoded = codec("test-bucket").encode(PK, SK, content);
+
+        assertThat(encoded).containsOnlyKeys(ReportContentCodec.CONTENT_GZ);
+        assertThat(encoded.get(ReportContentCodec.CONTENT_GZ).b().asByteArray().length)
+                .isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(codec("test-bucket").decode(encoded)).isEqualTo(content);
+        verify(s3.s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void largeContentIsOffloadedToS3WithPreview() {
+        String content = incompressible(2000);
+
+        Map<String, AttributeValue> encoded = codec("test-bucket").encode(PK, SK, content);
+
+        String key = "_reports/" + PK + "/" + SK + ".md.gz";
+        assertThat(encoded).containsOnlyKeys(ReportContentCodec.CONTENT_REF, ReportContentCodec.CONTENT_PREVIEW);
+        assertThat(encoded.get(ReportContentCodec.CONTENT_REF).s()).isEqualTo(key);
+        assertThat(encoded.get(ReportContentCodec.CONTENT_PREVIEW).s()).isEqualTo(content.substring(0, PREVIEW_CHARS));
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3.s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().bucket()).isEqualTo("test-bucket");
+        assertThat(request.getValue().contentEncoding()).isEqualTo("gzip");
+        assertThat(s3.objects).containsOnlyKeys(key);
+
+        assertThat(codec("test-bucket").decode(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    void previewKeepsSurrogatePairs() {
+        // 미리보기 경계(20자)에 서로게이트 쌍이 걸리는 경우
+        String content = "a" + "😀".repeat(10) + incompressible(2000);
+
+        Map<String, AttributeValue> encoded = codec("test-bucket").encode(PK, SK, content);
+
+        String preview = encoded.get(ReportContentCodec.CONTENT_PREVIEW).s();
+        assertThat(preview).isEqualTo("a" + "😀".repeat(9));
+        assertThat(codec("test-bucket").decode(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    void blankBucketKeepsLargeContentInline() {
+        String content = incompressible(2000);
+
+        for (String bucket : new String[]{"", " ", null}) {
+            Map<String, AttributeValue> encoded = codec(bucket).encode(PK, SK, content);
+
+            assertThat(encoded).as("bucket '%s'", bucket).containsOnlyKeys(ReportContentCodec.CONTENT_GZ);
+            assertThat(codec(bucket).decode(encoded)).isEqualTo(content);
+        }
+        verify(s3.s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void decodeWithoutContentAttributeReturnsNull() {
+        assertThat(codec("test-bucket").decode(Map.of("PK", AttributeValue.builder().s(PK).build()))).isNull();
+    }
+
+    @Test
+    void contentAttributesAreInternal() {
+        assertThat(ReportContentCodec.isContentAttribute("Content")).isTrue();
+        assertThat(ReportContentCodec.isContentAttribute("ContentGz")).isTrue();
+        assertThat(ReportContentCodec.isContentAttribute("ContentRef")).isTrue();
+        assertThat(ReportContentCodec.isContentAttribute("ContentPreview")).isTrue();
+        assertThat(ReportContentCodec.isContentAttribute("User")).isFalse();
+    }
+
+    private ReportContentCodec codec(String bucketName) {
+        return new ReportContentCodec(s3.s3Client, bucketName, "_reports/", COMPRESS_THRESHOLD, OFFLOAD_THRESHOLD, PREVIEW_CHARS);
+    }
+
+    // 압축해도 offload-threshold 이상 남는 본문 (한글 음절 무작위)
+    static String incompressible(int length) {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('가' + random.nextInt(11172)));
+        }
+        return builder.toString();
+    }
+}
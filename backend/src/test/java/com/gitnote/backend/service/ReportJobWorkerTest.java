@@ -0,0 +1,196 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.entity.ReportJob;
+import com.gitnote.backend.entity.ReportJobStatus;
+import com.gitnote.backend.repository.InMemoryReportJobQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 작업 처리: 재시도 대상 판별, 성공 시 보고서 키 기록, 실패 시 retry-backoff 후 재시도, max-attempts 초과 시 실패 처리,
+ * 임대 만료 전 생성 취소
+ */
+public class ReportJobWorkerTest {
+
+    private static final String JOB_ID = "job-1";
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final InMemoryReportJobQueue queue = new InMemoryReportJobQueue();
+    private final ReportPipelineService reportPipelineService = mock(ReportPipelineService.class);
+
+    @Test
+    void successStoresReportKeyAndClearsToken() {
+        given(reportPipelineService.generateReport(any(AutoReportRequest.class)))
+                .willReturn(Mono.just(new ReportPipelineService.GeneratedReport(12, "owner/repo", "2024-02-01T09:00:00")));
+        queue.enqueue(job());
+
+        assertThat(worker(3, RETRY_BACKOFF).processNext("w1")).isTrue();
+
+        ReportJob job = queue.findById(JOB_ID).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJobStatus.SUCCEEDED.name());
+        assertThat(job.getCommitsCount()).isEqualTo(12);
+        assertThat(job.getReportPk()).isEqualTo("owner/repo");
+        assertThat(job.getReportSk()).isEqualTo("2024-02-01T09:00:00");
+        assertThat(job.getPendingQueue()).isNull();
+        assertThat(job.getAccessToken()).isNull();
+        assertThat(job.getCompletedAt()).isNotNull();
+        assertThat(job.getExpiresAt()).isGreaterThan(Instant.now().getEpochSecond());
+    }
+
+    @Test
+    void failedJobWaitsForRetryBackoff() {
+        given(reportPipelineService.generateReport(any(AutoReportRequest.class)))
+                .willReturn(Mono.error(new RuntimeException("Gemini API 호출 실패")));
+        queue.enqueue(job());
+        ReportJobWorker worker = worker(3, RETRY_BACKOFF);
+
+        Instant before = Instant.now();
+        worker.processNext("w1");
+
+        ReportJob job = queue.findById(JOB_ID).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJobStatus.QUEUED.name());
+        assertThat(job.getPendingQueue()).isEqualTo(ReportJob.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getError()).isEqualTo("Gemini API 호출 실패");
+        assertThat(job.getAvailableAt()).isAfterOrEqualTo(before.plus(RETRY_BACKOFF));
+        // 대기 시간 전에는 다시 가져가지 않음
+        assertThat(worker.processNext("w2")).isFalse();
+    }
+
+    @Test
+    void failsAfterMaxAttempts() {
+        given(reportPipelineService.generateReport(any(AutoReportRequest.class)))
+                .willReturn(Mono.error(new RuntimeException("Gemini API 호출 실패")));
+        queue.enqueue(job());
+        ReportJobWorker worker = worker(2, Duration.ZERO);
+
+        assertThat(worker.processNext("w1")).isTrue();
+        assertThat(queue.findById(JOB_ID)).map(ReportJob::getStatus).contains(ReportJobStatus.QUEUED.name());
+        assertThat(worker.processNext("w1")).isTrue();
+
+        ReportJob job = queue.findById(JOB_ID).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJobStatus.FAILED.name());
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getPendingQueue()).isNull();
+        assertThat(job.getAccessToken()).isNull();
+        assertThat(worker.processNext("w1")).isFalse();
+    }
+
+    @Test
+    void nonRetryableErrorFailsOnFirstAttempt() {
+        given(reportPipelineService.generateReport(any(AutoReportRequest.class)))
+                .willReturn(Mono.error(gitHubError(401, "{\"message\":\"Bad credentials\"}")));
+        queue.enqueue(job());
+
+        worker(3, Duration.ZERO).processNext("w1");
+
+        ReportJob job = queue.findById(JOB_ID).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJobStatus.FAILED.name());
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelsGenerationBeforeLeaseExpires() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        given(reportPipelineService.generateReport(any(AutoReportRequest.class)))
+                .willReturn(Mono.<ReportPipelineService.GeneratedReport>never().doOnCancel(() -> cancelled.set(true)));
+        queue.enqueue(job());
+        ReportJobWorker worker = worker(3, Duration.ZERO, Duration.ofSeconds(2), Duration.ofMillis(1500));
+
+        long start = System.nanoTime();
+        assertThat(worker.processNext("w1")).isTrue();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // 임대 만료(2초) 1.5초 전에 취소하고, 아직 임대를 가진 채로 재시도 대기로 돌려놓음
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1500));
+        assertThat(cancelled).isTrue();
+        ReportJob job = queue.findById(JOB_ID).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(ReportJobStatus.QUEUED.name());
+        assertThat(job.getWorkerId()).isNull();
+        assertThat(job.getError()).contains("임대 만료");
+        // 다음 시도는 같은 워커든 다른 워커든 새 임대로 한 번만 실행
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsLeaseMarginNotShorterThanLease() {
+        assertThatThrownBy(() -> worker(3, Duration.ZERO, Duration.ofMinutes(1), Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void doesNotRetryGitHubClientErrors() {
+        assertThat(ReportJobWorker.isRetryable(gitHubError(401, "{\"message\":\"Bad credentials\"}"))).isFalse();
+        assertThat(ReportJobWorker.isRetryable(gitHubError(404, "{\"message\":\"Not Found\"}"))).isFalse();
+        assertThat(ReportJobWorker.isRetryable(gitHubError(422, "{\"message\":\"Validation Failed\"}"))).isFalse();
+        assertThat(ReportJobWorker.isRetryable(gitHubError(403, "{\"message\":\"Resource not accessible by integration\"}"))).isFalse();
+    }
+
+    @Test
+    void retriesRateLimitAndServerErrors() {
+        assertThat(ReportJobWorker.isRetryable(gitHubError(403, "{\"message\":\"API rate limit exceeded\"}"))).isTrue();
+        assertThat(ReportJobWorker.isRetryable(gitHubError(429, ""))).isTrue();
+        assertThat(ReportJobWorker.isRetryable(gitHubError(502, ""))).isTrue();
+        assertThat(ReportJobWorker.isRetryable(new RuntimeException("Gemini API 호출 실패"))).isTrue();
+    }
+
+    @Test
+    void doesNotRetryInvalidRequest() {
+        assertThat(ReportJobWorker.isRetryable(new IllegalArgumentException("repository must be owner/repo"))).isFalse();
+        assertThat(ReportJobWorker.isRetryable(new DateTimeParseException("invalid date", "2024-13-01", 5))).isFalse();
+    }
+
+    @Test
+    void findsNonRetryableCause() {
+        // 파이프라인에서 감싼 예외도 원인을 따라가서 판별
+        assertThat(ReportJobWorker.isRetryable(new RuntimeException("리포트 생성 실패", gitHubError(401, "")))).isFalse();
+    }
+
+    private ReportJobWorker worker(int maxAttempts, Duration retryBackoff) {
+        return worker(maxAttempts, retryBackoff, Duration.ofMinutes(10), Duration.ofMinutes(1));
+    }
+
+    private ReportJobWorker worker(int maxAttempts, Duration retryBackoff, Duration lease, Duration leaseMargin) {
+        return new ReportJobWorker(queue, reportPipelineService, false, 1, Duration.ofSeconds(1),
+                lease, leaseMargin, maxAttempts, retryBackoff, Duration.ofDays(7), Duration.ofMinutes(5));
+    }
+
+    private static ReportJob job() {
+        Instant now = Instant.now();
+        return ReportJob.builder()
+                .jobId(JOB_ID)
+                .status(ReportJobStatus.QUEUED.name())
+                .pendingQueue(ReportJob.PENDING)
+                .userId("testuser")
+                .repository("owner/repo")
+                .since("2024-01-01")
+                .until("2024-01-31")
+                .reportStyle("summary")
+                .accessToken("test-token")
+                .attempts(0)
+                .availableAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static WebClientResponseException gitHubError(int status, String body) {
+        return WebClientResponseException.create(status, "", new HttpHeaders(),
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
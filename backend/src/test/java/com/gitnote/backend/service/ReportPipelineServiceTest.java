@@ -0,0 +1,268 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.dto.AutoReportRequest;
+import com.gitnote.backend.dto.GitHubCommit;
+import com.gitnote.backend.entity.UserPreset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 논블로킹 리포트 생성: 커밋 없음 → 빈 결과, 요약 → 비동기 저장 SK 반환, 이메일 실패 무시, 단계 오류 전파
+ * 일괄 생성: 단계별 동시성 상한, 항목별 실패 기록, 완료 순서대로 결과 전송
+ */
+public class ReportPipelineServiceTest {
+
+    private static final String REPOSITORY = "testuser/testrepo";
+    private static final String USER_ID = "testuser";
+    private static final String SK = "2024-02-01T09:00:00.000";
+
+    private CommitHistorySource commitHistorySource;
+    private CommitSummarizationService commitSummarizationService;
+    private DDBReportService reportService;
+    private UserPresetService userPresetService;
+    private EmailService emailService;
+    private ReportPipelineService reportPipelineService;
+
+    @BeforeEach
+    void setUp() {
+        commitHistorySource = mock(CommitHistorySource.class);
+        commitSummarizationService = mock(CommitSummarizationService.class);
+        reportService = mock(DDBReportService.class);
+        userPresetService = mock(UserPresetService.class);
+        emailService = mock(EmailService.class);
+        reportPipelineService = new ReportPipelineService(
+                commitHistorySource, commitSummarizationService, reportService, userPresetService, emailService);
+
+        given(commitSummarizationService.summarizeAsync(anyString(), anyString())).willReturn(Mono.just("생성된 보고서"));
+        given(reportService.saveUserReportAsync(anyString(), anyString(), anyString(), any(ZoneId.class)))
+                .willReturn(Mono.just(SK));
+        given(userPresetService.getPresetAsync(anyString())).willReturn(Mono.empty());
+    }
+
+    @Test
+    void returnsEmptyReportWithoutSummarizingWhenNoCommits() {
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.empty());
+
+        StepVerifier.create(reportPipelineService.generateReport(request()))
+                .expectNext(ReportPipelineService.GeneratedReport.empty())
+                .verifyComplete();
+
+        verifyNoInteractions(commitSummarizationService, reportService, emailService);
+    }
+
+    @Test
+    void summarizesSavesAndReturnsSavedKey() {
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.just(commit("1"), commit("2")));
+
+        StepVerifier.create(reportPipelineService.generateReport(request()))
+                .expectNext(new ReportPipelineService.GeneratedReport(2, REPOSITORY, SK))
+                .verifyComplete();
+
+        verify(commitSummarizationService).summarizeAsync(anyString(), eq("summary"));
+        verify(reportService).saveUserReportAsync(eq(USER_ID), eq(REPOSITORY), eq("생성된 보고서"), eq(ZoneId.of("Asia/Seoul")));
+    }
+
+    @Test
+    void waitsForAsyncSaveWithoutBlocking() {
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.just(commit("1")));
+        // 저장이 끝나기 전에는 결과를 내보내지 않음 (가상 시간: 실제로 기다리지 않음)
+        given(reportService.saveUserReportAsync(anyString(), anyString(), anyString(), any(ZoneId.class)))
+                .willAnswer(invocation -> Mono.delay(Duration.ofSeconds(5)).thenReturn(SK));
+
+        StepVerifier.withVirtualTime(() -> reportPipelineService.generateReport(request()))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofSeconds(4))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNext(new ReportPipelineService.GeneratedReport(1, REPOSITORY, SK))
+                .verifyComplete();
+    }
+
+    @Test
+    void ignoresEmailFailure() {
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.just(commit("1")));
+        given(userPresetService.getPresetAsync(USER_ID)).willReturn(Mono.just(UserPreset.builder()
+                .userId(USER_ID)
+                .email("user@example.com")
+                .emailNotificationEnabled(true)
+                .build()));
+        given(emailService.sendReportCompletionEmailAsync(anyString(), anyString(), anyString(), anyString(), any()))
+                .willReturn(Mono.error(new RuntimeException("SES 오류")));
+
+        StepVerifier.create(reportPipelineService.generateReport(request()))
+                .expectNext(new ReportPipelineService.GeneratedReport(1, REPOSITORY, SK))
+                .verifyComplete();
+
+        verify(emailService).sendReportCompletionEmailAsync(
+                eq("user@example.com"), eq(USER_ID), eq(REPOSITORY), eq("2024-01-01 ~ 2024-01-31"), any());
+    }
+
+    @Test
+    void ignoresPresetLookupFailure() {
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.just(commit("1")));
+        given(userPresetService.getPresetAsync(USER_ID)).willReturn(Mono.error(new RuntimeException("DynamoDB 오류")));
+
+        StepVerifier.create(reportPipelineService.generateReport(request()))
+                .expectNext(new ReportPipelineService.GeneratedReport(1, REPOSITORY, SK))
+                .verifyComplete();
+
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void propagatesSummarizationFailureWithoutSaving() {
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(Flux.just(commit("1")));
+        given(commitSummarizationService.summarizeAsync(anyString(), anyString()))
+                .willReturn(Mono.error(new RuntimeException("Gemini 오류")));
+
+        StepVerifier.create(reportPipelineService.generateReport(request()))
+                .expectErrorMessage("Gemini 오류")
+                .verify();
+
+        verifyNoInteractions(reportService, emailService);
+    }
+
+    @Test
+    void limitsEachBatchStageToItsOwnConcurrency() {
+        ReflectionTestUtils.setField(reportPipelineService, "batchGitHubConcurrency", 3);
+        ReflectionTestUtils.setField(reportPipelineService, "batchGeminiConcurrency", 2);
+        AtomicInteger gitHubInFlight = new AtomicInteger();
+        AtomicInteger gitHubPeak = new AtomicInteger();
+        AtomicInteger geminiInFlight = new AtomicInteger();
+        AtomicInteger geminiPeak = new AtomicInteger();
+
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willAnswer(invocation -> Flux.just(commit("1"))
+                        .delayElements(Duration.ofMillis(30))
+                        .doOnSubscribe(subscription -> gitHubPeak.accumulateAndGet(gitHubInFlight.incrementAndGet(), Math::max))
+                        .doFinally(signal -> gitHubInFlight.decrementAndGet()));
+        given(commitSummarizationService.summarizeAsync(anyString(), anyString()))
+                .willAnswer(invocation -> Mono.delay(Duration.ofMillis(60))
+                        .thenReturn("생성된 보고서")
+                        .doOnSubscribe(subscription -> geminiPeak.accumulateAndGet(geminiInFlight.incrementAndGet(), Math::max))
+                        .doFinally(signal -> geminiInFlight.decrementAndGet()));
+
+        List<Map<String, Object>> results = reportPipelineService.generateBatch(batch(12))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // 단계마다 설정값만큼 동시에 처리하되 넘지 않음
+        assertThat(results).hasSize(12).allSatisfy(result -> assertThat(result).containsEntry("success", true));
+        assertThat(gitHubPeak).hasValue(3);
+        assertThat(geminiPeak).hasValue(2);
+        assertThat(gitHubInFlight).hasValue(0);
+        assertThat(geminiInFlight).hasValue(0);
+    }
+
+    @Test
+    void recordsPerItemFailuresAndContinues() {
+        List<Map<String, String>> reports = batch(4);
+        reports.get(0).remove("accessToken");
+        reports.get(1).put("repository", "testuser/empty");
+        reports.get(2).put("repository", "testuser/broken");
+        reports.get(3).put("repository", "testuser/gemini-down");
+        reports.add(body("testuser/ok"));
+
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willAnswer(invocation -> switch ((String) invocation.getArgument(2)) {
+                    case "empty" -> Flux.empty();
+                    case "broken" -> Flux.error(new RuntimeException("GitHub 오류"));
+                    default -> Flux.just(commit("1"), commit("2"));
+                });
+        given(commitSummarizationService.summarizeAsync(anyString(), anyString()))
+                .willAnswer(invocation -> ((String) invocation.getArgument(0)).contains("gemini-down")
+                        ? Mono.error(new RuntimeException("Gemini 오류"))
+                        : Mono.just("생성된 보고서"));
+
+        List<Map<String, Object>> results = reportPipelineService.generateBatch(reports)
+                .collectSortedList(Comparator.comparing(result -> (Integer) result.get("index")))
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).extracting(result -> result.get("success")).containsExactly(false, false, false, false, true);
+        assertThat(results.get(0).get("error")).asString().startsWith("Missing required parameters");
+        assertThat(results.get(1)).containsEntry("error", "No commits found for the specified period");
+        assertThat(results.get(2)).containsEntry("error", "GitHub 오류");
+        assertThat(results.get(3)).containsEntry("error", "Gemini 오류");
+        assertThat(results.get(4)).containsEntry("repository", "testuser/ok").containsEntry("commitsCount", 2);
+        verify(reportService).saveUserReportAsync(eq(USER_ID), eq("testuser/ok"), anyString(), any(ZoneId.class));
+    }
+
+    @Test
+    void emitsResultsInCompletionOrder() {
+        // 앞선 항목일수록 늦게 끝남 → 결과는 완료 순서대로
+        given(commitHistorySource.fetchCommitsWithStats(anyString(), anyString(), anyString(), any(), any()))
+                .willAnswer(invocation -> Flux.just(commit("1"))
+                        .delayElements(Duration.ofMillis("slow".equals(invocation.getArgument(2)) ? 300 : 10)));
+        List<Map<String, String>> reports = List.of(body("testuser/slow"), body("testuser/fast"));
+
+        StepVerifier.create(reportPipelineService.generateBatch(reports))
+                .assertNext(result -> assertThat(result).containsEntry("index", 1).containsEntry("success", true))
+                .assertNext(result -> assertThat(result).containsEntry("index", 0).containsEntry("success", true))
+                .verifyComplete();
+    }
+
+    private static AutoReportRequest request() {
+        return new AutoReportRequest("test-token", "testuser", "testrepo",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), "summary", USER_ID);
+    }
+
+    private static List<Map<String, String>> batch(int size) {
+        List<Map<String, String>> reports = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            reports.add(body("testuser/repo" + i));
+        }
+        return reports;
+    }
+
+    private static Map<String, String> body(String repository) {
+        Map<String, String> body = new HashMap<>();
+        body.put("accessToken", "test-token");
+        body.put("repository", repository);
+        body.put("since", "2024-01-01");
+        body.put("until", "2024-01-31");
+        body.put("reportStyle", "summary");
+        body.put("userId", USER_ID);
+        return body;
+    }
+
+    private static GitHubCommit commit(String sha) {
+        GitHubCommit.Author author = new GitHubCommit.Author();
+        author.setName("testuser");
+        author.setDate("2024-01-02T10:00:00Z");
+        GitHubCommit.CommitInfo info = new GitHubCommit.CommitInfo();
+        info.setMessage("커밋 " + sha);
+        info.setAuthor(author);
+        GitHubCommit commit = new GitHubCommit();
+        commit.setSha(sha);
+        commit.setCommit(info);
+        return commit;
+    }
+}
@@ -0,0 +1,201 @@
+package com.gitnote.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * S3 업로드 스트림: part-size 이하 PutObject, 파트 번호/순서, 실패한 파트 이후 중단(failFast), 실패 시 AbortMultipartUpload
+ */
+public class S3MultipartOutputStreamTest {
+
+    private static final int PART_SIZE = S3MultipartOutputStream.MIN_PART_SIZE;
+    private static final String UPLOAD_ID = "upload-1";
+
+    private S3Client s3Client;
+    private ExecutorService executor;
+
+    // 파트 번호 → 올린 내용
+    private final Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+    // 실패시킬 파트 번호
+    private final Set<Integer> failingParts = ConcurrentHashMap.newKeySet();
+    private byte[] putObjectContent;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        executor = Executors.newFixedThreadPool(2);
+
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            putObjectContent = read(invocation.getArgument(1));
+            return PutObjectResponse.builder().eTag("etag").build();
+        });
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (failingParts.contains(request.partNumber())) {
+                throw S3Exception.builder().statusCode(500).message("InternalError").build();
+            }
+            uploadedParts.put(request.partNumber(), read(invocation.getArgument(1)));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void uploadsUpToPartSizeWithSinglePutObject() throws IOException {
+        byte[] data = data(PART_SIZE);
+
+        try (S3MultipartOutputStream out = stream(2)) {
+            out.write(data, 0, 1000);
+            out.write(data, 1000, data.length - 1000);
+        }
+
+        assertThat(putObjectContent).isEqualTo(data);
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadsPartsInOrderAndCompletes() throws IOException {
+        byte[] data = data(PART_SIZE * 5 / 2);
+
+        try (S3MultipartOutputStream out = stream(2)) {
+            // 파트 경계와 맞지 않는 크기로 나눠 쓰기
+            for (int off = 0; off < data.length; off += 100_003) {
+                out.write(data, off, Math.min(100_003, data.length - off));
+            }
+        }
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(complete.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+
+        // 파트를 번호 순으로 이어 붙이면 원본과 같음 (마지막 파트만 part-size 미만)
+        assertThat(uploadedParts.get(1)).hasSize(PART_SIZE);
+        assertThat(uploadedParts.get(2)).hasSize(PART_SIZE);
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (int part = 1; part <= 3; part++) {
+            joined.writeBytes(uploadedParts.get(part));
+        }
+        assertThat(joined.toByteArray()).isEqualTo(data);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void stopsUploadingAfterFailedPartAndAborts() throws IOException {
+        failingParts.add(1);
+        S3MultipartOutputStream out = new S3MultipartOutputStream(s3Client, Runnable::run, "test-bucket", "testuser/log.txt",
+                "text/plain; charset=UTF-8", null, PART_SIZE, 2);
+        byte[] data = data(PART_SIZE);
+
+        out.write(data);
+        out.write(data); // 파트 1 업로드 (실패)
+        // 다음 파트를 올리기 전에 앞선 실패를 확인하고 바로 실패
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IOException.class);
+
+        out.abort();
+
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void abortsWhenLastPartFailsOnClose() throws IOException {
+        failingParts.add(2);
+        S3MultipartOutputStream out = stream(2);
+        out.write(data(PART_SIZE + 10));
+
+        assertThatThrownBy(out::close).isInstanceOf(IOException.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void abortsWhenCompleteFails() throws IOException {
+        given(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .willThrow(S3Exception.builder().statusCode(400).message("InvalidPart").build());
+        S3MultipartOutputStream out = stream(2);
+        out.write(data(PART_SIZE + 10));
+
+        assertThatThrownBy(out::close).isInstanceOf(S3Exception.class);
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void abortWithoutMultipartUploadDoesNothing() throws IOException {
+        S3MultipartOutputStream out = stream(2);
+        out.write(data(1000));
+
+        out.abort();
+        out.close(); // 이미 취소됨 → 업로드하지 않음
+
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    private S3MultipartOutputStream stream(int maxInFlight) {
+        return new S3MultipartOutputStream(s3Client, executor, "test-bucket", "testuser/log.txt",
+                "text/plain; charset=UTF-8", null, PART_SIZE, maxInFlight);
+    }
+
+    // 위치마다 값이 달라 순서가 바뀌면 드러나는 데이터
+    private static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + (i >>> 16));
+        }
+        return data;
+    }
+
+    private static byte[] read(RequestBody body) throws IOException {
+        return body.contentStreamProvider().newStream().readAllBytes();
+    }
+}
@@ -0,0 +1,46 @@
+package com.gitnote.backend.service;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PutObject로 올린 내용을 GetObject로 돌려주는 S3Client 대역 (키 → 내용 기록)
+ */
+class S3ObjectStub {
+
+    final S3Client s3Client = mock(S3Client.class);
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    S3ObjectStub() {
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            objects.put(request.key(), body.contentStreamProvider().newStream().readAllBytes());
+            return PutObjectResponse.builder().eTag("etag").build();
+        });
+        given(s3Client.getObject(any(GetObjectRequest.class))).willAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            byte[] content = objects.get(request.key());
+            if (content == null) {
+                throw NoSuchKeyException.builder().statusCode(404).message("The specified key does not exist.").build();
+            }
+            return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) content.length).build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(content)));
+        });
+    }
+}
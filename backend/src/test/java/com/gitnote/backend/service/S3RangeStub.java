@@ -0,0 +1,66 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.cache.PresignedUrlCache;
+import com.gitnote.backend.cache.S3ListingCache;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 객체 하나를 Range GET으로 제공하는 S3Client 대역 (요청한 Range 헤더 기록)
+ */
+class S3RangeStub {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    final S3Client s3Client = mock(S3Client.class);
+    final List<String> ranges = new ArrayList<>();
+
+    S3RangeStub(byte[] content) {
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+                .willReturn(HeadObjectResponse.builder().contentLength((long) content.length).build());
+        given(s3Client.getObject(any(GetObjectRequest.class))).willAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            ranges.add(request.range());
+            Matcher matcher = RANGE.matcher(request.range());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("unexpected range: " + request.range());
+            }
+            int from = Integer.parseInt(matcher.group(1));
+            if (from >= content.length) {
+                throw S3Exception.builder().statusCode(416).message("The requested range is not satisfiable").build();
+            }
+            int to = matcher.group(2).isEmpty()
+                    ? content.length
+                    : (int) Math.min(content.length, Long.parseLong(matcher.group(2)) + 1);
+            byte[] part = Arrays.copyOfRange(content, from, to);
+            return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) part.length).build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(part)));
+        });
+    }
+
+    S3Service s3Service() {
+        S3Service s3Service = new S3Service(s3Client, mock(S3Presigner.class),
+                mock(S3ListingCache.class), mock(PresignedUrlCache.class));
+        ReflectionTestUtils.setField(s3Service, "bucketName", "test-bucket");
+        return s3Service;
+    }
+}
@@ -0,0 +1,83 @@
+package com.gitnote.backend.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 큰 커밋 로그 범위 분할 요약: 머리말(bodyStart, UTF-8 바이트 기준) 이후 본문을 나눠 읽어 이어 붙이면 원문과 같아야 함
+ */
+public class S3ReportServiceTest {
+
+    private static final String KEY = "testuser/commits.txt";
+    private static final String HEADER = "리포지토리: testuser/testrepo\n기간: 2024-01-01 ~ 2024-01-31\n총 커밋 수: 120\n\n";
+
+    @Test
+    void rangesCoverBodyExactlyOnce() {
+        String body = body(120);
+        byte[] content = (HEADER + body).getBytes(StandardCharsets.UTF_8);
+
+        for (int rangeSize : new int[]{64, 1000, 4096}) {
+            S3RangeStub stub = new S3RangeStub(content);
+            S3ReportService s3ReportService = new S3ReportService(stub.s3Service(), summarizer(), rangeSize, 2, 512);
+
+            String report = s3ReportService.summarize(KEY, "summary").block();
+
+            // 머리말은 모든 청크에 따로 붙고, 본문 범위는 겹치거나 빠지지 않음
+            assertThat(report).as("range size %d", rangeSize).isEqualTo(HEADER.strip() + "\n---\n" + body);
+            assertThat(stub.ranges).allMatch(range -> range.matches("bytes=\\d+-\\d+"));
+        }
+    }
+
+    @Test
+    void smallLogIsReadInOneRange() {
+        String body = body(3);
+        S3RangeStub stub = new S3RangeStub((HEADER + body).getBytes(StandardCharsets.UTF_8));
+        CommitSummarizationService summarizer = summarizer();
+        doAnswer(invocation -> Mono.just("whole:" + invocation.getArgument(0)))
+                .when(summarizer).summarizeAsync(anyString(), anyString());
+
+        String report = new S3ReportService(stub.s3Service(), summarizer, 1 << 20, 2, 512)
+                .summarize(KEY, "summary").block();
+
+        assertThat(report).isEqualTo("whole:" + HEADER + body);
+        assertThat(stub.ranges).hasSize(1);
+    }
+
+    // 머리말 인식은 실제 구현, 청크는 범위 그대로, 요약은 "머리말 --- 청크 이어 붙이기"
+    private static CommitSummarizationService summarizer() {
+        CommitSummarizationService summarizer = spy(new CommitSummarizationService(mock(GeminiApiService.class), 24000, 1));
+        doAnswer(invocation -> {
+            String range = invocation.getArgument(0);
+            return range.isEmpty() ? List.of() : List.of(range);
+        }).when(summarizer).chunk(anyString(), anyInt());
+        doAnswer(invocation -> {
+            String header = invocation.getArgument(0);
+            Flux<String> chunks = invocation.getArgument(1);
+            return chunks.collectList().map(list -> header + "\n---\n" + String.join("", list));
+        }).when(summarizer).summarizeChunks(anyString(), any(), anyString());
+        return summarizer;
+    }
+
+    // 멀티바이트 메시지와 길이가 제각각인 줄로 된 커밋 본문
+    private static String body(int commits) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 1; i <= commits; i++) {
+            builder.append('[').append(i).append("] 커밋 #").append(i).append('\n')
+                    .append("메시지: 기능 ").append(i).append(" 수정 ").append("가".repeat(i % 23)).append('\n')
+                    .append("변경 파일: src/Main").append(i).append(".java\n\n");
+        }
+        return builder.toString();
+    }
+}
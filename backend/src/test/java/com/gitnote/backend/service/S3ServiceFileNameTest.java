@@ -0,0 +1,88 @@
+package com.gitnote.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 파일명 고유 접미사: 새 방식(_시분초밀리초-임의값) 생성/제거, 이전 방식 (n), 확장자 없음, 점이 여러 개인 이름
+ */
+public class S3ServiceFileNameTest {
+
+    // 접미사 시각은 서버 시간대 기준
+    private static final Instant NOW = LocalDateTime.of(2024, 1, 2, 9, 30, 12, 345_000_000)
+            .atZone(ZoneId.systemDefault())
+            .toInstant();
+
+    @Test
+    void appendsTimeAndRandomSuffixBeforeExtension() {
+        assertThat(S3Service.uniqueFileName("testuser_testrepo_2024-01-01.txt", NOW))
+                .matches("testuser_testrepo_2024-01-01_093012345-[0-9a-f]{8}\\.txt");
+    }
+
+    @Test
+    void appendsSuffixToNameWithoutExtension() {
+        assertThat(S3Service.uniqueFileName("README", NOW)).matches("README_093012345-[0-9a-f]{8}");
+        assertThat(S3Service.baseFileName("README_093012345-1a2b3c4d")).isEqualTo("README");
+    }
+
+    @Test
+    void appendsSuffixBeforeLastExtensionOfMultiDotName() {
+        assertThat(S3Service.uniqueFileName("archive.tar.gz", NOW)).matches("archive\\.tar_093012345-[0-9a-f]{8}\\.gz");
+        assertThat(S3Service.uniqueFileName("v1.2.3-log.txt", NOW)).matches("v1\\.2\\.3-log_093012345-[0-9a-f]{8}\\.txt");
+        assertThat(S3Service.baseFileName("archive.tar_093012345-1a2b3c4d.gz")).isEqualTo("archive.tar.gz");
+    }
+
+    @Test
+    void baseFileNameRestoresOriginalName() {
+        for (String fileName : List.of("testuser_testrepo_2024-01-01.txt", "README", "archive.tar.gz",
+                "v1.2.3-log.txt", ".env", "이력 (요약).md")) {
+            assertThat(S3Service.baseFileName(S3Service.uniqueFileName(fileName, NOW))).as(fileName).isEqualTo(fileName);
+        }
+    }
+
+    @Test
+    void baseFileNameStripsLegacyNumberSuffix() {
+        assertThat(S3Service.baseFileName("commits(1).txt")).isEqualTo("commits.txt");
+        assertThat(S3Service.baseFileName("commits(12).txt")).isEqualTo("commits.txt");
+        assertThat(S3Service.baseFileName("commits(3)")).isEqualTo("commits");
+        assertThat(S3Service.baseFileName("archive.tar(2).gz")).isEqualTo("archive.tar.gz");
+    }
+
+    @Test
+    void baseFileNameKeepsNamesWithoutSuffix() {
+        assertThat(S3Service.baseFileName("commits.txt")).isEqualTo("commits.txt");
+        assertThat(S3Service.baseFileName("README")).isEqualTo("README");
+        // 접미사 형식이 아니면 그대로 (자릿수/대문자/위치)
+        assertThat(S3Service.baseFileName("log_2024-01-01.txt")).isEqualTo("log_2024-01-01.txt");
+        assertThat(S3Service.baseFileName("log_09301234-1a2b3c4d.txt")).isEqualTo("log_09301234-1a2b3c4d.txt");
+        assertThat(S3Service.baseFileName("log_093012345-1A2B3C4D.txt")).isEqualTo("log_093012345-1A2B3C4D.txt");
+        assertThat(S3Service.baseFileName("log(1)_old.txt")).isEqualTo("log(1)_old.txt");
+        assertThat(S3Service.baseFileName("log().txt")).isEqualTo("log().txt");
+    }
+
+    @Test
+    void sameMillisecondUploadsGetDistinctNames() {
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            names.add(S3Service.uniqueFileName("commits.txt", NOW));
+        }
+
+        assertThat(names).hasSize(100);
+    }
+
+    @Test
+    void namesOfSameDaySortByUploadTime() {
+        String earlier = S3Service.uniqueFileName("commits.txt", NOW);
+        String later = S3Service.uniqueFileName("commits.txt", NOW.plusSeconds(3600));
+
+        assertThat(earlier).isLessThan(later);
+    }
+}
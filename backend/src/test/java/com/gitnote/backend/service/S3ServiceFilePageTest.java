@@ -0,0 +1,222 @@
+package com.gitnote.backend.service;
+
+import com.gitnote.backend.cache.PresignedUrlCache;
+import com.gitnote.backend.cache.S3ListingCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 커밋 로그 목록 페이지: 최신순 커서 순회(같은 시각은 키 순), 삭제된 커서 파일 이후 이어가기, 잘못된 커서,
+ * 업로드 시 목록 재조회, 페이지 간 Presigned URL 재사용
+ */
+public class S3ServiceFilePageTest {
+
+    private static final String USERNAME = "testuser";
+    private static final Instant T1 = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant T2 = Instant.parse("2024-01-02T00:00:00Z");
+    private static final Instant T3 = Instant.parse("2024-01-03T00:00:00Z");
+    private static final Instant T4 = Instant.parse("2024-01-04T00:00:00Z");
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3Presigner s3Presigner = mock(S3Presigner.class);
+    // 버킷에 있는 객체 (listObjectsV2가 호출 시점의 내용을 넣은 순서 그대로 돌려줌, 정렬은 S3Service 몫)
+    private final List<S3Object> bucket = new CopyOnWriteArrayList<>();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final AtomicInteger signatures = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        given(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .willAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).willAnswer(invocation -> {
+            listRequests.incrementAndGet();
+            return ListObjectsV2Response.builder().contents(List.copyOf(bucket)).isTruncated(false).build();
+        });
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            bucket.add(object(request.key(), T4.plusSeconds(60)));
+            return PutObjectResponse.builder().eTag("etag").build();
+        });
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+            given(presigned.url()).willReturn(URI.create("https://test-bucket.s3.amazonaws.com/"
+                    + request.getObjectRequest().key() + "?X-Amz-Signature=" + signatures.incrementAndGet()).toURL());
+            return presigned;
+        });
+    }
+
+    @Test
+    void pagesNewestFirstWithEqualTimesOrderedByKey() {
+        bucket.addAll(List.of(
+                object("testuser/e2.txt", T2),
+                object("testuser/o1.txt", T1),
+                object("testuser/e3.txt", T2),
+                object("testuser/", T3),            // 폴더 항목은 제외
+                object("testuser/n1.txt", T3),
+                object("testuser/e1.txt", T2)));
+        S3Service s3Service = s3Service(Duration.ofMinutes(1));
+
+        List<String> keys = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Map<String, Object> page = s3Service.getUserFilePage(USERNAME, 2, cursor);
+            assertThat(page.get("total")).isEqualTo(5);
+            keys.addAll(keys(page));
+            cursor = (String) page.get("nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(keys).containsExactly("testuser/n1.txt", "testuser/e1.txt", "testuser/e2.txt", "testuser/e3.txt", "testuser/o1.txt");
+        assertThat(pages).isEqualTo(3);
+        // 전체 목록은 한 번만 나열, 이후 페이지는 캐시에서 이진 탐색
+        assertThat(listRequests).hasValue(1);
+    }
+
+    @Test
+    void resumesAfterDeletedCursorFileAmongEqualTimes() {
+        bucket.addAll(List.of(
+                object("testuser/n1.txt", T3),
+                object("testuser/e1.txt", T2),
+                object("testuser/e2.txt", T2),
+                object("testuser/e3.txt", T2),
+                object("testuser/o1.txt", T1)));
+        // TTL 0: 요청마다 다시 나열해 삭제/추가가 바로 보임
+        S3Service s3Service = s3Service(Duration.ZERO);
+
+        Map<String, Object> first = s3Service.getUserFilePage(USERNAME, 3, null);
+        assertThat(keys(first)).containsExactly("testuser/n1.txt", "testuser/e1.txt", "testuser/e2.txt");
+
+        // 커서 파일(e2) 삭제 + 커서보다 새 파일 추가 → 다음 페이지는 정렬 위치 기준으로 e3부터, 새 파일은 포함하지 않음
+        bucket.removeIf(object -> object.key().equals("testuser/e2.txt"));
+        bucket.add(object("testuser/n0.txt", T4));
+        Map<String, Object> second = s3Service.getUserFilePage(USERNAME, 3, (String) first.get("nextCursor"));
+
+        assertThat(keys(second)).containsExactly("testuser/e3.txt", "testuser/o1.txt");
+        assertThat(second.get("total")).isEqualTo(5);
+        assertThat(second.get("nextCursor")).isNull();
+        assertThat(listRequests).hasValue(2);
+    }
+
+    @Test
+    void cursorPastEveryFileReturnsEmptyLastPage() {
+        bucket.add(object("testuser/o1.txt", T1));
+        S3Service s3Service = s3Service(Duration.ofMinutes(1));
+
+        Map<String, Object> page = s3Service.getUserFilePage(USERNAME, 10, cursor(T1.minusSeconds(1), "testuser/zzz.txt"));
+
+        assertThat(keys(page)).isEmpty();
+        assertThat(page.get("count")).isEqualTo(0);
+        assertThat(page.get("nextCursor")).isNull();
+    }
+
+    @Test
+    void rejectsInvalidCursor() {
+        bucket.add(object("testuser/o1.txt", T1));
+        S3Service s3Service = s3Service(Duration.ofMinutes(1));
+
+        for (String cursor : List.of(
+                "not base64!",
+                encode("no-separator"),
+                encode("not-a-date\ntestuser/o1.txt"),
+                encode("\ntestuser/o1.txt"),
+                encode(T1 + "\n"))) {
+            assertThatThrownBy(() -> s3Service.getUserFilePage(USERNAME, 10, cursor))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid cursor");
+        }
+        // 빈 커서는 첫 페이지
+        assertThat(keys(s3Service.getUserFilePage(USERNAME, 10, " "))).containsExactly("testuser/o1.txt");
+    }
+
+    @Test
+    void uploadInvalidatesCachedListing() {
+        bucket.add(object("testuser/o1.txt", T1));
+        S3Service s3Service = s3Service(Duration.ofMinutes(1));
+        s3Service.getUserFilePage(USERNAME, 10, null);
+        s3Service.getUserFilePage(USERNAME, 10, null);
+        assertThat(listRequests).hasValue(1);
+
+        String key = s3Service.uploadLog(USERNAME, "commits.txt", "log");
+        Map<String, Object> page = s3Service.getUserFilePage(USERNAME, 10, null);
+
+        assertThat(listRequests).hasValue(2);
+        assertThat(keys(page)).containsExactly(key, "testuser/o1.txt");
+        assertThat(page.get("total")).isEqualTo(2);
+    }
+
+    @Test
+    void reusesPresignedUrlsAcrossPageRequests() {
+        bucket.addAll(List.of(object("testuser/n1.txt", T3), object("testuser/e1.txt", T2), object("testuser/o1.txt", T1)));
+        S3Service s3Service = s3Service(Duration.ofMinutes(1));
+
+        Map<String, Object> first = s3Service.getUserFilePage(USERNAME, 2, null);
+        Map<String, Object> again = s3Service.getUserFilePage(USERNAME, 2, null);
+
+        assertThat(urls(again)).isEqualTo(urls(first));
+        // 이 페이지 파일만 서명 (3개 중 2개)
+        assertThat(signatures).hasValue(2);
+    }
+
+    private S3Service s3Service(Duration listingTtl) {
+        S3Service s3Service = new S3Service(s3Client, s3Presigner, new S3ListingCache(listingTtl, 100),
+                new PresignedUrlCache(Duration.ofMinutes(10), Duration.ofMinutes(2), 100));
+        ReflectionTestUtils.setField(s3Service, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(s3Service, "uploadPartSize", 5 * 1024 * 1024);
+        ReflectionTestUtils.setField(s3Service, "uploadPartConcurrency", 1);
+        return s3Service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> keys(Map<String, Object> page) {
+        return ((List<Map<String, Object>>) page.get("files")).stream().map(file -> (String) file.get("key")).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> urls(Map<String, Object> page) {
+        return ((List<Map<String, Object>>) page.get("files")).stream().map(file -> (String) file.get("url")).toList();
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).size(10L).build();
+    }
+
+    private static String cursor(Instant lastModified, String key) {
+        return encode(lastModified + "\n" + key);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.gitnote.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 줄 경계 범위 읽기: 앞 줄 나머지 건너뛰기, end를 넘는 줄까지 읽기, 긴 줄 이어 요청, 멀티바이트 경계, 닫힌 Range 요청
+ */
+public class S3ServiceReadLinesTest {
+
+    private static final String KEY = "testuser/commits.txt";
+
+    @Test
+    void skipsLineStartedInPreviousRange() {
+        S3Service s3Service = new S3RangeStub(bytes("aaa\nbbb\nccc\n")).s3Service();
+
+        assertThat(s3Service.readLines(KEY, 1, 5)).isEqualTo("bbb\n");
+        // 앞 바이트가 '\n'이면 start가 곧 줄 시작
+        assertThat(s3Service.readLines(KEY, 4, 5)).isEqualTo("bbb\n");
+        // 범위 안에서 시작하는 줄이 없음
+        assertThat(s3Service.readLines(KEY, 5, 8)).isEmpty();
+    }
+
+    @Test
+    void readsLineCrossingEndWithBoundedRange() {
+        S3RangeStub stub = new S3RangeStub(bytes("aaaa\nbb\n"));
+
+        assertThat(stub.s3Service().readLines(KEY, 0, 2)).isEqualTo("aaaa\n");
+        assertThat(stub.ranges).containsExactly("bytes=0-" + (2 + S3Service.LINE_SLACK - 1));
+    }
+
+    @Test
+    void extendsRangeOnlyForLineLongerThanSlack() {
+        String longLine = "x".repeat(3 * S3Service.LINE_SLACK) + "\n";
+        S3RangeStub stub = new S3RangeStub(bytes(longLine + "next\n"));
+
+        assertThat(stub.s3Service().readLines(KEY, 0, 10)).isEqualTo(longLine);
+        // 첫 구간 [0, end + slack)에서 줄이 끝나지 않으면 이어지는 구간을 두 배 크기로 한 번 더 요청
+        long first = 10 + S3Service.LINE_SLACK;
+        assertThat(stub.ranges).containsExactly(
+                "bytes=0-" + (first - 1),
+                "bytes=" + first + "-" + (first + 2 * first - 1));
+    }
+
+    @Test
+    void stopsAtObjectEndWithoutTrailingNewline() {
+        // 첫 구간이 정확히 객체 끝에서 끝남 → 다음 구간 요청은 416 → EOF
+        String content = "y".repeat(S3Service.LINE_SLACK + 5);
+        S3RangeStub stub = new S3RangeStub(bytes(content));
+
+        assertThat(stub.s3Service().readLines(KEY, 0, 5)).isEqualTo(content);
+        assertThat(stub.ranges).hasSize(2);
+    }
+
+    @Test
+    void splitsAtEveryByteWithoutBreakingMultibyteCharacters() {
+        String content = "커밋 메시지 가나다\n\nabc 한글 😀 끝\n마지막 줄";
+        byte[] bytes = bytes(content);
+        S3Service s3Service = new S3RangeStub(bytes).s3Service();
+
+        for (int split = 1; split < bytes.length; split++) {
+            assertThat(s3Service.readLines(KEY, 0, split) + s3Service.readLines(KEY, split, bytes.length))
+                    .as("split at byte %d", split)
+                    .isEqualTo(content);
+        }
+    }
+
+    @Test
+    void concatenatedRangesEqualOriginal() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            builder.append("commit ").append(i).append(" 수정: ").append("본문".repeat(i % 37)).append('\n');
+            if (i % 50 == 0) {
+                builder.append("z".repeat(S3Service.LINE_SLACK + i)).append('\n'); // 범위보다 긴 줄
+            }
+        }
+        String content = builder.toString();
+        byte[] bytes = bytes(content);
+        S3RangeStub stub = new S3RangeStub(bytes);
+        S3Service s3Service = stub.s3Service();
+
+        for (int rangeSize : new int[]{7, 333, 4096, 50_000}) {
+            StringBuilder joined = new StringBuilder();
+            for (long start = 0; start < bytes.length; start += rangeSize) {
+                joined.append(s3Service.readLines(KEY, start, Math.min(bytes.length, start + rangeSize)));
+            }
+            assertThat(joined.toString()).as("range size %d", rangeSize).isEqualTo(content);
+        }
+        assertThat(stub.ranges).allMatch(range -> range.matches("bytes=\\d+-\\d+"));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
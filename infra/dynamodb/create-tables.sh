@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+# GitNote 백엔드가 사용하는 DynamoDB 테이블/인덱스 생성 (이미 있는 테이블은 건너뜀)
+#
+# 사용법:
+#   ./create-tables.sh                                         # AWS (기본 리전 ap-northeast-2)
+#   DYNAMODB_ENDPOINT=http://localhost:8000 ./create-tables.sh # DynamoDB Local (부하 테스트 등)
+#
+# 테이블 이름을 바꿨다면 application.properties의 aws.dynamodb.table.* 값과 맞춰 환경 변수로 지정
+set -euo pipefail
+
+REGION="${AWS_REGION:-ap-northeast-2}"
+ENDPOINT_ARGS=()
+if [[ -n "${DYNAMODB_ENDPOINT:-}" ]]; then
+  ENDPOINT_ARGS=(--endpoint-url "$DYNAMODB_ENDPOINT")
+fi
+
+USER_REPORTS_TABLE="${USER_REPORTS_TABLE:-UserReports}"
+USER_PRESET_TABLE="${USER_PRESET_TABLE:-UserPreset}"
+REPORT_JOB_TABLE="${REPORT_JOB_TABLE:-ReportJob}"
+
+ddb() {
+  aws dynamodb "$@" --region "$REGION" ${ENDPOINT_ARGS[@]+"${ENDPOINT_ARGS[@]}"}
+}
+
+table_exists() {
+  ddb describe-table --table-name "$1" >/dev/null 2>&1
+}
+
+create_table() {
+  local name="$1"; shift
+  if table_exists "$name"; then
+    echo "[skip] $name (이미 있음)"
+    return
+  fi
+  ddb create-table --table-name "$name" --billing-mode PAY_PER_REQUEST "$@" >/dev/null
+  ddb wait table-exists --table-name "$name"
+  echo "[create] $name"
+}
+
+# 기존 테이블에 GSI 추가 (이미 있으면 건너뜀, 생성이 끝날 때까지 대기)
+add_gsi() {
+  local name="$1" index="$2" attributes="$3" gsi="$4"
+  if ddb describe-table --table-name "$name" --query "Table.GlobalSecondaryIndexes[?IndexName=='$index'].IndexName" --output text | grep -q "$index"; then
+    echo "[skip] $name.$index (이미 있음)"
+    return
+  fi
+  ddb update-table --table-name "$name" --attribute-definitions $attributes \
+    --global-secondary-index-updates "[{\"Create\":$gsi}]" >/dev/null
+  until [[ "$(ddb describe-table --table-name "$name" --query "Table.GlobalSecondaryIndexes[?IndexName=='$index'].IndexStatus" --output text)" == "ACTIVE" ]]; do
+    sleep 5
+  done
+  echo "[create] $name.$index"
+}
+
+enable_ttl() {
+  local name="$1" attribute="$2"
+  if [[ "$(ddb describe-time-to-live --table-name "$name" --query 'TimeToLiveDescription.TimeToLiveStatus' --output text)" =~ ^(ENABLED|ENABLING)$ ]]; then
+    echo "[skip] $name TTL (이미 설정됨)"
+    return
+  fi
+  ddb update-time-to-live --table-name "$name" \
+    --time-to-live-specification "Enabled=true,AttributeName=$attribute" >/dev/null
+  echo "[ttl] $name.$attribute"
+}
+
+# 보고서 (GSI User-SK-index: 사용자별 보고서 목록, 기존 테이블이면 인덱스만 추가)
+# 인덱스가 ACTIVE가 된 뒤(add_gsi가 기다림) REPORT_BACKFILL_USER=true로 백엔드를 한 번 기동해 조직 리포지토리 보고서의 User를 이전
+create_table "$USER_REPORTS_TABLE" \
+  --attribute-definitions AttributeName=PK,AttributeType=S AttributeName=SK,AttributeType=S \
+  --key-schema AttributeName=PK,KeyType=HASH AttributeName=SK,KeyType=RANGE
+add_gsi "$USER_REPORTS_TABLE" User-SK-index "AttributeName=User,AttributeType=S AttributeName=SK,AttributeType=S" \
+  '{"IndexName":"User-SK-index","KeySchema":[{"AttributeName":"User","KeyType":"HASH"},{"AttributeName":"SK","KeyType":"RANGE"}],"Projection":{"ProjectionType":"KEYS_ONLY"}}'
+
+# 사용자 설정 (희소 GSI active-frequency-index: 자동 생성이 켜진 사용자를 주기별로 조회, 기존 테이블이면 인덱스만 추가)
+# 인덱스 추가 후 기존 데이터는 USER_PRESET_BACKFILL_ACTIVE_FREQUENCY=true로 백엔드를 한 번 기동해 채움
+create_table "$USER_PRESET_TABLE" \
+  --attribute-definitions AttributeName=PK,AttributeType=S \
+  --key-schema AttributeName=PK,KeyType=HASH
+add_gsi "$USER_PRESET_TABLE" active-frequency-index AttributeName=activeReportFrequency,AttributeType=S \
+  '{"IndexName":"active-frequency-index","KeySchema":[{"AttributeName":"activeReportFrequency","KeyType":"HASH"}],"Projection":{"ProjectionType":"INCLUDE","NonKeyAttributes":["repository","reportStyle","accessToken"]}}'
+
+# 리포트 생성 작업 큐 (GSI pending-index: 대기 작업을 실행 가능 시각 순으로 조회, 완료 작업은 expiresAt TTL로 삭제)
+create_table "$REPORT_JOB_TABLE" \
+  --attribute-definitions AttributeName=PK,AttributeType=S AttributeName=pendingQueue,AttributeType=S AttributeName=availableAt,AttributeType=S \
+  --key-schema AttributeName=PK,KeyType=HASH \
+  --global-secondary-indexes 'IndexName=pending-index,KeySchema=[{AttributeName=pendingQueue,KeyType=HASH},{AttributeName=availableAt,KeyType=RANGE}],Projection={ProjectionType=ALL}'
+enable_ttl "$REPORT_JOB_TABLE" expiresAt
@@ -1,4 +1,4 @@
-const { DynamoDBClient, ScanCommand } = require("@aws-sdk/client-dynamodb");
+const { DynamoDBClient, QueryCommand } = require("@aws-sdk/client-dynamodb");
 
 /**
  * AWS Lambda Handler for Automatic Report Generation
@@ -13,6 +13,8 @@ const { DynamoDBClient, ScanCommand } = require("@aws-sdk/client-dynamodb");
 const USER_PRESET_TABLE = process.env.USER_PRESET_TABLE;
 const BACKEND_API_URL = process.env.BACKEND_API_URL;
 const AWS_REGION = process.env.AWS_REGION || "ap-northeast-2";
+// 백엔드 작업 등록 API 동시 호출 수 (사용자가 많아도 백엔드/DynamoDB에 한꺼번에 몰리지 않도록)
+const SUBMIT_CONCURRENCY = Number(process.env.SUBMIT_CONCURRENCY) || 8;
 
 // DynamoDB 클라이언트
 const dynamoDbClient = new DynamoDBClient({ region: AWS_REGION });
@@ -33,7 +35,7 @@ exports.handler = async (event) => {
 
   try {
     // 1. DynamoDB에서 해당 frequency로 설정된 활성 UserPreset 조회
-    const activePresets = await scanActiveUserPresetsByFrequency(frequency);
+    const activePresets = await queryActiveUserPresetsByFrequency(frequency);
     console.log(
       `[AutoReportHandler] Found ${activePresets.length} active presets for ${frequency}`
     );
@@ -50,69 +52,66 @@ exports.handler = async (event) => {
     let failCount = 0;
     const errors = [];
 
-    // 3. 각 사용자별로 리포트 생성
+    // 3. 리포트 생성 대상 수집 (repository/accessToken 없는 사용자는 스킵)
+    const reports = [];
     for (const preset of activePresets) {
-      try {
-        // PK를 userId로 사용 (DynamoDB 파티션 키)
-        const userId = preset.PK?.S || preset.userId?.S;
-        const repository = preset.repository?.S;
-        const reportStyle = preset.reportStyle?.S || "summary";
-        const accessToken = preset.accessToken?.S;
+      // PK를 userId로 사용 (DynamoDB 파티션 키)
+      const userId = preset.PK?.S || preset.userId?.S;
+      const repository = preset.repository?.S;
+      const reportStyle = preset.reportStyle?.S || "summary";
+      const accessToken = preset.accessToken?.S;
+
+      console.log(
+        `[AutoReportHandler] Processing preset: userId=${userId}, repository=${repository}, hasAccessToken=${!!accessToken}`
+      );
 
+      if (!repository) {
         console.log(
-          `[AutoReportHandler] Processing preset: userId=${userId}, repository=${repository}, hasAccessToken=${!!accessToken}`
+          `[AutoReportHandler] Skipping ${userId} - no repository configured`
         );
+        continue;
+      }
 
-        // repository 또는 accessToken이 없으면 스킵
-        if (!repository) {
-          console.log(
-            `[AutoReportHandler] Skipping ${userId} - no repository configured`
-          );
-          continue;
-        }
-
-        if (!accessToken) {
-          console.log(
-            `[AutoReportHandler] Skipping ${userId} - no access token`
-          );
-          continue;
-        }
-
+      if (!accessToken) {
         console.log(
-          `[AutoReportHandler] Generating report for ${userId} (${repository})`
+          `[AutoReportHandler] Skipping ${userId} - no access token`
         );
+        continue;
+      }
 
-        // 4. 백엔드 API 호출하여 리포트 생성
-        const success = await callBackendApiToGenerateReport({
-          accessToken,
-          repository,
-          since,
-          until,
-          reportStyle,
-          userId,
-        });
-
-        if (success) {
-          successCount++;
-          console.log(
-            `[AutoReportHandler] Successfully generated report for ${userId}`
-          );
-        } else {
-          failCount++;
-          errors.push(`User ${userId}: Report generation failed`);
-        }
-      } catch (error) {
+      reports.push({ accessToken, repository, since, until, reportStyle, userId });
+    }
+
+    // 4. 백엔드 작업 큐에 리포트 생성 작업 등록 (생성은 백엔드 워커가 처리)
+    // - 같은 주기/기간이면 같은 멱등성 키를 쓰므로 Lambda가 재시도돼도 리포트를 중복 생성하지 않음
+    const idempotencyKey = `auto-report:${frequency}:${since}:${until}`;
+    const submissions = await settleWithConcurrency(
+      reports,
+      SUBMIT_CONCURRENCY,
+      (report) => submitReportJob(report, idempotencyKey)
+    );
+
+    submissions.forEach((submission, i) => {
+      const { userId, repository } = reports[i];
+      if (submission.status === "fulfilled") {
+        successCount++;
+        console.log(
+          `[AutoReportHandler] Submitted report job for ${userId} (${repository}): jobId=${submission.value.jobId}, status=${submission.value.status}`
+        );
+      } else {
         failCount++;
-        const errorMsg = `User ${preset.userId?.S}: ${error.message}`;
-        errors.push(errorMsg);
-        console.error(`[AutoReportHandler] ${errorMsg}`, error);
+        errors.push(`User ${userId}: ${submission.reason.message}`);
+        console.error(
+          `[AutoReportHandler] Failed to submit report job for ${userId} (${repository}):`,
+          submission.reason
+        );
       }
-    }
+    });
 
     const result = {
       frequency,
       period: { since, until },
-      message: `Automatic report generation completed: ${successCount} success, ${failCount} failed`,
+      message: `Automatic report jobs submitted: ${successCount} success, ${failCount} failed`,
       successCount,
       failCount,
       errors: errors.length > 0 ? errors : undefined,
@@ -128,21 +127,31 @@ exports.handler = async (event) => {
 
 /**
  * DynamoDB에서 특정 frequency로 설정되고 autoReportEnabled=true인 UserPreset 조회
+ * - active-frequency-index(희소 GSI, 자동 생성이 켜진 사용자만 포함)를 Query하므로 대상 사용자만 읽음
+ * - 리포트 생성에 필요한 속성만 가져옴
+ * - 응답이 1MB를 넘으면 LastEvaluatedKey로 다음 페이지를 이어서 조회
  */
-async function scanActiveUserPresetsByFrequency(frequency) {
-  const params = {
-    TableName: USER_PRESET_TABLE,
-    FilterExpression:
-      "autoReportEnabled = :enabled AND reportFrequency = :frequency",
-    ExpressionAttributeValues: {
-      ":enabled": { BOOL: true },
-      ":frequency": { S: frequency },
-    },
-  };
+async function queryActiveUserPresetsByFrequency(frequency) {
+  const items = [];
+  let exclusiveStartKey;
+
+  do {
+    const command = new QueryCommand({
+      TableName: USER_PRESET_TABLE,
+      IndexName: "active-frequency-index",
+      KeyConditionExpression: "activeReportFrequency = :frequency",
+      ProjectionExpression: "PK, repository, reportStyle, accessToken",
+      ExpressionAttributeValues: {
+        ":frequency": { S: frequency },
+      },
+      ExclusiveStartKey: exclusiveStartKey,
+    });
+    const response = await dynamoDbClient.send(command);
+    items.push(...(response.Items || []));
+    exclusiveStartKey = response.LastEvaluatedKey;
+  } while (exclusiveStartKey);
 
-  const command = new ScanCommand(params);
-  const response = await dynamoDbClient.send(command);
-  return response.Items || [];
+  return items;
 }
 
 /**
@@ -222,65 +231,49 @@ function formatDate(date) {
 }
 
 /**
- * 백엔드 API를 호출하여 리포트 생성
+ * items를 최대 concurrency개씩 동시에 처리 (하나가 끝나면 다음 항목 시작)
+ * - 결과는 Promise.allSettled와 같은 형식으로 items 순서대로 반환
  */
-async function callBackendApiToGenerateReport({
-  accessToken,
-  repository,
-  since,
-  until,
-  reportStyle,
-  userId,
-}) {
-  const apiUrl = `${BACKEND_API_URL}/api/auto-report/generate`;
-
-  const requestBody = {
-    accessToken,
-    repository,
-    since,
-    until,
-    reportStyle,
-    userId,
-  };
+async function settleWithConcurrency(items, concurrency, fn) {
+  const results = new Array(items.length);
+  let next = 0;
 
-  console.log(`[AutoReportHandler] Calling backend API: ${apiUrl}`);
-
-  try {
-    // 타임아웃 설정 (60초)
-    const controller = new AbortController();
-    const timeoutId = setTimeout(() => controller.abort(), 60000);
-
-    const response = await fetch(apiUrl, {
-      method: "POST",
-      headers: {
-        "Content-Type": "application/json",
-      },
-      body: JSON.stringify(requestBody),
-      signal: controller.signal,
-    });
-
-    clearTimeout(timeoutId);
+  async function worker() {
+    while (next < items.length) {
+      const i = next++;
+      try {
+        results[i] = { status: "fulfilled", value: await fn(items[i]) };
+      } catch (reason) {
+        results[i] = { status: "rejected", reason };
+      }
+    }
+  }
 
-    const responseData = await response.json();
+  const workers = Math.min(Math.max(1, concurrency), items.length);
+  await Promise.all(Array.from({ length: workers }, worker));
+  return results;
+}
 
-    console.log(`[AutoReportHandler] API Response Status: ${response.status}`);
-    console.log("[AutoReportHandler] API Response Body:", responseData);
+/**
+ * 백엔드 작업 등록 API 호출
+ * - 작업 ID를 바로 반환하므로 리포트 생성 시간 동안 연결을 유지하지 않음
+ */
+async function submitReportJob(report, idempotencyKey) {
+  const apiUrl = `${BACKEND_API_URL}/api/auto-report/jobs`;
+
+  const response = await fetch(apiUrl, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+      "Idempotency-Key": idempotencyKey,
+    },
+    body: JSON.stringify(report),
+    signal: AbortSignal.timeout(10000),
+  });
 
-    if (response.ok) {
-      return responseData.success === true;
-    } else {
-      console.error(
-        `[AutoReportHandler] Backend API error: ${response.status}`,
-        responseData
-      );
-      return false;
-    }
-  } catch (error) {
-    if (error.name === "AbortError") {
-      console.error("[AutoReportHandler] Backend API request timeout (60s)");
-    } else {
-      console.error("[AutoReportHandler] Failed to call backend API:", error);
-    }
-    return false;
+  const data = await response.json();
+  if (!response.ok || !data.success) {
+    throw new Error(data.error || `Backend API error: ${response.status}`);
   }
+  return data;
 }